@@ -22,7 +22,6 @@ import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.NoSuchElementException;
-import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
 /**
@@ -36,6 +35,7 @@ final class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
   private final JournalIndex index;
   private final JournalSerdes namespace;
   private final ByteBuffer memory;
+  private final Checksum checksum;
   private final long firstIndex;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
@@ -51,6 +51,7 @@ final class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     this.index = index;
     this.namespace = namespace;
     this.memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
+    this.checksum = segment.descriptor().newChecksum();
     this.firstIndex = segment.index();
     reset();
   }
@@ -171,11 +172,11 @@ final class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
         long checksum = memory.getInt() & 0xFFFFFFFFL;
 
         // Compute the checksum for the entry bytes.
-        final Checksum crc32 = new CRC32();
-        crc32.update(memory.array(), memory.position(), length);
+        this.checksum.reset();
+        this.checksum.update(memory.array(), memory.position(), length);
 
         // If the stored checksum equals the computed checksum, return the entry.
-        if (checksum == crc32.getValue()) {
+        if (checksum == this.checksum.getValue()) {
           int limit = memory.limit();
           memory.limit(memory.position() + length);
           E entry = namespace.deserialize(memory);
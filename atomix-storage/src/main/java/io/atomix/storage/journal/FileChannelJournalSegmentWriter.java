@@ -17,13 +17,13 @@ package io.atomix.storage.journal;
 
 import com.esotericsoftware.kryo.KryoException;
 import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
 
 import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
-import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
 /**
@@ -48,6 +48,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
   private final JournalIndex index;
   private final JournalSerdes namespace;
   private final ByteBuffer memory;
+  private final Checksum checksum;
   private final long firstIndex;
   private Indexed<E> lastEntry;
 
@@ -56,25 +57,54 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       JournalSegment<E> segment,
       int maxEntrySize,
       JournalIndex index,
-      JournalSerdes namespace) {
+      JournalSerdes namespace,
+      long lastIndex) {
     this.channel = channel;
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
     this.memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
     memory.limit(0);
+    this.checksum = segment.descriptor().newChecksum();
     this.namespace = namespace;
     this.firstIndex = segment.index();
+    initialize(lastIndex);
+  }
+
+  /**
+   * Initializes the writer. If the last index of the segment is known, entries up to the last indexed position are
+   * trusted and only the remainder of the segment is scanned.
+   *
+   * @param lastIndex the expected last index of the segment, or {@code 0} if not known
+   */
+  private void initialize(long lastIndex) {
+    if (lastIndex >= firstIndex) {
+      final Position tail = index.lookup(lastIndex);
+      if (tail != null && tail.index() >= firstIndex) {
+        scan(0, tail.index(), tail.position());
+        if (getLastIndex() >= lastIndex) {
+          return;
+        }
+
+        // The segment does not match the index, scan it from the start
+        lastEntry = null;
+        index.truncate(firstIndex - 1);
+      }
+    }
     reset(0);
   }
 
   @Override
   public void reset(long index) {
-    long nextIndex = firstIndex;
+    scan(index, firstIndex, JournalSegmentDescriptor.BYTES);
+  }
+
+  private void scan(long index, long startIndex, int startPosition) {
+    long nextIndex = startIndex;
 
     // Clear the buffer indexes.
     try {
-      channel.position(JournalSegmentDescriptor.BYTES);
+      channel.position(startPosition);
       memory.clear().flip();
 
       // Record the current buffer position.
@@ -99,11 +129,11 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
         final long checksum = memory.getInt() & 0xFFFFFFFFL;
 
         // Compute the checksum for the entry bytes.
-        final Checksum crc32 = new CRC32();
-        crc32.update(memory.array(), memory.position(), length);
+        this.checksum.reset();
+        this.checksum.update(memory.array(), memory.position(), length);
 
         // If the stored checksum equals the computed checksum, return the entry.
-        if (checksum == crc32.getValue()) {
+        if (checksum == this.checksum.getValue()) {
           int limit = memory.limit();
           memory.limit(memory.position() + length);
           final E entry = namespace.deserialize(memory);
@@ -249,9 +279,9 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       }
 
       // Compute the checksum for the entry.
-      final Checksum crc32 = new CRC32();
-      crc32.update(memory.array(), Integer.BYTES + Integer.BYTES, memory.limit() - (Integer.BYTES + Integer.BYTES));
-      final long checksum = crc32.getValue();
+      this.checksum.reset();
+      this.checksum.update(memory.array(), Integer.BYTES + Integer.BYTES, length);
+      final long checksum = this.checksum.getValue();
 
       // Create a single byte[] in memory for the entire entry and write it as a batch to the underlying buffer.
       memory.putInt(0, length);
@@ -16,7 +16,6 @@
 package io.atomix.storage.journal;
 
 import io.atomix.storage.journal.index.JournalIndex;
-import io.atomix.storage.journal.index.SparseJournalIndex;
 import java.io.File;
 import java.io.IOException;
 import java.nio.MappedByteBuffer;
@@ -42,6 +41,8 @@ public class JournalSegment<E> implements AutoCloseable {
   private final int maxEntrySize;
   private final JournalIndex index;
   private final JournalSerdes namespace;
+  private final boolean indexFiles;
+  private final JournalSegmentPool pool;
   private final MappableJournalSegmentWriter<E> writer;
   private final Set<MappableJournalSegmentReader<E>> readers = ConcurrentHashMap.newKeySet();
   private final AtomicInteger references = new AtomicInteger();
@@ -52,15 +53,27 @@ public class JournalSegment<E> implements AutoCloseable {
       JournalSegmentDescriptor descriptor,
       StorageLevel storageLevel,
       int maxEntrySize,
-      double indexDensity,
-      JournalSerdes namespace) {
+      JournalIndex index,
+      JournalSerdes namespace,
+      boolean indexFiles,
+      JournalSegmentPool pool) {
     this.file = file;
     this.descriptor = descriptor;
     this.storageLevel = storageLevel;
     this.maxEntrySize = maxEntrySize;
-    this.index = new SparseJournalIndex(indexDensity);
+    this.index = index;
     this.namespace = namespace;
-    this.writer = new MappableJournalSegmentWriter<>(openChannel(file.file()), this, maxEntrySize, index, namespace);
+    this.indexFiles = indexFiles;
+    this.pool = pool;
+
+    // Restore the index persisted when the segment was sealed, so the writer only has to verify the tail
+    final long lastIndex = indexFiles ? JournalSegmentIndexFile.read(file.indexFile(), descriptor, index) : 0;
+    this.writer = new MappableJournalSegmentWriter<>(openChannel(file.file()), this, maxEntrySize, index, namespace,
+        lastIndex);
+    if (writer.getLastIndex() < lastIndex) {
+      // The segment does not contain what the index file claims, it was scanned in full and the file is stale
+      deleteIndexFile();
+    }
   }
 
   private FileChannel openChannel(File file) {
@@ -154,8 +167,11 @@ public class JournalSegment<E> implements AutoCloseable {
 
   /**
    * Acquires a reference to the log segment.
+   * <p>
+   * References may be acquired and released by readers running on different threads, hence mapping and unmapping
+   * is performed under the segment lock.
    */
-  void acquire() {
+  synchronized void acquire() {
     if (references.getAndIncrement() == 0 && open) {
       map();
     }
@@ -164,7 +180,7 @@ public class JournalSegment<E> implements AutoCloseable {
   /**
    * Releases a reference to the log segment.
    */
-  void release() {
+  synchronized void release() {
     if (references.decrementAndGet() == 0 && open) {
       unmap();
     }
@@ -190,6 +206,23 @@ public class JournalSegment<E> implements AutoCloseable {
     }
   }
 
+  /**
+   * Persists the index of this segment, if enabled. This should be invoked once the segment has been filled and
+   * flushed, so that next time it is loaded it does not need to be scanned.
+   */
+  void persistIndex() {
+    if (indexFiles && !isEmpty()) {
+      JournalSegmentIndexFile.write(file.indexFile(), descriptor, writer.getLastIndex(), index.positions());
+    }
+  }
+
+  /**
+   * Deletes the persisted index of this segment. This needs to happen before any entry covered by it is overwritten.
+   */
+  void deleteIndexFile() {
+    JournalSegmentIndexFile.delete(file.indexFile());
+  }
+
   /**
    * Returns the segment writer.
    *
@@ -246,7 +279,7 @@ public class JournalSegment<E> implements AutoCloseable {
    * Closes the segment.
    */
   @Override
-  public void close() {
+  public synchronized void close() {
     unmap();
     writer.close();
     readers.forEach(reader -> reader.close());
@@ -254,9 +287,13 @@ public class JournalSegment<E> implements AutoCloseable {
   }
 
   /**
-   * Deletes the segment.
+   * Deletes the segment. If the journal has a segment pool, the segment file is recycled into it.
    */
   public void delete() {
+    deleteIndexFile();
+    if (pool != null && pool.recycle(file.file().toPath())) {
+      return;
+    }
     try {
       Files.deleteIfExists(file.file().toPath());
     } catch (IOException e) {
@@ -18,6 +18,9 @@ package io.atomix.storage.journal;
 import com.google.common.annotations.VisibleForTesting;
 
 import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static java.util.Objects.requireNonNull;
@@ -32,9 +35,11 @@ import static java.util.Objects.requireNonNull;
  * each log. Segments with in-sequence identifiers should contain in-sequence indexes.</li>
  * <li>{@code index} (64-bit signed integer) - The effective first index of the segment. This indicates the index at which
  * the first entry should be written to the segment. Indexes are monotonically increasing thereafter.</li>
- * <li>{@code version} (64-bit signed integer) - The version of the segment. Versions are monotonically increasing
- * starting at {@code 1}. Versions will only be incremented whenever the segment is rewritten to another memory/disk
- * space, e.g. after log compaction.</li>
+ * <li>{@code version} (64-bit signed integer) - The version of the segment format. Segments of version {@code 1}
+ * protect their entries with CRC32 checksums, segments of version {@code 2} use CRC32C checksums instead. New segments
+ * are created with version {@code 1} unless the journal is configured otherwise, existing segments are read according
+ * to their version. Releases which predate version {@code 2} do not check the version and treat the entries of such
+ * segments as corrupt, truncating the journal, hence using version {@code 2} is a one-way change.</li>
  * <li>{@code maxSegmentSize} (32-bit unsigned integer) - The maximum number of bytes allowed in the segment.</li>
  * <li>{@code maxEntries} (32-bit signed integer) - The total number of expected entries in the segment. This is the final
  * number of entries allowed within the segment both before and after compaction. This entry count is used to determine
@@ -54,9 +59,13 @@ import static java.util.Objects.requireNonNull;
 public final class JournalSegmentDescriptor {
   public static final int BYTES = 64;
 
-  // Current segment version.
+  // Segment version with CRC32 entry checksums.
+  static final int VERSION_CRC32 = 1;
+  // Segment version with CRC32C entry checksums, which cannot be read by older releases.
+  static final int VERSION_CRC32C = 2;
+  // Default segment version, readable by all releases.
   @VisibleForTesting
-  static final int VERSION = 1;
+  static final int VERSION = VERSION_CRC32;
 
   // The lengths of each field in the header.
   private static final int VERSION_LENGTH = Integer.BYTES;     // 32-bit signed integer
@@ -130,6 +139,21 @@ public final class JournalSegmentDescriptor {
     return version;
   }
 
+  /**
+   * Returns a new {@link Checksum} for computing checksums of entries stored in the segment. Returned instances are not
+   * thread-safe and are expected to be reused by a single segment reader or writer.
+   *
+   * @return A new checksum.
+   * @throws StorageException if the segment version is not supported
+   */
+  Checksum newChecksum() {
+    return switch (version) {
+      case VERSION_CRC32 -> new CRC32();
+      case VERSION_CRC32C -> new CRC32C();
+      default -> throw new StorageException("Unsupported segment version " + version);
+    };
+  }
+
   /**
    * Returns the segment identifier.
    * <p>
@@ -230,6 +254,17 @@ public final class JournalSegmentDescriptor {
       buffer.putInt(VERSION_POSITION, VERSION);
     }
 
+    /**
+     * Sets the segment format version.
+     *
+     * @param version The segment format version.
+     * @return The segment descriptor builder.
+     */
+    Builder withVersion(int version) {
+      buffer.putInt(VERSION_POSITION, version);
+      return this;
+    }
+
     /**
      * Sets the segment identifier.
      *
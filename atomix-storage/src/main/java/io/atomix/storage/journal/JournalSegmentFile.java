@@ -28,6 +28,7 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private final File file;
 
   /**
@@ -91,4 +92,15 @@ public final class JournalSegmentFile {
   public File file() {
     return file;
   }
+
+  /**
+   * Returns the file holding the persisted index of this segment.
+   *
+   * @return The segment index file.
+   */
+  public File indexFile() {
+    final String name = file.getName();
+    return new File(file.getParentFile(),
+        name.substring(0, name.lastIndexOf(EXTENSION_SEPARATOR) + 1) + INDEX_EXTENSION);
+  }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023 PANTHEON.tech, s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persisted index of a sealed {@link JournalSegment}.
+ * <p>
+ * Once a segment has been filled and flushed, the positions recorded in its {@link JournalIndex} are stored next to the
+ * segment file, together with the last index written to the segment. When the segment is loaded, the index is restored
+ * from this file and the segment writer only needs to verify entries following the last recorded position, instead of
+ * scanning the entire segment.
+ * <p>
+ * The format of the file is as follows:
+ * <ul>
+ * <li>32-bit format version</li>
+ * <li>64-bit segment ID</li>
+ * <li>64-bit segment first index</li>
+ * <li>32-bit maximum segment size</li>
+ * <li>64-bit segment last index</li>
+ * <li>32-bit number of recorded positions</li>
+ * <li>64-bit index and 32-bit position for each recorded position</li>
+ * <li>32-bit CRC32 of all preceding bytes</li>
+ * </ul>
+ * A file which fails the checksum or does not match the segment descriptor is ignored and deleted.
+ */
+final class JournalSegmentIndexFile {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentIndexFile.class);
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES
+      + Integer.BYTES;
+  private static final int POSITION_BYTES = Long.BYTES + Integer.BYTES;
+
+  private JournalSegmentIndexFile() {
+    // Hidden on purpose
+  }
+
+  /**
+   * Writes the index of a segment.
+   *
+   * @param file the index file
+   * @param descriptor the segment descriptor
+   * @param lastIndex the last index written to the segment
+   * @param positions positions recorded in the segment index
+   */
+  static void write(File file, JournalSegmentDescriptor descriptor, long lastIndex, List<Position> positions) {
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + positions.size() * POSITION_BYTES + Integer.BYTES);
+    buffer.putInt(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putInt(descriptor.maxSegmentSize())
+        .putLong(lastIndex)
+        .putInt(positions.size());
+    for (Position position : positions) {
+      buffer.putLong(position.index()).putInt(position.position());
+    }
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(buffer.array(), 0, buffer.position());
+    buffer.putInt((int) crc32.getValue());
+    buffer.flip();
+
+    // Write to a temporary file first, so that a crash does not leave a partial index behind
+    final Path path = file.toPath();
+    final Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      try {
+        Files.deleteIfExists(tmp);
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      // The index is an optimization only, the segment will be scanned when it is loaded
+      LOG.warn("Failed to write segment index {}", path, e);
+    }
+  }
+
+  /**
+   * Reads the index of a segment, populating the supplied {@link JournalIndex}.
+   *
+   * @param file the index file
+   * @param descriptor the segment descriptor
+   * @param index the journal index to populate
+   * @return the last index written to the segment, or {@code 0} if the index file is missing or is not valid
+   */
+  static long read(File file, JournalSegmentDescriptor descriptor, JournalIndex index) {
+    final byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file.toPath());
+    } catch (NoSuchFileException e) {
+      return 0;
+    } catch (IOException e) {
+      LOG.warn("Failed to read segment index {}", file, e);
+      return 0;
+    }
+
+    if (bytes.length < HEADER_BYTES + Integer.BYTES
+        || (bytes.length - HEADER_BYTES - Integer.BYTES) % POSITION_BYTES != 0) {
+      return discard(file, "truncated");
+    }
+
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    final CRC32 crc32 = new CRC32();
+    crc32.update(bytes, 0, bytes.length - Integer.BYTES);
+    if (buffer.getInt(bytes.length - Integer.BYTES) != (int) crc32.getValue()) {
+      return discard(file, "corrupted");
+    }
+
+    final int version = buffer.getInt();
+    final long id = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final int maxSegmentSize = buffer.getInt();
+    if (version != VERSION || id != descriptor.id() || firstIndex != descriptor.index()
+        || maxSegmentSize != descriptor.maxSegmentSize()) {
+      return discard(file, "not matching segment " + descriptor);
+    }
+
+    final long lastIndex = buffer.getLong();
+    final int count = buffer.getInt();
+    if (count != (bytes.length - HEADER_BYTES - Integer.BYTES) / POSITION_BYTES || lastIndex < firstIndex) {
+      return discard(file, "inconsistent");
+    }
+
+    for (int i = 0; i < count; i++) {
+      index.index(buffer.getLong(), buffer.getInt());
+    }
+    return lastIndex;
+  }
+
+  private static long discard(File file, String reason) {
+    LOG.warn("Discarding segment index {}: {}", file, reason);
+    delete(file);
+    return 0;
+  }
+
+  /**
+   * Deletes an index file, if it exists.
+   *
+   * @param file the index file
+   */
+  static void delete(File file) {
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+}
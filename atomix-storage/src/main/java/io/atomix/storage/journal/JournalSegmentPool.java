@@ -0,0 +1,232 @@
+/*
+ * Copyright 2023 PANTHEON.tech, s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Pool of preallocated segment files.
+ * <p>
+ * Creating a segment file on rollover involves file system metadata updates, and the first write to each of its pages
+ * has to allocate disk blocks. The pool keeps a number of zero-filled files of the maximum segment size ready, so that
+ * rolling over to a new segment is a matter of renaming one of them. Segments which are deleted are recycled into the
+ * pool, rather than being removed.
+ * <p>
+ * Files are zero-filled on a shared background thread. A file which needs to be filled is named
+ * {@code <name>-<n>.dirty} and is renamed to {@code <name>-<n>.pool} once it is ready, so that a file which has not
+ * been completely filled is never used. Neither name is recognized as a segment file.
+ */
+final class JournalSegmentPool {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentPool.class);
+  private static final String READY_EXTENSION = ".pool";
+  private static final String DIRTY_EXTENSION = ".dirty";
+  private static final int FILL_BUFFER_SIZE = 64 * 1024;
+  private static final ExecutorService FILLER = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("journal-segment-pool-%d").setDaemon(true).build());
+
+  private final Deque<Path> ready = new ArrayDeque<>();
+  private final Deque<Path> dirty = new ArrayDeque<>();
+  private final String name;
+  private final File directory;
+  private final int segmentSize;
+  private final int size;
+
+  private long nextId;
+  private boolean filling;
+  private boolean closed;
+
+  JournalSegmentPool(String name, File directory, int segmentSize, int size) {
+    this.name = requireNonNull(name);
+    this.directory = requireNonNull(directory);
+    this.segmentSize = segmentSize;
+    this.size = size;
+
+    // Pick up files left behind by a previous instance
+    final File[] files = directory.listFiles(File::isFile);
+    if (files != null) {
+      for (File file : files) {
+        final long id = poolFileId(file.getName());
+        if (id > 0) {
+          nextId = Math.max(nextId, id);
+          if (file.getName().endsWith(READY_EXTENSION) && file.length() == segmentSize) {
+            ready.add(file.toPath());
+          } else {
+            dirty.add(file.toPath());
+          }
+        }
+      }
+    }
+
+    // Trim files beyond the pool size, dirty ones first
+    while (ready.size() + dirty.size() > size) {
+      deleteQuietly(dirty.isEmpty() ? ready.poll() : dirty.poll());
+    }
+    scheduleFill();
+  }
+
+  /**
+   * Takes a preallocated file from the pool.
+   *
+   * @return a zero-filled file of the segment size, or {@code null} if there is none available
+   */
+  synchronized Path take() {
+    final Path file = ready.poll();
+    scheduleFill();
+    return file;
+  }
+
+  /**
+   * Recycles a file of a deleted segment into the pool. The segment must have been closed.
+   *
+   * @param file the segment file
+   * @return {@code true} if the file has been taken over by the pool, {@code false} if it needs to be deleted
+   */
+  synchronized boolean recycle(Path file) {
+    if (closed || ready.size() + dirty.size() >= size) {
+      return false;
+    }
+
+    final Path target = poolFile(++nextId, DIRTY_EXTENSION);
+    try {
+      Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Failed to recycle segment file {}", file, e);
+      return false;
+    }
+
+    dirty.add(target);
+    scheduleFill();
+    return true;
+  }
+
+  /**
+   * Stops filling the pool. Files already in the pool are retained for the next instance.
+   */
+  synchronized void close() {
+    closed = true;
+  }
+
+  private void scheduleFill() {
+    if (!filling && !closed && ready.size() < size) {
+      filling = true;
+      FILLER.execute(this::fill);
+    }
+  }
+
+  private void fill() {
+    while (true) {
+      final Path file;
+      synchronized (this) {
+        if (closed || ready.size() >= size) {
+          filling = false;
+          return;
+        }
+        // Keep the file in the dirty queue while we fill it, so it counts towards the pool size
+        if (dirty.isEmpty()) {
+          dirty.add(poolFile(++nextId, DIRTY_EXTENSION));
+        }
+        file = dirty.peek();
+      }
+
+      final Path target = zeroFill(file);
+      synchronized (this) {
+        dirty.remove(file);
+        if (target == null) {
+          // Do not spin on a failing file system, we will try again on next take
+          filling = false;
+          return;
+        }
+        ready.add(target);
+      }
+    }
+  }
+
+  private Path zeroFill(Path file) {
+    final ByteBuffer zeros = ByteBuffer.allocateDirect(FILL_BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      long position = 0;
+      while (position < segmentSize) {
+        zeros.clear().limit((int) Math.min(FILL_BUFFER_SIZE, segmentSize - position));
+        position += channel.write(zeros, position);
+      }
+      channel.truncate(segmentSize);
+      channel.force(true);
+    } catch (IOException e) {
+      LOG.warn("Failed to fill segment file {}", file, e);
+      deleteQuietly(file);
+      return null;
+    }
+
+    final String fileName = file.getFileName().toString();
+    final Path target = file.resolveSibling(
+        fileName.substring(0, fileName.length() - DIRTY_EXTENSION.length()) + READY_EXTENSION);
+    try {
+      Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Failed to add segment file {} to pool", file, e);
+      deleteQuietly(file);
+      return null;
+    }
+    return target;
+  }
+
+  private Path poolFile(long id, String extension) {
+    return new File(directory, name + '-' + id + extension).toPath();
+  }
+
+  private long poolFileId(String fileName) {
+    final String extension;
+    if (fileName.endsWith(READY_EXTENSION)) {
+      extension = READY_EXTENSION;
+    } else if (fileName.endsWith(DIRTY_EXTENSION)) {
+      extension = DIRTY_EXTENSION;
+    } else {
+      return 0;
+    }
+    if (!fileName.startsWith(name + '-')) {
+      return 0;
+    }
+    try {
+      return Long.parseLong(fileName.substring(name.length() + 1, fileName.length() - extension.length()));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.debug("Failed to delete {}", file, e);
+    }
+  }
+}
@@ -17,7 +17,6 @@
 package io.atomix.storage.journal;
 
 import com.google.common.annotations.Beta;
-import com.google.common.annotations.VisibleForTesting;
 import io.atomix.utils.serializer.KryoJournalSerdesBuilder;
 import java.io.IOException;
 import java.io.InputStream;
@@ -170,7 +169,6 @@ public interface JournalSerdes {
 
         Object readObject() throws IOException;
 
-        @VisibleForTesting
         int readVarInt() throws IOException;
     }
 
@@ -188,7 +186,6 @@ public interface JournalSerdes {
 
         void writeString(String value) throws IOException;
 
-        @VisibleForTesting
         void writeVarInt(int value) throws IOException;
     }
 
@@ -36,13 +36,14 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
       JournalSegment<E> segment,
       int maxEntrySize,
       JournalIndex index,
-      JournalSerdes namespace) {
+      JournalSerdes namespace,
+      long lastIndex) {
     this.channel = channel;
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
     this.namespace = namespace;
-    this.writer = new FileChannelJournalSegmentWriter<>(channel, segment, maxEntrySize, index, namespace);
+    this.writer = new FileChannelJournalSegmentWriter<>(channel, segment, maxEntrySize, index, namespace, lastIndex);
   }
 
   /**
@@ -58,7 +59,8 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
     try {
       JournalWriter<E> writer = this.writer;
       MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segment.descriptor().maxSegmentSize());
-      this.writer = new MappedJournalSegmentWriter<>(buffer, segment, maxEntrySize, index, namespace);
+      this.writer = new MappedJournalSegmentWriter<>(buffer, segment, maxEntrySize, index, namespace,
+          writer.getLastIndex());
       writer.close();
       return buffer;
     } catch (IOException e) {
@@ -72,7 +74,8 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
   void unmap() {
     if (writer instanceof MappedJournalSegmentWriter) {
       JournalWriter<E> writer = this.writer;
-      this.writer = new FileChannelJournalSegmentWriter<>(channel, segment, maxEntrySize, index, namespace);
+      this.writer = new FileChannelJournalSegmentWriter<>(channel, segment, maxEntrySize, index, namespace,
+          writer.getLastIndex());
       writer.close();
     }
   }
@@ -129,6 +132,7 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void append(Indexed<E> entry) {
+    checkTruncate(entry.index() - 1);
     writer.append(entry);
   }
 
@@ -144,9 +148,17 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void truncate(long index) {
+    checkTruncate(index);
     writer.truncate(index);
   }
 
+  private void checkTruncate(long index) {
+    if (index < writer.getLastIndex()) {
+      // Entries are about to be overwritten, the persisted index must not be used anymore
+      segment.deleteIndexFile();
+    }
+  }
+
   @Override
   public void flush() {
     writer.flush();
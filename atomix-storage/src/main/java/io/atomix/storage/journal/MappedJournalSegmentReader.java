@@ -20,7 +20,7 @@ import io.atomix.storage.journal.index.Position;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
-import java.util.zip.CRC32;
+import java.util.zip.Checksum;
 
 /**
  * Log segment reader.
@@ -32,6 +32,7 @@ final class MappedJournalSegmentReader<E> implements JournalReader<E> {
   private final int maxEntrySize;
   private final JournalIndex index;
   private final JournalSerdes namespace;
+  private final Checksum checksum;
   private final long firstIndex;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
@@ -46,6 +47,7 @@ final class MappedJournalSegmentReader<E> implements JournalReader<E> {
     this.maxEntrySize = maxEntrySize;
     this.index = index;
     this.namespace = namespace;
+    this.checksum = segment.descriptor().newChecksum();
     this.firstIndex = segment.index();
     reset();
   }
@@ -144,21 +146,25 @@ final class MappedJournalSegmentReader<E> implements JournalReader<E> {
       // Read the checksum of the entry.
       long checksum = buffer.getInt() & 0xFFFFFFFFL;
 
-      // Compute the checksum for the entry bytes.
-      final CRC32 crc32 = new CRC32();
-      ByteBuffer slice = buffer.slice();
-      slice.limit(length);
-      crc32.update(slice);
-
-      // If the stored checksum equals the computed checksum, return the entry.
-      if (checksum == crc32.getValue()) {
-        slice.rewind();
-        E entry = namespace.deserialize(slice);
-        nextEntry = new Indexed<>(index, entry, length);
-        buffer.position(buffer.position() + length);
-      } else {
-        buffer.reset();
-        nextEntry = null;
+      // Compute the checksum for the entry bytes, limiting the buffer to the entry instead of slicing it.
+      final int position = buffer.position();
+      buffer.limit(position + length);
+      try {
+        this.checksum.reset();
+        this.checksum.update(buffer);
+
+        // If the stored checksum equals the computed checksum, return the entry.
+        if (checksum == this.checksum.getValue()) {
+          buffer.position(position);
+          E entry = namespace.deserialize(buffer);
+          nextEntry = new Indexed<>(index, entry, length);
+          buffer.position(position + length);
+        } else {
+          buffer.reset();
+          nextEntry = null;
+        }
+      } finally {
+        buffer.limit(buffer.capacity());
       }
     } catch (BufferUnderflowException e) {
       buffer.reset();
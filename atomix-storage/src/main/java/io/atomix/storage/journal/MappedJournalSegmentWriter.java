@@ -17,13 +17,14 @@ package io.atomix.storage.journal;
 
 import com.esotericsoftware.kryo.KryoException;
 import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
 
 import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
-import java.util.zip.CRC32;
+import java.util.zip.Checksum;
 
 /**
  * Segment writer.
@@ -47,6 +48,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
   private final int maxEntrySize;
   private final JournalIndex index;
   private final JournalSerdes namespace;
+  private final Checksum checksum;
   private final long firstIndex;
   private Indexed<E> lastEntry;
 
@@ -55,15 +57,17 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
       JournalSegment<E> segment,
       int maxEntrySize,
       JournalIndex index,
-      JournalSerdes namespace) {
+      JournalSerdes namespace,
+      long lastIndex) {
     this.mappedBuffer = buffer;
     this.buffer = buffer.slice();
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
     this.namespace = namespace;
+    this.checksum = segment.descriptor().newChecksum();
     this.firstIndex = segment.index();
-    reset(0);
+    initialize(lastIndex);
   }
 
   /**
@@ -75,12 +79,39 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     return mappedBuffer;
   }
 
+  /**
+   * Initializes the writer. If the last index of the segment is known, entries up to the last indexed position are
+   * trusted and only the remainder of the segment is scanned.
+   *
+   * @param lastIndex the expected last index of the segment, or {@code 0} if not known
+   */
+  private void initialize(long lastIndex) {
+    if (lastIndex >= firstIndex) {
+      final Position tail = index.lookup(lastIndex);
+      if (tail != null && tail.index() >= firstIndex) {
+        scan(0, tail.index(), tail.position());
+        if (getLastIndex() >= lastIndex) {
+          return;
+        }
+
+        // The segment does not match the index, scan it from the start
+        lastEntry = null;
+        index.truncate(firstIndex - 1);
+      }
+    }
+    reset(0);
+  }
+
   @Override
   public void reset(long index) {
-    long nextIndex = firstIndex;
+    scan(index, firstIndex, JournalSegmentDescriptor.BYTES);
+  }
+
+  private void scan(long index, long startIndex, int startPosition) {
+    long nextIndex = startIndex;
 
     // Clear the buffer indexes.
-    buffer.position(JournalSegmentDescriptor.BYTES);
+    buffer.position(startPosition);
 
     // Record the current buffer position.
     int position = buffer.position();
@@ -97,25 +128,29 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
         // Read the checksum of the entry.
         final long checksum = buffer.getInt() & 0xFFFFFFFFL;
 
-        // Compute the checksum for the entry bytes.
-        final CRC32 crc32 = new CRC32();
-        ByteBuffer slice = buffer.slice();
-        slice.limit(length);
-        crc32.update(slice);
+        // Compute the checksum for the entry bytes, limiting the buffer to the entry instead of slicing it.
+        final int entryPosition = buffer.position();
+        buffer.limit(entryPosition + length);
+        try {
+          this.checksum.reset();
+          this.checksum.update(buffer);
+
+          // If the stored checksum equals the computed checksum, return the entry.
+          if (checksum != this.checksum.getValue()) {
+            break;
+          }
 
-        // If the stored checksum equals the computed checksum, return the entry.
-        if (checksum == crc32.getValue()) {
-          slice.rewind();
-          final E entry = namespace.deserialize(slice);
+          buffer.position(entryPosition);
+          final E entry = namespace.deserialize(buffer);
           lastEntry = new Indexed<>(nextIndex, entry, length);
           this.index.index(nextIndex, position);
           nextIndex++;
-        } else {
-          break;
+        } finally {
+          buffer.limit(buffer.capacity());
         }
 
         // Update the current position for indexing.
-        position = buffer.position() + length;
+        position = entryPosition + length;
         buffer.position(position);
 
         buffer.mark();
@@ -212,12 +247,12 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     }
 
     // Compute the checksum for the entry.
-    final CRC32 crc32 = new CRC32();
     buffer.position(position + Integer.BYTES + Integer.BYTES);
-    ByteBuffer slice = buffer.slice();
-    slice.limit(length);
-    crc32.update(slice);
-    final long checksum = crc32.getValue();
+    buffer.limit(position + Integer.BYTES + Integer.BYTES + length);
+    this.checksum.reset();
+    this.checksum.update(buffer);
+    buffer.limit(buffer.capacity());
+    final long checksum = this.checksum.getValue();
 
     // Create a single byte[] in memory for the entire entry and write it as a batch to the underlying buffer.
     buffer.position(position);
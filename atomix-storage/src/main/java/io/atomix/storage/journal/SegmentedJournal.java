@@ -15,20 +15,28 @@
  */
 package io.atomix.storage.journal;
 
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.SparseJournalIndex;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +69,11 @@ public final class SegmentedJournal<E> implements Journal<E> {
   private final int maxEntrySize;
   private final int maxEntriesPerSegment;
   private final double indexDensity;
+  private final DoubleFunction<JournalIndex> indexFactory;
+  private final boolean indexFiles;
+  private final int segmentVersion;
   private final boolean flushOnCommit;
+  private final JournalSegmentPool pool;
   private final SegmentedJournalWriter<E> writer;
   private volatile long commitIndex;
 
@@ -80,6 +92,10 @@ public final class SegmentedJournal<E> implements Journal<E> {
       int maxEntrySize,
       int maxEntriesPerSegment,
       double indexDensity,
+      DoubleFunction<JournalIndex> indexFactory,
+      boolean indexFiles,
+      int segmentPoolSize,
+      boolean crc32cChecksums,
       boolean flushOnCommit) {
     this.name = requireNonNull(name, "name cannot be null");
     this.storageLevel = requireNonNull(storageLevel, "storageLevel cannot be null");
@@ -89,7 +105,13 @@ public final class SegmentedJournal<E> implements Journal<E> {
     this.maxEntrySize = maxEntrySize;
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.indexDensity = indexDensity;
+    this.indexFactory = requireNonNull(indexFactory, "indexFactory cannot be null");
+    this.indexFiles = indexFiles;
+    this.segmentVersion = crc32cChecksums ? JournalSegmentDescriptor.VERSION_CRC32C
+        : JournalSegmentDescriptor.VERSION_CRC32;
     this.flushOnCommit = flushOnCommit;
+    this.pool = segmentPoolSize > 0
+        ? new JournalSegmentPool(name, directory, maxSegmentSize, segmentPoolSize) : null;
     open();
     this.writer = openWriter();
   }
@@ -239,6 +261,7 @@ public final class SegmentedJournal<E> implements Journal<E> {
       currentSegment = segments.lastEntry().getValue();
     } else {
       JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder()
+          .withVersion(segmentVersion)
           .withId(1)
           .withIndex(1)
           .withMaxSegmentSize(maxSegmentSize)
@@ -279,6 +302,7 @@ public final class SegmentedJournal<E> implements Journal<E> {
       currentSegment = lastSegment;
     } else {
       JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder()
+          .withVersion(segmentVersion)
           .withId(1)
           .withIndex(1)
           .withMaxSegmentSize(maxSegmentSize)
@@ -313,6 +337,7 @@ public final class SegmentedJournal<E> implements Journal<E> {
     segments.clear();
 
     JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder()
+        .withVersion(segmentVersion)
         .withId(1)
         .withIndex(index)
         .withMaxSegmentSize(maxSegmentSize)
@@ -357,6 +382,7 @@ public final class SegmentedJournal<E> implements Journal<E> {
 
     JournalSegment<E> lastSegment = getLastSegment();
     JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder()
+        .withVersion(segmentVersion)
         .withId(lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
         .withIndex(currentSegment.lastIndex() + 1)
         .withMaxSegmentSize(maxSegmentSize)
@@ -422,8 +448,15 @@ public final class SegmentedJournal<E> implements Journal<E> {
     RandomAccessFile raf;
     FileChannel channel;
     try {
+      // Use a preallocated file if there is one, so we do not have to allocate disk space as we write
+      Path pooled = pool != null ? pool.take() : null;
+      if (pooled != null) {
+        Files.move(pooled, segmentFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      }
       raf = new RandomAccessFile(segmentFile, "rw");
-      raf.setLength(descriptor.maxSegmentSize());
+      if (pooled == null) {
+        raf.setLength(descriptor.maxSegmentSize());
+      }
       channel =  raf.getChannel();
     } catch (IOException e) {
       throw new StorageException(e);
@@ -456,7 +489,8 @@ public final class SegmentedJournal<E> implements Journal<E> {
    * @return The segment instance.
    */
   protected JournalSegment<E> newSegment(JournalSegmentFile segmentFile, JournalSegmentDescriptor descriptor) {
-    return new JournalSegment<>(segmentFile, descriptor, storageLevel, maxEntrySize, indexDensity, namespace);
+    return new JournalSegment<>(segmentFile, descriptor, storageLevel, maxEntrySize, indexFactory.apply(indexDensity),
+        namespace, indexFiles, pool);
   }
 
   /**
@@ -607,20 +641,40 @@ public final class SegmentedJournal<E> implements Journal<E> {
    * @param index The index up to which to compact the journal.
    */
   public void compact(long index) {
+    for (JournalSegment<E> segment : detachSegments(index)) {
+      log.trace("Deleting segment: {}", segment);
+      segment.close();
+      segment.delete();
+    }
+  }
+
+  /**
+   * Removes the segments which would be compacted by {@link #compact(long)} from the journal, without closing or
+   * deleting them.
+   * <p>
+   * This allows the caller to retire the returned segments at its convenience, for example on another thread, as
+   * closing and deleting segments may take a significant amount of time. The journal does not access the returned
+   * segments anymore, and it does not close them when it is closed.
+   *
+   * @param index The index up to which to compact the journal.
+   * @return The detached segments, in ascending index order.
+   */
+  public List<JournalSegment<E>> detachSegments(long index) {
     Map.Entry<Long, JournalSegment<E>> segmentEntry = segments.floorEntry(index);
-    if (segmentEntry != null) {
-      SortedMap<Long, JournalSegment<E>> compactSegments = segments.headMap(segmentEntry.getValue().index());
-      if (!compactSegments.isEmpty()) {
-        log.debug("{} - Compacting {} segment(s)", name, compactSegments.size());
-        for (JournalSegment<E> segment : compactSegments.values()) {
-          log.trace("Deleting segment: {}", segment);
-          segment.close();
-          segment.delete();
-        }
-        compactSegments.clear();
-        resetHead(segmentEntry.getValue().index());
-      }
+    if (segmentEntry == null) {
+      return List.of();
+    }
+
+    SortedMap<Long, JournalSegment<E>> compactSegments = segments.headMap(segmentEntry.getValue().index());
+    if (compactSegments.isEmpty()) {
+      return List.of();
     }
+
+    log.debug("{} - Compacting {} segment(s)", name, compactSegments.size());
+    List<JournalSegment<E>> detached = new ArrayList<>(compactSegments.values());
+    compactSegments.clear();
+    resetHead(segmentEntry.getValue().index());
+    return detached;
   }
 
   @Override
@@ -630,6 +684,9 @@ public final class SegmentedJournal<E> implements Journal<E> {
       segment.close();
     });
     currentSegment = null;
+    if (pool != null) {
+      pool.close();
+    }
     open = false;
   }
 
@@ -680,6 +737,10 @@ public final class SegmentedJournal<E> implements Journal<E> {
     private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
     private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     private double indexDensity = DEFAULT_INDEX_DENSITY;
+    private DoubleFunction<JournalIndex> indexFactory = SparseJournalIndex::new;
+    private boolean indexFiles;
+    private int segmentPoolSize;
+    private boolean crc32cChecksums;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
 
     protected Builder() {
@@ -819,6 +880,90 @@ public final class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Sets the journal index implementation.
+     * <p>
+     * The factory is invoked with the configured index density for each segment that is created or loaded. By default,
+     * segments use a {@link SparseJournalIndex}.
+     *
+     * @param indexFactory the journal index factory
+     * @return the journal builder
+     * @throws NullPointerException if {@code indexFactory} is null
+     */
+    public Builder<E> withIndexFactory(DoubleFunction<JournalIndex> indexFactory) {
+      this.indexFactory = requireNonNull(indexFactory, "indexFactory cannot be null");
+      return this;
+    }
+
+    /**
+     * Enables persisting segment indexes, returning the builder for method chaining.
+     * <p>
+     * When index files are enabled, the index of each segment is written to a file next to the segment once the
+     * segment is full. Segments with a valid index file do not need to be scanned when the journal is opened.
+     *
+     * @return The storage builder.
+     */
+    public Builder<E> withIndexFiles() {
+      return withIndexFiles(true);
+    }
+
+    /**
+     * Sets whether to persist segment indexes, returning the builder for method chaining.
+     * <p>
+     * When index files are enabled, the index of each segment is written to a file next to the segment once the
+     * segment is full. Segments with a valid index file do not need to be scanned when the journal is opened.
+     *
+     * @param indexFiles Whether to persist segment indexes.
+     * @return The storage builder.
+     */
+    public Builder<E> withIndexFiles(boolean indexFiles) {
+      this.indexFiles = indexFiles;
+      return this;
+    }
+
+    /**
+     * Sets the number of preallocated segment files, returning the builder for method chaining.
+     * <p>
+     * When the pool is enabled, zero-filled files of the maximum segment size are prepared in the background, so that
+     * new segments do not need to allocate disk space while they are being written. Deleted segments are recycled
+     * into the pool instead of being removed. By default, the pool is disabled.
+     *
+     * @param segmentPoolSize The number of segment files to keep ready, {@code 0} to disable the pool.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if {@code segmentPoolSize} is negative
+     */
+    public Builder<E> withSegmentPool(int segmentPoolSize) {
+      checkArgument(segmentPoolSize >= 0, "segmentPoolSize must not be negative");
+      this.segmentPoolSize = segmentPoolSize;
+      return this;
+    }
+
+    /**
+     * Enables CRC32C entry checksums in new segments, returning the builder for method chaining.
+     * <p>
+     * CRC32C is cheaper to compute than CRC32 on modern CPUs, but segments using it cannot be read by releases which
+     * predate it: those treat the entries as corrupt and truncate the journal. Enabling CRC32C checksums is therefore a
+     * one-way change once such segments have been written. Existing segments are always read according to their own
+     * format. By default, new segments use CRC32 checksums.
+     *
+     * @return The storage builder.
+     */
+    public Builder<E> withCrc32cChecksums() {
+      return withCrc32cChecksums(true);
+    }
+
+    /**
+     * Sets whether new segments use CRC32C entry checksums, returning the builder for method chaining.
+     *
+     * @param crc32cChecksums Whether new segments use CRC32C entry checksums.
+     * @return The storage builder.
+     * @see #withCrc32cChecksums()
+     */
+    public Builder<E> withCrc32cChecksums(boolean crc32cChecksums) {
+      this.crc32cChecksums = crc32cChecksums;
+      return this;
+    }
+
     /**
      * Enables flushing buffers to disk when entries are committed to a segment, returning the builder for method
      * chaining.
@@ -862,6 +1007,10 @@ public final class SegmentedJournal<E> implements Journal<E> {
           maxEntrySize,
           maxEntriesPerSegment,
           indexDensity,
+          indexFactory,
+          indexFiles,
+          segmentPoolSize,
+          crc32cChecksums,
           flushOnCommit);
     }
   }
@@ -79,6 +79,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
         throw e;
       }
       currentWriter.flush();
+      currentSegment.persistIndex();
       currentSegment.release();
       currentSegment = journal.getNextSegment();
       currentSegment.acquire();
@@ -96,6 +97,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
         throw e;
       }
       currentWriter.flush();
+      currentSegment.persistIndex();
       currentSegment.release();
       currentSegment = journal.getNextSegment();
       currentSegment.acquire();
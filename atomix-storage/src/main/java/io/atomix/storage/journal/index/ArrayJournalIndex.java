@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 PANTHEON.tech, s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sparse index backed by a pair of growable primitive arrays.
+ * <p>
+ * This index records the same positions as {@link SparseJournalIndex}, but takes advantage of segment indexes being
+ * append-only: entries are kept sorted in a {@code long[]} of indexes and an {@code int[]} of positions, which costs
+ * 12 bytes per entry instead of a boxed {@link java.util.TreeMap} node. Lookups are a binary search and truncation
+ * just moves the end of the arrays.
+ */
+public final class ArrayJournalIndex implements JournalIndex {
+  private static final int MIN_DENSITY = 1000;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int density;
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  public ArrayJournalIndex(double density) {
+    this.density = (int) Math.ceil(MIN_DENSITY / (density * MIN_DENSITY));
+  }
+
+  @Override
+  public void index(long index, int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    if (size != 0 && index <= indexes[size - 1]) {
+      // Segment is being re-scanned or its tail has been rewritten
+      final int offset = Arrays.binarySearch(indexes, 0, size, index);
+      if (offset >= 0) {
+        positions[offset] = position;
+        return;
+      }
+      size = -offset - 1;
+    }
+
+    if (size == indexes.length) {
+      final int newCapacity = size * 2;
+      indexes = Arrays.copyOf(indexes, newCapacity);
+      positions = Arrays.copyOf(positions, newCapacity);
+    }
+    indexes[size] = index;
+    positions[size] = position;
+    size++;
+  }
+
+  @Override
+  public Position lookup(long index) {
+    final int offset = floorOffset(index);
+    return offset < 0 ? null : new Position(indexes[offset], positions[offset]);
+  }
+
+  @Override
+  public void truncate(long index) {
+    size = floorOffset(index) + 1;
+  }
+
+  @Override
+  public List<Position> positions() {
+    final List<Position> ret = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ret.add(new Position(indexes[i], positions[i]));
+    }
+    return ret;
+  }
+
+  /**
+   * Returns the offset of the greatest recorded index less than or equal to the given index.
+   *
+   * @param index the index to look up
+   * @return the offset, or {@code -1} if there is no such index
+   */
+  private int floorOffset(long index) {
+    final int offset = Arrays.binarySearch(indexes, 0, size, index);
+    return offset >= 0 ? offset : -offset - 2;
+  }
+}
@@ -15,6 +15,8 @@
  */
 package io.atomix.storage.journal.index;
 
+import java.util.List;
+
 /**
  * Journal index.
  */
@@ -43,4 +45,11 @@ public interface JournalIndex {
    */
   void truncate(long index);
 
+  /**
+   * Returns all positions recorded in the index, in ascending index order.
+   *
+   * @return recorded positions
+   */
+  List<Position> positions();
+
 }
@@ -15,6 +15,8 @@
  */
 package io.atomix.storage.journal.index;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -47,4 +49,11 @@ public class SparseJournalIndex implements JournalIndex {
   public void truncate(long index) {
     positions.tailMap(index, false).clear();
   }
+
+  @Override
+  public List<Position> positions() {
+    final List<Position> ret = new ArrayList<>(positions.size());
+    positions.forEach((index, position) -> ret.add(new Position(index, position)));
+    return ret;
+  }
 }
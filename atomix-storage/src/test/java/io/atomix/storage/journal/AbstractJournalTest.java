@@ -50,7 +50,7 @@ public abstract class AbstractJournalTest {
       .build();
 
   protected static final TestEntry ENTRY = new TestEntry(32);
-  private static final Path PATH = Paths.get("target/test-logs/");
+  protected static final Path PATH = Paths.get("target/test-logs/");
 
   private final int maxSegmentSize;
   protected final int entriesPerSegment;
@@ -75,14 +75,17 @@ public abstract class AbstractJournalTest {
   }
 
   protected SegmentedJournal<TestEntry> createJournal() {
+    return journalBuilder().build();
+  }
+
+  protected SegmentedJournal.Builder<TestEntry> journalBuilder() {
     return SegmentedJournal.<TestEntry>builder()
         .withName("test")
         .withDirectory(PATH.toFile())
         .withNamespace(NAMESPACE)
         .withStorageLevel(storageLevel())
         .withMaxSegmentSize(maxSegmentSize)
-        .withIndexDensity(.2)
-        .build();
+        .withIndexDensity(.2);
   }
 
   @Test
@@ -18,8 +18,12 @@ package io.atomix.storage.journal;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Segment descriptor test.
@@ -76,4 +80,21 @@ public class JournalSegmentDescriptorTest {
     assertEquals(2048, descriptor.maxEntries());
     assertEquals(time, descriptor.updated());
   }
+
+  /**
+   * Tests entry checksums are selected by segment version.
+   */
+  @Test
+  public void testDescriptorChecksum() {
+    assertTrue(JournalSegmentDescriptor.builder().build().newChecksum() instanceof CRC32);
+    assertTrue(JournalSegmentDescriptor.builder()
+        .withVersion(JournalSegmentDescriptor.VERSION_CRC32C)
+        .build()
+        .newChecksum() instanceof CRC32C);
+
+    JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder()
+        .withVersion(JournalSegmentDescriptor.VERSION_CRC32C + 1)
+        .build();
+    assertThrows(StorageException.class, descriptor::newChecksum);
+  }
 }
@@ -15,9 +15,14 @@
  */
 package io.atomix.storage.journal;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -64,4 +69,145 @@ public abstract class PersistentJournalTest extends AbstractJournalTest {
     assertEquals(reader.getFirstIndex(), reader.getNextIndex());
     assertEquals(entriesPerSegment + 1, reader.next().index());
   }
+
+  /**
+   * Tests recovering a journal using persisted segment indexes.
+   */
+  @Test
+  public void testRecoverWithIndexFiles() throws Exception {
+    SegmentedJournal<TestEntry> journal = journalBuilder().withIndexFiles().build();
+
+    // Fill three segments and start a fourth one.
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= entriesPerSegment * 3 + 1; i++) {
+      assertEquals(i, writer.append(ENTRY).index());
+    }
+    journal.close();
+
+    // Only sealed segments have their index persisted.
+    assertTrue(indexFile(1).exists());
+    assertTrue(indexFile(2).exists());
+    assertTrue(indexFile(3).exists());
+    assertFalse(indexFile(4).exists());
+
+    // A corrupted index file must not prevent recovery.
+    Files.write(indexFile(2).toPath(), new byte[] { 1, 2, 3 });
+
+    journal = journalBuilder().withIndexFiles().build();
+    writer = journal.writer();
+    assertEquals(entriesPerSegment * 3 + 1, writer.getLastIndex());
+    JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (int i = 1; i <= entriesPerSegment * 3 + 1; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+    reader.reset(entriesPerSegment * 2 + 1);
+    assertEquals(entriesPerSegment * 2 + 1, reader.next().index());
+    reader.close();
+
+    // Truncating into a sealed segment invalidates its index.
+    writer.truncate(entriesPerSegment - 1);
+    assertFalse(indexFile(1).exists());
+    assertFalse(indexFile(2).exists());
+    journal.close();
+
+    journal = journalBuilder().withIndexFiles().build();
+    assertEquals(entriesPerSegment - 1, journal.writer().getLastIndex());
+    journal.close();
+  }
+
+  /**
+   * Tests journals mixing CRC32 and CRC32C segments.
+   */
+  @Test
+  public void testMixedChecksumSegments() throws Exception {
+    // New segments use CRC32 unless CRC32C is enabled.
+    try (SegmentedJournal<TestEntry> journal = createJournal()) {
+      JournalWriter<TestEntry> writer = journal.writer();
+      for (int i = 1; i <= entriesPerSegment; i++) {
+        writer.append(ENTRY);
+      }
+      assertEquals(JournalSegmentDescriptor.VERSION_CRC32, journal.getLastSegment().descriptor().version());
+    }
+
+    // Existing segments keep their format, new ones use CRC32C.
+    try (SegmentedJournal<TestEntry> journal = journalBuilder().withCrc32cChecksums().build()) {
+      assertEquals(JournalSegmentDescriptor.VERSION_CRC32, journal.getFirstSegment().descriptor().version());
+      JournalWriter<TestEntry> writer = journal.writer();
+      assertEquals(entriesPerSegment, writer.getLastIndex());
+      assertEquals(entriesPerSegment + 1, writer.append(ENTRY).index());
+      assertEquals(JournalSegmentDescriptor.VERSION_CRC32C, journal.getLastSegment().descriptor().version());
+    }
+
+    // CRC32C segments remain readable once CRC32C is disabled again.
+    try (SegmentedJournal<TestEntry> journal = createJournal()) {
+      JournalReader<TestEntry> reader = journal.openReader(1);
+      for (int i = 1; i <= entriesPerSegment + 1; i++) {
+        assertTrue(reader.hasNext());
+        assertEquals(i, reader.next().index());
+      }
+      assertFalse(reader.hasNext());
+      assertEquals(JournalSegmentDescriptor.VERSION_CRC32C, journal.getLastSegment().descriptor().version());
+    }
+  }
+
+  /**
+   * Tests rolling over to preallocated segment files and recycling deleted segments.
+   */
+  @Test
+  public void testSegmentPool() throws Exception {
+    SegmentedJournal<TestEntry> journal = journalBuilder().withSegmentPool(2).build();
+    awaitPoolFiles(2);
+
+    // Fill three segments and start a fourth one, consuming the pool.
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= entriesPerSegment * 3 + 1; i++) {
+      assertEquals(i, writer.append(ENTRY).index());
+    }
+    awaitPoolFiles(2);
+
+    // Compacted segments are either recycled into the pool or deleted.
+    writer.commit(entriesPerSegment * 3 + 1);
+    journal.compact(entriesPerSegment * 3 + 1);
+    awaitPoolFiles(2);
+    assertEquals(1, countFiles(".log"));
+
+    // Recycled files must not leak stale entries into new segments.
+    for (int i = entriesPerSegment * 3 + 2; i <= entriesPerSegment * 5 + 1; i++) {
+      assertEquals(i, writer.append(ENTRY).index());
+    }
+    awaitPoolFiles(2);
+    journal.close();
+
+    journal = journalBuilder().withSegmentPool(2).build();
+    assertEquals(entriesPerSegment * 5 + 1, journal.writer().getLastIndex());
+    JournalReader<TestEntry> reader = journal.openReader(entriesPerSegment * 3 + 1, JournalReader.Mode.ALL);
+    for (int i = entriesPerSegment * 3 + 1; i <= entriesPerSegment * 5 + 1; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+    reader.close();
+    awaitPoolFiles(2);
+    journal.close();
+  }
+
+  private static void awaitPoolFiles(int expected) throws Exception {
+    final long deadline = System.nanoTime() + 10_000_000_000L;
+    while (countFiles(".pool") != expected || countFiles(".dirty") != 0) {
+      assertTrue("Timed out waiting for segment pool", System.nanoTime() < deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private static long countFiles(String extension) throws Exception {
+    try (Stream<Path> files = Files.list(PATH)) {
+      return files.filter(file -> file.getFileName().toString().endsWith(extension)).count();
+    }
+  }
+
+  private static File indexFile(long id) {
+    return PATH.resolve("test-" + id + ".idx").toFile();
+  }
 }
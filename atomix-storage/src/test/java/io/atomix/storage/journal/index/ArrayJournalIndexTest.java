@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 PANTHEON.tech, s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Array journal index test.
+ */
+public class ArrayJournalIndexTest {
+  @Test
+  public void testArrayJournalIndex() throws Exception {
+    JournalIndex index = new ArrayJournalIndex(.2);
+    assertNull(index.lookup(1));
+    index.index(1, 2);
+    assertNull(index.lookup(1));
+    index.index(2, 4);
+    index.index(3, 6);
+    index.index(4, 8);
+    index.index(5, 10);
+    assertEquals(new Position(5, 10), index.lookup(5));
+    index.index(6, 12);
+    index.index(7, 14);
+    index.index(8, 16);
+    assertEquals(new Position(5, 10), index.lookup(8));
+    index.index(9, 18);
+    index.index(10, 20);
+    assertEquals(new Position(10, 20), index.lookup(10));
+    index.truncate(8);
+    assertEquals(new Position(5, 10), index.lookup(8));
+    assertEquals(new Position(5, 10), index.lookup(10));
+    index.truncate(4);
+    assertNull(index.lookup(4));
+    assertNull(index.lookup(8));
+
+    index = new ArrayJournalIndex(.2);
+    assertNull(index.lookup(100));
+    index.index(101, 2);
+    assertNull(index.lookup(1));
+    index.index(102, 4);
+    index.index(103, 6);
+    index.index(104, 8);
+    index.index(105, 10);
+    assertEquals(new Position(105, 10), index.lookup(105));
+    index.index(106, 12);
+    index.index(107, 14);
+    index.index(108, 16);
+    assertEquals(new Position(105, 10), index.lookup(108));
+    index.index(109, 18);
+    index.index(110, 20);
+    assertEquals(new Position(110, 20), index.lookup(110));
+    index.truncate(108);
+    assertEquals(new Position(105, 10), index.lookup(108));
+    assertEquals(new Position(105, 10), index.lookup(110));
+    index.truncate(104);
+    assertNull(index.lookup(104));
+    assertNull(index.lookup(108));
+  }
+
+  @Test
+  public void testGrowthAndReindex() throws Exception {
+    JournalIndex index = new ArrayJournalIndex(.5);
+    for (int i = 1; i <= 100; i++) {
+      index.index(i, i * 10);
+    }
+    assertEquals(new Position(100, 1000), index.lookup(100));
+    assertEquals(new Position(50, 500), index.lookup(51));
+
+    // Re-scanning the segment overwrites existing positions
+    for (int i = 1; i <= 100; i++) {
+      index.index(i, i * 20);
+    }
+    assertEquals(new Position(100, 2000), index.lookup(1000));
+    assertEquals(new Position(2, 40), index.lookup(3));
+
+    // Rewriting the tail after a truncation
+    index.truncate(41);
+    index.index(42, 2);
+    assertEquals(new Position(42, 2), index.lookup(100));
+    assertEquals(new Position(40, 800), index.lookup(41));
+    assertNull(index.lookup(1));
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.benchmark.atomix;
+
+import io.atomix.storage.journal.index.ArrayJournalIndex;
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import io.atomix.storage.journal.index.SparseJournalIndex;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Comparison of {@link JournalIndex} implementations. {@link #lookup()} measures lookup latency, {@link #populate()}
+ * measures the cost of building an index for a full segment -- its normalized allocation rate, as reported by the GC
+ * profiler, approximates the heap footprint of the index.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class JournalIndexBenchmark {
+    public enum IndexType {
+        SPARSE(SparseJournalIndex::new),
+        ARRAY(ArrayJournalIndex::new);
+
+        final DoubleFunction<JournalIndex> factory;
+
+        IndexType(final DoubleFunction<JournalIndex> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({ "SPARSE", "ARRAY" })
+    public IndexType indexType;
+
+    // Number of entries in a segment
+    @Param({ "100000", "1000000" })
+    public int entryCount;
+
+    @Param({ "0.005", "0.1" })
+    public double indexDensity;
+
+    private JournalIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        index = populate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Position lookup() {
+        return index.lookup(ThreadLocalRandom.current().nextLong(1, entryCount + 1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public JournalIndex populate() {
+        final JournalIndex ret = indexType.factory.apply(indexDensity);
+        for (int i = 1; i <= entryCount; ++i) {
+            // Assume 64-byte entries
+            ret.index(i, i * 64);
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.benchmark.atomix;
+
+import io.atomix.storage.journal.JournalSerdes;
+import io.atomix.storage.journal.SegmentedJournal;
+import io.atomix.storage.journal.StorageLevel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Common state shared by all benchmarks: a {@link SegmentedJournal} of byte arrays living in a temporary directory.
+ * Parameters are exposed as JMH {@link Param}s so they can be overridden from the command line with {@code -p}.
+ */
+@State(Scope.Benchmark)
+public abstract class JournalState {
+    private static final JournalSerdes NAMESPACE = JournalSerdes.builder()
+        .register(new ByteArraySerdes(), byte[].class)
+        .build();
+
+    @Param({ "DISK", "MAPPED" })
+    public StorageLevel storageLevel;
+
+    @Param({ "64", "1024", "16384" })
+    public int entrySize;
+
+    @Param({ "1048576", "33554432" })
+    public int maxSegmentSize;
+
+    @Param({ "false", "true" })
+    public boolean crc32cChecksums;
+
+    private Path directory;
+
+    SegmentedJournal<byte[]> journal;
+    byte[] entry;
+
+    final void openJournal() throws IOException {
+        directory = Files.createTempDirectory("atomix-benchmark");
+        journal = SegmentedJournal.<byte[]>builder()
+            .withName("bench")
+            .withDirectory(directory.toFile())
+            .withStorageLevel(storageLevel)
+            .withNamespace(NAMESPACE)
+            .withMaxEntrySize(entrySize + 16)
+            .withMaxSegmentSize(maxSegmentSize)
+            .withCrc32cChecksums(crc32cChecksums)
+            .build();
+
+        entry = new byte[entrySize];
+        ThreadLocalRandom.current().nextBytes(entry);
+    }
+
+    final void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+            directory = null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.benchmark.atomix;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. This is a thin wrapper around JMH's own command line, which defaults to running
+ * all benchmarks in this package with the GC profiler and to writing results in JSON format to
+ * {@value #DEFAULT_RESULT_FILE}, so that they can be archived and compared across releases. All defaults can be
+ * overridden using the usual JMH arguments.
+ */
+public final class Main {
+    private static final String DEFAULT_RESULT_FILE = "atomix-storage-benchmarks.json";
+
+    private Main() {
+        // Hidden on purpose
+    }
+
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions cmdLine = new CommandLineOptions(args);
+        final ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdLine);
+        if (cmdLine.getIncludes().isEmpty()) {
+            builder.include(Main.class.getPackageName() + "\\..*Benchmark");
+        }
+        if (cmdLine.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        if (!cmdLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdLine.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.benchmark.atomix;
+
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.SegmentedJournalReader;
+import io.atomix.storage.journal.SegmentedJournalWriter;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Replay benchmarks for {@link SegmentedJournalReader}. The journal is populated once per trial with
+ * {@link #entryCount} entries, which are then read back either sequentially or at random indices.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class SegmentReaderBenchmark extends JournalState {
+    @Param({ "100000" })
+    public int entryCount;
+
+    private SegmentedJournalReader<byte[]> reader;
+    private long firstIndex;
+    private long lastIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        openJournal();
+
+        final SegmentedJournalWriter<byte[]> writer = journal.writer();
+        for (int i = 0; i < entryCount; ++i) {
+            writer.append(entry);
+        }
+        writer.flush();
+        lastIndex = writer.getLastIndex();
+
+        reader = journal.openReader(1);
+        firstIndex = reader.getFirstIndex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+        closeJournal();
+    }
+
+    /**
+     * Full sequential replay of the journal, as performed during actor recovery.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long sequentialReplay(final Blackhole bh) {
+        reader.reset(firstIndex);
+        long count = 0;
+        while (reader.hasNext()) {
+            bh.consume(reader.next());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Positioning at a random index followed by a single read, which exercises the journal index.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Indexed<byte[]> randomRead() {
+        reader.reset(ThreadLocalRandom.current().nextLong(firstIndex, lastIndex + 1));
+        return reader.next();
+    }
+}
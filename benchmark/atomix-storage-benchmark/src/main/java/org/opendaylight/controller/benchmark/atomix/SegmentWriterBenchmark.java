@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.benchmark.atomix;
+
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.SegmentedJournalWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Append and flush benchmarks for {@link SegmentedJournalWriter}. {@code StorageLevel.DISK} exercises
+ * {@code FileChannelJournalSegmentWriter}, {@code StorageLevel.MAPPED} exercises {@code MappedJournalSegmentWriter}.
+ * A fresh journal is used for each iteration, so that the disk does not fill up during long runs.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class SegmentWriterBenchmark extends JournalState {
+    private SegmentedJournalWriter<byte[]> writer;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        openJournal();
+        writer = journal.writer();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        writer = null;
+        closeJournal();
+    }
+
+    /**
+     * Raw append throughput, without any durability guarantees.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Indexed<byte[]> append() {
+        return writer.append(entry);
+    }
+
+    /**
+     * Latency distribution of a single append followed by a {@code flush()}, which is what
+     * {@code DataJournalV0.handleWriteMessages()} does for a single-entry batch.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Indexed<byte[]> appendAndFlush() {
+        final Indexed<byte[]> ret = writer.append(entry);
+        writer.flush();
+        return ret;
+    }
+}
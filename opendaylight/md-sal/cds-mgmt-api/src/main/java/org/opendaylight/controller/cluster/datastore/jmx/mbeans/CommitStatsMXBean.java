@@ -7,7 +7,9 @@
  */
 package org.opendaylight.controller.cluster.datastore.jmx.mbeans;
 
+import java.util.List;
 import javax.management.MXBean;
+import org.opendaylight.controller.cluster.mgmt.api.CommitPhaseLatency;
 
 /**
  * MXBean interface for retrieving write Tx commit statistics.
@@ -48,6 +50,13 @@ public interface CommitStatsMXBean {
      */
     String getAverageCommitTime();
 
+    /**
+     * Returns the latency distribution of the canCommit, preCommit and commit phases of commits.
+     *
+     * @return the latency distribution of each phase
+     */
+    List<CommitPhaseLatency> getCommitPhaseLatencies();
+
     /**
      * Clears the current stats to their defaults.
      */
@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.datastore.jmx.mbeans.shard;
 
 import java.util.List;
 import javax.management.MXBean;
+import org.opendaylight.controller.cluster.mgmt.api.CommitPhaseLatency;
 import org.opendaylight.controller.cluster.mgmt.api.FollowerInfo;
 
 /**
@@ -91,5 +92,36 @@ public interface ShardStatsMXBean {
 
     int getTxCohortCacheSize();
 
+    /**
+     * Returns the number of committed transactions this shard has decoded from their replicated payload, for example
+     * when applying transactions committed by the leader or recovering from the journal.
+     *
+     * @return the number of decoded transactions
+     */
+    long getDecodedCandidateCount();
+
+    /**
+     * Returns the total serialized size of the replicated payloads this shard has decoded.
+     *
+     * @return the number of decoded bytes
+     */
+    long getDecodedCandidateBytes();
+
+    /**
+     * Returns the total time this shard has spent decoding replicated payloads.
+     *
+     * @return the decoding time in milliseconds
+     */
+    long getCandidateDecodeTimeMillis();
+
+    /**
+     * Returns the latency distribution of each phase of committing transactions on this shard, from waiting in the
+     * queue of pending transactions, through canCommit, preCommit, commit and replication, to publishing the
+     * committed changes to data tree change listeners.
+     *
+     * @return the latency distribution of each phase
+     */
+    List<CommitPhaseLatency> getCommitPhaseLatencies();
+
     void captureSnapshot();
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.mgmt.api;
+
+import static java.util.Objects.requireNonNull;
+
+import javax.management.ConstructorParameters;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A bean class containing a snapshot of the latency distribution of a single phase of committing transactions.
+ * All durations are in microseconds.
+ */
+@NonNullByDefault
+public final class CommitPhaseLatency {
+    private final String phase;
+    private final long count;
+    private final long mean;
+    private final long median;
+    private final long percentile95;
+    private final long percentile99;
+    private final long max;
+
+    @ConstructorParameters({"phase", "count", "mean", "median", "percentile95", "percentile99", "max"})
+    public CommitPhaseLatency(final String phase, final long count, final long mean, final long median,
+            final long percentile95, final long percentile99, final long max) {
+        this.phase = requireNonNull(phase);
+        this.count = count;
+        this.mean = mean;
+        this.median = median;
+        this.percentile95 = percentile95;
+        this.percentile99 = percentile99;
+        this.max = max;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMean() {
+        return mean;
+    }
+
+    public long getMedian() {
+        return median;
+    }
+
+    public long getPercentile95() {
+        return percentile95;
+    }
+
+    public long getPercentile99() {
+        return percentile99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+}
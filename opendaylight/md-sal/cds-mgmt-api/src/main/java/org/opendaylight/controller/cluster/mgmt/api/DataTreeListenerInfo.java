@@ -23,14 +23,29 @@ public final class DataTreeListenerInfo {
     private final String registeredPath;
     private final boolean isEnabled;
     private final long notificationCount;
+    private final long coalescedNotificationCount;
+    private final long coalescingLimitReachedCount;
+    private final long pendingChangeCount;
+    private final long maxPendingChangeCount;
 
-    @ConstructorParameters({"listener","registeredPath", "isEnabled", "notificationCount"})
     public DataTreeListenerInfo(final String listener, final String registeredPath, final boolean isEnabled,
             final long notificationCount) {
+        this(listener, registeredPath, isEnabled, notificationCount, 0, 0, 0, 0);
+    }
+
+    @ConstructorParameters({"listener","registeredPath", "isEnabled", "notificationCount",
+        "coalescedNotificationCount", "coalescingLimitReachedCount", "pendingChangeCount", "maxPendingChangeCount"})
+    public DataTreeListenerInfo(final String listener, final String registeredPath, final boolean isEnabled,
+            final long notificationCount, final long coalescedNotificationCount,
+            final long coalescingLimitReachedCount, final long pendingChangeCount, final long maxPendingChangeCount) {
         this.listener = requireNonNull(listener);
         this.registeredPath = requireNonNull(registeredPath);
         this.isEnabled = isEnabled;
         this.notificationCount = notificationCount;
+        this.coalescedNotificationCount = coalescedNotificationCount;
+        this.coalescingLimitReachedCount = coalescingLimitReachedCount;
+        this.pendingChangeCount = pendingChangeCount;
+        this.maxPendingChangeCount = maxPendingChangeCount;
     }
 
     public String getListener() {
@@ -48,4 +63,42 @@ public final class DataTreeListenerInfo {
     public long getNotificationCount() {
         return notificationCount;
     }
+
+    /**
+     * Returns the number of change notifications which were merged into a preceding notification, because they
+     * arrived while the listener was busy.
+     *
+     * @return the number of merged change notifications
+     */
+    public long getCoalescedNotificationCount() {
+        return coalescedNotificationCount;
+    }
+
+    /**
+     * Returns the number of times changes were delivered because the number of pending changes reached the
+     * coalescing limit.
+     *
+     * @return the number of times the coalescing limit was reached
+     */
+    public long getCoalescingLimitReachedCount() {
+        return coalescingLimitReachedCount;
+    }
+
+    /**
+     * Returns the number of changes which have been received, but not yet delivered to the listener.
+     *
+     * @return the number of pending changes
+     */
+    public long getPendingChangeCount() {
+        return pendingChangeCount;
+    }
+
+    /**
+     * Returns the largest number of changes which have been pending delivery to the listener at any one time.
+     *
+     * @return the largest number of pending changes
+     */
+    public long getMaxPendingChangeCount() {
+        return maxPendingChangeCount;
+    }
 }
@@ -131,6 +131,19 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
         }
     }
 
+    /**
+     * Replaces an entry with an equivalent one, for example one holding its payload in a different form. The
+     * replacement must have the same index, term and size as the entry it replaces.
+     *
+     * @param replicatedLogEntry the replacement entry
+     */
+    protected final void replace(final ReplicatedLogEntry replicatedLogEntry) {
+        final int adjustedIndex = adjustedIndex(replicatedLogEntry.getIndex());
+        Preconditions.checkArgument(adjustedIndex >= 0 && adjustedIndex < journal.size(),
+            "Entry %s is not present", replicatedLogEntry.getIndex());
+        journal.set(adjustedIndex, replicatedLogEntry);
+    }
+
     @Override
     public void increaseJournalLogCapacity(final int amount) {
         journal.ensureCapacity(journal.size() + amount);
@@ -89,6 +89,81 @@ public interface ConfigParams {
      */
     int getSnapshotChunkSize();
 
+    /**
+     * Returns the maximum number of snapshot chunks a Leader sends to a Follower without waiting for them to be
+     * acknowledged. The window is sent along with each chunk, so that the Follower accepts chunks arriving out of
+     * order within the Leader's window.
+     *
+     * @return the maximum number of unacknowledged snapshot chunks, {@code 1} to send chunks one at a time
+     */
+    int getSnapshotChunkWindow();
+
+    /**
+     * Returns the maximum number of journal log entries a Leader sends to a Follower ahead of the Follower
+     * acknowledging them. When non-zero, the Leader does not wait for a reply before sending the next batch of entries
+     * and keeps sending batches as long as the number of unacknowledged entries is below this limit.
+     *
+     * @return the maximum number of unacknowledged entries, {@code 0} to send one batch at a time
+     */
+    int getMaximumEntriesInFlight();
+
+    /**
+     * Returns the number of most recent journal log entries which are kept on heap. Older entries which have already
+     * been applied are needed only to bring lagging followers up to date and are kept in serialized form outside of
+     * the heap until they are trimmed by a snapshot.
+     *
+     * @return the number of entries kept on heap, {@code 0} to keep all entries on heap
+     */
+    int getReplicatedLogHeapEntries();
+
+    /**
+     * Returns whether journal log entries retain their serialized form once they have been sent to a Follower, so that
+     * sending them to other Followers, or again, does not serialize them again. Retained data is held on heap for as
+     * long as the entry is kept on heap, see {@link #getReplicatedLogHeapEntries()}.
+     *
+     * @return true if entries retain their serialized form
+     */
+    boolean isRetainSerializedLogEntries();
+
+    /**
+     * Returns whether a Leader holds a lease during which it may assume it is still the leader without exchanging
+     * messages with its followers. The lease is based on acknowledgements received from a majority of voting
+     * followers and expires before any of them could elect another leader. While enabled, Followers do not grant
+     * votes as long as they are hearing from a current leader, nor for one election timeout after becoming Follower,
+     * unless the vote is requested as part of a leadership transfer.
+     *
+     * @return true if leader leases are enabled
+     */
+    boolean isLeaderLeaseEnabled();
+
+    /**
+     * Returns whether a Candidate runs a pre-vote round before starting an election. The Candidate asks voting peers
+     * whether they would grant it a vote in the next term, without any of them updating their term, and starts the
+     * election only if a majority would. Peers which are hearing from an active leader do not grant pre-votes, hence
+     * a member which has only transiently missed heartbeats does not disrupt the current leader.
+     *
+     * @return true if pre-vote is enabled
+     */
+    boolean isPreVoteEnabled();
+
+    /**
+     * Returns the number of entries which may be applied before the ApplyJournalEntries marker recording their
+     * application is persisted. Markers are coalesced until this many entries have been applied since the last
+     * persisted marker, or until {@link #getApplyJournalEntriesInterval()} has elapsed. On recovery, entries following
+     * the last persisted marker are applied again once they are known to be committed.
+     *
+     * @return the number of entries, {@code 0} to persist a marker each time entries are applied
+     */
+    int getApplyJournalEntriesBatchSize();
+
+    /**
+     * Returns the maximum amount of time for which persisting an ApplyJournalEntries marker is deferred when
+     * {@link #getApplyJournalEntriesBatchSize()} is non-zero.
+     *
+     * @return the interval as a FiniteDuration
+     */
+    FiniteDuration getApplyJournalEntriesInterval();
+
     /**
      * Returns the maximum number of journal log entries to batch on recovery before applying.
      *
@@ -74,6 +74,22 @@ public class DefaultConfigParamsImpl implements ConfigParams {
 
     private int snapshotChunkSize = SNAPSHOT_CHUNK_SIZE;
 
+    private int snapshotChunkWindow = 1;
+
+    private int maximumEntriesInFlight = 0;
+
+    private int replicatedLogHeapEntries = 0;
+
+    private boolean retainSerializedLogEntries = false;
+
+    private boolean leaderLeaseEnabled = false;
+
+    private boolean preVoteEnabled = false;
+
+    private int applyJournalEntriesBatchSize = 0;
+
+    private FiniteDuration applyJournalEntriesInterval = new FiniteDuration(1, TimeUnit.SECONDS);
+
     private long electionTimeoutFactor = 2;
     private long candidateElectionTimeoutDivisor = 1;
     private String customRaftPolicyImplementationClass;
@@ -112,6 +128,42 @@ public class DefaultConfigParamsImpl implements ConfigParams {
         this.snapshotChunkSize = snapshotChunkSize;
     }
 
+    public void setSnapshotChunkWindow(final int snapshotChunkWindow) {
+        checkArgument(snapshotChunkWindow > 0);
+        this.snapshotChunkWindow = snapshotChunkWindow;
+    }
+
+    public void setMaximumEntriesInFlight(final int maximumEntriesInFlight) {
+        checkArgument(maximumEntriesInFlight >= 0);
+        this.maximumEntriesInFlight = maximumEntriesInFlight;
+    }
+
+    public void setReplicatedLogHeapEntries(final int replicatedLogHeapEntries) {
+        checkArgument(replicatedLogHeapEntries >= 0);
+        this.replicatedLogHeapEntries = replicatedLogHeapEntries;
+    }
+
+    public void setRetainSerializedLogEntries(final boolean retainSerializedLogEntries) {
+        this.retainSerializedLogEntries = retainSerializedLogEntries;
+    }
+
+    public void setLeaderLeaseEnabled(final boolean leaderLeaseEnabled) {
+        this.leaderLeaseEnabled = leaderLeaseEnabled;
+    }
+
+    public void setPreVoteEnabled(final boolean preVoteEnabled) {
+        this.preVoteEnabled = preVoteEnabled;
+    }
+
+    public void setApplyJournalEntriesBatchSize(final int applyJournalEntriesBatchSize) {
+        checkArgument(applyJournalEntriesBatchSize >= 0);
+        this.applyJournalEntriesBatchSize = applyJournalEntriesBatchSize;
+    }
+
+    public void setApplyJournalEntriesInterval(final FiniteDuration applyJournalEntriesInterval) {
+        this.applyJournalEntriesInterval = requireNonNull(applyJournalEntriesInterval);
+    }
+
     public void setJournalRecoveryLogBatchSize(final int journalRecoveryLogBatchSize) {
         this.journalRecoveryLogBatchSize = journalRecoveryLogBatchSize;
     }
@@ -195,6 +247,46 @@ public class DefaultConfigParamsImpl implements ConfigParams {
         return snapshotChunkSize;
     }
 
+    @Override
+    public int getSnapshotChunkWindow() {
+        return snapshotChunkWindow;
+    }
+
+    @Override
+    public int getMaximumEntriesInFlight() {
+        return maximumEntriesInFlight;
+    }
+
+    @Override
+    public int getReplicatedLogHeapEntries() {
+        return replicatedLogHeapEntries;
+    }
+
+    @Override
+    public boolean isRetainSerializedLogEntries() {
+        return retainSerializedLogEntries;
+    }
+
+    @Override
+    public boolean isLeaderLeaseEnabled() {
+        return leaderLeaseEnabled;
+    }
+
+    @Override
+    public boolean isPreVoteEnabled() {
+        return preVoteEnabled;
+    }
+
+    @Override
+    public int getApplyJournalEntriesBatchSize() {
+        return applyJournalEntriesBatchSize;
+    }
+
+    @Override
+    public FiniteDuration getApplyJournalEntriesInterval() {
+        return applyJournalEntriesInterval;
+    }
+
     @Override
     public int getJournalRecoveryLogBatchSize() {
         return journalRecoveryLogBatchSize;
@@ -17,6 +17,8 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.behaviors.LeaderInstallSnapshotState;
+import org.opendaylight.controller.cluster.raft.messages.AppendEntries;
+import org.opendaylight.controller.cluster.raft.messages.AppendEntriesReply;
 
 /**
  * The state of the followers log as known by the Leader.
@@ -35,6 +37,10 @@ public final class FollowerLogInformation {
 
     private long matchIndex;
 
+    // The index of the last entry sent ahead of the follower acknowledging it, or NO_INDEX if nothing has been sent
+    // since nextIndex was last set
+    private long sentIndex = NO_INDEX;
+
     private long lastReplicatedIndex = -1L;
 
     private long sentCommitIndex = -1L;
@@ -54,6 +60,9 @@ public final class FollowerLogInformation {
 
     private boolean needsLeaderAddress;
 
+    // The send time of the most recent AppendEntries acknowledged by the follower, or UNKNOWN_SEND_NANOS
+    private long acknowledgedSendNanos = AppendEntriesReply.UNKNOWN_SEND_NANOS;
+
     /**
      * Constructs an instance.
      *
@@ -100,6 +109,7 @@ public final class FollowerLogInformation {
             return false;
         }
 
+        sentIndex = NO_INDEX;
         if (followerLastIndex >= 0 && nextIndex > followerLastIndex) {
             // If the follower's last log index is lower than nextIndex, jump directly to it, so we converge
             // on a common index more quickly.
@@ -119,6 +129,7 @@ public final class FollowerLogInformation {
      */
     @SuppressWarnings("checkstyle:hiddenField")
     public boolean setNextIndex(final long nextIndex) {
+        sentIndex = NO_INDEX;
         if (this.nextIndex != nextIndex) {
             this.nextIndex = nextIndex;
             return true;
@@ -127,6 +138,40 @@ public final class FollowerLogInformation {
         return false;
     }
 
+    /**
+     * Sets the index of the follower's next log entry as reported by the follower in a successful reply. Unlike
+     * {@link #setNextIndex(long)}, this does not move the index back over entries which have been sent to the follower
+     * ahead of the reply, as those are still expected to be acknowledged.
+     *
+     * @param nextIndex the new index.
+     * @return true if the new index differed from the current index and the current index was updated, false
+     *              otherwise.
+     */
+    @SuppressWarnings("checkstyle:hiddenField")
+    public boolean acknowledgeNextIndex(final long nextIndex) {
+        return nextIndex > sentIndex && setNextIndex(nextIndex);
+    }
+
+    /**
+     * Records that entries up to and including the specified index have been sent to the follower, without waiting
+     * for it to acknowledge them, and moves the follower's next index past them.
+     *
+     * @param index the index of the last entry sent.
+     */
+    public void setSentIndex(final long index) {
+        sentIndex = index;
+        nextIndex = index + 1;
+    }
+
+    /**
+     * Returns the number of log entries which have been sent to the follower without having been acknowledged yet.
+     *
+     * @return the number of entries in flight.
+     */
+    public long getEntriesInFlight() {
+        return sentIndex > matchIndex ? sentIndex - matchIndex : 0;
+    }
+
     /**
      * Increments the value of the follower's match index.
      *
@@ -231,6 +276,34 @@ public final class FollowerLogInformation {
         return stopwatch.elapsed(TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Records the acknowledgement of an {@link AppendEntries} message by the follower.
+     *
+     * @param sendNanos the {@link AppendEntries#getSendNanos()} of the acknowledged message, as reported by
+     *                  {@link AppendEntriesReply#getLeaderSendNanos()}
+     */
+    public void acknowledgeSend(final long sendNanos) {
+        // Acknowledgements may arrive out of order, the most recent send time is what counts. Ignore unknown times as
+        // well as times in the future, which cannot have originated with us.
+        if (sendNanos != AppendEntriesReply.UNKNOWN_SEND_NANOS && System.nanoTime() - sendNanos >= 0
+                && (acknowledgedSendNanos == AppendEntriesReply.UNKNOWN_SEND_NANOS
+                    || sendNanos - acknowledgedSendNanos > 0)) {
+            acknowledgedSendNanos = sendNanos;
+        }
+    }
+
+    /**
+     * Returns the time since the most recent {@link AppendEntries} acknowledged by the follower was sent. The follower
+     * has heard from us at some point during this time.
+     *
+     * @return time in nanoseconds since the most recent acknowledged message was sent, or {@link Long#MAX_VALUE} if
+     *         the follower has not acknowledged any message with a known send time
+     */
+    public long nanosSinceLastAcknowledgedSend() {
+        return acknowledgedSendNanos == AppendEntriesReply.UNKNOWN_SEND_NANOS ? Long.MAX_VALUE
+            : System.nanoTime() - acknowledgedSendNanos;
+    }
+
     /**
      * This method checks if the next replicate message can be sent to the follower. This is an optimization to avoid
      * sending duplicate message too frequently if the last replicate message was sent and no reply has been received
@@ -368,7 +441,8 @@ public final class FollowerLogInformation {
     @Override
     public String toString() {
         return "FollowerLogInformation [id=" + getId() + ", nextIndex=" + nextIndex + ", matchIndex=" + matchIndex
-                + ", lastReplicatedIndex=" + lastReplicatedIndex + ", commitIndex=" + sentCommitIndex
+                + ", sentIndex=" + sentIndex + ", lastReplicatedIndex=" + lastReplicatedIndex
+                + ", commitIndex=" + sentCommitIndex
                 + ", votingState=" + peerInfo.getVotingState()
                 + ", stopwatch=" + stopwatch.elapsed(TimeUnit.MILLISECONDS)
                 + ", followerTimeoutMillis=" + context.getConfigParams().getElectionTimeOutInterval().toMillis() + "]";
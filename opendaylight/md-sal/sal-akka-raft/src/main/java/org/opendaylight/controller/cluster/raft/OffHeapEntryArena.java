@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.nio.ByteBuffer;
+
+/**
+ * Storage backing {@link OffHeapReplicatedLogEntry} instances. Serialized payloads are stored back to back in direct
+ * buffers of a fixed chunk size, so that an entry does not need a direct buffer of its own, along with the heap object
+ * and the Cleaner that come with each of them. Entries are moved off heap and trimmed in log order, hence a chunk is
+ * released as soon as the entries stored in it have been trimmed and become unreachable. Payloads larger than a chunk
+ * are given a dedicated buffer.
+ *
+ * <p>
+ * This class is not thread-safe, it is expected to be accessed only from the owning actor.
+ */
+final class OffHeapEntryArena {
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private final int chunkSize;
+
+    private ByteBuffer chunk;
+    private long chunkCount;
+
+    OffHeapEntryArena() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    @VisibleForTesting
+    OffHeapEntryArena(final int chunkSize) {
+        checkArgument(chunkSize > 0, "Non-positive chunk size %s", chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns a buffer with at least {@code size} bytes remaining, positioned at the offset at which they should be
+     * written. The caller is expected to write them before asking for another buffer.
+     *
+     * @param size number of bytes to be written
+     * @return a direct buffer
+     */
+    ByteBuffer bufferFor(final int size) {
+        if (size > chunkSize) {
+            return ByteBuffer.allocateDirect(size);
+        }
+        if (chunk == null || chunk.remaining() < size) {
+            chunk = ByteBuffer.allocateDirect(chunkSize);
+            chunkCount++;
+        }
+        return chunk;
+    }
+
+    @VisibleForTesting
+    long chunkCount() {
+        return chunkCount;
+    }
+}
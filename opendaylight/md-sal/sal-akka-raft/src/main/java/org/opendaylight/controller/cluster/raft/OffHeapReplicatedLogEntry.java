@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import akka.util.ClassLoaderObjectInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import org.opendaylight.controller.cluster.raft.messages.Payload;
+
+/**
+ * A {@link ReplicatedLogEntry} which has been applied and is retained only to be sent to followers. Its payload is
+ * held in serialized form in a direct buffer shared with other entries, see {@link OffHeapEntryArena}, outside of the
+ * Java heap, and is deserialized on each access to {@link #getData()}.
+ */
+final class OffHeapReplicatedLogEntry implements ReplicatedLogEntry {
+    private final long index;
+    private final long term;
+    private final int size;
+    private final int serializedSize;
+    // The payload's class loader, so we can deserialize it from outside of the bundle defining it
+    private final ClassLoader classLoader;
+    // The buffer holding the serialized payload, which is only ever accessed at absolute offsets, as other entries
+    // may be written into it concurrently with us being read
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private OffHeapReplicatedLogEntry(final long index, final long term, final int size, final int serializedSize,
+            final ClassLoader classLoader, final ByteBuffer buffer, final int offset, final int length) {
+        this.index = index;
+        this.term = term;
+        this.size = size;
+        this.serializedSize = serializedSize;
+        this.classLoader = classLoader;
+        this.buffer = requireNonNull(buffer);
+        this.offset = offset;
+        this.length = length;
+    }
+
+    static OffHeapReplicatedLogEntry of(final ReplicatedLogEntry entry, final OffHeapEntryArena arena) {
+        final byte[] bytes = entry.getSerializedData();
+        final ByteBuffer buffer = arena.bufferFor(bytes.length);
+        final int offset = buffer.position();
+        buffer.put(bytes);
+        return new OffHeapReplicatedLogEntry(entry.getIndex(), entry.getTerm(), entry.size(), entry.serializedSize(),
+            entry.getData().getClass().getClassLoader(), buffer, offset, bytes.length);
+    }
+
+    @Override
+    public Payload getData() {
+        try (ObjectInputStream ois = new ClassLoaderObjectInputStream(classLoader,
+                new ByteArrayInputStream(getSerializedData()))) {
+            return (Payload) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to deserialize payload of entry " + index, e);
+        }
+    }
+
+    @Override
+    public byte[] getSerializedData() {
+        final byte[] ret = new byte[length];
+        buffer.get(offset, ret);
+        return ret;
+    }
+
+    @Override
+    public boolean isSerializedDataRetained() {
+        return true;
+    }
+
+    @Override
+    public long getTerm() {
+        return term;
+    }
+
+    @Override
+    public long getIndex() {
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int serializedSize() {
+        return serializedSize;
+    }
+
+    @Override
+    public boolean isPersistencePending() {
+        // We only ever hold entries which have been applied, hence persisted
+        return false;
+    }
+
+    @Override
+    public void setPersistencePending(final boolean pending) {
+        checkArgument(!pending, "Entry %s has already been persisted", index);
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapReplicatedLogEntry [index=" + index + ", term=" + term + ", size=" + length + "]";
+    }
+}
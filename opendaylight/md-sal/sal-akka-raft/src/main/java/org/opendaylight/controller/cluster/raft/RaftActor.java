@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
+import akka.actor.Cancellable;
 import akka.actor.PoisonPill;
 import akka.actor.Status;
 import akka.persistence.JournalProtocol;
@@ -51,6 +52,7 @@ import org.opendaylight.controller.cluster.raft.client.messages.FindLeaderReply;
 import org.opendaylight.controller.cluster.raft.client.messages.GetOnDemandRaftState;
 import org.opendaylight.controller.cluster.raft.client.messages.OnDemandRaftState;
 import org.opendaylight.controller.cluster.raft.client.messages.Shutdown;
+import org.opendaylight.controller.cluster.raft.messages.AppendEntriesReply;
 import org.opendaylight.controller.cluster.raft.messages.Payload;
 import org.opendaylight.controller.cluster.raft.messages.RequestLeadership;
 import org.opendaylight.controller.cluster.raft.persisted.ApplyJournalEntries;
@@ -123,6 +125,13 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
 
     private boolean shuttingDown;
 
+    // The most recent ApplyJournalEntries whose persistence has been deferred, if any
+    private ApplyJournalEntries pendingApplyEntries;
+
+    private long lastPersistedApplyIndex = -1;
+
+    private Cancellable applyEntriesTimer;
+
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR", justification = "Akka class design")
     protected RaftActor(final String id, final Map<String, String> peerAddresses,
          final Optional<ConfigParams> configParams, final short payloadVersion) {
@@ -136,6 +145,7 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
             delegatingPersistenceProvider, this::handleApplyState, LOG, this::executeInSelf);
 
         context.setPayloadVersion(payloadVersion);
+        context.setApplyStateBatchCallback(this::applyStateBatchComplete);
         context.setReplicatedLog(ReplicatedLogImpl.newInstance(context));
     }
 
@@ -152,6 +162,9 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
 
     @Override
     public void postStop() throws Exception {
+        if (applyEntriesTimer != null) {
+            applyEntriesTimer.cancel();
+        }
         context.close();
         super.postStop();
     }
@@ -237,10 +250,9 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
             }
 
             possiblyHandleBehaviorMessage(message);
+            possiblyConfirmLeaderLease();
         } else if (message instanceof ApplyJournalEntries applyEntries) {
-            LOG.debug("{}: Persisting ApplyJournalEntries with index={}", persistenceId(), applyEntries.getToIndex());
-
-            persistence().persistAsync(applyEntries, NoopProcedure.instance());
+            onApplyJournalEntries(applyEntries);
         } else if (message instanceof FindLeader) {
             getSender().tell(new FindLeaderReply(getLeaderAddress()), getSelf());
         } else if (message instanceof GetOnDemandRaftState) {
@@ -259,6 +271,9 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
             persistData(null, null, noopPayload, false);
         } else if (message instanceof RequestLeadership requestLeadership) {
             onRequestLeadership(requestLeadership);
+        } else if (message instanceof AppendEntriesReply) {
+            possiblyHandleBehaviorMessage(message);
+            possiblyConfirmLeaderLease();
         } else if (!possiblyHandleBehaviorMessage(message)) {
             if (message instanceof JournalProtocol.Response response
                 && delegatingPersistenceProvider.handleJournalResponse(response)) {
@@ -358,6 +373,40 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
         }
     }
 
+    private void onApplyJournalEntries(final ApplyJournalEntries applyEntries) {
+        final int batchSize = context.getConfigParams().getApplyJournalEntriesBatchSize();
+        if (batchSize > 0 && applyEntries.getToIndex() - lastPersistedApplyIndex < batchSize) {
+            // Entries following the last persisted marker are applied again on recovery, hence we can defer persisting
+            // this marker and persist only the most recent one once enough entries have been applied or the timer fires
+            LOG.trace("{}: Deferring ApplyJournalEntries with index={}", persistenceId(), applyEntries.getToIndex());
+            pendingApplyEntries = applyEntries;
+            if (applyEntriesTimer == null) {
+                applyEntriesTimer = getContext().system().scheduler().scheduleOnce(
+                    context.getConfigParams().getApplyJournalEntriesInterval(), self(), (Runnable) () -> {
+                        applyEntriesTimer = null;
+                        persistPendingApplyJournalEntries();
+                    }, getContext().system().dispatcher(), self());
+            }
+            return;
+        }
+
+        persistApplyJournalEntries(applyEntries);
+    }
+
+    private void persistPendingApplyJournalEntries() {
+        if (pendingApplyEntries != null) {
+            persistApplyJournalEntries(pendingApplyEntries);
+        }
+    }
+
+    private void persistApplyJournalEntries(final ApplyJournalEntries applyEntries) {
+        LOG.debug("{}: Persisting ApplyJournalEntries with index={}", persistenceId(), applyEntries.getToIndex());
+
+        pendingApplyEntries = null;
+        lastPersistedApplyIndex = applyEntries.getToIndex();
+        persistence().persistAsync(applyEntries, NoopProcedure.instance());
+    }
+
     private void onShutDown() {
         LOG.debug("{}: onShutDown", persistenceId());
 
@@ -366,6 +415,7 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
         }
 
         shuttingDown = true;
+        persistPendingApplyJournalEntries();
 
         final RaftActorBehavior currentBehavior = context.getCurrentBehavior();
         switch (currentBehavior.state()) {
@@ -557,6 +607,20 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
         self().tell(applyState, self());
     }
 
+    private void applyRecoveredEntries(final long toIndex) {
+        for (long i = context.getLastApplied() + 1; i < toIndex; i++) {
+            final ReplicatedLogEntry entry = replicatedLog().get(i);
+            if (entry == null) {
+                LOG.warn("{}: Missing index {} from log. Cannot apply state.", persistenceId(), i);
+                break;
+            }
+
+            context.setCommitIndex(i);
+            context.setLastApplied(i);
+            handleApplyState(new ApplyState(null, null, entry));
+        }
+    }
+
     protected LeaderStateChanged newLeaderStateChanged(final String memberId, final String leaderId,
             final short leaderPayloadVersion) {
         return new LeaderStateChanged(memberId, leaderId, leaderPayloadVersion);
@@ -598,12 +662,17 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
             persistedLogEntry.setPersistencePending(false);
 
             if (!hasFollowers()) {
+                // Apply any entries left unapplied by recovery, as they followed the last persisted
+                // ApplyJournalEntries
+                applyRecoveredEntries(persistedLogEntry.getIndex());
+
                 // Increment the Commit Index and the Last Applied values
                 raftContext.setCommitIndex(persistedLogEntry.getIndex());
                 raftContext.setLastApplied(persistedLogEntry.getIndex());
 
                 // Apply the state immediately.
                 handleApplyState(new ApplyState(clientActor, identifier, persistedLogEntry));
+                applyStateBatchComplete();
 
                 // Send a ApplyJournalEntries message so that we write the fact that we applied
                 // the state to durable storage
@@ -658,6 +727,33 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
                 && !shuttingDown && !isLeadershipTransferInProgress();
     }
 
+    /**
+     * Derived actors can call this method to check whether this RaftActor is the Leader and holds a leader lease, i.e.
+     * whether it is guaranteed that no other leader has been elected. This requires
+     * {@link ConfigParams#isLeaderLeaseEnabled()}.
+     *
+     * @return true if this RaftActor is the Leader and holds a leader lease
+     */
+    protected final boolean hasLeaderLease() {
+        return getCurrentBehavior() instanceof AbstractLeader leader && leader.hasLeaderLease();
+    }
+
+    /**
+     * Derived actors can call this method to have the Leader renew its leader lease by sending a heartbeat to all
+     * followers. {@link #onLeaderLeaseConfirmed()} is invoked once the lease is held.
+     */
+    protected final void renewLeaderLease() {
+        if (getCurrentBehavior() instanceof AbstractLeader leader) {
+            leader.renewLeaderLease();
+        }
+    }
+
+    private void possiblyConfirmLeaderLease() {
+        if (hasLeaderLease()) {
+            onLeaderLeaseConfirmed();
+        }
+    }
+
     protected boolean isLeadershipTransferInProgress() {
         RaftActorLeadershipTransferCohort leadershipTransferInProgress = context.getRaftActorLeadershipTransferCohort();
         return leadershipTransferInProgress != null && leadershipTransferInProgress.isTransferring();
@@ -807,6 +903,16 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
      */
     protected abstract void applyState(ActorRef clientActor, Identifier identifier, Object data);
 
+    /**
+     * This method is called by the RaftActor once all log entries it applies at once, for example all entries the
+     * leader has committed as of an AppendEntries message, have been passed to
+     * {@link #applyState(ActorRef, Identifier, Object)}. Derived actors which defer applying some of the entries need
+     * to complete doing so before returning. The default implementation does nothing.
+     */
+    protected void applyStateBatchComplete() {
+        // No-op by default
+    }
+
     /**
      * Returns the RaftActorRecoveryCohort to participate in persistence recovery.
      */
@@ -872,6 +978,14 @@ public abstract class RaftActor extends AbstractUntypedPersistentActor {
     protected void onLeaderChanged(final String oldLeader, final String newLeader) {
     }
 
+    /**
+     * This method is invoked when the leader lease is held after an acknowledgement from a follower or a state change
+     * has been processed. Derived actors can use it to serve requests which were waiting for the lease.
+     */
+    protected void onLeaderLeaseConfirmed() {
+        // No-op
+    }
+
     private String getLeaderAddress() {
         if (isLeader()) {
             return getSelf().path().toString();
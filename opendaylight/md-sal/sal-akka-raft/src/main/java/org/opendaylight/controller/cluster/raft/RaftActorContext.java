@@ -321,6 +321,14 @@ public interface RaftActorContext {
      */
     Consumer<ApplyState> getApplyStateConsumer();
 
+    /**
+     * Returns the callback to run once a behavior has passed all log entries it applies at once to the
+     * {@link #getApplyStateConsumer()}.
+     *
+     * @return the callback
+     */
+    @NonNull Runnable getApplyStateBatchCallback();
+
     /**
      * Returns the {@link FileBackedOutputStreamFactory} instance with a common configuration.
      *
@@ -89,6 +89,7 @@ public class RaftActorContextImpl implements RaftActorContext {
     private Optional<Cluster> cluster;
 
     private final Consumer<ApplyState> applyStateConsumer;
+    private Runnable applyStateBatchCallback = () -> { };
 
     private final FileBackedOutputStreamFactory fileBackedOutputStreamFactory;
 
@@ -420,6 +421,15 @@ public class RaftActorContextImpl implements RaftActorContext {
         return applyStateConsumer;
     }
 
+    @Override
+    public Runnable getApplyStateBatchCallback() {
+        return applyStateBatchCallback;
+    }
+
+    void setApplyStateBatchCallback(final @NonNull Runnable applyStateBatchCallback) {
+        this.applyStateBatchCallback = requireNonNull(applyStateBatchCallback);
+    }
+
     @Override
     public FileBackedOutputStreamFactory getFileBackedOutputStreamFactory() {
         return fileBackedOutputStreamFactory;
@@ -18,7 +18,8 @@ public final class RaftVersions {
     // BORON_VERSION = 3
     public static final short FLUORINE_VERSION = 4;
     public static final short ARGON_VERSION = 5;
-    public static final short CURRENT_VERSION = ARGON_VERSION;
+    public static final short POTASSIUM_VERSION = 6;
+    public static final short CURRENT_VERSION = POTASSIUM_VERSION;
 
     private RaftVersions() {
         // Hidden on purpose
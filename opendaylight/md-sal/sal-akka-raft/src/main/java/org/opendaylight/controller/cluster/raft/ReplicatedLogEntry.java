@@ -8,6 +8,7 @@
 
 package org.opendaylight.controller.cluster.raft;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.opendaylight.controller.cluster.raft.messages.Payload;
 
 /**
@@ -21,6 +22,34 @@ public interface ReplicatedLogEntry {
      */
     Payload getData();
 
+    /**
+     * Returns the payload in its serialized form, as sent to followers. Callers must not modify the returned array.
+     *
+     * @return the serialized payload
+     */
+    default byte[] getSerializedData() {
+        return SerializationUtils.serialize(getData());
+    }
+
+    /**
+     * Request the array returned from {@link #getSerializedData()} to be retained for as long as this entry is held,
+     * so that an entry replicated to multiple followers, or sent to a follower more than once, is serialized only
+     * once. This trades heap for CPU and is a hint which implementations are free to ignore.
+     */
+    default void retainSerializedData() {
+        // No-op by default
+    }
+
+    /**
+     * Returns whether this entry holds on to the array returned from {@link #getSerializedData()}, or its contents,
+     * so that obtaining it does not involve serializing the payload again.
+     *
+     * @return true if the serialized form of the payload is retained
+     */
+    default boolean isSerializedDataRetained() {
+        return false;
+    }
+
     /**
      * Returns the term of the entry.
      *
@@ -22,7 +22,10 @@ final class ReplicatedLogImpl extends AbstractReplicatedLogImpl {
     private static final int DATA_SIZE_DIVIDER = 5;
 
     private final RaftActorContext context;
+    private final OffHeapEntryArena offHeapArena = new OffHeapEntryArena();
     private long dataSizeSinceLastSnapshot = 0L;
+    // The index of the last entry moved off heap
+    private long lastOffHeapIndex = -1L;
 
     private ReplicatedLogImpl(final long snapshotIndex, final long snapshotTerm,
             final List<ReplicatedLogEntry> unAppliedEntries,
@@ -104,6 +107,11 @@ final class ReplicatedLogImpl extends AbstractReplicatedLogImpl {
             return false;
         }
 
+        if (context.getConfigParams().isRetainSerializedLogEntries()) {
+            replicatedLogEntry.retainSerializedData();
+        }
+        moveAppliedEntriesOffHeap();
+
         if (doAsync) {
             context.getPersistenceProvider().persistAsync(replicatedLogEntry,
                 entry -> persistCallback(entry, callback));
@@ -114,6 +122,30 @@ final class ReplicatedLogImpl extends AbstractReplicatedLogImpl {
         return true;
     }
 
+    /**
+     * Move applied entries beyond the configured number of most recent entries off heap. These are retained only to be
+     * sent to followers lagging behind, hence we trade the cost of deserializing them for not holding their payloads
+     * on heap.
+     */
+    private void moveAppliedEntriesOffHeap() {
+        final int heapEntries = context.getConfigParams().getReplicatedLogHeapEntries();
+        if (heapEntries == 0) {
+            return;
+        }
+
+        final long toIndex = Math.min(context.getLastApplied(), lastIndex() - heapEntries);
+        for (long index = Math.max(lastOffHeapIndex, getSnapshotIndex()) + 1; index <= toIndex; index++) {
+            final ReplicatedLogEntry entry = get(index);
+            if (entry == null || entry.isPersistencePending()) {
+                break;
+            }
+            if (!(entry instanceof OffHeapReplicatedLogEntry)) {
+                replace(OffHeapReplicatedLogEntry.of(entry, offHeapArena));
+            }
+            lastOffHeapIndex = index;
+        }
+    }
+
     private void persistCallback(final ReplicatedLogEntry persistedLogEntry,
             final Consumer<ReplicatedLogEntry> callback) {
         context.getExecutor().execute(() -> syncPersistCallback(persistedLogEntry, callback));
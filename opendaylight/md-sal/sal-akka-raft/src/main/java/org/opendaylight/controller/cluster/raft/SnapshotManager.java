@@ -59,6 +59,10 @@ public class SnapshotManager implements SnapshotState {
 
     private ApplySnapshot applySnapshot;
     private RaftActorSnapshotCohort snapshotCohort = NoopRaftActorSnapshotCohort.INSTANCE;
+    // Install snapshot stream, which the snapshot state being persisted may refer to and hence must remain readable
+    // until persistence completes, and whether it is ours to clean up, i.e. it was not handed to the leader
+    private FileBackedOutputStream persistingInstallStream;
+    private boolean ownsPersistingInstallStream;
 
     /**
      * Constructs an instance.
@@ -438,18 +442,22 @@ public class SnapshotManager implements SnapshotState {
                     context.getReplicatedLog().getSnapshotTerm());
 
             if (installSnapshotStream.isPresent()) {
+                // The snapshot state may refer to the stream's contents, which the snapshot store reads asynchronously.
+                // Hold on to the stream until persistence completes. The leader may be done installing the snapshot
+                // before then, but it never cleans up the stream, it merely drops its reference to it.
+                persistingInstallStream = (FileBackedOutputStream) installSnapshotStream.orElseThrow();
+                ownsPersistingInstallStream = true;
                 if (context.getId().equals(currentBehavior.getLeaderId())) {
                     try {
-                        ByteSource snapshotBytes = ((FileBackedOutputStream)installSnapshotStream.orElseThrow())
-                            .asByteSource();
+                        ByteSource snapshotBytes = persistingInstallStream.asByteSource();
                         currentBehavior.handleMessage(context.getActor(),
                                 new SendInstallSnapshot(snapshot, snapshotBytes));
+                        // The leader owns the stream now, it is cleaned up once neither of us refers to it
+                        ownsPersistingInstallStream = false;
                     } catch (IOException e) {
                         log.error("{}: Snapshot install failed due to an unrecoverable streaming error",
                                 context.getId(), e);
                     }
-                } else {
-                    ((FileBackedOutputStream)installSnapshotStream.orElseThrow()).cleanup();
                 }
             }
 
@@ -524,6 +532,13 @@ public class SnapshotManager implements SnapshotState {
         }
 
         private void snapshotComplete() {
+            if (persistingInstallStream != null) {
+                if (ownsPersistingInstallStream) {
+                    persistingInstallStream.cleanup();
+                }
+                persistingInstallStream = null;
+            }
+
             lastSequenceNumber = -1;
             applySnapshot = null;
             currentState = IDLE;
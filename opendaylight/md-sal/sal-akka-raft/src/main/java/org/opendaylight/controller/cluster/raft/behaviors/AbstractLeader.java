@@ -47,6 +47,7 @@ import org.opendaylight.controller.cluster.raft.base.messages.CheckConsensusReac
 import org.opendaylight.controller.cluster.raft.base.messages.Replicate;
 import org.opendaylight.controller.cluster.raft.base.messages.SendHeartBeat;
 import org.opendaylight.controller.cluster.raft.base.messages.SendInstallSnapshot;
+import org.opendaylight.controller.cluster.raft.behaviors.LeaderInstallSnapshotState.WindowChunk;
 import org.opendaylight.controller.cluster.raft.messages.AppendEntries;
 import org.opendaylight.controller.cluster.raft.messages.AppendEntriesReply;
 import org.opendaylight.controller.cluster.raft.messages.IdentifiablePayload;
@@ -238,6 +239,9 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         }
 
         followerLogInformation.markFollowerActive();
+        if (appendEntriesReply.getTerm() == currentTerm()) {
+            followerLogInformation.acknowledgeSend(appendEntriesReply.getLeaderSendNanos());
+        }
         followerLogInformation.setPayloadVersion(appendEntriesReply.getPayloadVersion());
         followerLogInformation.setRaftVersion(followerRaftVersion);
         followerLogInformation.setNeedsLeaderAddress(appendEntriesReply.isNeedsLeaderAddress());
@@ -290,7 +294,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                         followerId, appendEntriesReply.getLogLastTerm(), appendEntriesReply.getLogLastIndex(),
                         followersLastLogTermInLeadersLog, followerLogInformation.getNextIndex());
             } else {
-                updated = updateFollowerLogInformation(followerLogInformation, appendEntriesReply);
+                updated = updateFollowerLogInformation(followerLogInformation, appendEntriesReply, true);
             }
         } else {
             log.info("{}: handleAppendEntriesReply - received unsuccessful reply: {}, leader snapshotIndex: {}, "
@@ -313,7 +317,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                 // snapshot and the terms match so the follower is just behind the leader's journal from the last
                 // snapshot, if any. We'll catch up the follower quickly by starting at the follower's last log index.
 
-                updated = updateFollowerLogInformation(followerLogInformation, appendEntriesReply);
+                updated = updateFollowerLogInformation(followerLogInformation, appendEntriesReply, false);
 
                 log.info("{}: follower {} appears to be behind the leader from the last snapshot - "
                     + "updated: matchIndex: {}, nextIndex: {}", logName(), followerId,
@@ -418,9 +422,13 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
     }
 
     private boolean updateFollowerLogInformation(final FollowerLogInformation followerLogInformation,
-            final AppendEntriesReply appendEntriesReply) {
+            final AppendEntriesReply appendEntriesReply, final boolean success) {
         boolean updated = followerLogInformation.setMatchIndex(appendEntriesReply.getLogLastIndex());
-        updated = followerLogInformation.setNextIndex(appendEntriesReply.getLogLastIndex() + 1) || updated;
+        // A successful reply may be followed by replies to entries sent after it, in which case we must not send them
+        // again. Otherwise the follower is missing entries we have sent and we need to start over from its last index.
+        final long nextIndex = appendEntriesReply.getLogLastIndex() + 1;
+        updated = (success ? followerLogInformation.acknowledgeNextIndex(nextIndex)
+            : followerLogInformation.setNextIndex(nextIndex)) || updated;
 
         if (updated && log.isDebugEnabled()) {
             log.debug(
@@ -493,6 +501,12 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         // No-op
     }
 
+    @Override
+    protected final boolean hasActiveLeader() {
+        // An isolated leader cannot tell whether the followers have moved on
+        return state() != RaftState.IsolatedLeader;
+    }
+
     @Override
     public RaftActorBehavior handleMessage(final ActorRef sender, final Object message) {
         requireNonNull(sender, "sender should not be null");
@@ -549,8 +563,6 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         return this;
     }
 
-    @SuppressFBWarnings(value = "NP_NULL_PARAM_DEREF_ALL_TARGETS_DANGEROUS",
-            justification = "JDT nullness with SpotBugs at setSnapshotHolder(null)")
     private void handleInstallSnapshotReply(final InstallSnapshotReply reply) {
         log.debug("{}: handleInstallSnapshotReply: {}", logName(), reply);
 
@@ -570,58 +582,34 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
             return;
         }
 
-        installSnapshotState.resetChunkTimer();
         followerLogInformation.markFollowerActive();
 
+        if (installSnapshotState.isWindowed()) {
+            handleWindowedInstallSnapshotReply(followerLogInformation, installSnapshotState, reply);
+            return;
+        }
+
+        installSnapshotState.resetChunkTimer();
+
         if (installSnapshotState.getChunkIndex() == reply.getChunkIndex()) {
-            boolean wasLastChunk = false;
             if (reply.isSuccess()) {
                 if (installSnapshotState.isLastChunk(reply.getChunkIndex())) {
                     //this was the last chunk reply
-
-                    long followerMatchIndex = snapshotHolder.orElseThrow().getLastIncludedIndex();
-                    followerLogInformation.setMatchIndex(followerMatchIndex);
-                    followerLogInformation.setNextIndex(followerMatchIndex + 1);
-                    followerLogInformation.clearLeaderInstallSnapshotState();
-
-                    log.info("{}: Snapshot successfully installed on follower {} (last chunk {}) - "
-                        + "matchIndex set to {}, nextIndex set to {}", logName(), followerId, reply.getChunkIndex(),
-                        followerLogInformation.getMatchIndex(), followerLogInformation.getNextIndex());
-
-                    if (!anyFollowersInstallingSnapshot()) {
-                        // once there are no pending followers receiving snapshots
-                        // we can remove snapshot from the memory
-                        setSnapshotHolder(null);
-                    }
-
-                    wasLastChunk = true;
-                    if (context.getPeerInfo(followerId).getVotingState() == VotingState.VOTING_NOT_INITIALIZED) {
-                        UnInitializedFollowerSnapshotReply unInitFollowerSnapshotSuccess =
-                                             new UnInitializedFollowerSnapshotReply(followerId);
-                        context.getActor().tell(unInitFollowerSnapshotSuccess, context.getActor());
-                        log.debug("Sent message UnInitializedFollowerSnapshotReply to self");
-                    }
-                } else {
-                    installSnapshotState.markSendStatus(true);
+                    onSnapshotInstalled(followerLogInformation, reply.getChunkIndex());
+                    return;
                 }
+
+                installSnapshotState.markSendStatus(true);
             } else {
                 log.warn("{}: Received failed InstallSnapshotReply - will retry: {}", logName(), reply);
 
                 installSnapshotState.markSendStatus(false);
             }
 
-            if (wasLastChunk) {
-                if (!context.getSnapshotManager().isCapturing()) {
-                    // Since the follower is now caught up try to purge the log.
-                    purgeInMemoryLog();
-                }
-            } else {
-                ActorSelection followerActor = context.getPeerActorSelection(followerId);
-                if (followerActor != null) {
-                    sendSnapshotChunk(followerActor, followerLogInformation);
-                }
+            ActorSelection followerActor = context.getPeerActorSelection(followerId);
+            if (followerActor != null) {
+                sendSnapshotChunk(followerActor, followerLogInformation);
             }
-
         } else {
             log.error("{}: Chunk index {} in InstallSnapshotReply from follower {} does not match expected index {}",
                     logName(), reply.getChunkIndex(), followerId,
@@ -635,6 +623,60 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         }
     }
 
+    private void handleWindowedInstallSnapshotReply(final FollowerLogInformation followerLogInformation,
+            final LeaderInstallSnapshotState installSnapshotState, final InstallSnapshotReply reply) {
+        if (!reply.isSuccess() || reply.getChunkIndex() == LeaderInstallSnapshotState.INVALID_CHUNK_INDEX) {
+            // The follower has discarded what it has received so far, start from the beginning
+            log.warn("{}: Received failed InstallSnapshotReply - restarting: {}", logName(), reply);
+            installSnapshotState.reset();
+        } else if (installSnapshotState.isLastChunk(reply.getChunkIndex())) {
+            onSnapshotInstalled(followerLogInformation, reply.getChunkIndex());
+            return;
+        } else if (!installSnapshotState.acknowledgeChunks(reply.getChunkIndex())) {
+            // Duplicate acknowledgement, the follower is still waiting for a chunk. Wait for it to time out.
+            log.debug("{}: Chunk index {} in InstallSnapshotReply from follower {} does not acknowledge new chunks",
+                logName(), reply.getChunkIndex(), followerLogInformation.getId());
+            return;
+        }
+
+        final ActorSelection followerActor = context.getPeerActorSelection(followerLogInformation.getId());
+        if (followerActor != null) {
+            sendSnapshotChunk(followerActor, followerLogInformation);
+        }
+    }
+
+    @SuppressFBWarnings(value = "NP_NULL_PARAM_DEREF_ALL_TARGETS_DANGEROUS",
+            justification = "JDT nullness with SpotBugs at setSnapshotHolder(null)")
+    private void onSnapshotInstalled(final FollowerLogInformation followerLogInformation, final int lastChunkIndex) {
+        final String followerId = followerLogInformation.getId();
+        long followerMatchIndex = snapshotHolder.orElseThrow().getLastIncludedIndex();
+        followerLogInformation.setMatchIndex(followerMatchIndex);
+        followerLogInformation.setNextIndex(followerMatchIndex + 1);
+        followerLogInformation.clearLeaderInstallSnapshotState();
+
+        log.info("{}: Snapshot successfully installed on follower {} (last chunk {}) - "
+            + "matchIndex set to {}, nextIndex set to {}", logName(), followerId, lastChunkIndex,
+            followerLogInformation.getMatchIndex(), followerLogInformation.getNextIndex());
+
+        if (!anyFollowersInstallingSnapshot()) {
+            // once there are no pending followers receiving snapshots
+            // we can remove snapshot from the memory
+            setSnapshotHolder(null);
+        }
+
+        if (context.getPeerInfo(followerId).getVotingState() == VotingState.VOTING_NOT_INITIALIZED) {
+            UnInitializedFollowerSnapshotReply unInitFollowerSnapshotSuccess =
+                                 new UnInitializedFollowerSnapshotReply(followerId);
+            context.getActor().tell(unInitFollowerSnapshotSuccess, context.getActor());
+            log.debug("Sent message UnInitializedFollowerSnapshotReply to self");
+        }
+
+        if (!context.getSnapshotManager().isCapturing()) {
+            // Since the follower is now caught up try to purge the log.
+            purgeInMemoryLog();
+        }
+    }
+
     private boolean anyFollowersInstallingSnapshot() {
         for (FollowerLogInformation info: followerToLog.values()) {
             if (info.getInstallSnapshotState() != null) {
@@ -736,7 +778,11 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                             followerNextIndex, followerId);
 
                     if (followerLogInformation.okToReplicate(context.getCommitIndex())) {
-                        entries = getEntriesToSend(followerLogInformation, followerActor);
+                        // Do not send more entries until some of those in flight are acknowledged, but keep the
+                        // follower informed. Should any of them have been lost, the follower will tell us.
+                        if (!isPipelineFull(followerLogInformation)) {
+                            entries = getEntriesToSend(followerLogInformation, followerActor);
+                        }
                         sendAppendEntries = true;
                     }
                 } else if (isFollowerActive && followerNextIndex >= 0
@@ -773,10 +819,48 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
 
             if (sendAppendEntries) {
                 sendAppendEntriesToFollower(followerActor, entries, followerLogInformation);
+                if (!entries.isEmpty() && context.getConfigParams().getMaximumEntriesInFlight() > 0) {
+                    pipelineAppendEntries(followerActor, followerLogInformation, entries);
+                }
             }
         }
     }
 
+    private boolean isPipelineFull(final FollowerLogInformation followerLogInformation) {
+        final int maxEntriesInFlight = context.getConfigParams().getMaximumEntriesInFlight();
+        return maxEntriesInFlight > 0 && followerLogInformation.getEntriesInFlight() >= maxEntriesInFlight;
+    }
+
+    /**
+     * Sends further batches of entries to a follower without waiting for it to acknowledge the batch which has just
+     * been sent, as long as the number of unacknowledged entries remains below
+     * {@link org.opendaylight.controller.cluster.raft.ConfigParams#getMaximumEntriesInFlight()}. The follower's next
+     * index is moved past the entries sent. Should the follower fail to append any of them, its reply moves the next
+     * index back.
+     */
+    private void pipelineAppendEntries(final ActorSelection followerActor,
+            final FollowerLogInformation followerLogInformation, final List<ReplicatedLogEntry> sentEntries) {
+        List<ReplicatedLogEntry> entries = sentEntries;
+        while (true) {
+            followerLogInformation.setSentIndex(entries.get(entries.size() - 1).getIndex());
+            if (isPipelineFull(followerLogInformation) || followerLogInformation.isLogEntrySlicingInProgress()
+                    || !context.getReplicatedLog().isPresent(followerLogInformation.getNextIndex())) {
+                return;
+            }
+
+            entries = getEntriesToSend(followerLogInformation, followerActor);
+            if (entries.isEmpty()) {
+                // Either slicing has been initiated or there is nothing to send
+                return;
+            }
+
+            log.debug("{}: Pipelining entries to follower {}: nextIndex: {}, entries in flight: {}", logName(),
+                followerLogInformation.getId(), followerLogInformation.getNextIndex(),
+                followerLogInformation.getEntriesInFlight());
+            sendAppendEntriesToFollower(followerActor, entries, followerLogInformation);
+        }
+    }
+
     private List<ReplicatedLogEntry> getEntriesToSend(final FollowerLogInformation followerLogInfo,
             final ActorSelection followerActor) {
         // Try to get all the entries in the journal but not exceeding the max data size for a single AppendEntries
@@ -788,13 +872,15 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                 maxEntries, maxDataSize);
 
         // If the first entry's size exceeds the max data size threshold, it will be returned from the call above. If
-        // that is the case, then we need to slice it into smaller chunks.
-        if (entries.size() != 1 || entries.get(0).getData().serializedSize() <= maxDataSize) {
+        // that is the case, then we need to slice it into smaller chunks. Note that the threshold applies to the
+        // entry's serialized size, which is what getFrom() limits, not just to its payload's, as the entry is what ends
+        // up in the message. This also means we do not need to deserialize entries held off heap to find their size.
+        if (entries.size() != 1 || entries.get(0).serializedSize() <= maxDataSize) {
             // Don't need to slice.
             return entries;
         }
 
-        log.debug("{}: Log entry size {} exceeds max payload size {}", logName(), entries.get(0).getData().size(),
+        log.debug("{}: Log entry size {} exceeds max payload size {}", logName(), entries.get(0).size(),
                 maxDataSize);
 
         // If an AppendEntries has already been serialized for the log index then reuse the
@@ -804,9 +890,12 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         if (fileBackedStream == null) {
             fileBackedStream = context.getFileBackedOutputStreamFactory().newSharedInstance();
 
+            // The stream is already shared between followers and the entry should be streamed into it rather than have
+            // its serialized form retained, hence use the format which writes the payload in-line.
             final AppendEntries appendEntries = new AppendEntries(currentTerm(), context.getId(),
                     getLogEntryIndex(followerNextIndex - 1), getLogEntryTerm(followerNextIndex - 1), entries,
-                    context.getCommitIndex(), getReplicatedToAllIndex(), context.getPayloadVersion());
+                    context.getCommitIndex(), getReplicatedToAllIndex(), context.getPayloadVersion(),
+                    RaftVersions.ARGON_VERSION, null);
 
             log.debug("{}: Serializing {} for slicing for follower {}", logName(), appendEntries,
                     followerLogInfo.getId());
@@ -912,8 +1001,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         boolean captureInitiated = context.getSnapshotManager().captureToInstall(context.getReplicatedLog().last(),
             getReplicatedToAllIndex(), followerId);
         if (captureInitiated) {
-            followerLogInfo.setLeaderInstallSnapshotState(new LeaderInstallSnapshotState(
-                context.getConfigParams().getSnapshotChunkSize(), logName()));
+            followerLogInfo.setLeaderInstallSnapshotState(newInstallSnapshotState(followerLogInfo));
         }
 
         return captureInitiated;
@@ -955,8 +1043,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         if (snapshotHolder.isPresent()) {
             LeaderInstallSnapshotState installSnapshotState = followerLogInfo.getInstallSnapshotState();
             if (installSnapshotState == null) {
-                installSnapshotState = new LeaderInstallSnapshotState(context.getConfigParams().getSnapshotChunkSize(),
-                        logName());
+                installSnapshotState = newInstallSnapshotState(followerLogInfo);
                 followerLogInfo.setLeaderInstallSnapshotState(installSnapshotState);
             }
 
@@ -964,6 +1051,11 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                 // Ensure the snapshot bytes are set - this is a no-op.
                 installSnapshotState.setSnapshotBytes(snapshotHolder.orElseThrow().getSnapshotBytes());
 
+                if (installSnapshotState.isWindowed()) {
+                    sendSnapshotWindow(followerActor, followerLogInfo, installSnapshotState);
+                    return;
+                }
+
                 if (!installSnapshotState.canSendNextChunk()) {
                     return;
                 }
@@ -979,7 +1071,9 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                     serverConfig = Optional.ofNullable(context.getPeerServerInfo(true));
                 }
 
-                sendSnapshotChunk(followerActor, followerLogInfo, nextSnapshotChunk, nextChunkIndex, serverConfig);
+                installSnapshotState.startChunkTimer();
+                sendSnapshotChunk(followerActor, followerLogInfo, nextSnapshotChunk, nextChunkIndex,
+                    installSnapshotState.getLastChunkHashCode(), serverConfig);
 
                 log.debug("{}: InstallSnapshot sent to follower {}, Chunk: {}/{}", logName(), followerActor.path(),
                         installSnapshotState.getChunkIndex(), installSnapshotState.getTotalChunks());
@@ -993,12 +1087,39 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         }
     }
 
+    private LeaderInstallSnapshotState newInstallSnapshotState(final FollowerLogInformation followerLogInfo) {
+        // Only followers which accept chunks out of order can be sent a window of chunks
+        final int window = followerLogInfo.getRaftVersion() < RaftVersions.POTASSIUM_VERSION ? 1
+            : context.getConfigParams().getSnapshotChunkWindow();
+        return new LeaderInstallSnapshotState(context.getConfigParams().getSnapshotChunkSize(), window, logName());
+    }
+
+    private void sendSnapshotWindow(final ActorSelection followerActor, final FollowerLogInformation followerLogInfo,
+            final LeaderInstallSnapshotState installSnapshotState) throws IOException {
+        for (var chunk = installSnapshotState.nextWindowChunk(); chunk != null;
+                chunk = installSnapshotState.nextWindowChunk()) {
+            sendWindowChunk(followerActor, followerLogInfo, installSnapshotState, chunk);
+        }
+    }
+
+    private void sendWindowChunk(final ActorSelection followerActor, final FollowerLogInformation followerLogInfo,
+            final LeaderInstallSnapshotState installSnapshotState, final WindowChunk chunk) {
+        final int chunkIndex = chunk.getChunkIndex();
+        final Optional<ServerConfigurationPayload> serverConfig = installSnapshotState.isLastChunk(chunkIndex)
+            ? Optional.ofNullable(context.getPeerServerInfo(true)) : Optional.empty();
+
+        sendSnapshotChunk(followerActor, followerLogInfo, chunk.getData(), chunkIndex, chunk.getLastChunkHashCode(),
+            serverConfig);
+
+        log.debug("{}: InstallSnapshot sent to follower {}, Chunk: {}/{}", logName(), followerActor.path(),
+            chunkIndex, installSnapshotState.getTotalChunks());
+    }
+
     private void sendSnapshotChunk(final ActorSelection followerActor, final FollowerLogInformation followerLogInfo,
-                                   final byte[] snapshotChunk, final int chunkIndex,
+                                   final byte[] snapshotChunk, final int chunkIndex, final int lastChunkHashCode,
                                    final Optional<ServerConfigurationPayload> serverConfig) {
         LeaderInstallSnapshotState installSnapshotState = followerLogInfo.getInstallSnapshotState();
 
-        installSnapshotState.startChunkTimer();
         followerActor.tell(
                 new InstallSnapshot(currentTerm(), context.getId(),
                         snapshotHolder.orElseThrow().getLastIncludedIndex(),
@@ -1006,8 +1127,9 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                         snapshotChunk,
                         chunkIndex,
                         installSnapshotState.getTotalChunks(),
-                        OptionalInt.of(installSnapshotState.getLastChunkHashCode()),
+                        OptionalInt.of(lastChunkHashCode),
                         serverConfig,
+                        installSnapshotState.getWindow(),
                         followerLogInfo.getRaftVersion()),
                 actor()
         );
@@ -1024,6 +1146,17 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         }
 
         LeaderInstallSnapshotState installSnapshotState = followerLogInfo.getInstallSnapshotState();
+        if (installSnapshotState.isWindowed()) {
+            // Resend only the chunk the follower is waiting for, it will acknowledge the chunks after it once it has it
+            final var chunk = installSnapshotState.resendWindowChunk();
+            if (chunk != null) {
+                log.debug("{}: Resending chunk {} to follower {}", logName(), chunk.getChunkIndex(),
+                    followerLogInfo.getId());
+                sendWindowChunk(followerActor, followerLogInfo, installSnapshotState, chunk);
+            }
+            return true;
+        }
+
         // we are resending, timer needs to be reset
         installSnapshotState.resetChunkTimer();
         installSnapshotState.markSendStatus(false);
@@ -1097,6 +1230,65 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         return minPresent != 0;
     }
 
+    /**
+     * Check whether this leader holds a leader lease, i.e. whether it can assume it is still the leader without
+     * exchanging messages with its followers. This is the case when leader leases are enabled, this leader knows all
+     * entries in its log to be committed or has committed an entry from the current term, and a majority of voting
+     * followers have acknowledged this leader recently enough for none of them to have granted a vote to another
+     * candidate since.
+     *
+     * <p>
+     * A lease is timed from when the acknowledged {@link AppendEntries} was sent, as the follower times its election
+     * timeout from when it was received, which is necessarily later. The lease expires one heartbeat interval ahead of
+     * the election timeout, which accounts for clock drift between this leader and its followers. Followers which do
+     * not report send times, i.e. those running a version prior to {@link RaftVersions#POTASSIUM_VERSION}, do not
+     * count towards a lease.
+     *
+     * @return true if this leader holds a lease
+     */
+    public final boolean hasLeaderLease() {
+        final var configParams = context.getConfigParams();
+        if (!configParams.isLeaderLeaseEnabled() || context.getCommitIndex() < context.getReplicatedLog().lastIndex()
+                && commitIndexTerm() != currentTerm()) {
+            return false;
+        }
+
+        final long leaseNanos = configParams.getElectionTimeOutInterval().toNanos()
+            - configParams.getHeartBeatInterval().toNanos();
+        int minPresent = getMinIsolatedLeaderPeerCount();
+        for (FollowerLogInformation followerLogInformation : followerToLog.values()) {
+            if (minPresent == 0) {
+                break;
+            }
+            final PeerInfo peerInfo = context.getPeerInfo(followerLogInformation.getId());
+            if (peerInfo != null && peerInfo.isVoting()
+                    && followerLogInformation.nanosSinceLastAcknowledgedSend() < leaseNanos) {
+                --minPresent;
+            }
+        }
+        return minPresent == 0;
+    }
+
+    /**
+     * Send a heartbeat to all followers immediately, so that their acknowledgements renew the leader lease.
+     */
+    public final void renewLeaderLease() {
+        if (!followerToLog.isEmpty()) {
+            log.debug("{}: Sending heartbeat to renew leader lease", logName());
+            sendAppendEntries(0, true);
+        }
+    }
+
+    private long commitIndexTerm() {
+        final long commitIndex = context.getCommitIndex();
+        final var replicatedLog = context.getReplicatedLog();
+        final var entry = replicatedLog.get(commitIndex);
+        if (entry != null) {
+            return entry.getTerm();
+        }
+        return commitIndex == replicatedLog.getSnapshotIndex() ? replicatedLog.getSnapshotTerm() : -1;
+    }
+
     // called from example-actor for printing the follower-states
     public String printFollowerStates() {
         final StringBuilder sb = new StringBuilder();
@@ -165,6 +165,9 @@ public abstract class AbstractRaftActorBehavior implements RaftActorBehavior {
      * @return a new behavior if it was changed or the current behavior
      */
     protected RaftActorBehavior requestVote(final ActorRef sender, final RequestVote requestVote) {
+        if (requestVote.isPreVote()) {
+            return preVote(sender, requestVote);
+        }
 
         log.debug("{}: In requestVote:  {} - currentTerm: {}, votedFor: {}, lastIndex: {}, lastTerm: {}", logName(),
                 requestVote, currentTerm(), votedFor(), lastIndex(), lastTerm());
@@ -184,6 +187,33 @@ public abstract class AbstractRaftActorBehavior implements RaftActorBehavior {
         return this;
     }
 
+    private RaftActorBehavior preVote(final ActorRef sender, final RequestVote requestVote) {
+        // A pre-vote does not affect our term nor our vote. We would grant the vote if the candidate's log is at least
+        // as up-to-date as ours, but not while we are hearing from an active leader, which the candidate would
+        // otherwise depose.
+        final boolean grantVote = requestVote.getTerm() > currentTerm() && isCandidateLogUpToDate(requestVote)
+            && !hasActiveLeader();
+
+        final RequestVoteReply reply = new RequestVoteReply(grantVote ? requestVote.getTerm() : currentTerm(),
+            grantVote, true, requestVote.getPreVoteRound());
+
+        log.debug("{}: preVote returning: {}", logName(), reply);
+
+        sender.tell(reply, actor());
+
+        return this;
+    }
+
+    /**
+     * Returns whether this actor is hearing from a leader it considers to be active. Pre-votes are not granted while
+     * this is the case.
+     *
+     * @return true if there is an active leader
+     */
+    protected boolean hasActiveLeader() {
+        return false;
+    }
+
     protected boolean canGrantVote(final RequestVote requestVote) {
         boolean grantVote = false;
 
@@ -196,27 +226,23 @@ public abstract class AbstractRaftActorBehavior implements RaftActorBehavior {
         } else if (votedFor() == null || votedFor()
                 .equals(requestVote.getCandidateId())) {
 
-            boolean candidateLatest = false;
-
-            // From §5.4.1
-            // Raft determines which of two logs is more up-to-date
-            // by comparing the index and term of the last entries in the
-            // logs. If the logs have last entries with different terms, then
-            // the log with the later term is more up-to-date. If the logs
-            // end with the same term, then whichever log is longer is
-            // more up-to-date.
-            if (requestVote.getLastLogTerm() > lastTerm()
-                || requestVote.getLastLogTerm() == lastTerm() && requestVote.getLastLogIndex() >= lastIndex()) {
-                candidateLatest = true;
-            }
-
-            if (candidateLatest) {
-                grantVote = true;
-            }
+            grantVote = isCandidateLogUpToDate(requestVote);
         }
         return grantVote;
     }
 
+    private boolean isCandidateLogUpToDate(final RequestVote requestVote) {
+        // From §5.4.1
+        // Raft determines which of two logs is more up-to-date
+        // by comparing the index and term of the last entries in the
+        // logs. If the logs have last entries with different terms, then
+        // the log with the later term is more up-to-date. If the logs
+        // end with the same term, then whichever log is longer is
+        // more up-to-date.
+        return requestVote.getLastLogTerm() > lastTerm()
+            || requestVote.getLastLogTerm() == lastTerm() && requestVote.getLastLogIndex() >= lastIndex();
+    }
+
     /**
      * Derived classes should not directly handle RequestVoteReply messages it
      * should let the base class handle it first. Once the base class handles
@@ -393,6 +419,7 @@ public abstract class AbstractRaftActorBehavior implements RaftActorBehavior {
                 break;
             }
         }
+        context.getApplyStateBatchCallback().run();
 
         // send a message to persist a ApplyLogEntries marker message into akka's persistent journal
         // will be used during recovery
@@ -488,6 +515,18 @@ public abstract class AbstractRaftActorBehavior implements RaftActorBehavior {
         }
     }
 
+    /**
+     * Check whether an RPC is a pre-vote or a pre-vote grant. These carry the term of an election the candidate has yet
+     * to start, hence they must not cause us to update our term.
+     *
+     * @param rpc the RPC
+     * @return true if the RPC's term is not a term any member has actually reached
+     */
+    static boolean isPreVote(final RaftRPC rpc) {
+        return rpc instanceof RequestVote requestVote && requestVote.isPreVote()
+            || rpc instanceof RequestVoteReply reply && reply.isPreVote() && reply.isVoteGranted();
+    }
+
     protected final String getId() {
         return context.getId();
     }
@@ -495,6 +534,9 @@ public abstract class AbstractRaftActorBehavior implements RaftActorBehavior {
     // Check whether we should update the term. In case of half-connected nodes, we want to ignore RequestVote
     // messages, as the candidate is not able to receive our response.
     protected boolean shouldUpdateTerm(final RaftRPC rpc) {
+        if (isPreVote(rpc)) {
+            return false;
+        }
         if (!(rpc instanceof RequestVote requestVote)) {
             return true;
         }
@@ -10,6 +10,8 @@ package org.opendaylight.controller.cluster.raft.behaviors;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import com.google.common.collect.ImmutableList;
+import java.util.HashSet;
+import java.util.Set;
 import org.opendaylight.controller.cluster.raft.PeerInfo;
 import org.opendaylight.controller.cluster.raft.RaftActorContext;
 import org.opendaylight.controller.cluster.raft.RaftState;
@@ -41,15 +43,41 @@ import scala.concurrent.duration.FiniteDuration;
  * follower
  * <li> If election timeout elapses: start new election
  * </ul>
+ *
+ * <p>
+ * If pre-vote is enabled, the election is preceded by a pre-vote round, in which the candidate asks for votes in the
+ * next term without incrementing its own term. The election is started only once a majority would grant their vote,
+ * otherwise the pre-vote round is repeated after the election timeout. As all pre-vote rounds ask for the same term,
+ * each round is tagged with a round number, which is echoed by the replies, and replies to earlier rounds are ignored.
+ *
+ * <p>
+ * Each peer's vote is counted at most once in a round, so that duplicate replies do not contribute to the majority.
+ *
+ * <p>
+ * A candidate started on behalf of a leadership transfer marks the votes requested in its first election as such, so
+ * that Followers do not reject them to protect the lease of the leader which handed over leadership.
  */
 public final class Candidate extends AbstractRaftActorBehavior {
     private final ImmutableList<String> votingPeers;
     private final int votesRequired;
 
-    private int voteCount;
+    // Peers which granted their vote in the current round
+    private final Set<ActorRef> votesGranted = new HashSet<>();
+    private boolean preVoting;
+    private long preVoteRound;
+    private boolean leadershipTransfer;
 
     public Candidate(final RaftActorContext context) {
+        this(context, context.getConfigParams().isPreVoteEnabled());
+    }
+
+    public Candidate(final RaftActorContext context, final boolean preVote) {
+        this(context, preVote, false);
+    }
+
+    public Candidate(final RaftActorContext context, final boolean preVote, final boolean leadershipTransfer) {
         super(context, RaftState.Candidate);
+        this.leadershipTransfer = leadershipTransfer;
 
         votingPeers = context.getPeers().stream()
             .filter(PeerInfo::isVoting)
@@ -60,7 +88,11 @@ public final class Candidate extends AbstractRaftActorBehavior {
 
         votesRequired = getMajorityVoteCount(votingPeers.size());
 
-        startNewTerm();
+        if (preVote && !votingPeers.isEmpty()) {
+            startPreVote();
+        } else {
+            startNewTerm();
+        }
 
         if (votingPeers.isEmpty()) {
             actor().tell(ElectionTimeout.INSTANCE, actor());
@@ -103,10 +135,27 @@ public final class Candidate extends AbstractRaftActorBehavior {
 
     @Override
     protected RaftActorBehavior handleRequestVoteReply(final ActorRef sender, final RequestVoteReply requestVoteReply) {
-        log.debug("{}: handleRequestVoteReply: {}, current voteCount: {}", logName(), requestVoteReply, voteCount);
+        log.debug("{}: handleRequestVoteReply: {}, current voteCount: {}", logName(), requestVoteReply, voteCount());
+
+        if (requestVoteReply.isPreVote() != preVoting
+                || preVoting && requestVoteReply.getPreVoteRound() != preVoteRound) {
+            log.debug("{}: Ignoring stale {}", logName(), requestVoteReply);
+            return this;
+        }
+
+        if (requestVoteReply.isVoteGranted() && !votesGranted.add(sender)) {
+            log.debug("{}: Ignoring duplicate {} from {}", logName(), requestVoteReply, sender);
+            return this;
+        }
 
-        if (requestVoteReply.isVoteGranted()) {
-            voteCount++;
+        final int voteCount = voteCount();
+        if (preVoting) {
+            if (voteCount >= votesRequired) {
+                log.info("{}: Received a majority of pre-votes - starting election", logName());
+                startNewTerm();
+                scheduleElection(electionDuration());
+            }
+            return this;
         }
 
         if (voteCount >= votesRequired) {
@@ -122,6 +171,11 @@ public final class Candidate extends AbstractRaftActorBehavior {
         return this;
     }
 
+    // Granted votes plus our own vote
+    private int voteCount() {
+        return votesGranted.size() + 1;
+    }
+
     @Override
     protected FiniteDuration electionDuration() {
         return super.electionDuration().$div(context.getConfigParams().getCandidateElectionTimeoutDivisor());
@@ -148,7 +202,13 @@ public final class Candidate extends AbstractRaftActorBehavior {
                 return internalSwitchBehavior(RaftState.Leader);
             }
 
-            startNewTerm();
+            // The leader has not been elected in time, subsequent elections are not part of the transfer
+            leadershipTransfer = false;
+            if (preVoting) {
+                startPreVote();
+            } else {
+                startNewTerm();
+            }
             scheduleElection(electionDuration());
             return this;
         }
@@ -161,7 +221,7 @@ public final class Candidate extends AbstractRaftActorBehavior {
             // If RPC request or response contains term T > currentTerm:
             // set currentTerm = T, convert to follower (§5.1)
             // This applies to all RPC messages and responses
-            if (rpc.getTerm() > context.getTermInformation().getCurrentTerm()) {
+            if (rpc.getTerm() > context.getTermInformation().getCurrentTerm() && !isPreVote(rpc)) {
                 log.info("{}: Term {} in \"{}\" message is greater than Candidate's term {} - switching to Follower",
                         logName(), rpc.getTerm(), rpc, context.getTermInformation().getCurrentTerm());
 
@@ -180,9 +240,25 @@ public final class Candidate extends AbstractRaftActorBehavior {
         return super.handleMessage(sender, message);
     }
 
+    private void startPreVote() {
+        preVoting = true;
+        preVoteRound++;
+        // forget votes granted in the previous round, leaving the vote for self
+        votesGranted.clear();
+
+        // Ask for votes in the term we would start, without incrementing ours
+        final long nextTerm = context.getTermInformation().getCurrentTerm() + 1;
+
+        log.info("{}: Starting pre-vote for election term {}", logName(), nextTerm);
+
+        requestVotes(new RequestVote(nextTerm, context.getId(), context.getReplicatedLog().lastIndex(),
+            context.getReplicatedLog().lastTerm(), true, preVoteRound));
+    }
+
     private void startNewTerm() {
-        // set voteCount back to 1 (that is voting for self)
-        voteCount = 1;
+        preVoting = false;
+        // forget votes granted in the previous round, leaving the vote for self
+        votesGranted.clear();
 
         // Increment the election term and vote for self
         long currentTerm = context.getTermInformation().getCurrentTerm();
@@ -194,15 +270,15 @@ public final class Candidate extends AbstractRaftActorBehavior {
         // Request for a vote
         // TODO: Retry request for vote if replies do not arrive in a reasonable
         // amount of time TBD
+        requestVotes(new RequestVote(context.getTermInformation().getCurrentTerm(), context.getId(),
+            context.getReplicatedLog().lastIndex(), context.getReplicatedLog().lastTerm(), false, 0,
+            leadershipTransfer));
+    }
+
+    private void requestVotes(final RequestVote requestVote) {
         for (String peerId : votingPeers) {
             ActorSelection peerActor = context.getPeerActorSelection(peerId);
             if (peerActor != null) {
-                RequestVote requestVote = new RequestVote(
-                        context.getTermInformation().getCurrentTerm(),
-                        context.getId(),
-                        context.getReplicatedLog().lastIndex(),
-                        context.getReplicatedLog().lastTerm());
-
                 log.debug("{}: Sending {} to peer {}", logName(), requestVote, peerId);
 
                 peerActor.tell(requestVote, context.getActor());
@@ -62,6 +62,9 @@ public class Follower extends AbstractRaftActorBehavior {
     private final MessageAssembler appendEntriesMessageAssembler;
 
     private final Stopwatch lastLeaderMessageTimer = Stopwatch.createStarted();
+    // We may have acknowledged a leader's lease just before we (re)started or became Follower, hence we must not grant
+    // votes for one election timeout, even if we do not know the leader yet
+    private final Stopwatch followerTimer = Stopwatch.createStarted();
     private SnapshotTracker snapshotTracker = null;
     private String leaderId;
     private short leaderPayloadVersion;
@@ -153,7 +156,7 @@ public class Follower extends AbstractRaftActorBehavior {
             // if snapshot install is in progress, follower should just acknowledge append entries with a reply.
             AppendEntriesReply reply = new AppendEntriesReply(context.getId(), currentTerm(), true,
                     lastIndex(), lastTerm(), context.getPayloadVersion(), false, needsLeaderAddress(),
-                    appendEntries.getLeaderRaftVersion());
+                    appendEntries.getLeaderRaftVersion(), appendEntries.getSendNanos());
 
             log.debug("{}: snapshot install is in progress, replying immediately with {}", logName(), reply);
             sender.tell(reply, actor());
@@ -198,7 +201,7 @@ public class Follower extends AbstractRaftActorBehavior {
 
         AppendEntriesReply reply = new AppendEntriesReply(context.getId(), currentTerm(), true,
                 lastIndex, lastTerm(), context.getPayloadVersion(), false, needsLeaderAddress(),
-                appendEntries.getLeaderRaftVersion());
+                appendEntries.getLeaderRaftVersion(), appendEntries.getSendNanos());
 
         if (log.isTraceEnabled()) {
             log.trace("{}: handleAppendEntries returning : {}", logName(), reply);
@@ -282,7 +285,7 @@ public class Follower extends AbstractRaftActorBehavior {
                         log.info("{}: Could not remove entries - sending reply to force snapshot", logName());
                         sender.tell(new AppendEntriesReply(context.getId(), currentTerm(), false, lastIndex,
                                 lastTerm(), context.getPayloadVersion(), true, needsLeaderAddress(),
-                                appendEntries.getLeaderRaftVersion()), actor());
+                                appendEntries.getLeaderRaftVersion(), appendEntries.getSendNanos()), actor());
                         return false;
                     }
 
@@ -290,7 +293,7 @@ public class Follower extends AbstractRaftActorBehavior {
                 } else {
                     sender.tell(new AppendEntriesReply(context.getId(), currentTerm(), false, lastIndex,
                             lastTerm(), context.getPayloadVersion(), true, needsLeaderAddress(),
-                            appendEntries.getLeaderRaftVersion()), actor());
+                            appendEntries.getLeaderRaftVersion(), appendEntries.getSendNanos()), actor());
                     return false;
                 }
             }
@@ -348,7 +351,7 @@ public class Follower extends AbstractRaftActorBehavior {
             log.info("{}: The followers log is empty and the senders prevLogIndex is {}", logName(),
                 appendEntries.getPrevLogIndex());
 
-            sendOutOfSyncAppendEntriesReply(sender, false, appendEntries.getLeaderRaftVersion());
+            sendOutOfSyncAppendEntriesReply(sender, false, appendEntries);
             return true;
         }
 
@@ -367,7 +370,7 @@ public class Follower extends AbstractRaftActorBehavior {
                         appendEntries.getPrevLogTerm(), lastIndex, context.getReplicatedLog().getSnapshotIndex(),
                         context.getReplicatedLog().getSnapshotTerm());
 
-                    sendOutOfSyncAppendEntriesReply(sender, false, appendEntries.getLeaderRaftVersion());
+                    sendOutOfSyncAppendEntriesReply(sender, false, appendEntries);
                     return true;
                 }
             } else if (appendEntries.getPrevLogIndex() != -1) {
@@ -378,7 +381,7 @@ public class Follower extends AbstractRaftActorBehavior {
                         + "snapshotIndex: {}, snapshotTerm: {}", logName(), appendEntries.getPrevLogIndex(), lastIndex,
                         context.getReplicatedLog().getSnapshotIndex(), context.getReplicatedLog().getSnapshotTerm());
 
-                sendOutOfSyncAppendEntriesReply(sender, false, appendEntries.getLeaderRaftVersion());
+                sendOutOfSyncAppendEntriesReply(sender, false, appendEntries);
                 return true;
             }
         }
@@ -394,7 +397,7 @@ public class Follower extends AbstractRaftActorBehavior {
                         appendEntries.getReplicatedToAllIndex(), lastIndex,
                         context.getReplicatedLog().getSnapshotIndex(), context.getReplicatedLog().getSnapshotTerm());
 
-                sendOutOfSyncAppendEntriesReply(sender, false, appendEntries.getLeaderRaftVersion());
+                sendOutOfSyncAppendEntriesReply(sender, false, appendEntries);
                 return true;
             }
 
@@ -405,7 +408,7 @@ public class Follower extends AbstractRaftActorBehavior {
                         entries.get(0).getIndex() - 1, lastIndex, context.getReplicatedLog().getSnapshotIndex(),
                         context.getReplicatedLog().getSnapshotTerm());
 
-                sendOutOfSyncAppendEntriesReply(sender, false, appendEntries.getLeaderRaftVersion());
+                sendOutOfSyncAppendEntriesReply(sender, false, appendEntries);
                 return true;
             }
         }
@@ -414,11 +417,11 @@ public class Follower extends AbstractRaftActorBehavior {
     }
 
     private void sendOutOfSyncAppendEntriesReply(final ActorRef sender, final boolean forceInstallSnapshot,
-            final short leaderRaftVersion) {
+            final AppendEntries appendEntries) {
         // We found that the log was out of sync so just send a negative reply.
         final AppendEntriesReply reply = new AppendEntriesReply(context.getId(), currentTerm(), false, lastIndex(),
                 lastTerm(), context.getPayloadVersion(), forceInstallSnapshot, needsLeaderAddress(),
-                leaderRaftVersion);
+                appendEntries.getLeaderRaftVersion(), appendEntries.getSendNanos());
 
         log.info("{}: Follower is out-of-sync so sending negative reply: {}", logName(), reply);
         sender.tell(reply, actor());
@@ -460,6 +463,17 @@ public class Follower extends AbstractRaftActorBehavior {
             return null;
         }
 
+        // While leader leases are enabled, the leader relies on us not electing another leader as long as we are
+        // hearing from it. Reject the vote without updating our term, so the candidate does not disrupt the leader.
+        // A candidate the leader handed over its leadership to is exempt, as the leader does not rely on its lease
+        // anymore.
+        if (rpc instanceof RequestVote requestVote && !requestVote.isPreVote() && !requestVote.isLeadershipTransfer()
+                && isLeaderLeaseProtected(requestVote)) {
+            log.debug("{}: Rejecting {} - leader {} may still hold its lease", logName(), requestVote, leaderId);
+            sender.tell(new RequestVoteReply(currentTerm(), false), actor());
+            return this;
+        }
+
         // If RPC request or response contains term T > currentTerm:
         // set currentTerm = T, convert to follower (§5.1)
         // This applies to all RPC messages and responses
@@ -477,7 +491,9 @@ public class Follower extends AbstractRaftActorBehavior {
             return this;
         }
 
-        if (!(rpc instanceof RequestVote requestVote) || canGrantVote(requestVote)) {
+        // Granting a pre-vote does not mean the candidate is going to become the leader, hence it should not hold off
+        // our own election
+        if (!(rpc instanceof RequestVote requestVote) || !requestVote.isPreVote() && canGrantVote(requestVote)) {
             restartLastLeaderMessageTimer();
             scheduleElection(electionDuration());
         }
@@ -485,6 +501,24 @@ public class Follower extends AbstractRaftActorBehavior {
         return super.handleMessage(sender, rpc);
     }
 
+    private boolean isLeaderLeaseProtected(final RequestVote requestVote) {
+        if (!context.getConfigParams().isLeaderLeaseEnabled()) {
+            return false;
+        }
+        if (hasActiveLeader()) {
+            return !leaderId.equals(requestVote.getCandidateId());
+        }
+        return followerTimer.elapsed(TimeUnit.NANOSECONDS)
+            < context.getConfigParams().getElectionTimeOutInterval().toNanos();
+    }
+
+    @Override
+    protected final boolean hasActiveLeader() {
+        return leaderId != null && lastLeaderMessageTimer.isRunning()
+            && lastLeaderMessageTimer.elapsed(TimeUnit.NANOSECONDS)
+                < context.getConfigParams().getElectionTimeOutInterval().toNanos();
+    }
+
     private RaftActorBehavior handleElectionTimeout(final Object message) {
         // If the message is ElectionTimeout, verify we haven't actually seen a message from the leader
         // during the election timeout interval. It may that the election timer expired b/c this actor
@@ -498,8 +532,9 @@ public class Follower extends AbstractRaftActorBehavior {
 
         if (canStartElection()) {
             if (message instanceof TimeoutNow) {
+                // The leader is handing over leadership to us, hence there is no point in asking for pre-votes
                 log.debug("{}: Received TimeoutNow - switching to Candidate", logName());
-                return internalSwitchBehavior(RaftState.Candidate);
+                return internalSwitchBehavior(new Candidate(context, false, true));
             } else if (noLeaderMessageReceived) {
                 // Check the cluster state to see if the leader is known to be up before we go to Candidate.
                 // However if we haven't heard from the leader in a long time even though the cluster state
@@ -619,18 +654,23 @@ public class Follower extends AbstractRaftActorBehavior {
         leaderId = installSnapshot.getLeaderId();
 
         if (snapshotTracker == null) {
-            snapshotTracker = new SnapshotTracker(log, installSnapshot.getTotalChunks(), installSnapshot.getLeaderId(),
-                    context);
+            // The leader decides how many chunks it keeps in flight, hence how many we may need to hold
+            snapshotTracker = new SnapshotTracker(log, installSnapshot.getTotalChunks(), installSnapshot.getWindow(),
+                    installSnapshot.getLeaderId(), context);
         }
 
         updateInitialSyncStatus(installSnapshot.getLastIncludedIndex(), installSnapshot.getLeaderId());
 
         try {
+            final boolean sealed = snapshotTracker.addChunk(installSnapshot.getChunkIndex(), installSnapshot.getData(),
+                    installSnapshot.getLastChunkHashCode());
+
+            // Acknowledge all chunks received so far. Unless chunks arrive out of order, this is the chunk we have
+            // just received.
             final InstallSnapshotReply reply = new InstallSnapshotReply(
-                    currentTerm(), context.getId(), installSnapshot.getChunkIndex(), true);
+                    currentTerm(), context.getId(), snapshotTracker.getLastChunkIndex(), true);
 
-            if (snapshotTracker.addChunk(installSnapshot.getChunkIndex(), installSnapshot.getData(),
-                    installSnapshot.getLastChunkHashCode())) {
+            if (sealed) {
 
                 log.info("{}: Snapshot installed from leader: {}", logName(), installSnapshot.getLeaderId());
 
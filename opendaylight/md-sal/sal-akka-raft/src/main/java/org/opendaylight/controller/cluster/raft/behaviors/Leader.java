@@ -21,6 +21,8 @@ import org.opendaylight.controller.cluster.raft.FollowerLogInformation;
 import org.opendaylight.controller.cluster.raft.RaftActorContext;
 import org.opendaylight.controller.cluster.raft.RaftActorLeadershipTransferCohort;
 import org.opendaylight.controller.cluster.raft.RaftState;
+import org.opendaylight.controller.cluster.raft.ReplicatedLog;
+import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
 import org.opendaylight.controller.cluster.raft.base.messages.TimeoutNow;
 import org.opendaylight.controller.cluster.raft.messages.AppendEntriesReply;
 
@@ -59,12 +61,41 @@ public class Leader extends AbstractLeader {
 
     Leader(final RaftActorContext context, @Nullable final AbstractLeader initializeFromLeader) {
         super(context, RaftState.Leader, initializeFromLeader);
+
+        if (!context.hasFollowers()) {
+            applyRecoveredEntries();
+        }
     }
 
     public Leader(final RaftActorContext context) {
         this(context, null);
     }
 
+    /**
+     * Without followers every persisted entry is committed, including the entries recovered after the last persisted
+     * {@code ApplyJournalEntries}. There is no follower reply to commit them, so apply them now rather than once
+     * the next entry is persisted, so that they are visible to reads.
+     */
+    private void applyRecoveredEntries() {
+        final ReplicatedLog replicatedLog = context.getReplicatedLog();
+        long lastIndex = replicatedLog.lastIndex();
+        while (lastIndex > context.getCommitIndex() && isPersistencePending(replicatedLog.get(lastIndex))) {
+            lastIndex--;
+        }
+
+        if (lastIndex > context.getCommitIndex()) {
+            log.debug("{}: Committing recovered entries up to {}", logName(), lastIndex);
+            context.setCommitIndex(lastIndex);
+        }
+        if (context.getLastApplied() < context.getCommitIndex()) {
+            applyLogToStateMachine(context.getCommitIndex());
+        }
+    }
+
+    private static boolean isPersistencePending(final @Nullable ReplicatedLogEntry entry) {
+        return entry != null && entry.isPersistencePending();
+    }
+
     @Override
     public RaftActorBehavior handleMessage(final ActorRef sender, final Object originalMessage) {
         requireNonNull(sender, "sender should not be null");
@@ -7,12 +7,18 @@
  */
 package org.opendaylight.controller.cluster.raft.behaviors;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Stopwatch;
 import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,8 +26,41 @@ import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Encapsulates the leader state and logic for sending snapshot chunks to a follower.
+ *
+ * <p>
+ * By default chunks are sent one at a time, each one after the previous one has been acknowledged. When constructed
+ * with a window larger than one, up to that many chunks are kept in flight. The follower acknowledges the highest
+ * chunk it has received all preceding chunks for, so that a chunk which has been lost holds up acknowledgement of
+ * the chunks after it. On timeout only that chunk is sent again, rather than the entire window.
  */
 public final class LeaderInstallSnapshotState implements AutoCloseable {
+    /**
+     * A chunk sent as part of a window.
+     */
+    static final class WindowChunk {
+        private final int chunkIndex;
+        private final byte[] data;
+        private final int lastChunkHashCode;
+
+        WindowChunk(final int chunkIndex, final byte[] data, final int lastChunkHashCode) {
+            this.chunkIndex = chunkIndex;
+            this.data = requireNonNull(data);
+            this.lastChunkHashCode = lastChunkHashCode;
+        }
+
+        int getChunkIndex() {
+            return chunkIndex;
+        }
+
+        byte[] getData() {
+            return data;
+        }
+
+        int getLastChunkHashCode() {
+            return lastChunkHashCode;
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(LeaderInstallSnapshotState.class);
 
     // The index of the first chunk that is sent when installing a snapshot
@@ -36,6 +75,7 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     static final int INITIAL_LAST_CHUNK_HASH_CODE = -1;
 
     private final int snapshotChunkSize;
+    private final int window;
     private final String logName;
     private ByteSource snapshotBytes;
     private int offset = INITIAL_OFFSET;
@@ -52,8 +92,21 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     private final Stopwatch chunkTimer = Stopwatch.createUnstarted();
     private byte[] currentChunk = null;
 
+    // Windowed transfer: chunks which have been sent but not acknowledged yet, in chunk index order
+    private final Deque<WindowChunk> sentChunks = new ArrayDeque<>();
+    private int acknowledgedChunkIndex = FIRST_CHUNK_INDEX - 1;
+    private int readChunkIndex = FIRST_CHUNK_INDEX - 1;
+    private int readChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
+    private long readOffset;
+
     LeaderInstallSnapshotState(final int snapshotChunkSize, final String logName) {
+        this(snapshotChunkSize, 1, logName);
+    }
+
+    LeaderInstallSnapshotState(final int snapshotChunkSize, final int window, final String logName) {
+        checkArgument(window > 0, "Invalid window %s", window);
         this.snapshotChunkSize = snapshotChunkSize;
+        this.window = window;
         this.logName = logName;
     }
 
@@ -114,11 +167,91 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     }
 
     boolean canSendNextChunk() {
+        if (isWindowed()) {
+            return snapshotBytes != null && sentChunks.size() < window && readChunkIndex < totalChunks;
+        }
+
         // we only send a false if a chunk is sent but we have not received a reply yet
         return snapshotBytes != null && (nextChunkHashCode == INITIAL_LAST_CHUNK_HASH_CODE
                 || replyReceivedForOffset == offset);
     }
 
+    boolean isWindowed() {
+        return window > 1;
+    }
+
+    int getWindow() {
+        return window;
+    }
+
+    /**
+     * Read the next chunk to be sent as part of the window, if the window has room for it.
+     *
+     * @return the next chunk, or {@code null} if the window is full or all chunks have been sent
+     * @throws IOException if the chunk cannot be read
+     */
+    WindowChunk nextWindowChunk() throws IOException {
+        if (!canSendNextChunk()) {
+            return null;
+        }
+
+        final int size = (int) Math.min(snapshotChunkSize, snapshotSize - readOffset);
+        final byte[] data = new byte[size];
+        ByteStreams.readFully(snapshotInputStream, data);
+
+        final var chunk = new WindowChunk(++readChunkIndex, data, readChunkHashCode);
+        readChunkHashCode = Arrays.hashCode(data);
+        readOffset += size;
+        sentChunks.addLast(chunk);
+        if (!chunkTimer.isRunning()) {
+            chunkTimer.start();
+        }
+
+        LOG.debug("{}: Next chunk: total length={}, offset={}, size={}, chunkIndex={}, in flight={}", logName,
+            snapshotSize, readOffset - size, size, chunk.getChunkIndex(), sentChunks.size());
+        return chunk;
+    }
+
+    /**
+     * Acknowledge all chunks up to and including the specified index.
+     *
+     * @param chunkIndex highest acknowledged chunk index
+     * @return {@code true} if this acknowledgement makes progress, {@code false} if it is a duplicate or does not match
+     *         any chunk in flight
+     */
+    boolean acknowledgeChunks(final int chunkIndex) {
+        if (chunkIndex <= acknowledgedChunkIndex || chunkIndex > readChunkIndex) {
+            return false;
+        }
+
+        while (!sentChunks.isEmpty() && sentChunks.peekFirst().getChunkIndex() <= chunkIndex) {
+            sentChunks.removeFirst();
+        }
+        acknowledgedChunkIndex = chunkIndex;
+
+        // The timer tracks the oldest chunk in flight
+        chunkTimer.reset();
+        if (!sentChunks.isEmpty()) {
+            chunkTimer.start();
+        }
+        return true;
+    }
+
+    /**
+     * Return the oldest chunk in flight for resending. This is the chunk the follower is waiting for before it can
+     * acknowledge any of the chunks after it.
+     *
+     * @return the oldest chunk in flight, or {@code null} if there is none
+     */
+    WindowChunk resendWindowChunk() {
+        chunkTimer.reset();
+        final var chunk = sentChunks.peekFirst();
+        if (chunk != null) {
+            chunkTimer.start();
+        }
+        return chunk;
+    }
+
     boolean isLastChunk(final int index) {
         return totalChunks == index;
     }
@@ -180,6 +313,12 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
         lastChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
         nextChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
 
+        sentChunks.clear();
+        acknowledgedChunkIndex = FIRST_CHUNK_INDEX - 1;
+        readChunkIndex = FIRST_CHUNK_INDEX - 1;
+        readChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
+        readOffset = 0;
+
         try {
             snapshotInputStream = snapshotBytes.openStream();
         } catch (IOException e) {
@@ -190,6 +329,7 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     @Override
     public void close() {
         closeStream();
+        sentChunks.clear();
         snapshotBytes = null;
     }
 
@@ -213,6 +353,9 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("snapshotChunkSize", snapshotChunkSize)
+                .add("window", window)
+                .add("acknowledgedChunkIndex", acknowledgedChunkIndex)
+                .add("chunksInFlight", sentChunks.size())
                 .add("offset", offset)
                 .add("replyReceivedForOffset", replyReceivedForOffset)
                 .add("replyStatus", replyStatus)
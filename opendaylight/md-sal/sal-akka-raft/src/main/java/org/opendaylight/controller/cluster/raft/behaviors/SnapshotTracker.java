@@ -12,18 +12,26 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.io.ByteSource;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
+import java.util.Map.Entry;
 import java.util.OptionalInt;
+import java.util.TreeMap;
 import org.opendaylight.controller.cluster.io.FileBackedOutputStream;
 import org.opendaylight.controller.cluster.raft.RaftActorContext;
 import org.slf4j.Logger;
 
 /**
- * Helper class that maintains state for a snapshot that is being installed in chunks on a Follower.
+ * Helper class that maintains state for a snapshot that is being installed in chunks on a Follower. Chunks which
+ * arrive ahead of their predecessors, within the configured window, are held until the chunks before them have been
+ * received.
  */
 class SnapshotTracker implements AutoCloseable {
     private final Logger log;
     private final int totalChunks;
+    private final int window;
+    // Chunks received out of order, with their last chunk hash codes, indexed by chunk index
+    private final TreeMap<Integer, Entry<byte[], OptionalInt>> pendingChunks = new TreeMap<>();
     private final String leaderId;
     private final BufferedOutputStream bufferedStream;
     private final FileBackedOutputStream fileBackedStream;
@@ -33,8 +41,14 @@ class SnapshotTracker implements AutoCloseable {
     private long count;
 
     SnapshotTracker(final Logger log, final int totalChunks, final String leaderId, final RaftActorContext context) {
+        this(log, totalChunks, 1, leaderId, context);
+    }
+
+    SnapshotTracker(final Logger log, final int totalChunks, final int window, final String leaderId,
+            final RaftActorContext context) {
         this.log = log;
         this.totalChunks = totalChunks;
+        this.window = window;
         this.leaderId = requireNonNull(leaderId);
         fileBackedStream = context.getFileBackedOutputStreamFactory().newInstance();
         bufferedStream = new BufferedOutputStream(fileBackedStream);
@@ -60,10 +74,43 @@ class SnapshotTracker implements AutoCloseable {
                     + " all chunks already received");
         }
 
+        if (window > 1) {
+            if (chunkIndex < LeaderInstallSnapshotState.FIRST_CHUNK_INDEX || chunkIndex > totalChunks) {
+                throw new InvalidChunkException("Expected chunkIndex up to " + totalChunks + " got " + chunkIndex);
+            }
+            if (chunkIndex <= lastChunkIndex || chunkIndex > lastChunkIndex + window) {
+                // Either a chunk the leader has resent before seeing our acknowledgement, or one we have no room for.
+                // The leader will resend the latter once we acknowledge the chunks before it.
+                log.debug("addChunk: ignoring chunkIndex={} outside of window", chunkIndex);
+                return false;
+            }
+            if (chunkIndex != lastChunkIndex + 1) {
+                pendingChunks.put(chunkIndex, new SimpleImmutableEntry<>(chunk, maybeLastChunkHashCode));
+                return false;
+            }
+
+            appendChunk(chunkIndex, chunk, maybeLastChunkHashCode);
+            for (var next = pendingChunks.pollFirstEntry(); next != null && !sealed;
+                    next = pendingChunks.pollFirstEntry()) {
+                if (next.getKey() != lastChunkIndex + 1) {
+                    pendingChunks.put(next.getKey(), next.getValue());
+                    break;
+                }
+                appendChunk(next.getKey(), next.getValue().getKey(), next.getValue().getValue());
+            }
+            return sealed;
+        }
+
         if (lastChunkIndex + 1 != chunkIndex) {
             throw new InvalidChunkException("Expected chunkIndex " + (lastChunkIndex + 1) + " got " + chunkIndex);
         }
 
+        appendChunk(chunkIndex, chunk, maybeLastChunkHashCode);
+        return sealed;
+    }
+
+    private void appendChunk(final int chunkIndex, final byte[] chunk, final OptionalInt maybeLastChunkHashCode)
+            throws IOException {
         if (maybeLastChunkHashCode.isPresent() && maybeLastChunkHashCode.orElseThrow() != lastChunkHashCode) {
             throw new InvalidChunkException("The hash code of the recorded last chunk does not match "
                     + "the senders hash code, expected " + lastChunkHashCode + " was "
@@ -76,7 +123,16 @@ class SnapshotTracker implements AutoCloseable {
         sealed = chunkIndex == totalChunks;
         lastChunkIndex = chunkIndex;
         lastChunkHashCode = Arrays.hashCode(chunk);
-        return sealed;
+    }
+
+    /**
+     * Return the index of the last chunk received in order, i.e. the highest index for which all chunks have been
+     * received.
+     *
+     * @return the last chunk index
+     */
+    int getLastChunkIndex() {
+        return lastChunkIndex;
     }
 
     ByteSource getSnapshotBytes() throws IOException {
@@ -94,6 +150,7 @@ class SnapshotTracker implements AutoCloseable {
 
     @Override
     public void close() {
+        pendingChunks.clear();
         fileBackedStream.cleanup();
     }
 
@@ -86,7 +86,7 @@ final class AE implements Externalizable {
 
         appendEntries = new AppendEntries(term, leaderId, prevLogIndex, prevLogTerm, entries.build(), leaderCommit,
                 replicatedToAllIndex, payloadVersion, RaftVersions.CURRENT_VERSION, leaderRaftVersion,
-                leaderAddress);
+                leaderAddress, AppendEntriesReply.UNKNOWN_SEND_NANOS);
     }
 
     @java.io.Serial
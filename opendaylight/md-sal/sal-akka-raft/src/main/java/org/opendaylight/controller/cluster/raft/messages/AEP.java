@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.messages;
+
+import static com.google.common.base.Verify.verifyNotNull;
+import static java.util.Objects.requireNonNull;
+
+import akka.serialization.JavaSerializer;
+import akka.util.ClassLoaderObjectInputStream;
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import org.opendaylight.controller.cluster.raft.RaftVersions;
+import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
+import org.opendaylight.controller.cluster.raft.persisted.SimpleReplicatedLogEntry;
+import org.opendaylight.yangtools.concepts.WritableObjects;
+
+/**
+ * Potassium serialization proxy for {@link AppendEntries}. Unlike {@link AE}, payloads of entries which
+ * {@link ReplicatedLogEntry#isSerializedDataRetained() retain their serialized form} are not written as objects into
+ * this stream, but are copied from {@link ReplicatedLogEntry#getSerializedData()}. Such entries are therefore
+ * serialized only once, regardless of how many followers they are sent to. Payloads of other entries are written as
+ * objects, as {@link AE} does, as copying them would only add an intermediate array on both ends. It also carries
+ * {@link AppendEntries#getSendNanos()}, which the follower echoes back in its {@link AppendEntriesReply}.
+ */
+final class AEP implements Externalizable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+    // Payload length indicating the payload follows as an object
+    private static final int INLINE_PAYLOAD = -1;
+
+    private AppendEntries appendEntries;
+
+    @SuppressWarnings("checkstyle:RedundantModifier")
+    public AEP() {
+        // For Externalizable
+    }
+
+    AEP(final AppendEntries appendEntries) {
+        this.appendEntries = requireNonNull(appendEntries);
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeShort(appendEntries.getLeaderRaftVersion());
+        WritableObjects.writeLong(out, appendEntries.getTerm());
+        out.writeObject(appendEntries.getLeaderId());
+
+        WritableObjects.writeLongs(out, appendEntries.getPrevLogTerm(), appendEntries.getPrevLogIndex());
+        WritableObjects.writeLongs(out, appendEntries.getLeaderCommit(), appendEntries.getReplicatedToAllIndex());
+
+        out.writeShort(appendEntries.getPayloadVersion());
+
+        final var entries = appendEntries.getEntries();
+        out.writeInt(entries.size());
+        for (var e : entries) {
+            WritableObjects.writeLongs(out, e.getIndex(), e.getTerm());
+            if (e.isSerializedDataRetained()) {
+                final byte[] data = e.getSerializedData();
+                out.writeInt(data.length);
+                out.write(data);
+            } else {
+                out.writeInt(INLINE_PAYLOAD);
+                out.writeObject(e.getData());
+            }
+        }
+
+        out.writeObject(appendEntries.getLeaderAddress().orElse(null));
+        out.writeLong(appendEntries.getSendNanos());
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        short leaderRaftVersion = in.readShort();
+        long term = WritableObjects.readLong(in);
+        String leaderId = (String) in.readObject();
+
+        byte hdr = WritableObjects.readLongHeader(in);
+        long prevLogTerm = WritableObjects.readFirstLong(in, hdr);
+        long prevLogIndex = WritableObjects.readSecondLong(in, hdr);
+
+        hdr = WritableObjects.readLongHeader(in);
+        long leaderCommit = WritableObjects.readFirstLong(in, hdr);
+        long replicatedToAllIndex = WritableObjects.readSecondLong(in, hdr);
+        short payloadVersion = in.readShort();
+
+        int size = in.readInt();
+        var entries = ImmutableList.<ReplicatedLogEntry>builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            hdr = WritableObjects.readLongHeader(in);
+            final long index = WritableObjects.readFirstLong(in, hdr);
+            final long entryTerm = WritableObjects.readSecondLong(in, hdr);
+
+            final int length = in.readInt();
+            final Payload payload;
+            if (length == INLINE_PAYLOAD) {
+                payload = (Payload) in.readObject();
+            } else if (length >= 0) {
+                final byte[] data = new byte[length];
+                in.readFully(data);
+                payload = readPayload(data);
+            } else {
+                throw new StreamCorruptedException("Invalid payload length " + length);
+            }
+            entries.add(new SimpleReplicatedLogEntry(index, entryTerm, payload));
+        }
+
+        String leaderAddress = (String)in.readObject();
+        long sendNanos = in.readLong();
+
+        appendEntries = new AppendEntries(term, leaderId, prevLogIndex, prevLogTerm, entries.build(), leaderCommit,
+                replicatedToAllIndex, payloadVersion, RaftVersions.CURRENT_VERSION, leaderRaftVersion,
+                leaderAddress, sendNanos);
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        return verifyNotNull(appendEntries);
+    }
+
+    private static Payload readPayload(final byte[] data) throws IOException, ClassNotFoundException {
+        // Resolve classes the same way the enclosing stream does, if we are being deserialized by Akka
+        final var system = JavaSerializer.currentSystem().value();
+        final var bis = new ByteArrayInputStream(data);
+        try (ObjectInputStream ois = system == null ? new ObjectInputStream(bis)
+                : new ClassLoaderObjectInputStream(system.dynamicAccess().classLoader(), bis)) {
+            return (Payload) ois.readObject();
+        }
+    }
+}
@@ -81,7 +81,7 @@ final class AR implements Externalizable {
 
         appendEntriesReply = new AppendEntriesReply(followerId, term, getFlag(flags, SUCCESS), logLastIndex,
             logLastTerm, payloadVersion, getFlag(flags, FORCE_INSTALL_SNAPSHOT), getFlag(flags, NEEDS_LEADER_ADDRESS),
-            raftVersion, RaftVersions.CURRENT_VERSION);
+            raftVersion, RaftVersions.CURRENT_VERSION, AppendEntriesReply.UNKNOWN_SEND_NANOS);
     }
 
     @java.io.Serial
@@ -56,10 +56,14 @@ public final class AppendEntries extends AbstractRaftRPC {
 
     private final String leaderAddress;
 
+    // leader's System.nanoTime() when this message was created, echoed back in AppendEntriesReply. It is meaningful
+    // only to the leader, which times its lease from it.
+    private final long sendNanos;
+
     AppendEntries(final long term, @NonNull final String leaderId, final long prevLogIndex,
             final long prevLogTerm, @NonNull final List<ReplicatedLogEntry> entries, final long leaderCommit,
             final long replicatedToAllIndex, final short payloadVersion, final short recipientRaftVersion,
-            final short leaderRaftVersion, @Nullable final String leaderAddress) {
+            final short leaderRaftVersion, @Nullable final String leaderAddress, final long sendNanos) {
         super(term);
         this.leaderId = requireNonNull(leaderId);
         this.prevLogIndex = prevLogIndex;
@@ -71,6 +75,7 @@ public final class AppendEntries extends AbstractRaftRPC {
         this.recipientRaftVersion = recipientRaftVersion;
         this.leaderRaftVersion = leaderRaftVersion;
         this.leaderAddress = leaderAddress;
+        this.sendNanos = sendNanos;
     }
 
     public AppendEntries(final long term, final @NonNull String leaderId, final long prevLogIndex,
@@ -78,7 +83,7 @@ public final class AppendEntries extends AbstractRaftRPC {
             final long replicatedToAllIndex, final short payloadVersion, final short recipientRaftVersion,
             final @Nullable String leaderAddress) {
         this(term, leaderId, prevLogIndex, prevLogTerm, entries, leaderCommit, replicatedToAllIndex, payloadVersion,
-                recipientRaftVersion, RaftVersions.CURRENT_VERSION, leaderAddress);
+                recipientRaftVersion, RaftVersions.CURRENT_VERSION, leaderAddress, System.nanoTime());
     }
 
     @VisibleForTesting
@@ -125,6 +130,17 @@ public final class AppendEntries extends AbstractRaftRPC {
         return leaderRaftVersion;
     }
 
+    /**
+     * Returns the leader's {@link System#nanoTime()} at the time this message was created. This value is transmitted
+     * only to {@link RaftVersions#POTASSIUM_VERSION} followers, messages received from older leaders report
+     * {@link AppendEntriesReply#UNKNOWN_SEND_NANOS}.
+     *
+     * @return the leader's send time
+     */
+    public long getSendNanos() {
+        return sendNanos;
+    }
+
     @Override
     public String toString() {
         return "AppendEntries [leaderId=" + leaderId
@@ -136,12 +152,16 @@ public final class AppendEntries extends AbstractRaftRPC {
                 + ", recipientRaftVersion=" + recipientRaftVersion
                 + ", leaderRaftVersion=" + leaderRaftVersion
                 + ", leaderAddress=" + leaderAddress
+                + ", sendNanos=" + sendNanos
                 + ", entries=" + entries + "]";
     }
 
     @Override
     Object writeReplace() {
-        return recipientRaftVersion <= RaftVersions.FLUORINE_VERSION ? new ProxyV2(this) : new AE(this);
+        if (recipientRaftVersion <= RaftVersions.FLUORINE_VERSION) {
+            return new ProxyV2(this);
+        }
+        return recipientRaftVersion < RaftVersions.POTASSIUM_VERSION ? new AE(this) : new AEP(this);
     }
 
     /**
@@ -205,7 +225,7 @@ public final class AppendEntries extends AbstractRaftRPC {
 
             appendEntries = new AppendEntries(term, leaderId, prevLogIndex, prevLogTerm, entries.build(), leaderCommit,
                     replicatedToAllIndex, payloadVersion, RaftVersions.CURRENT_VERSION, leaderRaftVersion,
-                    leaderAddress);
+                    leaderAddress, AppendEntriesReply.UNKNOWN_SEND_NANOS);
         }
 
         @java.io.Serial
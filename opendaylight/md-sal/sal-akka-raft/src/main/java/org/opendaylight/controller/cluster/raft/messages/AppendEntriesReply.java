@@ -18,6 +18,11 @@ import org.opendaylight.controller.cluster.raft.RaftVersions;
  * Reply for the AppendEntries message.
  */
 public final class AppendEntriesReply extends AbstractRaftRPC {
+    /**
+     * Value of {@link #getLeaderSendNanos()} when the send time of the acknowledged {@link AppendEntries} is not known.
+     */
+    public static final long UNKNOWN_SEND_NANOS = Long.MIN_VALUE;
+
     @java.io.Serial
     private static final long serialVersionUID = -7487547356392536683L;
 
@@ -46,6 +51,9 @@ public final class AppendEntriesReply extends AbstractRaftRPC {
 
     private final short recipientRaftVersion;
 
+    // AppendEntries.getSendNanos() of the message being acknowledged
+    private final long leaderSendNanos;
+
     @VisibleForTesting
     public AppendEntriesReply(final String followerId, final long term, final boolean success, final long logLastIndex,
             final long logLastTerm, final short payloadVersion) {
@@ -57,12 +65,20 @@ public final class AppendEntriesReply extends AbstractRaftRPC {
             final long logLastTerm, final short payloadVersion, final boolean forceInstallSnapshot,
             final boolean needsLeaderAddress, final short recipientRaftVersion) {
         this(followerId, term, success, logLastIndex, logLastTerm, payloadVersion, forceInstallSnapshot,
-                needsLeaderAddress, RaftVersions.CURRENT_VERSION, recipientRaftVersion);
+                needsLeaderAddress, recipientRaftVersion, UNKNOWN_SEND_NANOS);
+    }
+
+    public AppendEntriesReply(final String followerId, final long term, final boolean success, final long logLastIndex,
+            final long logLastTerm, final short payloadVersion, final boolean forceInstallSnapshot,
+            final boolean needsLeaderAddress, final short recipientRaftVersion, final long leaderSendNanos) {
+        this(followerId, term, success, logLastIndex, logLastTerm, payloadVersion, forceInstallSnapshot,
+                needsLeaderAddress, RaftVersions.CURRENT_VERSION, recipientRaftVersion, leaderSendNanos);
     }
 
     AppendEntriesReply(final String followerId, final long term, final boolean success, final long logLastIndex,
             final long logLastTerm, final short payloadVersion, final boolean forceInstallSnapshot,
-            final boolean needsLeaderAddress, final short raftVersion, final short recipientRaftVersion) {
+            final boolean needsLeaderAddress, final short raftVersion, final short recipientRaftVersion,
+            final long leaderSendNanos) {
         super(term);
         this.followerId = followerId;
         this.success = success;
@@ -73,6 +89,7 @@ public final class AppendEntriesReply extends AbstractRaftRPC {
         this.raftVersion = raftVersion;
         this.needsLeaderAddress = needsLeaderAddress;
         this.recipientRaftVersion = recipientRaftVersion;
+        this.leaderSendNanos = leaderSendNanos;
     }
 
     public boolean isSuccess() {
@@ -107,18 +124,32 @@ public final class AppendEntriesReply extends AbstractRaftRPC {
         return needsLeaderAddress;
     }
 
+    /**
+     * Returns the leader's send time of the {@link AppendEntries} this reply acknowledges, as reported by
+     * {@link AppendEntries#getSendNanos()}. This value is transmitted only by {@link RaftVersions#POTASSIUM_VERSION}
+     * followers, otherwise it is {@link #UNKNOWN_SEND_NANOS}.
+     *
+     * @return the leader's send time of the acknowledged message
+     */
+    public long getLeaderSendNanos() {
+        return leaderSendNanos;
+    }
+
     @Override
     public String toString() {
         return "AppendEntriesReply [term=" + getTerm() + ", success=" + success + ", followerId=" + followerId
                 + ", logLastIndex=" + logLastIndex + ", logLastTerm=" + logLastTerm + ", forceInstallSnapshot="
                 + forceInstallSnapshot + ", needsLeaderAddress=" + needsLeaderAddress
                 + ", payloadVersion=" + payloadVersion + ", raftVersion=" + raftVersion
-                + ", recipientRaftVersion=" + recipientRaftVersion + "]";
+                + ", recipientRaftVersion=" + recipientRaftVersion + ", leaderSendNanos=" + leaderSendNanos + "]";
     }
 
     @Override
     Object writeReplace() {
-        return recipientRaftVersion <= RaftVersions.FLUORINE_VERSION ? new Proxy2(this) : new AR(this);
+        if (recipientRaftVersion <= RaftVersions.FLUORINE_VERSION) {
+            return new Proxy2(this);
+        }
+        return recipientRaftVersion < RaftVersions.POTASSIUM_VERSION ? new AR(this) : new ARP(this);
     }
 
     /**
@@ -167,7 +198,7 @@ public final class AppendEntriesReply extends AbstractRaftRPC {
 
             appendEntriesReply = new AppendEntriesReply(followerId, term, success, logLastIndex, logLastTerm,
                     payloadVersion, forceInstallSnapshot, needsLeaderAddress, raftVersion,
-                    RaftVersions.CURRENT_VERSION);
+                    RaftVersions.CURRENT_VERSION, UNKNOWN_SEND_NANOS);
         }
 
         @java.io.Serial
@@ -30,6 +30,8 @@ final class IS implements Externalizable {
     // Flags
     private static final int LAST_CHUNK_HASHCODE = 0x10;
     private static final int SERVER_CONFIG       = 0x20;
+    // Only ever set towards Potassium and later recipients, as leaders send windows of chunks only to those
+    private static final int WINDOW              = 0x40;
 
     private InstallSnapshot installSnapshot;
 
@@ -53,6 +55,10 @@ final class IS implements Externalizable {
         if (serverConfig.isPresent()) {
             flags |= SERVER_CONFIG;
         }
+        final int window = installSnapshot.getWindow();
+        if (window > 1) {
+            flags |= WINDOW;
+        }
 
         WritableObjects.writeLong(out, installSnapshot.getTerm(), flags);
         out.writeObject(installSnapshot.getLeaderId());
@@ -66,6 +72,9 @@ final class IS implements Externalizable {
         if (serverConfig.isPresent()) {
             out.writeObject(serverConfig.orElseThrow());
         }
+        if (window > 1) {
+            out.writeInt(window);
+        }
 
         out.writeObject(installSnapshot.getData());
     }
@@ -88,11 +97,12 @@ final class IS implements Externalizable {
             : OptionalInt.empty();
         Optional<ServerConfigurationPayload> serverConfig = getFlag(flags, SERVER_CONFIG)
                 ? Optional.of((ServerConfigurationPayload)in.readObject()) : Optional.empty();
+        int window = getFlag(flags, WINDOW) ? in.readInt() : 1;
 
         byte[] data = (byte[])in.readObject();
 
         installSnapshot = new InstallSnapshot(term, leaderId, lastIncludedIndex, lastIncludedTerm, data,
-                chunkIndex, totalChunks, lastChunkHashCode, serverConfig, RaftVersions.CURRENT_VERSION);
+                chunkIndex, totalChunks, lastChunkHashCode, serverConfig, window, RaftVersions.CURRENT_VERSION);
     }
 
     @java.io.Serial
@@ -35,6 +35,7 @@ public final class InstallSnapshot extends AbstractRaftRPC {
     private final OptionalInt lastChunkHashCode;
     @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "Handled via writeReplace()")
     private final Optional<ServerConfigurationPayload> serverConfig;
+    private final int window;
     private final short recipientRaftVersion;
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = """
@@ -45,6 +46,18 @@ public final class InstallSnapshot extends AbstractRaftRPC {
             final long lastIncludedTerm, final byte[] data, final int chunkIndex, final int totalChunks,
             final OptionalInt lastChunkHashCode, final Optional<ServerConfigurationPayload> serverConfig,
             final short recipientRaftVersion) {
+        this(term, leaderId, lastIncludedIndex, lastIncludedTerm, data, chunkIndex, totalChunks, lastChunkHashCode,
+            serverConfig, 1, recipientRaftVersion);
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = """
+        Stores a reference to an externally mutable byte[] object but this is OK since this class is merely a DTO and \
+        does not process byte[] internally. Also it would be inefficient to create a copy as the byte[] could be \
+        large.""")
+    public InstallSnapshot(final long term, final String leaderId, final long lastIncludedIndex,
+            final long lastIncludedTerm, final byte[] data, final int chunkIndex, final int totalChunks,
+            final OptionalInt lastChunkHashCode, final Optional<ServerConfigurationPayload> serverConfig,
+            final int window, final short recipientRaftVersion) {
         super(term);
         this.leaderId = leaderId;
         this.lastIncludedIndex = lastIncludedIndex;
@@ -54,6 +67,7 @@ public final class InstallSnapshot extends AbstractRaftRPC {
         this.totalChunks = totalChunks;
         this.lastChunkHashCode = lastChunkHashCode;
         this.serverConfig = serverConfig;
+        this.window = window;
         this.recipientRaftVersion = recipientRaftVersion;
     }
 
@@ -101,12 +115,22 @@ public final class InstallSnapshot extends AbstractRaftRPC {
         return serverConfig;
     }
 
+    /**
+     * Returns the number of chunks the leader keeps in flight. A value larger than one means chunks may arrive out of
+     * order and the follower needs to hold chunks which arrive ahead of their predecessors, up to this many.
+     *
+     * @return the window of chunks in flight
+     */
+    public int getWindow() {
+        return window;
+    }
+
     @Override
     public String toString() {
         return "InstallSnapshot [term=" + getTerm() + ", leaderId=" + leaderId + ", lastIncludedIndex="
                 + lastIncludedIndex + ", lastIncludedTerm=" + lastIncludedTerm + ", datasize=" + data.length
                 + ", Chunk=" + chunkIndex + "/" + totalChunks + ", lastChunkHashCode=" + lastChunkHashCode
-                + ", serverConfig=" + serverConfig.orElse(null) + "]";
+                + ", serverConfig=" + serverConfig.orElse(null) + ", window=" + window + "]";
     }
 
     @Override
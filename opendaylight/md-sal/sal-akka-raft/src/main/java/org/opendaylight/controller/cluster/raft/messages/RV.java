@@ -22,6 +22,11 @@ final class RV implements Externalizable {
     @java.io.Serial
     private static final long serialVersionUID = 1L;
 
+    // Flags
+    private static final int PRE_VOTE = 0x10;
+    private static final int PRE_VOTE_ROUND = 0x20;
+    private static final int LEADERSHIP_TRANSFER = 0x40;
+
     private RequestVote requestVote;
 
     @SuppressWarnings("checkstyle:RedundantModifier")
@@ -35,21 +40,33 @@ final class RV implements Externalizable {
 
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
-        WritableObjects.writeLong(out, requestVote.getTerm());
+        final long preVoteRound = requestVote.getPreVoteRound();
+        WritableObjects.writeLong(out, requestVote.getTerm(), (requestVote.isPreVote() ? PRE_VOTE : 0)
+            | (preVoteRound != 0 ? PRE_VOTE_ROUND : 0)
+            | (requestVote.isLeadershipTransfer() ? LEADERSHIP_TRANSFER : 0));
         out.writeObject(requestVote.getCandidateId());
         WritableObjects.writeLongs(out, requestVote.getLastLogIndex(), requestVote.getLastLogTerm());
+        if (preVoteRound != 0) {
+            WritableObjects.writeLong(out, preVoteRound);
+        }
     }
 
     @Override
     public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
-        long term = WritableObjects.readLong(in);
+        final byte termHdr = WritableObjects.readLongHeader(in);
+        long term = WritableObjects.readLongBody(in, termHdr);
+        final int flags = WritableObjects.longHeaderFlags(termHdr);
+        boolean preVote = (flags & PRE_VOTE) != 0;
         String candidateId = (String) in.readObject();
 
         final byte hdr = WritableObjects.readLongHeader(in);
         long lastLogIndex = WritableObjects.readFirstLong(in, hdr);
         long lastLogTerm = WritableObjects.readSecondLong(in, hdr);
 
-        requestVote = new RequestVote(term, candidateId, lastLogIndex, lastLogTerm);
+        long preVoteRound = (flags & PRE_VOTE_ROUND) != 0 ? WritableObjects.readLong(in) : 0;
+
+        requestVote = new RequestVote(term, candidateId, lastLogIndex, lastLogTerm, preVote, preVoteRound,
+            (flags & LEADERSHIP_TRANSFER) != 0);
     }
 
     @java.io.Serial
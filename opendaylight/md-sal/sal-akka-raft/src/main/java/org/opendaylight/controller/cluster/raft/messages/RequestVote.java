@@ -23,11 +23,38 @@ public final class RequestVote extends AbstractRaftRPC {
     // term of candidate’s last log entry (§5.4)
     private final long lastLogTerm;
 
+    // true if this is a pre-vote, which carries the term the candidate would start an election for
+    private final boolean preVote;
+
+    // identifies the candidate's pre-vote round, as all of its pre-vote rounds ask for the same term
+    private final long preVoteRound;
+
+    // true if the candidate has been asked to take over leadership by the current leader
+    private final boolean leadershipTransfer;
+
     public RequestVote(final long term, final String candidateId, final long lastLogIndex, final long lastLogTerm) {
+        this(term, candidateId, lastLogIndex, lastLogTerm, false);
+    }
+
+    public RequestVote(final long term, final String candidateId, final long lastLogIndex, final long lastLogTerm,
+            final boolean preVote) {
+        this(term, candidateId, lastLogIndex, lastLogTerm, preVote, 0);
+    }
+
+    public RequestVote(final long term, final String candidateId, final long lastLogIndex, final long lastLogTerm,
+            final boolean preVote, final long preVoteRound) {
+        this(term, candidateId, lastLogIndex, lastLogTerm, preVote, preVoteRound, false);
+    }
+
+    public RequestVote(final long term, final String candidateId, final long lastLogIndex, final long lastLogTerm,
+            final boolean preVote, final long preVoteRound, final boolean leadershipTransfer) {
         super(term);
         this.candidateId = candidateId;
         this.lastLogIndex = lastLogIndex;
         this.lastLogTerm = lastLogTerm;
+        this.preVote = preVote;
+        this.preVoteRound = preVoteRound;
+        this.leadershipTransfer = leadershipTransfer;
     }
 
     public String getCandidateId() {
@@ -42,12 +69,38 @@ public final class RequestVote extends AbstractRaftRPC {
         return lastLogTerm;
     }
 
+    public boolean isPreVote() {
+        return preVote;
+    }
+
+    /**
+     * Returns the candidate's pre-vote round this pre-vote belongs to, which is echoed in the reply.
+     *
+     * @return the pre-vote round, or {@code 0} if not known
+     */
+    public long getPreVoteRound() {
+        return preVoteRound;
+    }
+
+    /**
+     * Returns whether this vote is requested by a candidate which the leader handed over its leadership to. Such a
+     * vote is not subject to leader lease protection, as the leader has given up its lease.
+     *
+     * @return true if this vote is part of a leadership transfer
+     */
+    public boolean isLeadershipTransfer() {
+        return leadershipTransfer;
+    }
+
     @Override
     public String toString() {
         return "RequestVote [term=" + getTerm()
                 + ", candidateId=" + candidateId
                 + ", lastLogIndex=" + lastLogIndex
                 + ", lastLogTerm=" + lastLogTerm
+                + ", preVote=" + preVote
+                + ", preVoteRound=" + preVoteRound
+                + ", leadershipTransfer=" + leadershipTransfer
                 + "]";
     }
 
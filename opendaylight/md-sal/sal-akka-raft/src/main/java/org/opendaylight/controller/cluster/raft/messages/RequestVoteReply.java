@@ -14,18 +14,49 @@ public final class RequestVoteReply extends AbstractRaftRPC {
     // true means candidate received vote
     private final boolean voteGranted;
 
+    // true if this is a reply to a pre-vote
+    private final boolean preVote;
+
+    // the pre-vote round of the pre-vote this is a reply to
+    private final long preVoteRound;
+
     public RequestVoteReply(final long term, final boolean voteGranted) {
+        this(term, voteGranted, false);
+    }
+
+    public RequestVoteReply(final long term, final boolean voteGranted, final boolean preVote) {
+        this(term, voteGranted, preVote, 0);
+    }
+
+    public RequestVoteReply(final long term, final boolean voteGranted, final boolean preVote,
+            final long preVoteRound) {
         super(term);
         this.voteGranted = voteGranted;
+        this.preVote = preVote;
+        this.preVoteRound = preVoteRound;
     }
 
     public boolean isVoteGranted() {
         return voteGranted;
     }
 
+    public boolean isPreVote() {
+        return preVote;
+    }
+
+    /**
+     * Returns the pre-vote round of the pre-vote this is a reply to, as found in {@link RequestVote#getPreVoteRound()}.
+     *
+     * @return the pre-vote round, or {@code 0} if not known
+     */
+    public long getPreVoteRound() {
+        return preVoteRound;
+    }
+
     @Override
     public String toString() {
-        return "RequestVoteReply [term=" + getTerm() + ", voteGranted=" + voteGranted + "]";
+        return "RequestVoteReply [term=" + getTerm() + ", voteGranted=" + voteGranted + ", preVote=" + preVote
+            + ", preVoteRound=" + preVoteRound + "]";
     }
 
     @Override
@@ -25,6 +25,8 @@ final class VR implements Externalizable {
 
     // Flags
     private static final int VOTE_GRANTED = 0x10;
+    private static final int PRE_VOTE = 0x20;
+    private static final int PRE_VOTE_ROUND = 0x40;
 
     private RequestVoteReply requestVoteReply;
 
@@ -39,14 +41,21 @@ final class VR implements Externalizable {
 
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
-        WritableObjects.writeLong(out, requestVoteReply.getTerm(), requestVoteReply.isVoteGranted() ? VOTE_GRANTED : 0);
+        final long preVoteRound = requestVoteReply.getPreVoteRound();
+        WritableObjects.writeLong(out, requestVoteReply.getTerm(), (requestVoteReply.isVoteGranted() ? VOTE_GRANTED : 0)
+            | (requestVoteReply.isPreVote() ? PRE_VOTE : 0) | (preVoteRound != 0 ? PRE_VOTE_ROUND : 0));
+        if (preVoteRound != 0) {
+            WritableObjects.writeLong(out, preVoteRound);
+        }
     }
 
     @Override
     public void readExternal(final ObjectInput in) throws IOException {
         final byte hdr = WritableObjects.readLongHeader(in);
-        requestVoteReply = new RequestVoteReply(WritableObjects.readLongBody(in, hdr),
-            (WritableObjects.longHeaderFlags(hdr) & VOTE_GRANTED) != 0);
+        final int flags = WritableObjects.longHeaderFlags(hdr);
+        final long term = WritableObjects.readLongBody(in, hdr);
+        requestVoteReply = new RequestVoteReply(term, (flags & VOTE_GRANTED) != 0, (flags & PRE_VOTE) != 0,
+            (flags & PRE_VOTE_ROUND) != 0 ? WritableObjects.readLong(in) : 0);
     }
 
     @java.io.Serial
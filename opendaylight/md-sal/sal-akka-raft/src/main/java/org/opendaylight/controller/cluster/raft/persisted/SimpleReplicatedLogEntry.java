@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.raft.persisted;
 
 import static java.util.Objects.requireNonNull;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.Serializable;
 import org.apache.commons.lang3.SerializationUtils;
 import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
@@ -29,6 +30,11 @@ public final class SimpleReplicatedLogEntry implements ReplicatedLogEntry, Seria
     private final long term;
     private final Payload payload;
     private boolean persistencePending;
+    // Whether the serialized form of the payload should be retained once it has been computed
+    private transient volatile boolean retainSerializedData;
+    // Serialized form of the payload, retained while we hold on to this entry. Access may race between the threads
+    // serializing AppendEntries messages, in which case the payload is serialized more than once, but to equal arrays.
+    private transient volatile byte[] serializedData;
 
     /**
      * Constructs an instance.
@@ -48,6 +54,29 @@ public final class SimpleReplicatedLogEntry implements ReplicatedLogEntry, Seria
         return payload;
     }
 
+    @Override
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Read-only by contract")
+    public byte[] getSerializedData() {
+        var local = serializedData;
+        if (local == null) {
+            local = SerializationUtils.serialize(payload);
+            if (retainSerializedData) {
+                serializedData = local;
+            }
+        }
+        return local;
+    }
+
+    @Override
+    public void retainSerializedData() {
+        retainSerializedData = true;
+    }
+
+    @Override
+    public boolean isSerializedDataRetained() {
+        return retainSerializedData;
+    }
+
     @Override
     public long getTerm() {
         return term;
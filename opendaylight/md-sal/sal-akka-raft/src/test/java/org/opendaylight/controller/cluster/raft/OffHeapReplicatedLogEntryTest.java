@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.opendaylight.controller.cluster.raft.MockRaftActorContext.MockPayload;
+import org.opendaylight.controller.cluster.raft.persisted.SimpleReplicatedLogEntry;
+
+/**
+ * Unit tests for {@link OffHeapReplicatedLogEntry}.
+ */
+public class OffHeapReplicatedLogEntryTest {
+    @Test
+    public void testEntriesShareChunks() {
+        final var first = new SimpleReplicatedLogEntry(0, 1, new MockPayload("first"));
+        final var second = new SimpleReplicatedLogEntry(1, 1, new MockPayload("second"));
+        final int firstSize = first.getSerializedData().length;
+        final var arena = new OffHeapEntryArena(firstSize + second.getSerializedData().length);
+
+        final var offHeapFirst = OffHeapReplicatedLogEntry.of(first, arena);
+        final var offHeapSecond = OffHeapReplicatedLogEntry.of(second, arena);
+        assertEquals("chunkCount", 1, arena.chunkCount());
+        assertEntry(first, offHeapFirst);
+        assertEntry(second, offHeapSecond);
+
+        // The next entry does not fit and starts a new chunk, the previous entries are unaffected
+        final var third = new SimpleReplicatedLogEntry(2, 2, new MockPayload("third"));
+        assertEntry(third, OffHeapReplicatedLogEntry.of(third, arena));
+        assertEquals("chunkCount", 2, arena.chunkCount());
+        assertEntry(first, offHeapFirst);
+        assertEntry(second, offHeapSecond);
+    }
+
+    @Test
+    public void testEntryLargerThanChunk() {
+        final var arena = new OffHeapEntryArena(16);
+        final var entry = new SimpleReplicatedLogEntry(0, 1, new MockPayload("larger than a chunk"));
+
+        assertEntry(entry, OffHeapReplicatedLogEntry.of(entry, arena));
+        assertEquals("chunkCount", 0, arena.chunkCount());
+    }
+
+    private static void assertEntry(final ReplicatedLogEntry expected, final ReplicatedLogEntry actual) {
+        assertEquals("getIndex", expected.getIndex(), actual.getIndex());
+        assertEquals("getTerm", expected.getTerm(), actual.getTerm());
+        assertEquals("size", expected.size(), actual.size());
+        assertEquals("serializedSize", expected.serializedSize(), actual.serializedSize());
+        assertArrayEquals("getSerializedData", expected.getSerializedData(), actual.getSerializedData());
+        assertEquals("getData", expected.getData(), actual.getData());
+    }
+}
@@ -17,10 +17,12 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
@@ -1400,4 +1402,82 @@ public class RaftActorTest extends AbstractActorTest {
         await("Persistence callback.").atMost(5, TimeUnit.SECONDS).until(() -> leaderActor.getState().size() == 100);
         executorService.shutdown();
     }
+
+    @Test
+    public void testBatchedApplyJournalEntries() {
+        final String leaderId = factory.generateActorId("leader-");
+
+        DefaultConfigParamsImpl config = new DefaultConfigParamsImpl();
+        config.setApplyJournalEntriesBatchSize(3);
+        config.setApplyJournalEntriesInterval(new FiniteDuration(1, TimeUnit.DAYS));
+
+        TestActorRef<MockRaftActor> leaderActorRef = factory.createTestActor(
+                MockRaftActor.props(leaderId, Map.of(), config), leaderId);
+        MockRaftActor leaderActor = leaderActorRef.underlyingActor();
+        leaderActor.waitUntilLeader();
+
+        final DataPersistenceProvider persistence = spy(new NonPersistentDataProvider(Runnable::run));
+        leaderActor.setPersistence(persistence);
+
+        // Simulate an entry which was recovered after the last persisted ApplyJournalEntries
+        leaderActor.getRaftActorContext().getReplicatedLog().append(
+                new SimpleReplicatedLogEntry(0, 1, new MockPayload("0")));
+
+        for (int i = 1; i <= 5; i++) {
+            leaderActor.persistData(leaderActorRef, new MockIdentifier(String.valueOf(i)),
+                    new MockPayload(String.valueOf(i)), false);
+        }
+
+        assertEquals("State size", 6, leaderActor.getState().size());
+        assertEquals("getLastApplied", 5, leaderActor.getRaftActorContext().getLastApplied());
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(persistence, atLeastOnce()).persistAsync(captor.capture(), any());
+        assertEquals("Persisted ApplyJournalEntries", List.of(2L, 5L), captor.getAllValues().stream()
+                .filter(ApplyJournalEntries.class::isInstance)
+                .map(entry -> ((ApplyJournalEntries) entry).getToIndex())
+                .toList());
+    }
+
+    @Test
+    public void testRecoveredEntriesAppliedWithoutFollowers() {
+        TEST_LOG.info("testRecoveredEntriesAppliedWithoutFollowers starting");
+
+        final TestKit kit = new TestKit(getSystem());
+        final String persistenceId = factory.generateActorId("leader-");
+
+        DefaultConfigParamsImpl config = new DefaultConfigParamsImpl();
+        config.setApplyJournalEntriesBatchSize(10);
+        config.setApplyJournalEntriesInterval(new FiniteDuration(1, TimeUnit.DAYS));
+
+        ActorRef leaderActor = factory.createActor(MockRaftActor.props(persistenceId, Map.of(), config),
+                persistenceId);
+        kit.watch(leaderActor);
+        leaderActor.tell(PoisonPill.getInstance(), null);
+        kit.expectMsgClass(Duration.ofSeconds(5), Terminated.class);
+        kit.unwatch(leaderActor);
+
+        // Entries 1 and 2 have been committed, but the actor stopped before their ApplyJournalEntries was persisted
+        long seqN = 1;
+        InMemoryJournal.addEntry(persistenceId, seqN++, new UpdateElectionTerm(1, persistenceId));
+        InMemoryJournal.addEntry(persistenceId, seqN++, new SimpleReplicatedLogEntry(0, 1,
+                new MockRaftActorContext.MockPayload("A")));
+        InMemoryJournal.addEntry(persistenceId, seqN++, new ApplyJournalEntries(0));
+        InMemoryJournal.addEntry(persistenceId, seqN++, new SimpleReplicatedLogEntry(1, 1,
+                new MockRaftActorContext.MockPayload("B")));
+        InMemoryJournal.addEntry(persistenceId, seqN++, new SimpleReplicatedLogEntry(2, 1,
+                new MockRaftActorContext.MockPayload("C")));
+
+        TestActorRef<MockRaftActor> ref = factory.createTestActor(MockRaftActor.props(persistenceId, Map.of(),
+                config));
+        MockRaftActor mockRaftActor = ref.underlyingActor();
+        mockRaftActor.waitUntilLeader();
+
+        // Nothing has been written, yet all entries are visible
+        assertEquals("getCommitIndex", 2, mockRaftActor.getRaftActorContext().getCommitIndex());
+        assertEquals("getLastApplied", 2, mockRaftActor.getRaftActorContext().getLastApplied());
+        assertEquals("getState", List.of(new MockRaftActorContext.MockPayload("A"),
+                new MockRaftActorContext.MockPayload("B"), new MockRaftActorContext.MockPayload("C")),
+                mockRaftActor.getState());
+    }
 }
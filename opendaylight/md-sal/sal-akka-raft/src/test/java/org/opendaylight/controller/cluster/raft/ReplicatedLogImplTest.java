@@ -8,6 +8,8 @@
 package org.opendaylight.controller.cluster.raft;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
@@ -206,6 +208,44 @@ public class ReplicatedLogImplTest {
         assertEquals(dataSizeAfterFirstPayload, log.dataSize());
     }
 
+    @Test
+    public void testAppliedEntriesMovedOffHeap() {
+        configParams.setReplicatedLogHeapEntries(1);
+        ReplicatedLog log = ReplicatedLogImpl.newInstance(context);
+
+        log.appendAndPersist(new SimpleReplicatedLogEntry(0, 1, new MockPayload("0")), null, true);
+        log.appendAndPersist(new SimpleReplicatedLogEntry(1, 1, new MockPayload("1")), null, true);
+        context.setLastApplied(1);
+        log.appendAndPersist(new SimpleReplicatedLogEntry(2, 1, new MockPayload("2")), null, true);
+
+        // Entries 0 and 1 have been applied and are not the most recent entry
+        ReplicatedLogEntry entry = log.get(1);
+        assertEquals(OffHeapReplicatedLogEntry.class, entry.getClass());
+        assertEquals("getIndex", 1, entry.getIndex());
+        assertEquals("getTerm", 1, entry.getTerm());
+        assertEquals("getData", new MockPayload("1"), entry.getData());
+        assertEquals(OffHeapReplicatedLogEntry.class, log.get(0).getClass());
+        assertEquals(SimpleReplicatedLogEntry.class, log.get(2).getClass());
+
+        assertEquals("size", 3, log.size());
+        assertEquals("dataSize", 3, log.dataSize());
+        assertEquals("getFrom", 3, log.getFrom(0).size());
+    }
+
+    @Test
+    public void testRetainSerializedLogEntries() {
+        ReplicatedLog log = ReplicatedLogImpl.newInstance(context);
+
+        log.appendAndPersist(new SimpleReplicatedLogEntry(0, 1, new MockPayload("0")), null, true);
+        ReplicatedLogEntry entry = log.get(0);
+        assertNotSame(entry.getSerializedData(), entry.getSerializedData());
+
+        configParams.setRetainSerializedLogEntries(true);
+        log.appendAndPersist(new SimpleReplicatedLogEntry(1, 1, new MockPayload("1")), null, true);
+        entry = log.get(1);
+        assertSame(entry.getSerializedData(), entry.getSerializedData());
+    }
+
     private static ArgumentMatcher<DeleteEntries> match(final DeleteEntries actual) {
         return other -> actual.getFromIndex() == other.getFromIndex();
     }
@@ -396,6 +396,10 @@ public class SnapshotManagerTest extends AbstractActorTest {
 
         assertEquals("state", snapshotState, sendInstallSnapshot.getSnapshot().getState());
         assertArrayEquals("state", snapshotState.getBytes(), sendInstallSnapshot.getSnapshotBytes().read());
+
+        // The leader still owns the stream once the snapshot has been persisted
+        snapshotManager.commit(100L, 1234L);
+        assertArrayEquals("state", snapshotState.getBytes(), sendInstallSnapshot.getSnapshotBytes().read());
     }
 
     @Test
@@ -9,6 +9,8 @@
 package org.opendaylight.controller.cluster.raft.behaviors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import akka.actor.ActorRef;
@@ -125,6 +127,107 @@ public class CandidateTest extends AbstractRaftActorBehaviorTest<Candidate> {
         assertEquals("Behavior", RaftState.Leader, candidate.state());
     }
 
+    @Test
+    public void testPreVoteInThreeNodeCluster() {
+        MockRaftActorContext raftActorContext = createActorContext();
+        ((DefaultConfigParamsImpl) raftActorContext.getConfigParams()).setPreVoteEnabled(true);
+        raftActorContext.setLastApplied(raftActorContext.getReplicatedLog().lastIndex());
+        raftActorContext.setPeerAddresses(setupPeers(2));
+        long term = raftActorContext.getTermInformation().getCurrentTerm();
+        candidate = new Candidate(raftActorContext);
+
+        // The pre-vote does not increment our term
+        assertEquals("getCurrentTerm", term, raftActorContext.getTermInformation().getCurrentTerm());
+        RequestVote preVote = MessageCollectorActor.expectFirstMatching(peerActors[0], RequestVote.class);
+        assertTrue("isPreVote", preVote.isPreVote());
+        assertEquals("getTerm", term + 1, preVote.getTerm());
+
+        // A rejection does not depose us, nor does a subsequent election timeout start an election
+        candidate = candidate.handleMessage(peerActors[0], new RequestVoteReply(term, false, true,
+            preVote.getPreVoteRound()));
+        MessageCollectorActor.clearMessages(peerActors[1]);
+        candidate = candidate.handleMessage(candidateActor, ElectionTimeout.INSTANCE);
+        assertEquals("Behavior", RaftState.Candidate, candidate.state());
+        assertEquals("getCurrentTerm", term, raftActorContext.getTermInformation().getCurrentTerm());
+        preVote = MessageCollectorActor.expectFirstMatching(peerActors[1], RequestVote.class);
+        assertTrue("isPreVote", preVote.isPreVote());
+        final long preVoteRound = preVote.getPreVoteRound();
+
+        // A majority of pre-votes starts the election
+        candidate = candidate.handleMessage(peerActors[1], new RequestVoteReply(term + 1, true, true, preVoteRound));
+        assertEquals("Behavior", RaftState.Candidate, candidate.state());
+        assertEquals("getCurrentTerm", term + 1, raftActorContext.getTermInformation().getCurrentTerm());
+        RequestVote requestVote = MessageCollectorActor.expectFirstMatching(peerActors[1], RequestVote.class,
+            msg -> !msg.isPreVote());
+        assertEquals("getTerm", term + 1, requestVote.getTerm());
+
+        // A late pre-vote grant does not count as a vote
+        candidate = candidate.handleMessage(peerActors[0], new RequestVoteReply(term + 1, true, true, preVoteRound));
+        assertEquals("Behavior", RaftState.Candidate, candidate.state());
+
+        candidate = candidate.handleMessage(peerActors[0], new RequestVoteReply(term + 1, true));
+        assertEquals("Behavior", RaftState.Leader, candidate.state());
+    }
+
+    @Test
+    public void testPreVoteIgnoresGrantsFromEarlierRounds() {
+        MockRaftActorContext raftActorContext = createActorContext();
+        ((DefaultConfigParamsImpl) raftActorContext.getConfigParams()).setPreVoteEnabled(true);
+        raftActorContext.setPeerAddresses(setupPeers(4));
+        long term = raftActorContext.getTermInformation().getCurrentTerm();
+        candidate = new Candidate(raftActorContext);
+
+        final long firstRound = MessageCollectorActor.expectFirstMatching(peerActors[0], RequestVote.class)
+            .getPreVoteRound();
+        candidate = candidate.handleMessage(peerActors[0], new RequestVoteReply(term + 1, true, true, firstRound));
+
+        MessageCollectorActor.clearMessages(peerActors[0]);
+        candidate = candidate.handleMessage(candidateActor, ElectionTimeout.INSTANCE);
+        final long secondRound = MessageCollectorActor.expectFirstMatching(peerActors[0], RequestVote.class)
+            .getPreVoteRound();
+        assertNotEquals("getPreVoteRound", firstRound, secondRound);
+
+        // A delayed grant from the first round does not count towards the second round
+        candidate = candidate.handleMessage(peerActors[1], new RequestVoteReply(term + 1, true, true, firstRound));
+        candidate = candidate.handleMessage(peerActors[0], new RequestVoteReply(term + 1, true, true, secondRound));
+        assertEquals("Behavior", RaftState.Candidate, candidate.state());
+        assertEquals("getCurrentTerm", term, raftActorContext.getTermInformation().getCurrentTerm());
+
+        candidate = candidate.handleMessage(peerActors[1], new RequestVoteReply(term + 1, true, true, secondRound));
+        assertEquals("getCurrentTerm", term + 1, raftActorContext.getTermInformation().getCurrentTerm());
+    }
+
+    @Test
+    public void testDuplicateVotesAreCountedOnce() {
+        MockRaftActorContext raftActorContext = createActorContext();
+        raftActorContext.setLastApplied(raftActorContext.getReplicatedLog().lastIndex());
+        raftActorContext.setPeerAddresses(setupPeers(4));
+        candidate = new Candidate(raftActorContext);
+
+        candidate = candidate.handleMessage(peerActors[0], new RequestVoteReply(1, true));
+        candidate = candidate.handleMessage(peerActors[0], new RequestVoteReply(1, true));
+        assertEquals("Behavior", RaftState.Candidate, candidate.state());
+
+        candidate = candidate.handleMessage(peerActors[1], new RequestVoteReply(1, true));
+        assertEquals("Behavior", RaftState.Leader, candidate.state());
+    }
+
+    @Test
+    public void testLeadershipTransferElection() {
+        MockRaftActorContext raftActorContext = createActorContext();
+        raftActorContext.setPeerAddresses(setupPeers(2));
+        candidate = new Candidate(raftActorContext, false, true);
+
+        RequestVote requestVote = MessageCollectorActor.expectFirstMatching(peerActors[0], RequestVote.class);
+        assertTrue("isLeadershipTransfer", requestVote.isLeadershipTransfer());
+
+        // Subsequent elections are not part of the transfer
+        MessageCollectorActor.clearMessages(peerActors[0]);
+        candidate = candidate.handleMessage(candidateActor, ElectionTimeout.INSTANCE);
+        requestVote = MessageCollectorActor.expectFirstMatching(peerActors[0], RequestVote.class);
+        assertFalse("isLeadershipTransfer", requestVote.isLeadershipTransfer());
+    }
+
     @Test
     public void testBecomePreLeaderOnReceivingMajorityVotesInThreeNodeCluster() {
         MockRaftActorContext raftActorContext = createActorContext();
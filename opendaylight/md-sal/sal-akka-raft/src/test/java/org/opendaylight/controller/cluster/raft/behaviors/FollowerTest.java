@@ -29,9 +29,11 @@ import com.google.common.base.Stopwatch;
 import com.google.common.io.ByteSource;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.After;
@@ -207,6 +209,113 @@ public class FollowerTest extends AbstractRaftActorBehaviorTest<Follower> {
     }
 
 
+    @Test
+    public void testHandleRequestVoteWhileLeaderLeaseIsProtected() {
+        logStart("testHandleRequestVoteWhileLeaderLeaseIsProtected");
+
+        MockRaftActorContext context = createActorContext();
+        ((DefaultConfigParamsImpl)context.getConfigParams()).setLeaderLeaseEnabled(true);
+        long term = 1000;
+        context.getTermInformation().update(term, "leader");
+
+        follower = createBehavior(context);
+
+        follower.handleMessage(leaderActor, new AppendEntries(term, "leader", -1, -1, List.of(), -1, -1, (short) 1));
+        follower.handleMessage(leaderActor, new RequestVote(term + 1, "candidate", 10000, 999));
+
+        RequestVoteReply reply = MessageCollectorActor.expectFirstMatching(leaderActor, RequestVoteReply.class);
+
+        assertEquals("isVoteGranted", false, reply.isVoteGranted());
+        assertEquals("getTerm", term, reply.getTerm());
+        assertEquals("getCurrentTerm", term, context.getTermInformation().getCurrentTerm());
+        assertEquals("getLeaderId", "leader", follower.getLeaderId());
+    }
+
+    @Test
+    public void testHandleRequestVoteAfterStartWhileLeaderLeaseIsEnabled() {
+        logStart("testHandleRequestVoteAfterStartWhileLeaderLeaseIsEnabled");
+
+        MockRaftActorContext context = createActorContext();
+        ((DefaultConfigParamsImpl)context.getConfigParams()).setLeaderLeaseEnabled(true);
+        ((DefaultConfigParamsImpl)context.getConfigParams()).setHeartBeatInterval(
+            new FiniteDuration(100, TimeUnit.MILLISECONDS));
+        ((DefaultConfigParamsImpl)context.getConfigParams()).setElectionTimeoutFactor(2);
+        long term = 1000;
+        context.getTermInformation().update(term, null);
+
+        follower = createBehavior(context);
+
+        // We do not know the leader yet, but it may still hold a lease we acknowledged before we started
+        follower.handleMessage(leaderActor, new RequestVote(term + 1, "candidate", 10000, 999));
+
+        RequestVoteReply reply = MessageCollectorActor.expectFirstMatching(leaderActor, RequestVoteReply.class);
+        assertEquals("isVoteGranted", false, reply.isVoteGranted());
+        assertEquals("getCurrentTerm", term, context.getTermInformation().getCurrentTerm());
+
+        // Once an election timeout has passed, the lease has expired
+        Uninterruptibles.sleepUninterruptibly(context.getConfigParams().getElectionTimeOutInterval().toMillis(),
+            TimeUnit.MILLISECONDS);
+        MessageCollectorActor.clearMessages(leaderActor);
+        follower.handleMessage(leaderActor, new RequestVote(term + 1, "candidate", 10000, 999));
+
+        reply = MessageCollectorActor.expectFirstMatching(leaderActor, RequestVoteReply.class);
+        assertEquals("isVoteGranted", true, reply.isVoteGranted());
+        assertEquals("getCurrentTerm", term + 1, context.getTermInformation().getCurrentTerm());
+    }
+
+    @Test
+    public void testHandleLeadershipTransferRequestVoteWhileLeaderLeaseIsProtected() {
+        logStart("testHandleLeadershipTransferRequestVoteWhileLeaderLeaseIsProtected");
+
+        MockRaftActorContext context = createActorContext();
+        ((DefaultConfigParamsImpl)context.getConfigParams()).setLeaderLeaseEnabled(true);
+        long term = 1000;
+        context.getTermInformation().update(term, "leader");
+
+        follower = createBehavior(context);
+
+        follower.handleMessage(leaderActor, new AppendEntries(term, "leader", -1, -1, List.of(), -1, -1, (short) 1));
+        follower.handleMessage(leaderActor, new RequestVote(term + 1, "candidate", 10000, 999, false, 0, true));
+
+        RequestVoteReply reply = MessageCollectorActor.expectFirstMatching(leaderActor, RequestVoteReply.class);
+        assertEquals("isVoteGranted", true, reply.isVoteGranted());
+        assertEquals("getTerm", term + 1, reply.getTerm());
+        assertEquals("getVotedFor", "candidate", context.getTermInformation().getVotedFor());
+    }
+
+    @Test
+    public void testHandlePreVote() {
+        logStart("testHandlePreVote");
+
+        MockRaftActorContext context = createActorContext();
+        long term = 1000;
+        context.getTermInformation().update(term, null);
+
+        follower = createBehavior(context);
+
+        // Granted as we have no leader, without affecting our term or vote
+        follower.handleMessage(leaderActor, new RequestVote(term + 1, "candidate", 10000, 999, true));
+
+        RequestVoteReply reply = MessageCollectorActor.expectFirstMatching(leaderActor, RequestVoteReply.class);
+        assertEquals("isVoteGranted", true, reply.isVoteGranted());
+        assertEquals("isPreVote", true, reply.isPreVote());
+        assertEquals("getTerm", term + 1, reply.getTerm());
+        assertEquals("getCurrentTerm", term, context.getTermInformation().getCurrentTerm());
+        assertEquals("getVotedFor", null, context.getTermInformation().getVotedFor());
+
+        // Rejected while we are hearing from a leader
+        MessageCollectorActor.clearMessages(leaderActor);
+        follower.handleMessage(leaderActor, new AppendEntries(term, "leader", -1, -1, List.of(), -1, -1, (short) 1));
+        follower.handleMessage(leaderActor, new RequestVote(term + 1, "candidate", 10000, 999, true));
+
+        reply = MessageCollectorActor.expectFirstMatching(leaderActor, RequestVoteReply.class);
+        assertEquals("isVoteGranted", false, reply.isVoteGranted());
+        assertEquals("isPreVote", true, reply.isPreVote());
+        assertEquals("getTerm", term, reply.getTerm());
+        assertEquals("getCurrentTerm", term, context.getTermInformation().getCurrentTerm());
+        assertEquals("getLeaderId", "leader", follower.getLeaderId());
+    }
+
     @Test
     public void testHandleFirstAppendEntries() {
         logStart("testHandleFirstAppendEntries");
@@ -1018,6 +1127,38 @@ public class FollowerTest extends AbstractRaftActorBehaviorTest<Follower> {
         assertNull("Expected null SnapshotTracker", follower.getSnapshotTracker());
     }
 
+    @Test
+    public void testHandleWindowedInstallSnapshot() {
+        logStart("testHandleWindowedInstallSnapshot");
+
+        // The follower's own window setting is 1, the leader's window is what counts
+        MockRaftActorContext context = createActorContext();
+        context.getTermInformation().update(1, "leader");
+
+        follower = createBehavior(context);
+
+        ByteString bsSnapshot = createSnapshot();
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, getNextChunk(bsSnapshot, 50, 50),
+            2, 3, OptionalInt.of(Arrays.hashCode(getNextChunk(bsSnapshot, 0, 50))), Optional.empty(), 2,
+            RaftVersions.CURRENT_VERSION));
+
+        InstallSnapshotReply reply = MessageCollectorActor.expectFirstMatching(leaderActor,
+                InstallSnapshotReply.class);
+        assertEquals("isSuccess", true, reply.isSuccess());
+        assertEquals("getChunkIndex", 0, reply.getChunkIndex());
+        assertNotNull("Expected SnapshotTracker", follower.getSnapshotTracker());
+
+        MessageCollectorActor.clearMessages(leaderActor);
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, getNextChunk(bsSnapshot, 0, 50),
+            1, 3, OptionalInt.of(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE), Optional.empty(), 2,
+            RaftVersions.CURRENT_VERSION));
+
+        // Both chunks are acknowledged at once
+        reply = MessageCollectorActor.expectFirstMatching(leaderActor, InstallSnapshotReply.class);
+        assertEquals("isSuccess", true, reply.isSuccess());
+        assertEquals("getChunkIndex", 2, reply.getChunkIndex());
+    }
+
     @Test
     public void testFollowerSchedulesElectionTimeoutImmediatelyWhenItHasNoPeers() {
         MockRaftActorContext context = createActorContext();
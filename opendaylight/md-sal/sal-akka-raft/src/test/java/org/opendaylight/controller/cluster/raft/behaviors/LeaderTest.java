@@ -397,6 +397,79 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         assertEquals("The number of request entries collected", 7, allMessages.size());
     }
 
+    @Test
+    public void testPipelinedAppendEntries() {
+        logStart("testPipelinedAppendEntries");
+
+        MockRaftActorContext actorContext = createActorContextWithFollower();
+        DefaultConfigParamsImpl configParams = new DefaultConfigParamsImpl() {
+            @Override
+            public FiniteDuration getHeartBeatInterval() {
+                return FiniteDuration.apply(5, TimeUnit.SECONDS);
+            }
+        };
+        configParams.setMaximumEntriesInFlight(3);
+        actorContext.setConfigParams(configParams);
+
+        long term = 1;
+        actorContext.getTermInformation().update(term, "");
+
+        leader = new Leader(actorContext);
+
+        // Leader will send an immediate heartbeat - ignore it.
+        MessageCollectorActor.expectFirstMatching(followerActor, AppendEntries.class);
+
+        // The follower would normally reply - simulate that explicitly here.
+        long lastIndex = actorContext.getReplicatedLog().lastIndex();
+        leader.handleMessage(followerActor, new AppendEntriesReply(
+                FOLLOWER_ID, term, true, lastIndex, term, (short)0));
+
+        followerActor.underlyingActor().clear();
+
+        for (int i = 0; i < 5; i++) {
+            sendReplicate(actorContext, lastIndex + i + 1);
+        }
+
+        // The first 3 entries are sent without waiting for replies, after which only a single empty AppendEntries is
+        // sent until the follower replies.
+        List<AppendEntries> allMessages = MessageCollectorActor.getAllMatching(followerActor, AppendEntries.class);
+        assertEquals("The number of append entries collected", 4, allMessages.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("getPrevLogIndex", lastIndex + i, allMessages.get(i).getPrevLogIndex());
+            assertEquals("Entries size", 1, allMessages.get(i).getEntries().size());
+            assertEquals("Entry getIndex", lastIndex + i + 1, allMessages.get(i).getEntries().get(0).getIndex());
+        }
+        assertEquals("Entries size", 0, allMessages.get(3).getEntries().size());
+
+        FollowerLogInformation followerInfo = leader.getFollower(FOLLOWER_ID);
+        assertEquals("getNextIndex", lastIndex + 4, followerInfo.getNextIndex());
+        assertEquals("getEntriesInFlight", 3, followerInfo.getEntriesInFlight());
+
+        // Acknowledging some of the entries makes room for the remaining ones, the entries still in flight are not
+        // sent again.
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new AppendEntriesReply(
+                FOLLOWER_ID, term, true, lastIndex + 2, term, (short)0));
+
+        AppendEntries appendEntries = MessageCollectorActor.expectFirstMatching(followerActor, AppendEntries.class);
+        assertEquals("getPrevLogIndex", lastIndex + 3, appendEntries.getPrevLogIndex());
+        assertEquals("Entries size", 2, appendEntries.getEntries().size());
+        assertEquals("First entry index", lastIndex + 4, appendEntries.getEntries().get(0).getIndex());
+        assertEquals("getNextIndex", lastIndex + 6, followerInfo.getNextIndex());
+        assertEquals("getMatchIndex", lastIndex + 2, followerInfo.getMatchIndex());
+
+        // The follower has lost the last batch, hence the leader goes back to sending it again.
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new AppendEntriesReply(
+                FOLLOWER_ID, term, false, lastIndex + 3, term, (short)0));
+
+        appendEntries = MessageCollectorActor.expectFirstMatching(followerActor, AppendEntries.class);
+        assertEquals("getPrevLogIndex", lastIndex + 3, appendEntries.getPrevLogIndex());
+        assertEquals("Entries size", 2, appendEntries.getEntries().size());
+        assertEquals("First entry index", lastIndex + 4, appendEntries.getEntries().get(0).getIndex());
+        assertEquals("getMatchIndex", lastIndex + 3, followerInfo.getMatchIndex());
+    }
+
     private static void assertCommitEntry(final long lastIndex, final List<AppendEntries> allMessages,
             final int messageNr) {
         final AppendEntries commitReq = allMessages.get(2 * messageNr + 1);
@@ -1205,6 +1278,122 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         assertEquals(OptionalInt.of(hashCode), installSnapshot.getLastChunkHashCode());
     }
 
+    @Test
+    public void testSendSnapshotWindow() {
+        logStart("testSendSnapshotWindow");
+
+        final MockRaftActorContext actorContext = createActorContextWithFollower();
+        final InstallSnapshot[] window = startWindowedInstallSnapshot(actorContext, new FiniteDuration(50,
+            TimeUnit.MILLISECONDS), 100000);
+        assertEquals(3, window[0].getTotalChunks());
+
+        // Acknowledging the first chunk makes room for the last one
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm(actorContext), FOLLOWER_ID, 1, true));
+
+        final InstallSnapshot last = MessageCollectorActor.expectFirstMatching(followerActor, InstallSnapshot.class);
+        assertEquals(3, last.getChunkIndex());
+        assertEquals(2, last.getWindow());
+        assertEquals(OptionalInt.of(Arrays.hashCode(window[1].getData())), last.getLastChunkHashCode());
+
+        // A duplicate acknowledgement does not send anything
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm(actorContext), FOLLOWER_ID, 1, true));
+        MessageCollectorActor.assertNoneMatching(followerActor, InstallSnapshot.class, 200);
+
+        // Acknowledgements are cumulative, the last chunk completes the snapshot
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm(actorContext), FOLLOWER_ID, 3, true));
+
+        final FollowerLogInformation followerInfo = leader.getFollower(FOLLOWER_ID);
+        assertNull(followerInfo.getInstallSnapshotState());
+        assertEquals(actorContext.getCommitIndex(), followerInfo.getMatchIndex());
+        assertEquals(actorContext.getCommitIndex() + 1, followerInfo.getNextIndex());
+    }
+
+    @Test
+    public void testResendSnapshotWindowChunk() {
+        logStart("testResendSnapshotWindowChunk");
+
+        final MockRaftActorContext actorContext = createActorContextWithFollower();
+        startWindowedInstallSnapshot(actorContext, new FiniteDuration(100, TimeUnit.MILLISECONDS), 1);
+
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm(actorContext), FOLLOWER_ID, 1, true));
+        assertEquals(3, MessageCollectorActor.expectFirstMatching(followerActor, InstallSnapshot.class)
+            .getChunkIndex());
+
+        // Let the oldest chunk in flight time out, only that chunk is sent again
+        followerActor.underlyingActor().clear();
+        Uninterruptibles.sleepUninterruptibly(1500, TimeUnit.MILLISECONDS);
+        leader.getFollower(FOLLOWER_ID).markFollowerActive();
+        leader.handleMessage(leaderActor, SendHeartBeat.INSTANCE);
+
+        final InstallSnapshot resent = MessageCollectorActor.expectFirstMatching(followerActor, InstallSnapshot.class);
+        assertEquals(2, resent.getChunkIndex());
+        assertEquals(1, MessageCollectorActor.getAllMatching(followerActor, InstallSnapshot.class).size());
+
+        // A failed reply restarts the transfer from the first chunk
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm(actorContext), FOLLOWER_ID, -1,
+            false));
+
+        final List<InstallSnapshot> restarted = MessageCollectorActor.expectMatching(followerActor,
+            InstallSnapshot.class, 2);
+        assertEquals(1, restarted.get(0).getChunkIndex());
+        assertEquals(2, restarted.get(1).getChunkIndex());
+    }
+
+    private InstallSnapshot[] startWindowedInstallSnapshot(final MockRaftActorContext actorContext,
+            final FiniteDuration heartbeatInterval, final int electionTimeoutFactor) {
+        final int commitIndex = 3;
+        final int snapshotTerm = 1;
+
+        final DefaultConfigParamsImpl configParams = new DefaultConfigParamsImpl() {
+            @Override
+            public int getSnapshotChunkSize() {
+                return 50;
+            }
+        };
+        configParams.setHeartBeatInterval(heartbeatInterval);
+        configParams.setElectionTimeoutFactor(electionTimeoutFactor);
+        configParams.setSnapshotChunkWindow(2);
+        actorContext.setConfigParams(configParams);
+        actorContext.setCommitIndex(commitIndex);
+
+        leader = new Leader(actorContext);
+        actorContext.setCurrentBehavior(leader);
+
+        final FollowerLogInformation followerInfo = leader.getFollower(FOLLOWER_ID);
+        followerInfo.setRaftVersion(RaftVersions.POTASSIUM_VERSION);
+        followerInfo.setMatchIndex(-1);
+        followerInfo.setNextIndex(0);
+
+        actorContext.getReplicatedLog().setSnapshotIndex(2);
+        actorContext.getReplicatedLog().setSnapshotTerm(snapshotTerm);
+        actorContext.getTermInformation().update(2, leaderActor.path().toString());
+
+        final ByteString bs = toByteString(Map.of("1", "A", "2", "B", "3", "C"));
+        final Snapshot snapshot = Snapshot.create(ByteState.of(bs.toByteArray()),
+                List.of(), commitIndex, snapshotTerm, commitIndex, snapshotTerm, -1, null, null);
+
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(leaderActor, new SendInstallSnapshot(snapshot, ByteSource.wrap(bs.toByteArray())));
+
+        // The leader sends a full window of chunks without waiting for acknowledgements, telling the follower about
+        // the window
+        final List<InstallSnapshot> sent = MessageCollectorActor.expectMatching(followerActor, InstallSnapshot.class,
+            2);
+        for (int i = 0; i < sent.size(); ++i) {
+            assertEquals(i + 1, sent.get(i).getChunkIndex());
+            assertEquals(2, sent.get(i).getWindow());
+        }
+        return sent.toArray(new InstallSnapshot[0]);
+    }
+
+    private static long currentTerm(final MockRaftActorContext actorContext) {
+        return actorContext.getTermInformation().getCurrentTerm();
+    }
+
     @Test
     public void testLeaderInstallSnapshotState() throws IOException {
         logStart("testLeaderInstallSnapshotState");
@@ -1911,6 +2100,68 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         assertTrue("Expected Leader", newBehavior instanceof Leader);
     }
 
+    @Test
+    public void testLeaderLease() {
+        logStart("testLeaderLease");
+
+        ActorRef followerActor1 = actorFactory.createActor(MessageCollectorActor.props(),
+            actorFactory.generateActorId("follower"));
+        ActorRef followerActor2 = actorFactory.createActor(MessageCollectorActor.props(),
+            actorFactory.generateActorId("follower"));
+
+        MockRaftActorContext leaderActorContext = createActorContext();
+        leaderActorContext.setPeerAddresses(Map.of("follower-1", followerActor1.path().toString(),
+            "follower-2", followerActor2.path().toString()));
+        ((DefaultConfigParamsImpl)leaderActorContext.getConfigParams()).setLeaderLeaseEnabled(true);
+
+        int term = 1;
+        leaderActorContext.getTermInformation().update(term, "");
+        leaderActorContext.setReplicatedLog(new MockRaftActorContext.MockReplicatedLogBuilder()
+            .createEntries(0, 1, term).build());
+        leaderActorContext.setCommitIndex(-1);
+        leaderActorContext.setLastApplied(-1);
+
+        leader = new Leader(leaderActorContext);
+        final long sendNanos = System.nanoTime();
+        leader.handleMessage(followerActor1, leaseReply("follower-1", term, sendNanos));
+        leader.handleMessage(followerActor2, leaseReply("follower-2", term, sendNanos));
+
+        // No entry from the current term has been committed yet
+        assertFalse(leader.hasLeaderLease());
+
+        leaderActorContext.setCommitIndex(0);
+        assertTrue(leader.hasLeaderLease());
+
+        // A single follower out of two is still a majority, even if the other acknowledges a later message with an
+        // unknown send time. An earlier acknowledgement, which may arrive out of order, does not shorten the lease.
+        leader.handleMessage(followerActor1, leaseReply("follower-1", term, AppendEntriesReply.UNKNOWN_SEND_NANOS));
+        leader.handleMessage(followerActor2, leaseReply("follower-2", term, sendNanos - 1));
+        assertTrue(leader.hasLeaderLease());
+
+        // The lease is timed from when the acknowledged messages were sent, not from when they were acknowledged
+        leader = new Leader(leaderActorContext);
+        final long expiredNanos = System.nanoTime()
+            - leaderActorContext.getConfigParams().getElectionTimeOutInterval().toNanos();
+        leader.handleMessage(followerActor1, leaseReply("follower-1", term, expiredNanos));
+        leader.handleMessage(followerActor2, leaseReply("follower-2", term, expiredNanos));
+        assertFalse(leader.hasLeaderLease());
+
+        // Followers which do not report send times do not count towards a lease
+        leader = new Leader(leaderActorContext);
+        leader.handleMessage(followerActor1, leaseReply("follower-1", term, AppendEntriesReply.UNKNOWN_SEND_NANOS));
+        leader.handleMessage(followerActor2, leaseReply("follower-2", term, AppendEntriesReply.UNKNOWN_SEND_NANOS));
+        assertFalse(leader.hasLeaderLease());
+
+        ((DefaultConfigParamsImpl)leaderActorContext.getConfigParams()).setLeaderLeaseEnabled(false);
+        leader.handleMessage(followerActor1, leaseReply("follower-1", term, System.nanoTime()));
+        assertFalse(leader.hasLeaderLease());
+    }
+
+    private static AppendEntriesReply leaseReply(final String followerId, final long term, final long sendNanos) {
+        return new AppendEntriesReply(followerId, term, true, -1, -1, (short) 0, false, false,
+            RaftVersions.CURRENT_VERSION, sendNanos);
+    }
+
     private RaftActorBehavior setupIsolatedLeaderCheckTestWithTwoFollowers(final RaftPolicy raftPolicy) {
         ActorRef followerActor1 = getSystem().actorOf(MessageCollectorActor.props(), "follower-1");
         ActorRef followerActor2 = getSystem().actorOf(MessageCollectorActor.props(), "follower-2");
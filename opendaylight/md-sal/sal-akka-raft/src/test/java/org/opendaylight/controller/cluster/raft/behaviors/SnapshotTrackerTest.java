@@ -8,6 +8,8 @@
 package org.opendaylight.controller.cluster.raft.behaviors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -76,6 +78,39 @@ public class SnapshotTrackerTest {
         verify(fbos).cleanup();
     }
 
+    @Test
+    public void testAddChunksOutOfOrder() throws IOException {
+        try (SnapshotTracker tracker = new SnapshotTracker(LOG, 3, 3, "leader", mockContext)) {
+            assertFalse(tracker.addChunk(3, chunk3, OptionalInt.of(Arrays.hashCode(chunk2))));
+            assertEquals(0, tracker.getLastChunkIndex());
+            assertFalse(tracker.addChunk(1, chunk1,
+                OptionalInt.of(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE)));
+            assertEquals(1, tracker.getLastChunkIndex());
+
+            // Duplicate is ignored
+            assertFalse(tracker.addChunk(1, chunk1,
+                OptionalInt.of(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE)));
+            assertEquals(1, tracker.getLastChunkIndex());
+
+            assertTrue(tracker.addChunk(2, chunk2, OptionalInt.of(Arrays.hashCode(chunk1))));
+            assertEquals(3, tracker.getLastChunkIndex());
+
+            ByteSource snapshotBytes = tracker.getSnapshotBytes();
+            assertEquals("Deserialized", data, SerializationUtils.deserialize(snapshotBytes.read()));
+        }
+    }
+
+    @Test
+    public void testChunkBeyondWindow() throws IOException {
+        try (SnapshotTracker tracker = new SnapshotTracker(LOG, 3, 2, "leader", mockContext)) {
+            assertFalse(tracker.addChunk(3, chunk3, OptionalInt.empty()));
+            assertFalse(tracker.addChunk(1, chunk1, OptionalInt.empty()));
+            assertFalse(tracker.addChunk(2, chunk2, OptionalInt.empty()));
+            assertEquals(2, tracker.getLastChunkIndex());
+            assertTrue(tracker.addChunk(3, chunk3, OptionalInt.empty()));
+        }
+    }
+
     @Test(expected = SnapshotTracker.InvalidChunkException.class)
     public void testAddChunkWhenAlreadySealed() throws IOException {
         try (SnapshotTracker tracker = new SnapshotTracker(LOG, 2, "leader", mockContext)) {
@@ -20,14 +20,30 @@ import org.opendaylight.controller.cluster.raft.RaftVersions;
  */
 public class AppendEntriesReplyTest {
     @Test
-    public void testSerialization() {
+    public void testArgonSerialization() {
         final var expected = new AppendEntriesReply("follower", 5, true, 100, 4, (short)6, true, true,
-            RaftVersions.CURRENT_VERSION);
+            RaftVersions.ARGON_VERSION, 1234L);
 
         final var bytes = SerializationUtils.serialize(expected);
         assertEquals(98, bytes.length);
         final var cloned = (AppendEntriesReply) SerializationUtils.deserialize(bytes);
 
+        verifyAppendEntriesReply(expected, cloned);
+        assertEquals("getLeaderSendNanos", AppendEntriesReply.UNKNOWN_SEND_NANOS, cloned.getLeaderSendNanos());
+    }
+
+    @Test
+    public void testPotassiumSerialization() {
+        final var expected = new AppendEntriesReply("follower", 5, true, 100, 4, (short)6, true, true,
+            RaftVersions.POTASSIUM_VERSION, 1234L);
+
+        final var cloned = (AppendEntriesReply) SerializationUtils.deserialize(SerializationUtils.serialize(expected));
+
+        verifyAppendEntriesReply(expected, cloned);
+        assertEquals("getLeaderSendNanos", 1234L, cloned.getLeaderSendNanos());
+    }
+
+    private static void verifyAppendEntriesReply(final AppendEntriesReply expected, final AppendEntriesReply cloned) {
         assertEquals("getTerm", expected.getTerm(), cloned.getTerm());
         assertEquals("getFollowerId", expected.getFollowerId(), cloned.getFollowerId());
         assertEquals("getLogLastTerm", expected.getLogLastTerm(), cloned.getLogLastTerm());
@@ -7,7 +7,12 @@
  */
 package org.opendaylight.controller.cluster.raft.messages;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Iterator;
 import java.util.List;
@@ -25,7 +30,7 @@ import org.opendaylight.controller.cluster.raft.persisted.SimpleReplicatedLogEnt
  */
 public class AppendEntriesTest {
     @Test
-    public void testSerialization() {
+    public void testArgonSerialization() {
         ReplicatedLogEntry entry1 = new SimpleReplicatedLogEntry(1, 2, new MockPayload("payload1"));
 
         ReplicatedLogEntry entry2 = new SimpleReplicatedLogEntry(3, 4, new MockPayload("payload2"));
@@ -35,7 +40,7 @@ public class AppendEntriesTest {
         // Without leader address
 
         var expected = new AppendEntries(5L, "node1", 7L, 8L, List.of(entry1, entry2), 10L, -1, payloadVersion,
-            RaftVersions.CURRENT_VERSION, null);
+            RaftVersions.ARGON_VERSION, null);
 
         var bytes = SerializationUtils.serialize(expected);
         assertEquals(285, bytes.length);
@@ -46,13 +51,46 @@ public class AppendEntriesTest {
         // With leader address
 
         expected = new AppendEntries(5L, "node1", 7L, 8L, List.of(entry1, entry2), 10L, -1, payloadVersion,
-            RaftVersions.CURRENT_VERSION, "leader address");
+            RaftVersions.ARGON_VERSION, "leader address");
 
         bytes = SerializationUtils.serialize(expected);
         assertEquals(301, bytes.length);
         cloned = (AppendEntries) SerializationUtils.deserialize(bytes);
 
-        verifyAppendEntries(expected, cloned, RaftVersions.CURRENT_VERSION);
+        verifyAppendEntries(expected, cloned, RaftVersions.ARGON_VERSION);
+        assertEquals("getSendNanos", AppendEntriesReply.UNKNOWN_SEND_NANOS, cloned.getSendNanos());
+    }
+
+    @Test
+    public void testPotassiumSerialization() {
+        ReplicatedLogEntry entry1 = new SimpleReplicatedLogEntry(1, 2, new MockPayload("payload1"));
+        entry1.retainSerializedData();
+
+        ReplicatedLogEntry entry2 = new SimpleReplicatedLogEntry(3, 4, new MockPayload("payload2"));
+
+        var expected = new AppendEntries(5L, "node1", 7L, 8L, List.of(entry1, entry2), 10L, -1, (short) 5,
+            RaftVersions.POTASSIUM_VERSION, "leader address");
+
+        // The first payload is copied from its serialized form, the second one is written inline
+        assertTrue(entry1.isSerializedDataRetained());
+        assertFalse(entry2.isSerializedDataRetained());
+
+        var cloned = (AppendEntries) SerializationUtils.deserialize(SerializationUtils.serialize(expected));
+        verifyAppendEntries(expected, cloned, RaftVersions.POTASSIUM_VERSION);
+        assertEquals("getSendNanos", expected.getSendNanos(), cloned.getSendNanos());
+
+        // Serialized payloads are retained by entries asked to do so and reused for subsequent messages
+        final byte[] data = entry1.getSerializedData();
+        assertSame(data, entry1.getSerializedData());
+
+        // Other entries are serialized each time
+        final byte[] data2 = entry2.getSerializedData();
+        assertNotSame(data2, entry2.getSerializedData());
+        assertArrayEquals(data2, entry2.getSerializedData());
+
+        cloned = (AppendEntries) SerializationUtils.deserialize(SerializationUtils.serialize(expected));
+        verifyAppendEntries(expected, cloned, RaftVersions.POTASSIUM_VERSION);
+        assertSame(data, entry1.getSerializedData());
     }
 
     private static void verifyAppendEntries(final AppendEntries expected, final AppendEntries actual,
@@ -35,6 +35,17 @@ public class InstallSnapshotTest {
         testSerialization(RaftVersions.FLUORINE_VERSION, 1302, 1165);
     }
 
+    @Test
+    public void testWindowSerialization() {
+        final var expected = new InstallSnapshot(3L, "leaderId", 11L, 2L, new byte[1000], 5, 6, OptionalInt.empty(),
+            Optional.empty(), 8, RaftVersions.CURRENT_VERSION);
+        final var bytes = SerializationUtils.serialize(expected);
+        assertEquals(1129, bytes.length);
+        final var actual = (InstallSnapshot) SerializationUtils.deserialize(bytes);
+        verifyInstallSnapshot(expected, actual);
+        assertEquals(8, actual.getWindow());
+    }
+
     private static void testSerialization(final short raftVersion, final int fullSize, final int emptySize) {
         byte[] data = new byte[1000];
         for (int i = 0, j = 0; i < data.length; i++) {
@@ -68,6 +79,7 @@ public class InstallSnapshotTest {
         assertEquals("getLeaderId", expected.getLeaderId(), actual.getLeaderId());
         assertEquals("getChunkIndex", expected.getChunkIndex(), actual.getChunkIndex());
         assertArrayEquals("getData", expected.getData(), actual.getData());
+        assertEquals("getWindow", expected.getWindow(), actual.getWindow());
 
         assertEquals("getLastChunkHashCode present", expected.getLastChunkHashCode().isPresent(),
                 actual.getLastChunkHashCode().isPresent());
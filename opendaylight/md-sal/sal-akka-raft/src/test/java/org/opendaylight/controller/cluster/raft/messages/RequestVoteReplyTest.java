@@ -27,5 +27,19 @@ public class RequestVoteReplyTest {
 
         assertEquals("getTerm", expected.getTerm(), cloned.getTerm());
         assertEquals("isVoteGranted", expected.isVoteGranted(), cloned.isVoteGranted());
+        assertEquals("isPreVote", false, cloned.isPreVote());
+    }
+
+    @Test
+    public void testPreVoteSerialization() {
+        final var expected = new RequestVoteReply(5, true, true, 7);
+        final var bytes = SerializationUtils.serialize(expected);
+        assertEquals(80, bytes.length);
+        final var cloned = (RequestVoteReply) SerializationUtils.deserialize(bytes);
+
+        assertEquals("getTerm", expected.getTerm(), cloned.getTerm());
+        assertEquals("isVoteGranted", true, cloned.isVoteGranted());
+        assertEquals("isPreVote", true, cloned.isPreVote());
+        assertEquals("getPreVoteRound", 7, cloned.getPreVoteRound());
     }
 }
@@ -29,5 +29,31 @@ public class RequestVoteTest {
         assertEquals("getCandidateId", expected.getCandidateId(), cloned.getCandidateId());
         assertEquals("getLastLogIndex", expected.getLastLogIndex(), cloned.getLastLogIndex());
         assertEquals("getLastLogTerm", expected.getLastLogTerm(), cloned.getLastLogTerm());
+        assertEquals("isPreVote", false, cloned.isPreVote());
+    }
+
+    @Test
+    public void testPreVoteSerialization() {
+        final var expected = new RequestVote(4, "candidateId", 3, 2, true, 7);
+        final var bytes = SerializationUtils.serialize(expected);
+        assertEquals(99, bytes.length);
+        final var cloned = (RequestVote) SerializationUtils.deserialize(bytes);
+
+        assertEquals("getTerm", expected.getTerm(), cloned.getTerm());
+        assertEquals("getCandidateId", expected.getCandidateId(), cloned.getCandidateId());
+        assertEquals("isPreVote", true, cloned.isPreVote());
+        assertEquals("getPreVoteRound", 7, cloned.getPreVoteRound());
+    }
+
+    @Test
+    public void testLeadershipTransferSerialization() {
+        final var expected = new RequestVote(4, "candidateId", 3, 2, false, 0, true);
+        final var bytes = SerializationUtils.serialize(expected);
+        assertEquals(97, bytes.length);
+        final var cloned = (RequestVote) SerializationUtils.deserialize(bytes);
+
+        assertEquals("getTerm", expected.getTerm(), cloned.getTerm());
+        assertEquals("isPreVote", false, cloned.isPreVote());
+        assertEquals("isLeadershipTransfer", true, cloned.isLeadershipTransfer());
     }
 }
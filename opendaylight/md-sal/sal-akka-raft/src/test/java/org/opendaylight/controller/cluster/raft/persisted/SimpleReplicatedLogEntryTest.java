@@ -7,7 +7,10 @@
  */
 package org.opendaylight.controller.cluster.raft.persisted;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Test;
@@ -30,4 +33,22 @@ public class SimpleReplicatedLogEntryTest {
         assertEquals("getIndex", expected.getIndex(), cloned.getIndex());
         assertEquals("getData", expected.getData(), cloned.getData());
     }
+
+    @Test
+    public void testRetainSerializedData() {
+        final var entry = new SimpleReplicatedLogEntry(0, 1, new MockRaftActorContext.MockPayload("A"));
+        final byte[] data = entry.getSerializedData();
+        assertArrayEquals(SerializationUtils.serialize(entry.getData()), data);
+        assertNotSame(data, entry.getSerializedData());
+
+        entry.retainSerializedData();
+        final byte[] retained = entry.getSerializedData();
+        assertArrayEquals(data, retained);
+        assertSame(retained, entry.getSerializedData());
+
+        // Not carried over by serialization
+        final var cloned = (SimpleReplicatedLogEntry) SerializationUtils.deserialize(
+            SerializationUtils.serialize(entry));
+        assertNotSame(cloned.getSerializedData(), cloned.getSerializedData());
+    }
 }
@@ -9,26 +9,114 @@ package org.opendaylight.controller.akka.segjournal;
 
 import static java.util.Objects.requireNonNull;
 
+import akka.persistence.PersistentRepr;
 import com.codahale.metrics.Histogram;
+import io.atomix.storage.journal.JournalSegment;
+import io.atomix.storage.journal.JournalSegmentFile;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.ReplayMessages;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.WriteMessages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Abstraction of a data journal. This provides a unified interface towards {@link SegmentedJournalActor}, allowing
  * specialization for various formats.
+ *
+ * <p>
+ * Replay is normally performed serially on the journal actor thread. If a replay {@link Executor} is provided,
+ * implementations can use {@link #handleParallelReplay(ReplayMessages, long, long, long, ChunkReader)}, which splits
+ * the journal into chunks of at most {@value #REPLAY_CHUNK_SIZE} segmented file entries. These are read, checked and
+ * deserialized concurrently, each with its own reader, while at most {@code replayPrefetch} entries are kept in
+ * flight ahead of the actor, which passes them to the replay callback in order. Chunks are made smaller if
+ * {@code replayPrefetch} is less than {@value #REPLAY_CHUNK_SIZE}, so that the bound is honored.
  */
 abstract class DataJournal {
+    /**
+     * Entries read by a replay worker.
+     *
+     * @param reprs Entries read, in sequence number order
+     * @param largestSize Size of the largest segmented file entry the entries were read from
+     * @param complete {@code true} if the chunk has been read up to its last index
+     */
+    record ReplayChunk(List<PersistentRepr> reprs, int largestSize, boolean complete) {
+        // Nothing else
+    }
+
+    /**
+     * Reader of a chunk of segmented file entries, invoked on a replay worker thread.
+     */
+    @FunctionalInterface
+    interface ChunkReader {
+        /**
+         * Read the entries in specified range.
+         *
+         * @param start Index of the first segmented file entry
+         * @param end Index of the last segmented file entry
+         * @return Entries read
+         */
+        ReplayChunk readChunk(long start, long end);
+    }
+
+    static final int REPLAY_CHUNK_SIZE = 512;
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataJournal.class);
+
     // Mirrors fields from associated actor
     final @NonNull String persistenceId;
     private final Histogram messageSize;
+    final @Nullable Executor replayExecutor;
+    private final int replayChunkSize;
+    private final int replayWindow;
 
     // Tracks largest message size we have observed either during recovery or during write
     private int largestObservedSize;
 
-    DataJournal(final String persistenceId, final Histogram messageSize) {
+    DataJournal(final String persistenceId, final Histogram messageSize, final @Nullable Executor replayExecutor,
+            final int replayPrefetch) {
         this.persistenceId = requireNonNull(persistenceId);
         this.messageSize = requireNonNull(messageSize);
+        this.replayExecutor = replayExecutor;
+        replayChunkSize = Math.max(1, Math.min(REPLAY_CHUNK_SIZE, replayPrefetch));
+        replayWindow = Math.max(1, replayPrefetch / replayChunkSize);
+    }
+
+    /**
+     * Check whether a directory contains any segment files of a particular journal.
+     *
+     * @param directory Journal directory
+     * @param name Journal name
+     * @return {@code true} if there are segment files present
+     */
+    static boolean hasSegmentFiles(final File directory, final String name) {
+        final File[] files = directory.listFiles(file -> JournalSegmentFile.isSegmentFile(name, file));
+        return files != null && files.length != 0;
+    }
+
+    /**
+     * Delete all segment files of a particular journal. The journal must not be open.
+     *
+     * @param directory Journal directory
+     * @param name Journal name
+     * @throws IOException if a file cannot be deleted
+     */
+    static void deleteSegmentFiles(final File directory, final String name) throws IOException {
+        final File[] files = directory.listFiles(file -> JournalSegmentFile.isSegmentFile(name, file));
+        if (files != null) {
+            for (File file : files) {
+                Files.delete(file.toPath());
+            }
+        }
     }
 
     final void recordMessageSize(final int size) {
@@ -42,6 +130,102 @@ abstract class DataJournal {
         }
     }
 
+    /**
+     * Replay entries read in chunks by {@link #replayExecutor}. Entries outside of the requested range are skipped.
+     * Replay stops once {@link ReplayMessages#max} entries have been replayed, or after a chunk which has not been
+     * read completely.
+     *
+     * @param message Request message
+     * @param fromSequenceNr Sequence number to replay from, adjusted for deletions
+     * @param firstIndex Index of the first segmented file entry to read
+     * @param lastIndex Index of the last segmented file entry to read
+     * @param reader Reader of chunks
+     */
+    @SuppressWarnings("checkstyle:illegalCatch")
+    final void handleParallelReplay(final ReplayMessages message, final long fromSequenceNr, final long firstIndex,
+            final long lastIndex, final ChunkReader reader) {
+        final Executor executor = requireNonNull(replayExecutor);
+        final Deque<CompletableFuture<ReplayChunk>> chunks = new ArrayDeque<>(replayWindow);
+        long nextChunk = firstIndex;
+        int count = 0;
+        try {
+            while (count < message.max) {
+                // Keep the prefetch window full
+                while (chunks.size() < replayWindow && nextChunk <= lastIndex) {
+                    final long start = nextChunk;
+                    final long end = Long.min(lastIndex, start + replayChunkSize - 1);
+                    chunks.add(CompletableFuture.supplyAsync(() -> reader.readChunk(start, end), executor));
+                    nextChunk = end + 1;
+                }
+
+                final var future = chunks.poll();
+                if (future == null) {
+                    break;
+                }
+
+                final ReplayChunk chunk = future.get();
+                updateLargestSize(chunk.largestSize());
+                count = replayEntries(message, fromSequenceNr, chunk.reprs(), count);
+                if (!chunk.complete()) {
+                    // A short chunk: the journal ends there, do not skip over the gap
+                    LOG.warn("{}: replay encountered end of journal after {} entries", persistenceId, count);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failReplay(message, e, chunks);
+            return;
+        } catch (ExecutionException e) {
+            failReplay(message, e.getCause(), chunks);
+            return;
+        } catch (RuntimeException e) {
+            failReplay(message, e, chunks);
+            return;
+        }
+
+        // Do not leave workers behind if we have hit the limit
+        awaitChunks(chunks);
+        LOG.debug("{}: successfully replayed {} entries", persistenceId, count);
+        message.promise.success(null);
+    }
+
+    /**
+     * Pass entries within the requested range to the replay callback, up to the requested maximum.
+     *
+     * @param message Request message
+     * @param fromSequenceNr Sequence number to replay from, adjusted for deletions
+     * @param reprs Entries to replay
+     * @param count Number of entries replayed so far
+     * @return Number of entries replayed, including those replayed by this call
+     */
+    final int replayEntries(final ReplayMessages message, final long fromSequenceNr,
+            final List<PersistentRepr> reprs, final int count) {
+        int ret = count;
+        for (PersistentRepr repr : reprs) {
+            final long sequenceNr = repr.sequenceNr();
+            if (sequenceNr >= fromSequenceNr && sequenceNr <= message.toSequenceNr && ret < message.max) {
+                LOG.debug("{}: replaying {}", persistenceId, repr);
+                message.replayCallback.accept(repr);
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    private void failReplay(final ReplayMessages message, final Throwable cause,
+            final Deque<CompletableFuture<ReplayChunk>> chunks) {
+        LOG.warn("{}: failed to replay messages for {}", persistenceId, message, cause);
+        awaitChunks(chunks);
+        message.promise.failure(cause);
+    }
+
+    // Make sure no worker is touching the journal once we return to the actor
+    private static void awaitChunks(final Deque<CompletableFuture<ReplayChunk>> chunks) {
+        chunks.forEach(chunk -> chunk.handle((result, failure) -> null).join());
+        chunks.clear();
+    }
+
     /**
      * Return the last sequence number completely written to the journal.
      *
@@ -57,11 +241,13 @@ abstract class DataJournal {
     abstract void deleteTo(long sequenceNr);
 
     /**
-     * Delete all messages up to specified sequence number.
+     * Delete all messages up to specified sequence number. Segments which contain only deleted messages are detached
+     * from this journal and returned, so that they can be retired by the caller.
      *
      * @param sequenceNr Sequence number to compact to.
+     * @return Detached segments, which need to be closed and deleted
      */
-    abstract void compactTo(long sequenceNr);
+    abstract List<? extends JournalSegment<?>> compactTo(long sequenceNr);
 
     /**
      * Close this journal, freeing up resources associated with it.
@@ -77,10 +263,16 @@ abstract class DataJournal {
     abstract void handleReplayMessages(@NonNull ReplayMessages message, long fromSequenceNr);
 
     /**
-     * Handle a request to store some messages.
+     * Handle a request to store some messages. Requests which fail are completed immediately, successful requests are
+     * completed by the caller once it has invoked {@link #flush()}.
      *
      * @param message Request message
      * @return number of bytes written
      */
     abstract long handleWriteMessages(@NonNull WriteMessages message);
+
+    /**
+     * Flush all messages written so far to persistent storage.
+     */
+    abstract void flush();
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.akka.segjournal;
+
+import static java.util.Objects.requireNonNull;
+
+import akka.actor.ExtendedActorSystem;
+import akka.persistence.PersistentRepr;
+import akka.serialization.JavaSerializer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A single record in a {@link DataJournalV1}, holding a batch of consecutive journal entries. As with
+ * {@link DataJournalEntry}, we do not store {@code persistenceId}, as that is a journal-invariant. Since a record can
+ * hold any number of entries, including none, we store the sequence number of its first entry.
+ */
+abstract class DataJournalRecord {
+    /**
+     * A batch of entries on its way to the backing file.
+     */
+    static final class ToPersistence extends DataJournalRecord {
+        private final List<PersistentRepr> reprs;
+
+        ToPersistence(final long firstSequenceNr, final List<PersistentRepr> reprs) {
+            super(firstSequenceNr);
+            this.reprs = requireNonNull(reprs);
+        }
+
+        List<PersistentRepr> reprs() {
+            return reprs;
+        }
+
+        @Override
+        int size() {
+            return reprs.size();
+        }
+    }
+
+    /**
+     * A batch of entries on its way from the backing file. Payloads are kept in their serialized form until they are
+     * requested through {@link #toReprs(String)}, so that locating a record does not incur the cost of deserializing
+     * them.
+     */
+    static final class FromPersistence extends DataJournalRecord {
+        private final ExtendedActorSystem actorSystem;
+        private final String[] manifests;
+        private final String[] writerUuids;
+        private final byte[] payloads;
+
+        FromPersistence(final ExtendedActorSystem actorSystem, final long firstSequenceNr, final String[] manifests,
+                final String[] writerUuids, final byte[] payloads) {
+            super(firstSequenceNr);
+            this.actorSystem = requireNonNull(actorSystem);
+            this.manifests = requireNonNull(manifests);
+            this.writerUuids = requireNonNull(writerUuids);
+            this.payloads = requireNonNull(payloads);
+        }
+
+        @Override
+        int size() {
+            return manifests.length;
+        }
+
+        List<PersistentRepr> toReprs(final String persistenceId) {
+            return JavaSerializer.currentSystem().withValue(actorSystem,
+                (Callable<List<PersistentRepr>>) () -> readReprs(persistenceId));
+        }
+
+        private List<PersistentRepr> readReprs(final String persistenceId) throws IOException, ClassNotFoundException {
+            final List<PersistentRepr> ret = new ArrayList<>(manifests.length);
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(payloads))) {
+                for (int i = 0; i < manifests.length; ++i) {
+                    ret.add(PersistentRepr.apply(ois.readObject(), firstSequenceNr() + i, persistenceId,
+                        manifests[i], false, null, writerUuids[i]));
+                }
+            }
+            return ret;
+        }
+    }
+
+    private final long firstSequenceNr;
+
+    DataJournalRecord(final long firstSequenceNr) {
+        this.firstSequenceNr = firstSequenceNr;
+    }
+
+    /**
+     * Return the sequence number of the first entry in this record.
+     *
+     * @return First sequence number
+     */
+    final long firstSequenceNr() {
+        return firstSequenceNr;
+    }
+
+    /**
+     * Return the sequence number of the last entry in this record. For an empty record this is the sequence number
+     * preceding {@link #firstSequenceNr()}.
+     *
+     * @return Last sequence number
+     */
+    final long lastSequenceNr() {
+        return firstSequenceNr + size() - 1;
+    }
+
+    /**
+     * Return the number of entries in this record.
+     *
+     * @return Number of entries
+     */
+    abstract int size();
+}
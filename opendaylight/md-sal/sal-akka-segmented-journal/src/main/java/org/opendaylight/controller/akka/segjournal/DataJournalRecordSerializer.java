@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.akka.segjournal;
+
+import static com.google.common.base.Verify.verify;
+import static java.util.Objects.requireNonNull;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.persistence.PersistentRepr;
+import io.atomix.storage.journal.JournalSerdes.EntryInput;
+import io.atomix.storage.journal.JournalSerdes.EntryOutput;
+import io.atomix.storage.journal.JournalSerdes.EntrySerdes;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendaylight.controller.akka.segjournal.DataJournalRecord.FromPersistence;
+import org.opendaylight.controller.akka.segjournal.DataJournalRecord.ToPersistence;
+
+/**
+ * Kryo serializer for {@link DataJournalRecord}. Like {@link DataJournalEntrySerializer}, this class is asymmetric by
+ * design: {@link #write(EntryOutput, DataJournalRecord)} only accepts {@link ToPersistence}, while
+ * {@link #read(EntryInput)} produces a {@link FromPersistence}.
+ *
+ * <p>
+ * The format of a record is as follows:
+ * <ul>
+ *     <li>64-bit sequence number of the first entry</li>
+ *     <li>variable-length number of entries</li>
+ *     <li>variable-length number of dictionary strings, followed by the strings themselves</li>
+ *     <li>variable-length dictionary references to the manifest and writer UUID of each entry</li>
+ *     <li>variable-length size of the payloads, followed by the payloads of all entries, written to a single Java
+ *         serialization stream</li>
+ * </ul>
+ * Sharing the dictionary and the serialization stream means that strings and class descriptors are stored only once
+ * for all entries in a record.
+ */
+final class DataJournalRecordSerializer implements EntrySerdes<DataJournalRecord> {
+    private final ExtendedActorSystem actorSystem;
+
+    DataJournalRecordSerializer(final ActorSystem actorSystem) {
+        this.actorSystem = requireNonNull((ExtendedActorSystem) actorSystem);
+    }
+
+    @Override
+    public void write(final EntryOutput output, final DataJournalRecord record) throws IOException {
+        verify(record instanceof ToPersistence);
+        final List<PersistentRepr> reprs = ((ToPersistence) record).reprs();
+        final int size = reprs.size();
+
+        output.writeLong(record.firstSequenceNr());
+        output.writeVarInt(size);
+
+        // Entries in a batch typically share the same manifest and writer UUID, hence we store them only once
+        final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        final int[] refs = new int[size * 2];
+        for (int i = 0; i < size; ++i) {
+            final PersistentRepr repr = reprs.get(i);
+            refs[i * 2] = dictionaryRef(dictionary, repr.manifest());
+            refs[i * 2 + 1] = dictionaryRef(dictionary, repr.writerUuid());
+        }
+
+        output.writeVarInt(dictionary.size());
+        for (String str : dictionary.keySet()) {
+            output.writeString(str);
+        }
+        for (int ref : refs) {
+            output.writeVarInt(ref);
+        }
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            for (PersistentRepr repr : reprs) {
+                oos.writeObject(repr.payload());
+            }
+        }
+        final byte[] payloads = bos.toByteArray();
+        output.writeVarInt(payloads.length);
+        output.writeBytes(payloads);
+    }
+
+    @Override
+    public DataJournalRecord read(final EntryInput input) throws IOException {
+        final long firstSequenceNr = input.readLong();
+        final int size = input.readVarInt();
+
+        final String[] strings = new String[input.readVarInt()];
+        for (int i = 0; i < strings.length; ++i) {
+            strings[i] = input.readString();
+        }
+
+        final String[] manifests = new String[size];
+        final String[] writerUuids = new String[size];
+        for (int i = 0; i < size; ++i) {
+            manifests[i] = strings[input.readVarInt()];
+            writerUuids[i] = strings[input.readVarInt()];
+        }
+
+        final byte[] payloads = input.readBytes(input.readVarInt());
+        return new FromPersistence(actorSystem, firstSequenceNr, manifests, writerUuids, payloads);
+    }
+
+    private static int dictionaryRef(final Map<String, Integer> dictionary, final String str) {
+        final Integer existing = dictionary.get(str);
+        if (existing != null) {
+            return existing;
+        }
+        final int ref = dictionary.size();
+        dictionary.put(str, ref);
+        return ref;
+    }
+}
@@ -14,6 +14,7 @@ import akka.persistence.AtomicWrite;
 import akka.persistence.PersistentRepr;
 import com.codahale.metrics.Histogram;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegment;
 import io.atomix.storage.journal.JournalSerdes;
 import io.atomix.storage.journal.SegmentedJournal;
 import io.atomix.storage.journal.SegmentedJournalReader;
@@ -21,7 +22,10 @@ import io.atomix.storage.journal.SegmentedJournalWriter;
 import io.atomix.storage.journal.StorageLevel;
 import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.akka.segjournal.DataJournalEntry.FromPersistence;
 import org.opendaylight.controller.akka.segjournal.DataJournalEntry.ToPersistence;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.ReplayMessages;
@@ -33,18 +37,25 @@ import scala.jdk.javaapi.CollectionConverters;
 /**
  * Version 0 data journal, where every journal entry maps to exactly one segmented file entry.
  *
+ * <p>
+ * New journals are created in the {@link DataJournalV1} format. Existing journals in this format keep being used by
+ * {@link SegmentedJournalActor}, unless it has been configured to migrate them.
+ *
  * @author Robert Varga
  */
 final class DataJournalV0 extends DataJournal {
+    static final String NAME = "data";
+
     private static final Logger LOG = LoggerFactory.getLogger(DataJournalV0.class);
 
     private final SegmentedJournal<DataJournalEntry> entries;
 
     DataJournalV0(final String persistenceId, final Histogram messageSize, final ActorSystem system,
-            final StorageLevel storage, final File directory, final int maxEntrySize, final int maxSegmentSize) {
-        super(persistenceId, messageSize);
+            final StorageLevel storage, final File directory, final int maxEntrySize, final int maxSegmentSize,
+            final @Nullable Executor replayExecutor, final int replayPrefetch) {
+        super(persistenceId, messageSize, replayExecutor, replayPrefetch);
         entries = SegmentedJournal.<DataJournalEntry>builder()
-                .withStorageLevel(storage).withDirectory(directory).withName("data")
+                .withStorageLevel(storage).withDirectory(directory).withName(NAME)
                 .withNamespace(JournalSerdes.builder()
                     .register(new DataJournalEntrySerializer(system), FromPersistence.class, ToPersistence.class)
                     .build())
@@ -63,8 +74,8 @@ final class DataJournalV0 extends DataJournal {
     }
 
     @Override
-    void compactTo(final long sequenceNr) {
-        entries.compact(sequenceNr + 1);
+    List<JournalSegment<DataJournalEntry>> compactTo(final long sequenceNr) {
+        return entries.detachSegments(sequenceNr + 1);
     }
 
     @Override
@@ -73,8 +84,16 @@ final class DataJournalV0 extends DataJournal {
     }
 
     @Override
-    @SuppressWarnings("checkstyle:illegalCatch")
     void handleReplayMessages(final ReplayMessages message, final long fromSequenceNr) {
+        if (replayExecutor != null) {
+            handleParallelReplay(message, fromSequenceNr);
+        } else {
+            handleSerialReplay(message, fromSequenceNr);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private void handleSerialReplay(final ReplayMessages message, final long fromSequenceNr) {
         try (SegmentedJournalReader<DataJournalEntry> reader = entries.openReader(fromSequenceNr)) {
             int count = 0;
             while (reader.hasNext() && count < message.max) {
@@ -102,6 +121,34 @@ final class DataJournalV0 extends DataJournal {
         }
     }
 
+    private void handleParallelReplay(final ReplayMessages message, final long fromSequenceNr) {
+        // Determine the last index we are going to replay, taking care not to overflow
+        long toSequenceNr = Long.min(message.toSequenceNr, lastWrittenSequenceNr());
+        if (toSequenceNr - fromSequenceNr >= message.max) {
+            toSequenceNr = fromSequenceNr + message.max - 1;
+        }
+
+        handleParallelReplay(message, fromSequenceNr, fromSequenceNr, toSequenceNr, this::readChunk);
+    }
+
+    private ReplayChunk readChunk(final long start, final long end) {
+        final List<PersistentRepr> reprs = new ArrayList<>((int) (end - start + 1));
+        int largestSize = 0;
+        long lastIndex = start - 1;
+        try (SegmentedJournalReader<DataJournalEntry> reader = entries.openReader(start)) {
+            while (reader.getNextIndex() <= end && reader.hasNext()) {
+                final Indexed<DataJournalEntry> next = reader.next();
+                LOG.trace("{}: replay {}", persistenceId, next);
+                final DataJournalEntry entry = next.entry();
+                verify(entry instanceof FromPersistence, "Unexpected entry %s", entry);
+                largestSize = Math.max(largestSize, next.size());
+                lastIndex = next.index();
+                reprs.add(((FromPersistence) entry).toRepr(persistenceId, lastIndex));
+            }
+        }
+        return new ReplayChunk(reprs, largestSize, lastIndex == end);
+    }
+
     @Override
     @SuppressWarnings("checkstyle:illegalCatch")
     long handleWriteMessages(final WriteMessages message) {
@@ -121,15 +168,16 @@ final class DataJournalV0 extends DataJournal {
                 LOG.warn("{}: failed to write out request {}/{} reverting to {}", persistenceId, i, count, mark, e);
                 message.setFailure(i, e);
                 writer.truncate(mark);
-                continue;
             }
-
-            message.setSuccess(i);
         }
-        writer.flush();
         return bytes;
     }
 
+    @Override
+    void flush() {
+        entries.writer().flush();
+    }
+
     private long writePayload(final SegmentedJournalWriter<DataJournalEntry> writer, final List<PersistentRepr> reprs) {
         long bytes = 0;
         for (PersistentRepr repr : reprs) {
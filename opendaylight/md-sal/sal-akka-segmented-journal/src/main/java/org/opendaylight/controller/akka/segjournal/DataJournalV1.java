@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.akka.segjournal;
+
+import static com.google.common.base.Verify.verify;
+
+import akka.actor.ActorSystem;
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import com.codahale.metrics.Histogram;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegment;
+import io.atomix.storage.journal.JournalSerdes;
+import io.atomix.storage.journal.SegmentedJournal;
+import io.atomix.storage.journal.SegmentedJournalReader;
+import io.atomix.storage.journal.SegmentedJournalWriter;
+import io.atomix.storage.journal.StorageException;
+import io.atomix.storage.journal.StorageLevel;
+import java.io.File;
+import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.akka.segjournal.DataJournalRecord.FromPersistence;
+import org.opendaylight.controller.akka.segjournal.DataJournalRecord.ToPersistence;
+import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.ReplayMessages;
+import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.WriteMessages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Version 1 data journal, where every {@link AtomicWrite} maps to a single segmented file entry, a
+ * {@link DataJournalRecord}. This amortizes the per-entry framing, checksum and string overheads of
+ * {@link DataJournalV0} across all messages in a write, and issues a single append for each of them.
+ *
+ * <p>
+ * Since segmented file indices no longer correspond to sequence numbers, each record carries the sequence number of
+ * its first entry. Records are located by a binary search over the first records of each segment, followed by a scan
+ * of the matching segment. This scan is cheap, as payloads are deserialized only when they are replayed.
+ *
+ * <p>
+ * A version 0 journal can be imported through {@link #migrateFrom(DataJournalV0, long)}, which writes each of its live
+ * entries as a separate record.
+ */
+final class DataJournalV1 extends DataJournal {
+    static final String NAME = "journal";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataJournalV1.class);
+
+    private final SegmentedJournal<DataJournalRecord> records;
+
+    // Sequence number of the last entry written
+    private long lastSequenceNr;
+    // Last deleted sequence number and the index of the first record containing live entries
+    private long deletedSequenceNr;
+    private long firstLiveIndex;
+
+    DataJournalV1(final String persistenceId, final Histogram messageSize, final ActorSystem system,
+            final StorageLevel storage, final File directory, final int maxEntrySize, final int maxSegmentSize,
+            final boolean indexFiles, final int segmentPoolSize, final boolean crc32cChecksums,
+            final @Nullable Executor replayExecutor, final int replayPrefetch) {
+        super(persistenceId, messageSize, replayExecutor, replayPrefetch);
+        records = SegmentedJournal.<DataJournalRecord>builder()
+                .withStorageLevel(storage).withDirectory(directory).withName(NAME)
+                .withNamespace(JournalSerdes.builder()
+                    .register(new DataJournalRecordSerializer(system), FromPersistence.class, ToPersistence.class)
+                    .build())
+                .withMaxEntrySize(maxEntrySize).withMaxSegmentSize(maxSegmentSize)
+                .withIndexFiles(indexFiles).withSegmentPool(segmentPoolSize).withCrc32cChecksums(crc32cChecksums)
+                .build();
+
+        final Indexed<DataJournalRecord> lastEntry = records.writer().getLastEntry();
+        lastSequenceNr = lastEntry == null ? 0 : lastEntry.entry().lastSequenceNr();
+        firstLiveIndex = records.segments().iterator().next().index();
+    }
+
+    @Override
+    long lastWrittenSequenceNr() {
+        return lastSequenceNr;
+    }
+
+    @Override
+    void deleteTo(final long sequenceNr) {
+        final long index = findRecord(sequenceNr + 1);
+        deletedSequenceNr = sequenceNr;
+        firstLiveIndex = index;
+        records.writer().commit(index - 1);
+    }
+
+    @Override
+    List<JournalSegment<DataJournalRecord>> compactTo(final long sequenceNr) {
+        return records.detachSegments(sequenceNr == deletedSequenceNr ? firstLiveIndex : findRecord(sequenceNr + 1));
+    }
+
+    @Override
+    void close() {
+        records.close();
+    }
+
+    /**
+     * Import live entries from a version 0 journal into this, empty, journal.
+     *
+     * @param source Version 0 journal
+     * @param lastDelete Last deleted sequence number in the source journal
+     */
+    void migrateFrom(final DataJournalV0 source, final long lastDelete) {
+        final SegmentedJournalWriter<DataJournalRecord> writer = records.writer();
+        verify(writer.getLastEntry() == null, "Journal %s is not empty", persistenceId);
+
+        lastSequenceNr = lastDelete;
+        final ReplayMessages replay = new ReplayMessages(lastDelete + 1, Long.MAX_VALUE, Long.MAX_VALUE,
+            repr -> appendRecord(writer, repr.sequenceNr(), List.of(repr)));
+        source.handleReplayMessages(replay, lastDelete + 1);
+        // Serial replay completes synchronously, this throws if it has failed
+        replay.promise.future().value().get().get();
+
+        final long sourceSequenceNr = source.lastWrittenSequenceNr();
+        if (writer.getLastEntry() == null && sourceSequenceNr != 0) {
+            // All entries have been deleted, retain the last sequence number through an empty record
+            appendRecord(writer, sourceSequenceNr + 1, List.of());
+        }
+        LOG.info("{}: migrated entries {} to {}", persistenceId, lastDelete + 1, lastSequenceNr);
+    }
+
+    @Override
+    void handleReplayMessages(final ReplayMessages message, final long fromSequenceNr) {
+        if (replayExecutor != null) {
+            handleParallelReplay(message, fromSequenceNr);
+        } else {
+            handleSerialReplay(message, fromSequenceNr);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private void handleSerialReplay(final ReplayMessages message, final long fromSequenceNr) {
+        int count = 0;
+        try (SegmentedJournalReader<DataJournalRecord> reader = records.openReader(findRecord(fromSequenceNr))) {
+            while (reader.hasNext() && count < message.max) {
+                final Indexed<DataJournalRecord> next = reader.next();
+                LOG.trace("{}: replay {}", persistenceId, next);
+                updateLargestSize(next.size());
+                final DataJournalRecord record = next.entry();
+                verify(record instanceof FromPersistence, "Unexpected record %s", record);
+                if (record.firstSequenceNr() > message.toSequenceNr) {
+                    break;
+                }
+
+                count = replayEntries(message, fromSequenceNr, ((FromPersistence) record).toReprs(persistenceId),
+                    count);
+            }
+        } catch (Exception e) {
+            LOG.warn("{}: failed to replay messages for {}", persistenceId, message, e);
+            message.promise.failure(e);
+            return;
+        }
+
+        LOG.debug("{}: successfully replayed {} entries", persistenceId, count);
+        message.promise.success(null);
+    }
+
+    private void handleParallelReplay(final ReplayMessages message, final long fromSequenceNr) {
+        // Determine the last record we are going to replay
+        final long lastIndex = message.toSequenceNr < lastSequenceNr ? findRecord(message.toSequenceNr)
+            : records.writer().getLastIndex();
+        handleParallelReplay(message, fromSequenceNr, findRecord(fromSequenceNr), lastIndex,
+            (start, end) -> readChunk(start, end, fromSequenceNr, message.toSequenceNr));
+    }
+
+    private ReplayChunk readChunk(final long start, final long end, final long fromSequenceNr,
+            final long toSequenceNr) {
+        final List<PersistentRepr> reprs = new ArrayList<>();
+        int largestSize = 0;
+        try (SegmentedJournalReader<DataJournalRecord> reader = records.openReader(start)) {
+            while (reader.getNextIndex() <= end && reader.hasNext()) {
+                final Indexed<DataJournalRecord> next = reader.next();
+                LOG.trace("{}: replay {}", persistenceId, next);
+                final DataJournalRecord record = next.entry();
+                verify(record instanceof FromPersistence, "Unexpected record %s", record);
+                if (record.firstSequenceNr() > toSequenceNr) {
+                    break;
+                }
+                if (record.lastSequenceNr() >= fromSequenceNr) {
+                    largestSize = Math.max(largestSize, next.size());
+                    reprs.addAll(((FromPersistence) record).toReprs(persistenceId));
+                }
+            }
+        }
+        // Records beyond the requested range are not needed, hence the chunk is always complete
+        return new ReplayChunk(reprs, largestSize, true);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:illegalCatch")
+    long handleWriteMessages(final WriteMessages message) {
+        final int count = message.size();
+        final SegmentedJournalWriter<DataJournalRecord> writer = records.writer();
+        long bytes = 0;
+
+        for (int i = 0; i < count; ++i) {
+            final long mark = writer.getLastIndex();
+            final long markSequenceNr = lastSequenceNr;
+            final AtomicWrite request = message.getRequest(i);
+
+            final List<PersistentRepr> reprs = CollectionConverters.asJava(request.payload());
+            LOG.trace("{}: append {}/{}: {} items at mark {}", persistenceId, i, count, reprs.size(), mark);
+            try {
+                bytes += writePayload(writer, reprs);
+            } catch (Exception e) {
+                LOG.warn("{}: failed to write out request {}/{} reverting to {}", persistenceId, i, count, mark, e);
+                message.setFailure(i, e);
+                writer.truncate(mark);
+                lastSequenceNr = markSequenceNr;
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    void flush() {
+        records.writer().flush();
+    }
+
+    private long writePayload(final SegmentedJournalWriter<DataJournalRecord> writer,
+            final List<PersistentRepr> reprs) {
+        for (PersistentRepr repr : reprs) {
+            final Object payload = repr.payload();
+            if (!(payload instanceof Serializable)) {
+                throw new UnsupportedOperationException("Non-serializable payload encountered "
+                        + payload.getClass());
+            }
+        }
+
+        try {
+            return appendRecord(writer, lastSequenceNr + 1, reprs);
+        } catch (StorageException.TooLarge | BufferOverflowException e) {
+            if (reprs.size() == 1) {
+                throw e;
+            }
+
+            // The batch does not fit into a single record, fall back to writing each entry separately
+            LOG.debug("{}: splitting {} entries into separate records", persistenceId, reprs.size(), e);
+            long bytes = 0;
+            for (PersistentRepr repr : reprs) {
+                bytes += appendRecord(writer, lastSequenceNr + 1, List.of(repr));
+            }
+            return bytes;
+        }
+    }
+
+    private int appendRecord(final SegmentedJournalWriter<DataJournalRecord> writer, final long firstSequenceNr,
+            final List<PersistentRepr> reprs) {
+        LOG.trace("{}: starting append of {} entries at {}", persistenceId, reprs.size(), firstSequenceNr);
+        final var entry = writer.append(new ToPersistence(firstSequenceNr, reprs));
+        final int size = entry.size();
+        LOG.trace("{}: finished append of {} bytes at {}", persistenceId, size, entry.index());
+        recordMessageSize(size);
+        lastSequenceNr = entry.entry().lastSequenceNr();
+        return size;
+    }
+
+    /**
+     * Find the index of the first record whose last entry has at least the specified sequence number.
+     *
+     * @param sequenceNr Sequence number to look for
+     * @return Record index, or the index of the next record to be written if there is no such record
+     */
+    private long findRecord(final long sequenceNr) {
+        // Binary search for the last segment starting with sequence number not greater than the one we are looking for
+        final List<JournalSegment<DataJournalRecord>> segments = List.copyOf(records.segments());
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            final DataJournalRecord first = firstRecord(segments.get(mid));
+            if (first != null && first.firstSequenceNr() <= sequenceNr) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // Scan from the start of that segment, which may end up crossing into the next segment
+        try (SegmentedJournalReader<DataJournalRecord> reader = records.openReader(segments.get(low).index())) {
+            while (reader.hasNext()) {
+                final Indexed<DataJournalRecord> next = reader.next();
+                if (next.entry().lastSequenceNr() >= sequenceNr) {
+                    return next.index();
+                }
+            }
+        }
+        return records.writer().getNextIndex();
+    }
+
+    private @Nullable DataJournalRecord firstRecord(final JournalSegment<DataJournalRecord> segment) {
+        try (SegmentedJournalReader<DataJournalRecord> reader = records.openReader(segment.index())) {
+            return reader.hasNext() ? reader.next().entry() : null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.akka.segjournal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.atomix.storage.journal.JournalSegment;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retires {@link JournalSegment}s which have been compacted out of a journal. Closing a segment, which includes
+ * unmapping it, and deleting its file can take a significant amount of time, hence this is done on a dedicated thread,
+ * so that {@link SegmentedJournalActor}s can continue processing writes. Pending requests are kept in a bounded queue
+ * and requests which do not fit into it are refused, leaving it up to the caller to retry them later.
+ */
+final class SegmentCleaner {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentCleaner.class);
+
+    private final ThreadPoolExecutor executor;
+
+    SegmentCleaner(final int queueSize) {
+        checkArgument(queueSize > 0, "Invalid queue size %s", queueSize);
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+            new ThreadFactoryBuilder().setNameFormat("segmented-journal-cleaner-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Submit segments for retirement. The number of bytes held by the segments is added to {@code pendingBytes} if
+     * the request is accepted and subtracted once the segments have been retired.
+     *
+     * @param persistenceId Persistence identifier owning the segments
+     * @param segments Segments to retire
+     * @param pendingBytes Counter of bytes pending deletion
+     * @param compactionTime Timer tracking the time it takes to retire the segments
+     * @return A future completing once the segments have been retired, or {@code null} if the request was refused
+     */
+    @Nullable CompletableFuture<Void> retire(final String persistenceId,
+            final List<? extends JournalSegment<?>> segments, final Counter pendingBytes, final Timer compactionTime) {
+        final long bytes = segmentBytes(segments);
+        pendingBytes.inc(bytes);
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    retireNow(persistenceId, segments, compactionTime);
+                } finally {
+                    pendingBytes.dec(bytes);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            pendingBytes.dec(bytes);
+            LOG.debug("{}: cleaner queue full, deferring retirement of {} segments", persistenceId, segments.size());
+            return null;
+        }
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Retire segments on the calling thread.
+     *
+     * @param persistenceId Persistence identifier owning the segments
+     * @param segments Segments to retire
+     * @param compactionTime Timer tracking the time it takes to retire the segments
+     */
+    @SuppressWarnings("checkstyle:illegalCatch")
+    static void retireNow(final String persistenceId, final List<? extends JournalSegment<?>> segments,
+            final Timer compactionTime) {
+        final Stopwatch sw = Stopwatch.createStarted();
+        for (JournalSegment<?> segment : segments) {
+            try {
+                segment.close();
+                segment.delete();
+            } catch (RuntimeException e) {
+                LOG.warn("{}: failed to retire segment {}", persistenceId, segment, e);
+            }
+        }
+        sw.stop();
+
+        compactionTime.update(sw.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        LOG.debug("{}: retired {} segments in {}", persistenceId, segments.size(), sw);
+    }
+
+    private static long segmentBytes(final List<? extends JournalSegment<?>> segments) {
+        long bytes = 0;
+        for (JournalSegment<?> segment : segments) {
+            bytes += segment.descriptor().maxSegmentSize();
+        }
+        return bytes;
+    }
+}
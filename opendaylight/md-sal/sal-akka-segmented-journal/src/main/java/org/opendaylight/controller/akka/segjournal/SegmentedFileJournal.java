@@ -16,6 +16,7 @@ import akka.dispatch.Futures;
 import akka.persistence.AtomicWrite;
 import akka.persistence.PersistentRepr;
 import akka.persistence.journal.japi.AsyncWriteJournal;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigMemorySize;
 import io.atomix.storage.journal.SegmentedJournal;
@@ -28,6 +29,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.AsyncMessage;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.WriteMessages;
@@ -49,6 +53,17 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
     public static final String STORAGE_MAX_SEGMENT_SIZE = "max-segment-size";
     public static final int STORAGE_MAX_SEGMENT_SIZE_DEFAULT = STORAGE_MAX_ENTRY_SIZE_DEFAULT * 8;
     public static final String STORAGE_MEMORY_MAPPED = "memory-mapped";
+    public static final String STORAGE_INDEX_FILES = "index-files";
+    public static final String STORAGE_SEGMENT_POOL_SIZE = "segment-pool-size";
+    public static final String STORAGE_CRC32C_CHECKSUMS = "crc32c-checksums";
+    public static final String STORAGE_GROUP_COMMIT_INTERVAL = "group-commit-interval";
+    public static final String STORAGE_GROUP_COMMIT_BYTES = "group-commit-bytes";
+    public static final String STORAGE_REPLAY_THREADS = "replay-threads";
+    public static final String STORAGE_REPLAY_PREFETCH = "replay-prefetch";
+    public static final int STORAGE_REPLAY_PREFETCH_DEFAULT = 4096;
+    public static final String STORAGE_CLEANER_QUEUE_SIZE = "cleaner-queue-size";
+    public static final int STORAGE_CLEANER_QUEUE_SIZE_DEFAULT = 64;
+    public static final String STORAGE_MIGRATE_DATA_JOURNAL = "migrate-data-journal";
 
     private static final Logger LOG = LoggerFactory.getLogger(SegmentedFileJournal.class);
 
@@ -57,6 +72,15 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
     private final StorageLevel storage;
     private final int maxEntrySize;
     private final int maxSegmentSize;
+    private final boolean indexFiles;
+    private final int segmentPoolSize;
+    private final boolean crc32cChecksums;
+    private final long groupCommitNanos;
+    private final int groupCommitBytes;
+    private final ExecutorService replayExecutor;
+    private final int replayPrefetch;
+    private final SegmentCleaner cleaner;
+    private final ExecutorService migrationExecutor;
 
     public SegmentedFileJournal(final Config config) {
         rootDir = new File(config.getString(STORAGE_ROOT_DIRECTORY));
@@ -74,8 +98,77 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
         } else {
             storage = StorageLevel.DISK;
         }
+        indexFiles = config.hasPath(STORAGE_INDEX_FILES) && config.getBoolean(STORAGE_INDEX_FILES);
+        segmentPoolSize = config.hasPath(STORAGE_SEGMENT_POOL_SIZE) ? config.getInt(STORAGE_SEGMENT_POOL_SIZE) : 0;
+        checkArgument(segmentPoolSize >= 0, "Negative segment pool size %s", segmentPoolSize);
+        crc32cChecksums = config.hasPath(STORAGE_CRC32C_CHECKSUMS) && config.getBoolean(STORAGE_CRC32C_CHECKSUMS);
+
+        if (config.hasPath(STORAGE_GROUP_COMMIT_INTERVAL)) {
+            groupCommitNanos = config.getDuration(STORAGE_GROUP_COMMIT_INTERVAL, TimeUnit.NANOSECONDS);
+            checkArgument(groupCommitNanos >= 0, "Negative group commit interval %s", groupCommitNanos);
+        } else {
+            groupCommitNanos = 0;
+        }
+        groupCommitBytes = getBytes(config, STORAGE_GROUP_COMMIT_BYTES, maxEntrySize);
+
+        final int replayThreads = config.hasPath(STORAGE_REPLAY_THREADS) ? config.getInt(STORAGE_REPLAY_THREADS) : 0;
+        checkArgument(replayThreads >= 0, "Negative replay thread count %s", replayThreads);
+        if (replayThreads > 0) {
+            replayExecutor = Executors.newFixedThreadPool(replayThreads, new ThreadFactoryBuilder()
+                .setNameFormat("segmented-journal-replay-%d").setDaemon(true).build());
+            replayPrefetch = config.hasPath(STORAGE_REPLAY_PREFETCH) ? config.getInt(STORAGE_REPLAY_PREFETCH)
+                : STORAGE_REPLAY_PREFETCH_DEFAULT;
+            checkArgument(replayPrefetch > 0, "Non-positive replay prefetch %s", replayPrefetch);
+        } else {
+            replayExecutor = null;
+            replayPrefetch = 0;
+        }
+
+        final int cleanerQueueSize = config.hasPath(STORAGE_CLEANER_QUEUE_SIZE)
+            ? config.getInt(STORAGE_CLEANER_QUEUE_SIZE) : STORAGE_CLEANER_QUEUE_SIZE_DEFAULT;
+        checkArgument(cleanerQueueSize >= 0, "Negative cleaner queue size %s", cleanerQueueSize);
+        cleaner = cleanerQueueSize > 0 ? new SegmentCleaner(cleanerQueueSize) : null;
+
+        if (config.hasPath(STORAGE_MIGRATE_DATA_JOURNAL) && config.getBoolean(STORAGE_MIGRATE_DATA_JOURNAL)) {
+            migrationExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("segmented-journal-migration-%d").setDaemon(true).build());
+        } else {
+            migrationExecutor = null;
+        }
 
         LOG.info("Initialized with root directory {} with storage {}", rootDir, storage);
+        if (indexFiles) {
+            LOG.info("Segment index files enabled");
+        }
+        if (segmentPoolSize != 0) {
+            LOG.info("Preallocating {} segments per journal", segmentPoolSize);
+        }
+        if (crc32cChecksums) {
+            LOG.info("CRC32C checksums enabled, journals cannot be read by releases without support for them");
+        }
+        if (groupCommitNanos != 0) {
+            LOG.info("Group commit enabled with window {}ns or {} bytes", groupCommitNanos, groupCommitBytes);
+        }
+        if (replayExecutor != null) {
+            LOG.info("Replay using {} threads with prefetch of {} entries", replayThreads, replayPrefetch);
+        }
+        if (migrationExecutor != null) {
+            LOG.info("Migration of data journals to current format enabled");
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (replayExecutor != null) {
+            replayExecutor.shutdown();
+        }
+        if (cleaner != null) {
+            cleaner.shutdown();
+        }
+        if (migrationExecutor != null) {
+            migrationExecutor.shutdown();
+        }
+        super.postStop();
     }
 
     @Override
@@ -121,7 +214,8 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
         LOG.debug("Creating handler for {} in directory {}", persistenceId, directory);
 
         final ActorRef handler = context().actorOf(SegmentedJournalActor.props(persistenceId, directory, storage,
-            maxEntrySize, maxSegmentSize));
+            maxEntrySize, maxSegmentSize, indexFiles, segmentPoolSize, crc32cChecksums, groupCommitNanos,
+            groupCommitBytes, replayExecutor, replayPrefetch, cleaner, migrationExecutor));
         LOG.debug("Directory {} handled by {}", directory, handler);
         return handler;
     }
@@ -7,13 +7,18 @@
  */
 package org.opendaylight.controller.akka.segjournal;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
-import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithStash;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.persistence.AtomicWrite;
 import akka.persistence.PersistentRepr;
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
@@ -21,22 +26,31 @@ import com.codahale.metrics.Timer;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Stopwatch;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegment;
 import io.atomix.storage.journal.JournalSerdes;
 import io.atomix.storage.journal.SegmentedJournal;
 import io.atomix.storage.journal.SegmentedJournalWriter;
 import io.atomix.storage.journal.StorageLevel;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.common.actor.MeteringBehavior;
 import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.concurrent.Future;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * This actor handles a single PersistentActor's journal. The journal is split into two {@link SegmentedJournal}s:
@@ -58,9 +72,28 @@ import scala.concurrent.Promise;
  * Split-file approach allows us to treat sequence numbers and indices as equivalent, without maintaining any explicit
  * mapping information. The only additional information we need to maintain is the last deleted sequence number.
  *
+ * <p>
+ * New journals store data in the {@link DataJournalV1} format, which packs each {@link AtomicWrite} into a single
+ * entry. Journals in the original {@link DataJournalV0} format keep using it, unless a migration executor is provided.
+ * In that case they are migrated when they are first opened: live entries are copied into a new journal on the
+ * migration executor, while requests are stashed. Once the new journal is flushed, a marker file is created. The old
+ * segment files are kept until the new journal has been successfully replayed, after which they are removed along
+ * with the marker. If the migration fails, the old journal keeps being used and the migration is attempted again
+ * on the next start.
+ *
+ * <p>
+ * By default each {@link WriteMessages} batch is flushed to persistent storage before its requests are completed. When
+ * group commit is enabled, flushes are deferred for a configurable time window or amount of written bytes, so that
+ * a single flush covers multiple batches. Requests are still completed only after they have been flushed.
+ *
+ * <p>
+ * Segments which are no longer needed after a {@link DeleteMessagesTo} are detached from the journals and, if
+ * a {@link SegmentCleaner} is available, closed and deleted in the background. If the cleaner cannot accept them, they
+ * are retried with the next deletion request, or retired when this actor stops.
+ *
  * @author Robert Varga
  */
-final class SegmentedJournalActor extends AbstractActor {
+final class SegmentedJournalActor extends AbstractActorWithStash {
     abstract static class AsyncMessage<T> {
         final Promise<T> promise = Promise.apply();
     }
@@ -120,11 +153,31 @@ final class SegmentedJournalActor extends AbstractActor {
 
         void setFailure(final int index, final Exception cause) {
             results.get(index).success(Optional.of(cause));
+        }
 
+        /**
+         * Complete all requests which have not been failed as successful. This needs to be invoked only after the
+         * requests have been flushed to persistent storage.
+         */
+        void setSuccessful() {
+            for (Promise<Optional<Exception>> result : results) {
+                if (!result.isCompleted()) {
+                    result.success(Optional.empty());
+                }
+            }
         }
 
-        void setSuccess(final int index) {
-            results.get(index).success(Optional.empty());
+        /**
+         * Complete all requests which have not completed yet with specified failure.
+         *
+         * @param cause Failure cause
+         */
+        void setFailed(final Exception cause) {
+            for (Promise<Optional<Exception>> result : results) {
+                if (!result.isCompleted()) {
+                    result.success(Optional.of(cause));
+                }
+            }
         }
 
         @Override
@@ -146,42 +199,158 @@ final class SegmentedJournalActor extends AbstractActor {
         }
     }
 
+    /**
+     * Self-message triggering a flush of the current group-commit window.
+     */
+    private static final class FlushWrites {
+        static final FlushWrites INSTANCE = new FlushWrites();
+
+        private FlushWrites() {
+            // Hidden on purpose
+        }
+
+        @Override
+        public String toString() {
+            return "FlushWrites";
+        }
+    }
+
+    /**
+     * Self-message reporting the outcome of a data journal migration.
+     */
+    private static final class MigrationComplete {
+        final @Nullable DataJournalV1 journal;
+        final @Nullable Throwable cause;
+
+        MigrationComplete(final @Nullable DataJournalV1 journal, final @Nullable Throwable cause) {
+            this.journal = journal;
+            this.cause = cause;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).omitNullValues().add("cause", cause).toString();
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(SegmentedJournalActor.class);
     private static final JournalSerdes DELETE_NAMESPACE = JournalSerdes.builder()
         .register(new LongSerdes(), Long.class)
         .build();
     private static final int DELETE_SEGMENT_SIZE = 64 * 1024;
+    private static final String MIGRATED_MARKER = "migrated-v1";
 
     private final String persistenceId;
     private final StorageLevel storage;
     private final int maxSegmentSize;
     private final int maxEntrySize;
     private final File directory;
+    // Whether segment indexes are persisted, so they do not need to be rebuilt when the journal is opened
+    private final boolean indexFiles;
+    // Number of preallocated data journal segment files, zero if disabled
+    private final int segmentPoolSize;
+    // Whether new data journal segments use CRC32C checksums, which older releases cannot read
+    private final boolean crc32cChecksums;
+    // Group commit window, zero if disabled
+    private final long groupCommitNanos;
+    // Amount of written bytes which forces a group commit flush before the window expires
+    private final long groupCommitBytes;
+    // Executor used to read ahead during replay, null if replay should be done on the actor thread
+    private final @Nullable Executor replayExecutor;
+    private final int replayPrefetch;
+    // Cleaner retiring compacted segments, null if they should be retired on the actor thread
+    private final @Nullable SegmentCleaner cleaner;
+    // Executor used to migrate version 0 data journals, null if they should keep their format
+    private final @Nullable Executor migrationExecutor;
+
+    // Migration in progress, completes with the migrated journal
+    private CompletableFuture<DataJournalV1> migration;
+    // Whether the version 0 data journal is to be deleted once the migrated journal has been replayed
+    private boolean pendingMigrationCleanup;
+
+    // Compacted segments which have not been accepted by the cleaner yet
+    private final List<JournalSegment<?>> deferredSegments = new ArrayList<>();
+    // Completes when the last segments submitted to the cleaner have been retired
+    private CompletableFuture<Void> pendingCleanup;
+
+    // Write requests written to the journal, but not flushed yet
+    private final List<WriteMessages> pendingWrites = new ArrayList<>();
+    private long pendingBytes;
+    private long pendingMessages;
+    private Cancellable flushSchedule;
 
     // Tracks the time it took us to write a batch of messages
     private Timer batchWriteTime;
+    // Tracks the time it took us to flush messages
+    private Timer flushTime;
+    // Tracks the number of messages made durable by a single flush
+    private Histogram batchSize;
     // Tracks the number of individual messages written
     private Meter messageWriteCount;
     // Tracks the size distribution of messages
     private Histogram messageSize;
+    // Tracks the number of bytes in compacted segments which have not been deleted yet
+    private Counter pendingDeletionBytes;
+    // Tracks the time it took us to retire compacted segments
+    private Timer compactionTime;
 
     private DataJournal dataJournal;
     private SegmentedJournal<Long> deleteJournal;
     private long lastDelete;
 
     SegmentedJournalActor(final String persistenceId, final File directory, final StorageLevel storage,
-            final int maxEntrySize, final int maxSegmentSize) {
+            final int maxEntrySize, final int maxSegmentSize, final boolean indexFiles, final int segmentPoolSize,
+            final boolean crc32cChecksums, final long groupCommitNanos, final long groupCommitBytes,
+            final @Nullable Executor replayExecutor, final int replayPrefetch, final @Nullable SegmentCleaner cleaner,
+            final @Nullable Executor migrationExecutor) {
         this.persistenceId = requireNonNull(persistenceId);
         this.directory = requireNonNull(directory);
         this.storage = requireNonNull(storage);
         this.maxEntrySize = maxEntrySize;
         this.maxSegmentSize = maxSegmentSize;
+        this.indexFiles = indexFiles;
+        this.segmentPoolSize = segmentPoolSize;
+        this.crc32cChecksums = crc32cChecksums;
+        this.groupCommitNanos = groupCommitNanos;
+        this.groupCommitBytes = groupCommitBytes;
+        this.replayExecutor = replayExecutor;
+        this.replayPrefetch = replayPrefetch;
+        this.cleaner = cleaner;
+        this.migrationExecutor = migrationExecutor;
     }
 
     static Props props(final String persistenceId, final File directory, final StorageLevel storage,
             final int maxEntrySize, final int maxSegmentSize) {
-        return Props.create(SegmentedJournalActor.class, requireNonNull(persistenceId), directory, storage,
-            maxEntrySize, maxSegmentSize);
+        return props(persistenceId, directory, storage, maxEntrySize, maxSegmentSize, false, 0, false, 0, 0, null,
+            0, null, null);
+    }
+
+    /**
+     * Return {@link Props} for an actor with group commit enabled. Writes are not flushed immediately, but rather are
+     * accumulated for up to {@code groupCommitNanos}, or until {@code groupCommitBytes} have been written, and then
+     * flushed at once, completing all requests in the window.
+     *
+     * @param indexFiles Whether to persist segment indexes of the data journal
+     * @param segmentPoolSize Number of data journal segment files to preallocate, {@code 0} to disable
+     * @param crc32cChecksums Whether new data journal segments use CRC32C checksums, which older releases cannot read
+     * @param groupCommitNanos Maximum time to delay a flush, {@code 0} disables group commit
+     * @param groupCommitBytes Number of bytes written which trigger an immediate flush
+     * @param replayExecutor Executor to use for reading entries ahead of replay, {@code null} to replay serially
+     * @param replayPrefetch Maximum number of entries read ahead of replay
+     * @param cleaner Cleaner to retire compacted segments, {@code null} to retire them on the actor thread
+     * @param migrationExecutor Executor to migrate a version 0 data journal on, {@code null} to keep using it
+     */
+    static Props props(final String persistenceId, final File directory, final StorageLevel storage,
+            final int maxEntrySize, final int maxSegmentSize, final boolean indexFiles, final int segmentPoolSize,
+            final boolean crc32cChecksums, final long groupCommitNanos, final long groupCommitBytes,
+            final @Nullable Executor replayExecutor, final int replayPrefetch, final @Nullable SegmentCleaner cleaner,
+            final @Nullable Executor migrationExecutor) {
+        requireNonNull(persistenceId);
+        checkArgument(segmentPoolSize >= 0, "Invalid segment pool size %s", segmentPoolSize);
+        checkArgument(groupCommitNanos >= 0, "Invalid group commit interval %s", groupCommitNanos);
+        return Props.create(SegmentedJournalActor.class, () -> new SegmentedJournalActor(persistenceId, directory,
+            storage, maxEntrySize, maxSegmentSize, indexFiles, segmentPoolSize, crc32cChecksums, groupCommitNanos,
+            groupCommitBytes, replayExecutor, replayPrefetch, cleaner, migrationExecutor));
     }
 
     @Override
@@ -191,6 +360,7 @@ final class SegmentedJournalActor extends AbstractActor {
                 .match(ReadHighestSequenceNr.class, this::handleReadHighestSequenceNr)
                 .match(ReplayMessages.class, this::handleReplayMessages)
                 .match(WriteMessages.class, this::handleWriteMessages)
+                .match(FlushWrites.class, this::handleFlushWrites)
                 .matchAny(this::handleUnknown)
                 .build();
     }
@@ -204,14 +374,27 @@ final class SegmentedJournalActor extends AbstractActor {
         final String actorName = self().path().parent().toStringWithoutAddress() + '/' + directory.getName();
 
         batchWriteTime = registry.timer(MetricRegistry.name(actorName, "batchWriteTime"));
+        flushTime = registry.timer(MetricRegistry.name(actorName, "flushTime"));
+        batchSize = registry.histogram(MetricRegistry.name(actorName, "batchSize"));
         messageWriteCount = registry.meter(MetricRegistry.name(actorName, "messageWriteCount"));
         messageSize = registry.histogram(MetricRegistry.name(actorName, "messageSize"));
+        pendingDeletionBytes = registry.counter(MetricRegistry.name(actorName, "pendingDeletionBytes"));
+        compactionTime = registry.timer(MetricRegistry.name(actorName, "compactionTime"));
     }
 
     @Override
     public void postStop() throws Exception {
         LOG.debug("{}: actor stopping", persistenceId);
+        if (migration != null) {
+            // Do not leave the migration running on a directory a successor may open
+            final DataJournalV1 migrated = migration.handle((journal, cause) -> journal).join();
+            if (migrated != null) {
+                migrated.close();
+            }
+            migration = null;
+        }
         if (dataJournal != null) {
+            flushWrites();
             dataJournal.close();
             LOG.debug("{}: data journal closed", persistenceId);
             dataJournal = null;
@@ -221,6 +404,15 @@ final class SegmentedJournalActor extends AbstractActor {
             LOG.debug("{}: delete journal closed", persistenceId);
             deleteJournal = null;
         }
+        if (!deferredSegments.isEmpty()) {
+            SegmentCleaner.retireNow(persistenceId, deferredSegments, compactionTime);
+            deferredSegments.clear();
+        }
+        if (pendingCleanup != null) {
+            // Make sure files are gone before a successor can open the journal
+            pendingCleanup.join();
+            pendingCleanup = null;
+        }
         LOG.debug("{}: actor stopped", persistenceId);
         super.postStop();
     }
@@ -239,7 +431,11 @@ final class SegmentedJournalActor extends AbstractActor {
     }
 
     private void handleDeleteMessagesTo(final DeleteMessagesTo message) {
-        ensureOpen();
+        if (!ensureOpen()) {
+            stash();
+            return;
+        }
+        flushWrites();
 
         LOG.debug("{}: delete messages {}", persistenceId, message);
         final long to = Long.min(dataJournal.lastWrittenSequenceNr(), message.toSequenceNr);
@@ -255,21 +451,46 @@ final class SegmentedJournalActor extends AbstractActor {
             dataJournal.deleteTo(lastDelete);
 
             LOG.debug("{}: compaction started", persistenceId);
-            dataJournal.compactTo(lastDelete);
-            deleteJournal.compact(entry.index());
+            deferredSegments.addAll(dataJournal.compactTo(lastDelete));
+            deferredSegments.addAll(deleteJournal.detachSegments(entry.index()));
             LOG.debug("{}: compaction finished", persistenceId);
         } else {
             LOG.debug("{}: entries up to {} already deleted", persistenceId, lastDelete);
         }
 
+        retireSegments();
         message.promise.success(null);
     }
 
+    private void retireSegments() {
+        if (deferredSegments.isEmpty()) {
+            return;
+        }
+
+        final List<JournalSegment<?>> segments = List.copyOf(deferredSegments);
+        if (cleaner == null) {
+            SegmentCleaner.retireNow(persistenceId, segments, compactionTime);
+        } else {
+            final CompletableFuture<Void> future = cleaner.retire(persistenceId, segments, pendingDeletionBytes,
+                compactionTime);
+            if (future == null) {
+                // Cleaner is busy, retry with next deletion
+                return;
+            }
+            pendingCleanup = future;
+        }
+        deferredSegments.clear();
+    }
+
     private void handleReadHighestSequenceNr(final ReadHighestSequenceNr message) {
         LOG.debug("{}: looking for highest sequence on {}", persistenceId, message);
         final Long sequence;
         if (directory.isDirectory()) {
-            ensureOpen();
+            if (!ensureOpen()) {
+                stash();
+                return;
+            }
+            flushWrites();
             sequence = dataJournal.lastWrittenSequenceNr();
         } else {
             sequence = 0L;
@@ -281,37 +502,112 @@ final class SegmentedJournalActor extends AbstractActor {
 
     private void handleReplayMessages(final ReplayMessages message) {
         LOG.debug("{}: replaying messages {}", persistenceId, message);
-        ensureOpen();
+        if (!ensureOpen()) {
+            stash();
+            return;
+        }
+        flushWrites();
 
         final long from = Long.max(lastDelete + 1, message.fromSequenceNr);
         LOG.debug("{}: adjusted fromSequenceNr to {}", persistenceId, from);
 
         dataJournal.handleReplayMessages(message, from);
+        if (pendingMigrationCleanup) {
+            final var result = message.promise.future().value();
+            if (result.isDefined() && result.get().isSuccess()) {
+                deleteMigratedJournal();
+            }
+        }
     }
 
     private void handleWriteMessages(final WriteMessages message) {
-        ensureOpen();
+        if (!ensureOpen()) {
+            stash();
+            return;
+        }
 
         final Stopwatch sw = Stopwatch.createStarted();
         final long start = dataJournal.lastWrittenSequenceNr();
         final long bytes = dataJournal.handleWriteMessages(message);
+        final long count = dataJournal.lastWrittenSequenceNr() - start;
+
+        pendingWrites.add(message);
+        pendingBytes += bytes;
+        pendingMessages += count;
+        if (groupCommitNanos == 0 || pendingBytes >= groupCommitBytes) {
+            flushWrites();
+        } else if (flushSchedule == null) {
+            flushSchedule = context().system().scheduler().scheduleOnce(
+                FiniteDuration.fromNanos(groupCommitNanos), self(), FlushWrites.INSTANCE, context().dispatcher(),
+                self());
+        }
         sw.stop();
 
         batchWriteTime.update(sw.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
-        messageWriteCount.mark(dataJournal.lastWrittenSequenceNr() - start);
+        messageWriteCount.mark(count);
 
         // log message after statistics are updated
         LOG.debug("{}: write of {} bytes completed in {}", persistenceId, bytes, sw);
     }
 
+    private void handleFlushWrites(final FlushWrites message) {
+        flushSchedule = null;
+        flushWrites();
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private void flushWrites() {
+        if (flushSchedule != null) {
+            flushSchedule.cancel();
+            flushSchedule = null;
+        }
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        final Stopwatch sw = Stopwatch.createStarted();
+        try {
+            dataJournal.flush();
+        } catch (RuntimeException e) {
+            LOG.error("{}: failed to flush {} messages", persistenceId, pendingMessages, e);
+            pendingWrites.forEach(write -> write.setFailed(e));
+            resetPending();
+            throw e;
+        }
+        sw.stop();
+
+        flushTime.update(sw.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        batchSize.update(pendingMessages);
+        LOG.debug("{}: flush of {} messages in {} requests completed in {}", persistenceId, pendingMessages,
+            pendingWrites.size(), sw);
+
+        pendingWrites.forEach(WriteMessages::setSuccessful);
+        resetPending();
+    }
+
+    private void resetPending() {
+        pendingWrites.clear();
+        pendingBytes = 0;
+        pendingMessages = 0;
+    }
+
     private void handleUnknown(final Object message) {
         LOG.error("{}: Received unknown message {}", persistenceId, message);
     }
 
-    private void ensureOpen() {
+    /**
+     * Make sure the journals are open.
+     *
+     * @return {@code true} if the journals are open, {@code false} if the data journal is being migrated, in which
+     *         case the current message needs to be stashed
+     */
+    private boolean ensureOpen() {
         if (dataJournal != null) {
             verifyNotNull(deleteJournal);
-            return;
+            return true;
+        }
+        if (migration != null) {
+            return false;
         }
 
         final Stopwatch sw = Stopwatch.createStarted();
@@ -320,10 +616,128 @@ final class SegmentedJournalActor extends AbstractActor {
         final Indexed<Long> lastEntry = deleteJournal.writer().getLastEntry();
         lastDelete = lastEntry == null ? 0 : lastEntry.entry();
 
-        dataJournal = new DataJournalV0(persistenceId, messageSize, context().system(), storage, directory,
-            maxEntrySize, maxSegmentSize);
-        dataJournal.deleteTo(lastDelete);
+        final DataJournal journal = openDataJournal();
+        if (journal == null) {
+            return false;
+        }
+
+        setDataJournal(journal);
         LOG.debug("{}: journal open in {} with last index {}, deleted to {}", persistenceId, sw,
             dataJournal.lastWrittenSequenceNr(), lastDelete);
+        return true;
+    }
+
+    private void setDataJournal(final DataJournal journal) {
+        dataJournal = journal;
+        dataJournal.deleteTo(lastDelete);
+    }
+
+    private @Nullable DataJournal openDataJournal() {
+        final Path marker = markerFile();
+        if (!DataJournal.hasSegmentFiles(directory, DataJournalV0.NAME)) {
+            try {
+                // Left behind by an interrupted cleanup
+                Files.deleteIfExists(marker);
+            } catch (IOException e) {
+                throw new UncheckedIOException(persistenceId + ": failed to delete migration marker", e);
+            }
+            return newDataJournal(context().system());
+        }
+        if (Files.exists(marker)) {
+            // Migration has completed, but the new journal has not been replayed yet
+            pendingMigrationCleanup = true;
+            return newDataJournal(context().system());
+        }
+        if (migrationExecutor == null) {
+            LOG.debug("{}: using version 0 journal format", persistenceId);
+            return newLegacyDataJournal(context().system());
+        }
+
+        LOG.info("{}: migrating journal to version 1 format", persistenceId);
+        final ActorSystem system = context().system();
+        final ActorRef self = self();
+        final long deletedTo = lastDelete;
+        migration = CompletableFuture.supplyAsync(() -> migrateDataJournal(system, deletedTo), migrationExecutor);
+        migration.whenComplete((journal, cause) -> self.tell(new MigrationComplete(journal, cause),
+            ActorRef.noSender()));
+        getContext().become(receiveBuilder()
+            .match(MigrationComplete.class, this::handleMigrationComplete)
+            .matchAny(message -> stash())
+            .build());
+        return null;
+    }
+
+    private void handleMigrationComplete(final MigrationComplete message) {
+        migration = null;
+        if (message.cause == null) {
+            pendingMigrationCleanup = true;
+            setDataJournal(verifyNotNull(message.journal));
+        } else {
+            LOG.error("{}: failed to migrate journal, continuing with version 0 format", persistenceId,
+                message.cause);
+            setDataJournal(newLegacyDataJournal(context().system()));
+        }
+        LOG.debug("{}: journal open with last index {}, deleted to {}", persistenceId,
+            dataJournal.lastWrittenSequenceNr(), lastDelete);
+
+        getContext().unbecome();
+        unstashAll();
+    }
+
+    // Invoked on the migration executor, hence must not touch any mutable state
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private DataJournalV1 migrateDataJournal(final ActorSystem system, final long deletedTo) {
+        final Stopwatch sw = Stopwatch.createStarted();
+        try {
+            // Discard any leftovers from an interrupted migration
+            DataJournal.deleteSegmentFiles(directory, DataJournalV1.NAME);
+        } catch (IOException e) {
+            throw new UncheckedIOException(persistenceId + ": failed to migrate journal", e);
+        }
+
+        final DataJournalV1 journal = newDataJournal(system);
+        final DataJournalV0 source = newLegacyDataJournal(system);
+        try {
+            journal.migrateFrom(source, deletedTo);
+            journal.flush();
+            Files.createFile(markerFile());
+        } catch (IOException e) {
+            journal.close();
+            throw new UncheckedIOException(persistenceId + ": failed to migrate journal", e);
+        } catch (RuntimeException e) {
+            journal.close();
+            throw e;
+        } finally {
+            source.close();
+        }
+
+        LOG.info("{}: journal migrated in {}", persistenceId, sw);
+        return journal;
+    }
+
+    private void deleteMigratedJournal() {
+        pendingMigrationCleanup = false;
+        try {
+            DataJournal.deleteSegmentFiles(directory, DataJournalV0.NAME);
+            Files.deleteIfExists(markerFile());
+        } catch (IOException e) {
+            LOG.warn("{}: failed to delete version 0 journal, retrying on next start", persistenceId, e);
+            return;
+        }
+        LOG.info("{}: version 0 journal deleted after migrated journal has been replayed", persistenceId);
+    }
+
+    private Path markerFile() {
+        return directory.toPath().resolve(MIGRATED_MARKER);
+    }
+
+    private DataJournalV0 newLegacyDataJournal(final ActorSystem system) {
+        return new DataJournalV0(persistenceId, messageSize, system, storage, directory, maxEntrySize,
+            maxSegmentSize, replayExecutor, replayPrefetch);
+    }
+
+    private DataJournalV1 newDataJournal(final ActorSystem system) {
+        return new DataJournalV1(persistenceId, messageSize, system, storage, directory, maxEntrySize,
+            maxSegmentSize, indexFiles, segmentPoolSize, crc32cChecksums, replayExecutor, replayPrefetch);
     }
 }
@@ -24,17 +24,26 @@ import akka.persistence.AtomicWrite;
 import akka.persistence.PersistentRepr;
 import akka.testkit.CallingThreadDispatcher;
 import akka.testkit.javadsl.TestKit;
+import com.codahale.metrics.MetricRegistry;
 import io.atomix.storage.journal.StorageLevel;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.apache.commons.io.FileUtils;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -47,6 +56,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.AsyncMessage;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.WriteMessages;
 import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
 
 @RunWith(MockitoJUnitRunner.StrictStubs.class)
 public class SegmentedFileJournalTest {
@@ -114,6 +124,78 @@ public class SegmentedFileJournalTest {
         assertReplayCount(1);
     }
 
+    @Test
+    public void testGroupCommit() {
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        actor = kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+            SEGMENT_SIZE, false, 0, false, TimeUnit.MILLISECONDS.toNanos(100), SEGMENT_SIZE, null, 0, null, null)
+            .withDispatcher(CallingThreadDispatcher.Id()));
+
+        final WriteMessages write = new WriteMessages();
+        final Future<Optional<Exception>> first = write.add(AtomicWrite.apply(PersistentRepr.apply("first", 1, "foo",
+            null, false, kit.getRef(), "uuid")));
+        actor.tell(write, ActorRef.noSender());
+        // Not flushed yet, hence not completed
+        assertFalse(first.isCompleted());
+
+        kit.awaitCond(first::isCompleted);
+        assertFalse(getFuture(first).isPresent());
+
+        final WriteMessages second = new WriteMessages();
+        final Future<Optional<Exception>> secondFuture = second.add(AtomicWrite.apply(PersistentRepr.apply("second",
+            2, "foo", null, false, kit.getRef(), "uuid")));
+        actor.tell(second, ActorRef.noSender());
+        assertFalse(secondFuture.isCompleted());
+
+        // Reads flush any pending writes
+        assertHighestSequenceNr(2);
+        assertFalse(getFuture(secondFuture).isPresent());
+        assertReplayCount(2);
+    }
+
+    @Test
+    public void testParallelReplay() {
+        assertParallelReplay(1024);
+    }
+
+    @Test
+    public void testParallelReplaySmallPrefetch() {
+        // Less than a full replay chunk, chunks are shrunk to honor the bound
+        assertParallelReplay(100);
+    }
+
+    private void assertParallelReplay(final int replayPrefetch) {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            actor = kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+                SEGMENT_SIZE, false, 0, false, 0, 0, executor, replayPrefetch, null, null)
+                .withDispatcher(CallingThreadDispatcher.Id()));
+
+            // Enough entries to span multiple replay chunks
+            final WriteMessages write = new WriteMessages();
+            final List<Future<Optional<Exception>>> requests = new ArrayList<>();
+            for (int i = 1; i <= 2000; ++i) {
+                requests.add(write.add(AtomicWrite.apply(PersistentRepr.apply("entry" + i, i, "foo", null, false,
+                    kit.getRef(), "uuid"))));
+            }
+            actor.tell(write, ActorRef.noSender());
+            requests.forEach(future -> assertFalse(getFuture(future).isPresent()));
+
+            deleteEntries(10);
+
+            final List<Long> replayed = new ArrayList<>();
+            final AsyncMessage<Void> replay = SegmentedJournalActor.replayMessages(0, 1500, Long.MAX_VALUE,
+                repr -> replayed.add(repr.sequenceNr()));
+            actor.tell(replay, ActorRef.noSender());
+            assertNull(get(replay));
+
+            assertEquals(LongStream.rangeClosed(11, 1500).boxed().collect(Collectors.toList()), replayed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testSegmentation() throws IOException {
         // We want to have roughly three segments
@@ -187,6 +269,225 @@ public class SegmentedFileJournalTest {
         assertReplayCount(0);
     }
 
+    @Test
+    public void testBackgroundCompaction() throws Exception {
+        final SegmentCleaner cleaner = new SegmentCleaner(1);
+        try {
+            actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            actor = kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+                SEGMENT_SIZE, false, 0, false, 0, 0, null, 0, cleaner, null)
+                .withDispatcher(CallingThreadDispatcher.Id()));
+
+            for (int i = 0; i <= 4; i++) {
+                writeBigPaylod();
+            }
+            assertFileCount(10, 1);
+
+            // get rid of all segments except the last one, which happens asynchronously
+            deleteEntries(27);
+            kit.awaitCond(Duration.ofSeconds(10), () -> countFiles(DataJournalV1.NAME + "-") == 1);
+            assertFileCount(1, 1);
+
+            assertHighestSequenceNr(30);
+            // 28,29,30 replayed
+            assertReplayCount(3);
+
+            // state is retained across restarts
+            actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            actor = kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+                SEGMENT_SIZE, false, 0, false, 0, 0, null, 0, cleaner, null)
+                .withDispatcher(CallingThreadDispatcher.Id()));
+            assertHighestSequenceNr(30);
+            assertReplayCount(3);
+        } finally {
+            cleaner.shutdown();
+        }
+    }
+
+    @Test
+    public void testIndexFiles() throws Exception {
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        actor = indexedActor();
+
+        for (int i = 0; i <= 2; i++) {
+            writeBigPaylod();
+        }
+        // Full segments have their index persisted
+        assertTrue(countFiles(DataJournalV1.NAME + "-", ".idx") > 0);
+
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        actor = indexedActor();
+        assertHighestSequenceNr(18);
+        assertReplayCount(18);
+
+        deleteEntries(9);
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        actor = indexedActor();
+        assertHighestSequenceNr(18);
+        assertReplayCount(9);
+    }
+
+    @Test
+    public void testCrc32cChecksums() throws Exception {
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        actor = kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+            SEGMENT_SIZE, false, 0, true, 0, 0, null, 0, null, null).withDispatcher(CallingThreadDispatcher.Id()));
+        writeBigPaylod();
+        assertEquals(2, segmentVersion(1));
+
+        // Segments remain readable and new ones use CRC32 once CRC32C is disabled
+        restartActor();
+        writeBigPaylod();
+        assertHighestSequenceNr(12);
+        assertReplayCount(12);
+        assertEquals(2, segmentVersion(1));
+        assertEquals(1, segmentVersion(countFiles(DataJournalV1.NAME + "-", ".log")));
+    }
+
+    @Test
+    public void testSegmentPool() throws Exception {
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        actor = kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+            SEGMENT_SIZE, false, 2, false, 0, 0, null, 0, null, null).withDispatcher(CallingThreadDispatcher.Id()));
+
+        // Files are prepared in the background
+        kit.awaitCond(Duration.ofSeconds(10), () -> countFiles(DataJournalV1.NAME + "-", ".pool") == 2);
+
+        for (int i = 0; i <= 2; i++) {
+            writeBigPaylod();
+        }
+        assertHighestSequenceNr(18);
+        assertReplayCount(18);
+
+        // Pool is replenished as segments are taken from it
+        kit.awaitCond(Duration.ofSeconds(10), () -> countFiles(DataJournalV1.NAME + "-", ".pool") == 2);
+    }
+
+    @Test
+    public void testBatchedWrites() {
+        final WriteMessages write = new WriteMessages();
+        final Future<Optional<Exception>> first = write.add(AtomicWrite.apply(CollectionConverters.asScala(List.of(
+            PersistentRepr.apply("first", 1, "foo", null, false, kit.getRef(), "uuid"),
+            PersistentRepr.apply("second", 2, "foo", null, false, kit.getRef(), "uuid"),
+            PersistentRepr.apply("third", 3, "foo", null, false, kit.getRef(), "uuid"))).toList()));
+        final Future<Optional<Exception>> second = write.add(AtomicWrite.apply(PersistentRepr.apply("fourth", 4,
+            "foo", null, false, kit.getRef(), "uuid")));
+        actor.tell(write, ActorRef.noSender());
+        assertFalse(getFuture(first).isPresent());
+        assertFalse(getFuture(second).isPresent());
+
+        assertHighestSequenceNr(4);
+        assertReplayed(1, "first", "second", "third", "fourth");
+
+        // Deletion in the middle of a batch
+        deleteEntries(2);
+        assertHighestSequenceNr(4);
+        assertReplayed(3, "third", "fourth");
+
+        restartActor();
+        assertHighestSequenceNr(4);
+        assertReplayed(3, "third", "fourth");
+    }
+
+    @Test
+    public void testV0JournalWithoutMigration() throws IOException {
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        writeV0Journal();
+
+        actor = actor();
+        assertHighestSequenceNr(5);
+        assertReplayed(1, "entry1", "entry2", "entry3", "entry4", "entry5");
+
+        final WriteMessages write = new WriteMessages();
+        final Future<Optional<Exception>> future = write.add(AtomicWrite.apply(PersistentRepr.apply("entry6", 6, "foo",
+            null, false, kit.getRef(), "uuid")));
+        actor.tell(write, ActorRef.noSender());
+        assertFalse(getFuture(future).isPresent());
+
+        deleteEntries(3);
+        restartActor();
+        assertHighestSequenceNr(6);
+        assertReplayed(4, "entry4", "entry5", "entry6");
+
+        // The journal has been kept in its original format
+        assertEquals(1, countFiles(DataJournalV0.NAME + "-"));
+        assertEquals(0, countFiles(DataJournalV1.NAME + "-"));
+    }
+
+    @Test
+    public void testMigrateV0Journal() throws IOException {
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        writeV0Journal();
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            actor = migratingActor(executor);
+            assertHighestSequenceNr(5);
+            // The original journal is retained until the migrated one has been replayed
+            assertEquals(1, countFiles(DataJournalV0.NAME + "-"));
+            assertTrue(Files.exists(DIRECTORY.toPath().resolve("migrated-v1")));
+
+            assertReplayed(1, "entry1", "entry2", "entry3", "entry4", "entry5");
+            assertEquals(0, countFiles(DataJournalV0.NAME + "-"));
+            assertFalse(Files.exists(DIRECTORY.toPath().resolve("migrated-v1")));
+            assertFileCount(1, 1);
+
+            deleteEntries(3);
+            actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            actor = migratingActor(executor);
+            assertHighestSequenceNr(5);
+            assertReplayed(4, "entry4", "entry5");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMigrateV0JournalRestartBeforeReplay() throws IOException {
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        writeV0Journal();
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            actor = migratingActor(executor);
+            assertHighestSequenceNr(5);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Migrated journal is picked up even with migration disabled, original journal is still there
+        restartActor();
+        assertHighestSequenceNr(5);
+        assertEquals(1, countFiles(DataJournalV0.NAME + "-"));
+
+        assertReplayed(1, "entry1", "entry2", "entry3", "entry4", "entry5");
+        assertEquals(0, countFiles(DataJournalV0.NAME + "-"));
+        assertFileCount(1, 1);
+    }
+
+    private void writeV0Journal() {
+        final DataJournalV0 journal = new DataJournalV0("foo", new MetricRegistry().histogram("messageSize"), SYSTEM,
+            StorageLevel.DISK, DIRECTORY, MESSAGE_SIZE, SEGMENT_SIZE, null, 0);
+        try {
+            final WriteMessages write = new WriteMessages();
+            for (int i = 1; i <= 5; ++i) {
+                write.add(AtomicWrite.apply(PersistentRepr.apply("entry" + i, i, "foo", null, false, kit.getRef(),
+                    "uuid")));
+            }
+            journal.handleWriteMessages(write);
+            journal.flush();
+        } finally {
+            journal.close();
+        }
+        assertEquals(1, countFiles(DataJournalV0.NAME + "-"));
+    }
+
+    private ActorRef migratingActor(final ExecutorService executor) {
+        return kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+            SEGMENT_SIZE, false, 0, false, 0, 0, null, 0, null, executor)
+            .withDispatcher(CallingThreadDispatcher.Id()));
+    }
+
     private void restartActor() {
         actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
         actor = actor();
@@ -213,6 +514,11 @@ public class SegmentedFileJournalTest {
             SEGMENT_SIZE).withDispatcher(CallingThreadDispatcher.Id()));
     }
 
+    private ActorRef indexedActor() {
+        return kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
+            SEGMENT_SIZE, true, 0, false, 0, 0, null, 0, null, null).withDispatcher(CallingThreadDispatcher.Id()));
+    }
+
     private void deleteEntries(final long deleteTo) {
         final AsyncMessage<Void> delete = SegmentedJournalActor.deleteMessagesTo(deleteTo);
         actor.tell(delete, ActorRef.noSender());
@@ -236,12 +542,48 @@ public class SegmentedFileJournalTest {
         verify(firstCallback, times(expected)).accept(any(PersistentRepr.class));
     }
 
+    private void assertReplayed(final long firstSequenceNr, final String... payloads) {
+        final List<PersistentRepr> replayed = new ArrayList<>();
+        final AsyncMessage<Void> replay = SegmentedJournalActor.replayMessages(0, Long.MAX_VALUE, Long.MAX_VALUE,
+            replayed::add);
+        actor.tell(replay, ActorRef.noSender());
+        assertNull(get(replay));
+
+        assertEquals(List.of(payloads), replayed.stream().map(PersistentRepr::payload).collect(Collectors.toList()));
+        assertEquals(LongStream.range(firstSequenceNr, firstSequenceNr + payloads.length).boxed()
+            .collect(Collectors.toList()),
+            replayed.stream().map(PersistentRepr::sequenceNr).collect(Collectors.toList()));
+    }
+
     private static void assertFileCount(final long dataFiles, final long deleteFiles) throws IOException {
         List<File> contents = Files.list(DIRECTORY.toPath()).map(Path::toFile).collect(Collectors.toList());
-        assertEquals(dataFiles, contents.stream().filter(file -> file.getName().startsWith("data-")).count());
+        assertEquals(dataFiles, contents.stream()
+            .filter(file -> file.getName().startsWith(DataJournalV1.NAME + "-")).count());
         assertEquals(deleteFiles, contents.stream().filter(file -> file.getName().startsWith("delete-")).count());
     }
 
+    private static int segmentVersion(final long id) throws IOException {
+        try (var channel = FileChannel.open(DIRECTORY.toPath().resolve(DataJournalV1.NAME + "-" + id + ".log"))) {
+            final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(buffer);
+            return buffer.getInt(0);
+        }
+    }
+
+    private static long countFiles(final String prefix) {
+        return countFiles(prefix, "");
+    }
+
+    private static long countFiles(final String prefix, final String suffix) {
+        try (var files = Files.list(DIRECTORY.toPath())) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                .count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static <T> T get(final AsyncMessage<T> message) {
         return getFuture(message.promise.future());
     }
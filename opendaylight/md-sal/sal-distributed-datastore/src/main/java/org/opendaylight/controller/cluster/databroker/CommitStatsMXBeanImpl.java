@@ -7,8 +7,13 @@
  */
 package org.opendaylight.controller.cluster.databroker;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.controller.cluster.datastore.jmx.mbeans.CommitStatsMXBean;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers;
+import org.opendaylight.controller.cluster.mgmt.api.CommitPhaseLatency;
 import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
 import org.opendaylight.yangtools.util.DurationStatisticsTracker;
 
@@ -19,17 +24,20 @@ import org.opendaylight.yangtools.util.DurationStatisticsTracker;
  */
 final class CommitStatsMXBeanImpl extends AbstractMXBean implements CommitStatsMXBean {
     private final DurationStatisticsTracker commitStatsTracker;
+    private final CommitPhaseTimers commitPhaseTimers;
 
     /**
      * Constructor.
      *
      * @param commitStatsTracker the DurationStatsTracker used to obtain the stats.
+     * @param commitPhaseTimers the CommitPhaseTimers used to obtain the latency of each commit phase.
      * @param mbeantype mBeanType Used as the <code>type</code> property in the bean's ObjectName.
      */
     CommitStatsMXBeanImpl(final @NonNull DurationStatisticsTracker commitStatsTracker,
-            final @NonNull String mbeantype) {
+            final @NonNull CommitPhaseTimers commitPhaseTimers, final @NonNull String mbeantype) {
         super("CommitStats", mbeantype, null);
         this.commitStatsTracker = commitStatsTracker;
+        this.commitPhaseTimers = requireNonNull(commitPhaseTimers);
     }
 
     @Override
@@ -52,6 +60,11 @@ final class CommitStatsMXBeanImpl extends AbstractMXBean implements CommitStatsM
         return commitStatsTracker.getDisplayableAverageDuration();
     }
 
+    @Override
+    public List<CommitPhaseLatency> getCommitPhaseLatencies() {
+        return commitPhaseTimers.getLatencies();
+    }
+
     @Override
     public void clearStats() {
         commitStatsTracker.reset();
@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 import org.opendaylight.controller.cluster.datastore.exceptions.NoShardLeaderException;
 import org.opendaylight.controller.cluster.datastore.exceptions.ShardLeaderNotRespondingException;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers.Phase;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.DataStoreUnavailableException;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -51,6 +53,8 @@ public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
     private static final String COMMIT = "COMMIT";
 
     private final DurationStatisticsTracker commitStatsTracker;
+    private final CommitPhaseTimers commitPhaseTimers =
+        new CommitPhaseTimers("DOMDataBroker", Phase.CAN_COMMIT, Phase.PRE_COMMIT, Phase.COMMIT);
 
     /**
      * This executor is used to execute Future listener callback Runnables async.
@@ -73,6 +77,10 @@ public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
         return commitStatsTracker;
     }
 
+    public CommitPhaseTimers getCommitPhaseTimers() {
+        return commitPhaseTimers;
+    }
+
     @Override
     protected FluentFuture<? extends CommitInfo> commit(final DOMDataTreeWriteTransaction transaction,
             final DOMStoreThreePhaseCommitCohort cohort) {
@@ -99,6 +107,7 @@ public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
                 if (result == null || !result) {
                     onFailure(new TransactionCommitFailedException("Can Commit failed, no detailed cause available."));
                 } else {
+                    commitPhaseTimers.update(Phase.CAN_COMMIT, System.nanoTime() - startTime);
                     doPreCommit(startTime, clientSubmitFuture, transaction, cohort);
                 }
             }
@@ -112,9 +121,11 @@ public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
 
     private void doPreCommit(final long startTime, final AsyncNotifyingSettableFuture clientSubmitFuture,
             final DOMDataTreeWriteTransaction transaction, final DOMStoreThreePhaseCommitCohort cohort) {
+        final long preCommitTime = System.nanoTime();
         Futures.addCallback(cohort.preCommit(), new FutureCallback<>() {
             @Override
             public void onSuccess(final Empty result) {
+                commitPhaseTimers.update(Phase.PRE_COMMIT, System.nanoTime() - preCommitTime);
                 doCommit(startTime, clientSubmitFuture, transaction, cohort);
             }
 
@@ -127,10 +138,13 @@ public class ConcurrentDOMDataBroker extends AbstractDOMBroker {
 
     private void doCommit(final long startTime, final AsyncNotifyingSettableFuture clientSubmitFuture,
             final DOMDataTreeWriteTransaction transaction, final DOMStoreThreePhaseCommitCohort cohort) {
+        final long commitTime = System.nanoTime();
         Futures.addCallback(cohort.commit(), new FutureCallback<CommitInfo>() {
             @Override
             public void onSuccess(final CommitInfo result) {
-                commitStatsTracker.addDuration(System.nanoTime() - startTime);
+                final long now = System.nanoTime();
+                commitPhaseTimers.update(Phase.COMMIT, now - commitTime);
+                commitStatsTracker.addDuration(now - startTime);
                 clientSubmitFuture.set();
             }
 
@@ -100,7 +100,7 @@ public final class OSGiDOMDataBroker implements DOMDataBroker {
             LogicalDatastoreType.CONFIGURATION, configDatastore, LogicalDatastoreType.OPERATIONAL, operDatastore),
             executorService, commitStatsTracker);
 
-        commitStats = new CommitStatsMXBeanImpl(commitStatsTracker, "DOMDataBroker");
+        commitStats = new CommitStatsMXBeanImpl(commitStatsTracker, delegate.getCommitPhaseTimers(), "DOMDataBroker");
         commitStats.register();
         threadStats = ThreadExecutorStatsMXBeanImpl.create(executorService, "CommitFutureExecutorStats",
             "DOMDataBroker");
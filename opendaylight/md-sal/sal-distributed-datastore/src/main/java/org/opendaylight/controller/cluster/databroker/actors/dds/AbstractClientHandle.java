@@ -12,15 +12,23 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
+import org.opendaylight.controller.cluster.datastore.utils.RootScatterGather;
 import org.opendaylight.yangtools.concepts.Identifiable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -120,6 +128,24 @@ public abstract class AbstractClientHandle<T extends AbstractProxyTransaction> e
         return parent.resolveAllShards().map(shard -> ensureProxy(local, shard));
     }
 
+    final T ensureProxy(final String shardName) {
+        return ensureProxy(getState(), parent.resolveShard(shardName));
+    }
+
+    final FluentFuture<Boolean> existsPartitioned(final YangInstanceIdentifier path,
+            final PartitionedListShardStrategy strategy) {
+        return FluentFuture.from(Futures.transform(Futures.allAsList(strategy.getShardNames().stream()
+            .map(shardName -> ensureProxy(shardName).exists(path))
+            .collect(ImmutableList.toImmutableList())), results -> results.contains(Boolean.TRUE),
+            MoreExecutors.directExecutor()));
+    }
+
+    final FluentFuture<Optional<NormalizedNode>> readPartitioned(final YangInstanceIdentifier path,
+            final PartitionedListShardStrategy strategy) {
+        return RootScatterGather.gather(parent.actorUtils(), path, strategy.getShardNames().stream()
+            .map(shardName -> ensureProxy(shardName).read(path)));
+    }
+
     final AbstractClientHistory parent() {
         return parent;
     }
@@ -24,6 +24,7 @@ import java.util.stream.Stream;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.checkerframework.checker.lock.qual.Holding;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.client.AbstractClientConnection;
 import org.opendaylight.controller.cluster.access.client.ConnectedClientConnection;
 import org.opendaylight.controller.cluster.access.client.ConnectionEntry;
@@ -32,6 +33,7 @@ import org.opendaylight.controller.cluster.access.commands.CreateLocalHistoryReq
 import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.Response;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChainClosedException;
 import org.opendaylight.yangtools.concepts.Identifiable;
@@ -123,6 +125,14 @@ public abstract class AbstractClientHistory extends LocalAbortable implements Id
         return client.resolveAllShards();
     }
 
+    final @Nullable PartitionedListShardStrategy resolvePartitionedList(final YangInstanceIdentifier path) {
+        return client.resolvePartitionedList(path);
+    }
+
+    final Long resolveShard(final String shardName) {
+        return client.resolveShard(shardName);
+    }
+
     final ActorUtils actorUtils() {
         return client.actorUtils();
     }
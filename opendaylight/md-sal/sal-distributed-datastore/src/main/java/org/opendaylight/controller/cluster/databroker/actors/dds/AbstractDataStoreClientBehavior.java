@@ -18,12 +18,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Stream;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.client.ClientActorBehavior;
 import org.opendaylight.controller.cluster.access.client.ClientActorContext;
 import org.opendaylight.controller.cluster.access.client.ConnectedClientConnection;
 import org.opendaylight.controller.cluster.access.client.ConnectionEntry;
 import org.opendaylight.controller.cluster.access.client.ReconnectForwarder;
 import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.slf4j.Logger;
@@ -228,6 +230,16 @@ abstract class AbstractDataStoreClientBehavior extends ClientActorBehavior<Shard
 
     abstract Stream<Long> resolveAllShards();
 
+    /**
+     * Resolve the strategy partitioning a list across multiple shards, if the data at a path spans those shards.
+     *
+     * @param path the location of the data in the logical tree
+     * @return the strategy, or null if the data at the path is held by a single shard
+     */
+    abstract @Nullable PartitionedListShardStrategy resolvePartitionedList(YangInstanceIdentifier path);
+
+    abstract Long resolveShard(String shardName);
+
     final ActorUtils actorUtils() {
         return ((AbstractShardBackendResolver) resolver()).actorUtils();
     }
@@ -29,11 +29,16 @@ public class ClientSnapshot extends AbstractClientHandle<AbstractProxyTransactio
     }
 
     public FluentFuture<Boolean> exists(final YangInstanceIdentifier path) {
-        return ensureProxy(path).exists(path);
+        final var partitioned = parent().resolvePartitionedList(path);
+        return partitioned == null ? ensureProxy(path).exists(path) : existsPartitioned(path, partitioned);
     }
 
     public FluentFuture<Optional<NormalizedNode>> read(final YangInstanceIdentifier path) {
-        return path.isEmpty() ? readRoot() : ensureProxy(path).read(path);
+        if (path.isEmpty()) {
+            return readRoot();
+        }
+        final var partitioned = parent().resolvePartitionedList(path);
+        return partitioned == null ? ensureProxy(path).read(path) : readPartitioned(path, partitioned);
     }
 
     private FluentFuture<Optional<NormalizedNode>> readRoot() {
@@ -11,17 +11,23 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.FluentFuture;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.RootScatterGather;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 
 /**
  * Client-side view of a transaction.
@@ -60,11 +66,16 @@ public class ClientTransaction extends AbstractClientHandle<AbstractProxyTransac
     }
 
     public FluentFuture<Boolean> exists(final YangInstanceIdentifier path) {
-        return ensureProxy(path).exists(path);
+        final var partitioned = parent().resolvePartitionedList(path);
+        return partitioned == null ? ensureProxy(path).exists(path) : existsPartitioned(path, partitioned);
     }
 
     public FluentFuture<Optional<NormalizedNode>> read(final YangInstanceIdentifier path) {
-        return path.isEmpty() ? readRoot() : ensureProxy(path).read(path);
+        if (path.isEmpty()) {
+            return readRoot();
+        }
+        final var partitioned = parent().resolvePartitionedList(path);
+        return partitioned == null ? ensureProxy(path).read(path) : readPartitioned(path, partitioned);
     }
 
     private FluentFuture<Optional<NormalizedNode>> readRoot() {
@@ -75,37 +86,97 @@ public class ClientTransaction extends AbstractClientHandle<AbstractProxyTransac
     public void delete(final YangInstanceIdentifier path) {
         if (path.isEmpty()) {
             ensureAllProxies().forEach(proxy -> proxy.delete(YangInstanceIdentifier.of()));
-        } else {
+            return;
+        }
+
+        final var partitioned = parent().resolvePartitionedList(path);
+        if (partitioned == null) {
             ensureProxy(path).delete(path);
+        } else {
+            partitioned.getShardNames().forEach(shardName -> ensureProxy(shardName).delete(path));
         }
     }
 
     public void merge(final YangInstanceIdentifier path, final NormalizedNode data) {
         if (path.isEmpty()) {
             mergeRoot(RootScatterGather.castRootNode(data));
-        } else {
+            return;
+        }
+
+        final var partitioned = parent().resolvePartitionedList(path);
+        if (partitioned == null) {
             ensureProxy(path).merge(path, data);
+        } else {
+            mergePartitioned(path, data, partitioned);
         }
     }
 
     private void mergeRoot(final @NonNull ContainerNode rootData) {
-        if (!rootData.isEmpty()) {
-            RootScatterGather.scatterTouched(rootData, this::ensureProxy).forEach(
+        final var partitioned = partitionedChildren(rootData);
+        final var unpartitioned = withoutChildren(rootData, partitioned);
+        if (!unpartitioned.isEmpty()) {
+            RootScatterGather.scatterTouched(unpartitioned, this::ensureProxy).forEach(
                 scattered -> scattered.shard().merge(YangInstanceIdentifier.of(), scattered.container()));
         }
+        partitioned.forEach(entry -> mergePartitioned(YangInstanceIdentifier.of(entry.getKey().name()),
+            entry.getKey(), entry.getValue()));
+    }
+
+    private void mergePartitioned(final YangInstanceIdentifier path, final NormalizedNode data,
+            final PartitionedListShardStrategy strategy) {
+        strategy.scatter(path, data, false).forEach(
+            (shardName, shardData) -> ensureProxy(shardName).merge(path, shardData));
     }
 
     public void write(final YangInstanceIdentifier path, final NormalizedNode data) {
         if (path.isEmpty()) {
             writeRoot(RootScatterGather.castRootNode(data));
-        } else {
+            return;
+        }
+
+        final var partitioned = parent().resolvePartitionedList(path);
+        if (partitioned == null) {
             ensureProxy(path).write(path, data);
+        } else {
+            writePartitioned(path, data, partitioned);
         }
     }
 
     private void writeRoot(final @NonNull ContainerNode rootData) {
-        RootScatterGather.scatterAll(rootData, this::ensureProxy, ensureAllProxies()).forEach(
-            scattered -> scattered.shard().write(YangInstanceIdentifier.of(), scattered.container()));
+        final var partitioned = partitionedChildren(rootData);
+        RootScatterGather.scatterAll(withoutChildren(rootData, partitioned), this::ensureProxy, ensureAllProxies())
+            .forEach(scattered -> scattered.shard().write(YangInstanceIdentifier.of(), scattered.container()));
+        partitioned.forEach(entry -> writePartitioned(YangInstanceIdentifier.of(entry.getKey().name()),
+            entry.getKey(), entry.getValue()));
+    }
+
+    private void writePartitioned(final YangInstanceIdentifier path, final NormalizedNode data,
+            final PartitionedListShardStrategy strategy) {
+        strategy.scatter(path, data, true).forEach(
+            (shardName, shardData) -> ensureProxy(shardName).write(path, shardData));
+    }
+
+    // Top-level children holding a list partitioned across multiple shards, which need to be split further
+    private List<Entry<DataContainerChild, PartitionedListShardStrategy>> partitionedChildren(
+            final ContainerNode rootData) {
+        final var ret = new ArrayList<Entry<DataContainerChild, PartitionedListShardStrategy>>();
+        for (var child : rootData.body()) {
+            final var strategy = parent().resolvePartitionedList(YangInstanceIdentifier.of(child.name()));
+            if (strategy != null) {
+                ret.add(Map.entry(child, strategy));
+            }
+        }
+        return ret;
+    }
+
+    private static ContainerNode withoutChildren(final ContainerNode rootData,
+            final List<Entry<DataContainerChild, PartitionedListShardStrategy>> children) {
+        if (children.isEmpty()) {
+            return rootData;
+        }
+        final var builder = Builders.containerBuilder(rootData);
+        children.forEach(entry -> builder.removeChild(entry.getKey().name()));
+        return builder.build();
     }
 
     private AbstractProxyTransaction ensureProxy(final PathArgument childId) {
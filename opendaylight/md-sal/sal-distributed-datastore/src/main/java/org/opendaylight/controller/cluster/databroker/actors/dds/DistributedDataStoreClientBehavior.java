@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import java.util.stream.Stream;
 import org.opendaylight.controller.cluster.access.client.ClientActorContext;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
@@ -40,6 +41,16 @@ final class DistributedDataStoreClientBehavior extends AbstractDataStoreClientBe
         return resolver.resolveAllShards();
     }
 
+    @Override
+    PartitionedListShardStrategy resolvePartitionedList(final YangInstanceIdentifier path) {
+        return resolver.resolvePartitionedList(path);
+    }
+
+    @Override
+    Long resolveShard(final String shardName) {
+        return resolver.resolveShard(shardName);
+    }
+
     @Override
     public void close() {
         super.close();
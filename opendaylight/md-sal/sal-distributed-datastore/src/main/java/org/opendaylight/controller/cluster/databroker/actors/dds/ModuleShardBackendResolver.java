@@ -21,10 +21,12 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.client.BackendInfoResolver;
 import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
 import org.opendaylight.controller.cluster.datastore.shardmanager.RegisterForShardAvailabilityChanges;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.DefaultShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -88,6 +90,15 @@ final class ModuleShardBackendResolver extends AbstractShardBackendResolver {
         return resolveCookie(actorUtils().getShardStrategyFactory().getStrategy(path).findShard(path));
     }
 
+    @Nullable PartitionedListShardStrategy resolvePartitionedList(final YangInstanceIdentifier path) {
+        return actorUtils().getShardStrategyFactory().getStrategy(path) instanceof PartitionedListShardStrategy strategy
+            && strategy.isPartitioned(path) ? strategy : null;
+    }
+
+    Long resolveShard(final String shardName) {
+        return resolveCookie(shardName);
+    }
+
     Stream<Long> resolveAllShards() {
         return actorUtils().getConfiguration().getAllShardNames().stream()
             .sorted()
@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import java.util.stream.Stream;
 import org.opendaylight.controller.cluster.access.client.ClientActorContext;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
@@ -40,4 +41,14 @@ final class SimpleDataStoreClientBehavior extends AbstractDataStoreClientBehavio
     Stream<Long> resolveAllShards() {
         return Stream.of(ZERO);
     }
+
+    @Override
+    PartitionedListShardStrategy resolvePartitionedList(final YangInstanceIdentifier path) {
+        return null;
+    }
+
+    @Override
+    Long resolveShard(final String shardName) {
+        return ZERO;
+    }
 }
@@ -35,6 +35,8 @@ import org.opendaylight.controller.cluster.datastore.identifiers.ShardManagerIde
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.shardmanager.AbstractShardManagerCreator;
 import org.opendaylight.controller.cluster.datastore.shardmanager.ShardManagerCreator;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.controller.cluster.datastore.utils.PrimaryShardInfoFutureCache;
 import org.opendaylight.mdsal.dom.api.ClusteredDOMDataTreeChangeListener;
@@ -180,7 +182,19 @@ public abstract class AbstractDataStore implements DistributedDataStoreInterface
             }
         }
 
-        final String shardName = actorUtils.getShardStrategyFactory().getStrategy(treeId).findShard(treeId);
+        final ShardStrategy strategy = actorUtils.getShardStrategyFactory().getStrategy(treeId);
+        if (strategy instanceof PartitionedListShardStrategy partitioned && partitioned.isPartitioned(treeId)) {
+            // User is targeting a partitioned list or one of its ancestors, which spans multiple shards. Just as with
+            // the root, we have to register with them all and perform data composition.
+            checkArgument(listener instanceof ClusteredDOMDataTreeChangeListener,
+                "Cannot listen on partitioned %s without non-clustered listener %s", treeId, listener);
+            LOG.debug("Registering tree listener: {} for tree: {} shards: {}", listener, treeId,
+                partitioned.getShardNames());
+            return new RootDataTreeChangeListenerProxy<>(actorUtils, listener, treeId,
+                Set.copyOf(partitioned.getShardNames()));
+        }
+
+        final String shardName = strategy.findShard(treeId);
         LOG.debug("Registering tree listener: {} for tree: {} shard: {}", listener, treeId, shardName);
 
         final DataTreeChangeListenerProxy<L> listenerRegistrationProxy =
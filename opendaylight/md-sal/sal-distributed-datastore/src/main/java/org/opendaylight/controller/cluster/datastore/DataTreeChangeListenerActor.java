@@ -11,6 +11,8 @@ import static java.util.Objects.requireNonNull;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
 import org.opendaylight.controller.cluster.datastore.messages.DataTreeChanged;
 import org.opendaylight.controller.cluster.datastore.messages.DataTreeChangedReply;
@@ -20,36 +22,74 @@ import org.opendaylight.controller.cluster.datastore.messages.OnInitialData;
 import org.opendaylight.controller.cluster.mgmt.api.DataTreeListenerInfo;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 
 /**
  * Proxy actor which acts as a facade to the user-provided listener. Responsible for decapsulating
  * DataTreeChanged messages and dispatching their context to the user.
+ *
+ * <p>
+ * If a coalescing limit is set, the changes carried by DataTreeChanged messages which arrive while the listener is
+ * busy are merged into a single aggregated change as they are received, which is delivered to the listener in the next
+ * notification. The listener hence observes the net effect of those changes, not each intermediate state, and the
+ * memory held by pending changes is bounded by the size of the data they touch rather than by their number. At most
+ * that many changes are merged into a single notification: once that many changes are pending, they are delivered
+ * before any further messages are processed. A change which cannot be merged with the pending change causes the
+ * pending change to be delivered first.
+ *
+ * <p>
+ * Messages arriving while the listener is processing a notification still queue up in the mailbox. The number of
+ * pending changes is reported through {@link GetInfo}, along with the largest number seen so far.
  */
 class DataTreeChangeListenerActor extends AbstractUntypedActor {
+    private static final Object DELIVER_PENDING_CHANGES_MESSAGE = new Object() {
+        @Override
+        public String toString() {
+            return "deliverPendingChanges";
+        }
+    };
+
     private final DOMDataTreeChangeListener listener;
     private final YangInstanceIdentifier registeredPath;
+    private final int coalescingLimit;
+
+    // Change to be delivered in the next notification, the number of changes merged into it and the senders of the
+    // messages which carried them
+    private DataTreeCandidate pendingChange;
+    private int pendingChangeCount;
+    private int maxPendingChangeCount;
+    private final List<ActorRef> pendingSenders = new ArrayList<>();
+    private boolean deliveryScheduled;
 
     private boolean notificationsEnabled = false;
     private long notificationCount;
+    private long coalescedNotificationCount;
+    private long coalescingLimitReachedCount;
     private String logContext = "";
 
     DataTreeChangeListenerActor(final DOMDataTreeChangeListener listener,
-            final YangInstanceIdentifier registeredPath) {
+            final YangInstanceIdentifier registeredPath, final int coalescingLimit) {
         this.listener = requireNonNull(listener);
         this.registeredPath = requireNonNull(registeredPath);
+        this.coalescingLimit = coalescingLimit;
     }
 
     @Override
     protected final void handleReceive(final Object message) {
         if (message instanceof DataTreeChanged) {
             dataTreeChanged((DataTreeChanged) message);
+        } else if (DELIVER_PENDING_CHANGES_MESSAGE.equals(message)) {
+            deliveryScheduled = false;
+            deliverPendingChanges();
         } else if (message instanceof OnInitialData) {
             onInitialData((OnInitialData) message);
         } else if (message instanceof EnableNotification) {
             enableNotification((EnableNotification) message);
         } else if (message instanceof GetInfo) {
             getSender().tell(new DataTreeListenerInfo(listener.toString(), registeredPath.toString(),
-                    notificationsEnabled, notificationCount), getSelf());
+                    notificationsEnabled, notificationCount, coalescedNotificationCount, coalescingLimitReachedCount,
+                    pendingChangeCount, maxPendingChangeCount), getSelf());
         } else {
             unknownMessage(message);
         }
@@ -66,7 +106,6 @@ class DataTreeChangeListenerActor extends AbstractUntypedActor {
         }
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     void dataTreeChanged(final DataTreeChanged message) {
         // Do nothing if notifications are not enabled
         if (!notificationsEnabled) {
@@ -75,7 +114,65 @@ class DataTreeChangeListenerActor extends AbstractUntypedActor {
             return;
         }
 
-        final var changes = message.getChanges();
+        if (coalescingLimit == 0) {
+            notifyListener(message.getChanges());
+            replyTo(getSender());
+            return;
+        }
+
+        if (pendingChange != null) {
+            coalescedNotificationCount++;
+        }
+        for (DataTreeCandidate change : message.getChanges()) {
+            mergePendingChange(change);
+        }
+        pendingSenders.add(getSender());
+        maxPendingChangeCount = Math.max(maxPendingChangeCount, pendingChangeCount);
+
+        if (pendingChangeCount >= coalescingLimit) {
+            // Do not accumulate any more changes until the listener has seen these
+            LOG.debug("{}: {} changes pending for listener {}, delivering them", logContext, pendingChangeCount,
+                listener);
+            coalescingLimitReachedCount++;
+            deliverPendingChanges();
+        } else if (!deliveryScheduled) {
+            // Any messages already in our mailbox will be processed before this one, adding their changes
+            deliveryScheduled = true;
+            getSelf().tell(DELIVER_PENDING_CHANGES_MESSAGE, ActorRef.noSender());
+        }
+    }
+
+    private void mergePendingChange(final DataTreeCandidate change) {
+        if (pendingChange != null) {
+            try {
+                pendingChange = DataTreeCandidates.aggregate(List.of(pendingChange, change));
+                pendingChangeCount++;
+                return;
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                LOG.debug("{}: Cannot merge change into {} pending changes for listener {}, delivering them",
+                    logContext, pendingChangeCount, listener, e);
+                notifyListener(List.of(pendingChange));
+            }
+        }
+        pendingChange = change;
+        pendingChangeCount = 1;
+    }
+
+    private void deliverPendingChanges() {
+        final var senders = List.copyOf(pendingSenders);
+        pendingSenders.clear();
+
+        if (pendingChange != null) {
+            final var change = pendingChange;
+            pendingChange = null;
+            pendingChangeCount = 0;
+            notifyListener(List.of(change));
+        }
+        senders.forEach(this::replyTo);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void notifyListener(final List<DataTreeCandidate> changes) {
         LOG.debug("{}: Sending {} change notification(s) to listener {}", logContext, changes.size(), listener);
         if (LOG.isTraceEnabled() && !changes.isEmpty()) {
             LOG.trace("{}: detailed change follow", logContext);
@@ -91,11 +188,12 @@ class DataTreeChangeListenerActor extends AbstractUntypedActor {
         } catch (Exception e) {
             LOG.error("{}: Error notifying listener {}", logContext, listener, e);
         }
+    }
 
+    private void replyTo(final ActorRef sender) {
         // TODO: do we really need this?
         // It seems the sender is never null but it doesn't hurt to check. If the caller passes in
         // a null sender (ActorRef.noSender()), akka translates that to the deadLetters actor.
-        final ActorRef sender = getSender();
         if (sender != null && !sender.equals(getContext().system().deadLetters())) {
             sender.tell(DataTreeChangedReply.getInstance(), getSelf());
         }
@@ -104,11 +202,22 @@ class DataTreeChangeListenerActor extends AbstractUntypedActor {
     private void enableNotification(final EnableNotification message) {
         logContext = message.getLogContext();
         notificationsEnabled = message.isEnabled();
+        if (!notificationsEnabled) {
+            // Consistent with dropping changes received while notifications are disabled
+            pendingChange = null;
+            pendingChangeCount = 0;
+            pendingSenders.clear();
+        }
         LOG.debug("{}: {} notifications for listener {}", logContext, notificationsEnabled ? "Enabled" : "Disabled",
                 listener);
     }
 
     static Props props(final DOMDataTreeChangeListener listener, final YangInstanceIdentifier registeredPath) {
-        return Props.create(DataTreeChangeListenerActor.class, listener, registeredPath);
+        return props(listener, registeredPath, 0);
+    }
+
+    static Props props(final DOMDataTreeChangeListener listener, final YangInstanceIdentifier registeredPath,
+            final int coalescingLimit) {
+        return Props.create(DataTreeChangeListenerActor.class, listener, registeredPath, coalescingLimit);
     }
 }
@@ -49,7 +49,8 @@ final class DataTreeChangeListenerProxy<T extends DOMDataTreeChangeListener> ext
         this.actorUtils = requireNonNull(actorUtils);
         this.registeredPath = requireNonNull(registeredPath);
         this.dataChangeListenerActor = actorUtils.getActorSystem().actorOf(
-                DataTreeChangeListenerActor.props(getInstance(), registeredPath)
+                DataTreeChangeListenerActor.props(getInstance(), registeredPath,
+                    actorUtils.getDatastoreContext().getListenerCoalescingLimit())
                     .withDispatcher(actorUtils.getNotificationDispatcherPath()));
 
         LOG.debug("{}: Created actor {} for DTCL {}", actorUtils.getDatastoreContext().getLogicalStoreType(),
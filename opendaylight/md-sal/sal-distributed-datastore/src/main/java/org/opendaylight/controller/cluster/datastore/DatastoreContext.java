@@ -66,9 +66,19 @@ public class DatastoreContext implements ClientActorConfig {
     public static final long DEFAULT_SHARD_COMMIT_QUEUE_EXPIRY_TIMEOUT_IN_MS =
             TimeUnit.MILLISECONDS.convert(2, TimeUnit.MINUTES);
     public static final int DEFAULT_MAX_MESSAGE_SLICE_SIZE = 480 * 1024; // 480KiB
+    public static final int DEFAULT_SNAPSHOT_CHUNK_WINDOW = 1;
+    public static final int DEFAULT_MAXIMUM_ENTRIES_IN_FLIGHT = 0;
+    public static final int DEFAULT_REPLICATED_LOG_HEAP_ENTRIES = 0;
+    public static final boolean DEFAULT_RETAIN_SERIALIZED_LOG_ENTRIES = false;
+    public static final boolean DEFAULT_LINEARIZABLE_READS = false;
+    public static final boolean DEFAULT_PRE_VOTE = false;
+    public static final int DEFAULT_APPLY_JOURNAL_ENTRIES_BATCH_SIZE = 0;
+    public static final long DEFAULT_APPLY_JOURNAL_ENTRIES_INTERVAL_IN_MILLIS = 1000;
     public static final int DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY = 512;
     public static final ExportOnRecovery DEFAULT_EXPORT_ON_RECOVERY = ExportOnRecovery.Off;
     public static final String DEFAULT_RECOVERY_EXPORT_BASE_DIR = "persistence-export";
+    public static final int DEFAULT_INCREMENTAL_SNAPSHOT_INTERVAL = 0;
+    public static final String DEFAULT_INCREMENTAL_SNAPSHOT_BASE_DIR = "snapshot-base";
 
     public static final long DEFAULT_SYNC_INDEX_THRESHOLD = 10;
 
@@ -106,8 +116,14 @@ public class DatastoreContext implements ClientActorConfig {
     private long noProgressTimeout = AbstractClientConnection.DEFAULT_NO_PROGRESS_TIMEOUT_NANOS;
     private int initialPayloadSerializedBufferCapacity = DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY;
     private boolean useLz4Compression = false;
+    private boolean batchReplicatedCommits = false;
+    private int listenerCoalescingLimit = 0;
+    private boolean useParallelSnapshotSerialization = false;
+    private boolean persistSerializedInstallSnapshot = false;
     private ExportOnRecovery exportOnRecovery = DEFAULT_EXPORT_ON_RECOVERY;
     private String recoveryExportBaseDir = DEFAULT_RECOVERY_EXPORT_BASE_DIR;
+    private int incrementalSnapshotInterval = DEFAULT_INCREMENTAL_SNAPSHOT_INTERVAL;
+    private String incrementalSnapshotBaseDir = DEFAULT_INCREMENTAL_SNAPSHOT_BASE_DIR;
 
     public static Set<String> getGlobalDatastoreNames() {
         return GLOBAL_DATASTORE_NAMES;
@@ -125,6 +141,14 @@ public class DatastoreContext implements ClientActorConfig {
         setCandidateElectionTimeoutDivisor(DEFAULT_SHARD_CANDIDATE_ELECTION_TIMEOUT_DIVISOR);
         setSyncIndexThreshold(DEFAULT_SYNC_INDEX_THRESHOLD);
         setMaximumMessageSliceSize(DEFAULT_MAX_MESSAGE_SLICE_SIZE);
+        setSnapshotChunkWindow(DEFAULT_SNAPSHOT_CHUNK_WINDOW);
+        setMaximumEntriesInFlight(DEFAULT_MAXIMUM_ENTRIES_IN_FLIGHT);
+        setReplicatedLogHeapEntries(DEFAULT_REPLICATED_LOG_HEAP_ENTRIES);
+        setRetainSerializedLogEntries(DEFAULT_RETAIN_SERIALIZED_LOG_ENTRIES);
+        setLinearizableReads(DEFAULT_LINEARIZABLE_READS);
+        setPreVote(DEFAULT_PRE_VOTE);
+        setApplyJournalEntriesBatchSize(DEFAULT_APPLY_JOURNAL_ENTRIES_BATCH_SIZE);
+        setApplyJournalEntriesInterval(DEFAULT_APPLY_JOURNAL_ENTRIES_INTERVAL_IN_MILLIS);
     }
 
     private DatastoreContext(final DatastoreContext other) {
@@ -154,8 +178,14 @@ public class DatastoreContext implements ClientActorConfig {
         noProgressTimeout = other.noProgressTimeout;
         initialPayloadSerializedBufferCapacity = other.initialPayloadSerializedBufferCapacity;
         useLz4Compression = other.useLz4Compression;
+        batchReplicatedCommits = other.batchReplicatedCommits;
+        listenerCoalescingLimit = other.listenerCoalescingLimit;
+        useParallelSnapshotSerialization = other.useParallelSnapshotSerialization;
+        persistSerializedInstallSnapshot = other.persistSerializedInstallSnapshot;
         exportOnRecovery = other.exportOnRecovery;
         recoveryExportBaseDir = other.recoveryExportBaseDir;
+        incrementalSnapshotInterval = other.incrementalSnapshotInterval;
+        incrementalSnapshotBaseDir = other.incrementalSnapshotBaseDir;
 
         setShardJournalRecoveryLogBatchSize(other.raftConfig.getJournalRecoveryLogBatchSize());
         setSnapshotBatchCount(other.raftConfig.getSnapshotBatchCount());
@@ -169,6 +199,14 @@ public class DatastoreContext implements ClientActorConfig {
         setCustomRaftPolicyImplementation(other.raftConfig.getCustomRaftPolicyImplementationClass());
         setMaximumMessageSliceSize(other.getMaximumMessageSliceSize());
         setShardSnapshotChunkSize(other.raftConfig.getSnapshotChunkSize());
+        setSnapshotChunkWindow(other.raftConfig.getSnapshotChunkWindow());
+        setMaximumEntriesInFlight(other.raftConfig.getMaximumEntriesInFlight());
+        setReplicatedLogHeapEntries(other.raftConfig.getReplicatedLogHeapEntries());
+        setRetainSerializedLogEntries(other.raftConfig.isRetainSerializedLogEntries());
+        setLinearizableReads(other.raftConfig.isLeaderLeaseEnabled());
+        setPreVote(other.raftConfig.isPreVoteEnabled());
+        setApplyJournalEntriesBatchSize(other.raftConfig.getApplyJournalEntriesBatchSize());
+        setApplyJournalEntriesInterval(other.raftConfig.getApplyJournalEntriesInterval().toMillis());
         setPeerAddressResolver(other.raftConfig.getPeerAddressResolver());
         setTempFileDirectory(other.getTempFileDirectory());
         setFileBackedStreamingThreshold(other.getFileBackedStreamingThreshold());
@@ -341,6 +379,59 @@ public class DatastoreContext implements ClientActorConfig {
         }
     }
 
+    private void setSnapshotChunkWindow(final int snapshotChunkWindow) {
+        raftConfig.setSnapshotChunkWindow(snapshotChunkWindow);
+    }
+
+    private void setMaximumEntriesInFlight(final int maximumEntriesInFlight) {
+        raftConfig.setMaximumEntriesInFlight(maximumEntriesInFlight);
+    }
+
+    private void setReplicatedLogHeapEntries(final int replicatedLogHeapEntries) {
+        raftConfig.setReplicatedLogHeapEntries(replicatedLogHeapEntries);
+    }
+
+    public boolean isRetainSerializedLogEntries() {
+        return raftConfig.isRetainSerializedLogEntries();
+    }
+
+    private void setRetainSerializedLogEntries(final boolean retainSerializedLogEntries) {
+        raftConfig.setRetainSerializedLogEntries(retainSerializedLogEntries);
+    }
+
+    public boolean isLinearizableReads() {
+        return raftConfig.isLeaderLeaseEnabled();
+    }
+
+    public boolean isBatchReplicatedCommits() {
+        return batchReplicatedCommits;
+    }
+
+    public int getListenerCoalescingLimit() {
+        return listenerCoalescingLimit;
+    }
+
+    public boolean isPreVote() {
+        return raftConfig.isPreVoteEnabled();
+    }
+
+    private void setLinearizableReads(final boolean linearizableReads) {
+        raftConfig.setLeaderLeaseEnabled(linearizableReads);
+    }
+
+    private void setPreVote(final boolean preVote) {
+        raftConfig.setPreVoteEnabled(preVote);
+    }
+
+    private void setApplyJournalEntriesBatchSize(final int applyJournalEntriesBatchSize) {
+        raftConfig.setApplyJournalEntriesBatchSize(applyJournalEntriesBatchSize);
+    }
+
+    private void setApplyJournalEntriesInterval(final long applyJournalEntriesIntervalInMillis) {
+        raftConfig.setApplyJournalEntriesInterval(
+                new FiniteDuration(applyJournalEntriesIntervalInMillis, TimeUnit.MILLISECONDS));
+    }
+
     private void setMaximumMessageSliceSize(final int maximumMessageSliceSize) {
         raftConfig.setSnapshotChunkSize(maximumMessageSliceSize);
         this.maximumMessageSliceSize = maximumMessageSliceSize;
@@ -375,6 +466,14 @@ public class DatastoreContext implements ClientActorConfig {
         return useLz4Compression;
     }
 
+    public boolean isUseParallelSnapshotSerialization() {
+        return useParallelSnapshotSerialization;
+    }
+
+    public boolean isPersistSerializedInstallSnapshot() {
+        return persistSerializedInstallSnapshot;
+    }
+
     public ExportOnRecovery getExportOnRecovery() {
         return exportOnRecovery;
     }
@@ -383,6 +482,14 @@ public class DatastoreContext implements ClientActorConfig {
         return recoveryExportBaseDir;
     }
 
+    public int getIncrementalSnapshotInterval() {
+        return incrementalSnapshotInterval;
+    }
+
+    public String getIncrementalSnapshotBaseDir() {
+        return incrementalSnapshotBaseDir;
+    }
+
     @Override
     public int getMaximumMessageSliceSize() {
         return maximumMessageSliceSize;
@@ -615,6 +722,16 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder useParallelSnapshotSerialization(final boolean value) {
+            datastoreContext.useParallelSnapshotSerialization = value;
+            return this;
+        }
+
+        public Builder persistSerializedInstallSnapshot(final boolean value) {
+            datastoreContext.persistSerializedInstallSnapshot = value;
+            return this;
+        }
+
         public Builder exportOnRecovery(final ExportOnRecovery value) {
             datastoreContext.exportOnRecovery = value;
             return this;
@@ -625,6 +742,17 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder incrementalSnapshotInterval(final int value) {
+            checkArgument(value >= 0);
+            datastoreContext.incrementalSnapshotInterval = value;
+            return this;
+        }
+
+        public Builder incrementalSnapshotBaseDir(final String value) {
+            datastoreContext.incrementalSnapshotBaseDir = value;
+            return this;
+        }
+
         /**
          * For unit tests only.
          */
@@ -667,6 +795,62 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder snapshotChunkWindow(final int snapshotChunkWindow) {
+            checkArgument(snapshotChunkWindow > 0);
+            datastoreContext.setSnapshotChunkWindow(snapshotChunkWindow);
+            return this;
+        }
+
+        public Builder maximumEntriesInFlight(final int maximumEntriesInFlight) {
+            checkArgument(maximumEntriesInFlight >= 0);
+            datastoreContext.setMaximumEntriesInFlight(maximumEntriesInFlight);
+            return this;
+        }
+
+        public Builder replicatedLogHeapEntries(final int replicatedLogHeapEntries) {
+            checkArgument(replicatedLogHeapEntries >= 0);
+            datastoreContext.setReplicatedLogHeapEntries(replicatedLogHeapEntries);
+            return this;
+        }
+
+        public Builder retainSerializedLogEntries(final boolean retainSerializedLogEntries) {
+            datastoreContext.setRetainSerializedLogEntries(retainSerializedLogEntries);
+            return this;
+        }
+
+        public Builder linearizableReads(final boolean linearizableReads) {
+            datastoreContext.setLinearizableReads(linearizableReads);
+            return this;
+        }
+
+        public Builder preVote(final boolean preVote) {
+            datastoreContext.setPreVote(preVote);
+            return this;
+        }
+
+        public Builder applyJournalEntriesBatchSize(final int applyJournalEntriesBatchSize) {
+            checkArgument(applyJournalEntriesBatchSize >= 0);
+            datastoreContext.setApplyJournalEntriesBatchSize(applyJournalEntriesBatchSize);
+            return this;
+        }
+
+        public Builder applyJournalEntriesIntervalInMillis(final long applyJournalEntriesIntervalInMillis) {
+            checkArgument(applyJournalEntriesIntervalInMillis > 0);
+            datastoreContext.setApplyJournalEntriesInterval(applyJournalEntriesIntervalInMillis);
+            return this;
+        }
+
+        public Builder batchReplicatedCommits(final boolean batchReplicatedCommits) {
+            datastoreContext.batchReplicatedCommits = batchReplicatedCommits;
+            return this;
+        }
+
+        public Builder listenerCoalescingLimit(final int listenerCoalescingLimit) {
+            checkArgument(listenerCoalescingLimit >= 0);
+            datastoreContext.listenerCoalescingLimit = listenerCoalescingLimit;
+            return this;
+        }
+
         public Builder syncIndexThreshold(final long syncIndexThreshold) {
             datastoreContext.setSyncIndexThreshold(syncIndexThreshold);
             return this;
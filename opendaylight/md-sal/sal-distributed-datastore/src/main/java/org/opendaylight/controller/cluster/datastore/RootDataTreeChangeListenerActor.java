@@ -27,23 +27,30 @@ import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
 import org.opendaylight.yangtools.yang.data.api.schema.builder.DataContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateNodes;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
-import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor {
+    private final YangInstanceIdentifier path;
     private final int shardCount;
 
     // Initial messages, retaining order in which we have received them
     private Map<ActorRef, Object> initialMessages = new LinkedHashMap<>();
     private Deque<DataTreeChanged> otherMessages = new ArrayDeque<>();
 
-    private RootDataTreeChangeListenerActor(final DOMDataTreeChangeListener listener, final int shardCount) {
-        super(listener, YangInstanceIdentifier.of());
+    private RootDataTreeChangeListenerActor(final DOMDataTreeChangeListener listener,
+            final YangInstanceIdentifier path, final int shardCount, final int coalescingLimit) {
+        super(listener, path, coalescingLimit);
+        this.path = path;
         this.shardCount = shardCount;
     }
 
@@ -89,20 +96,21 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
          *
          * 1) non-default shards contain immediate children of root from one module
          * 2) default shard contains everything else
-         * 3) there is no overlap between shards
+         * 3) shards of a module with a partitioned list each contain the module's containers leading to the list and
+         *    a subset of the list's entries, with the first shard containing the rest of the module's data
+         * 4) there is no overlap between shards, except for the containers leading to a partitioned list
          *
-         * When we subscribe to each of the shards, each of them will report root as being written, which is an accurate
-         * view from each shard's perspective, but it does not reflect the aggregate reality.
+         * When we subscribe to each of the shards, each of them will report the path as being written, which is an
+         * accurate view from each shard's perspective, but it does not reflect the aggregate reality.
          *
-         * Construct an overall NormalizedNode view of the entire datastore by combining first-level children from all
-         * reported initial state reports, report that node as written and then report any additional deltas.
+         * Construct an overall NormalizedNode view of the data at the path by merging all reported initial state
+         * reports, report that node as written and then report any additional deltas.
          */
         final List<DataTreeCandidate> initialChanges = new ArrayList<>();
         // Reserve first item
         initialChanges.add(null);
 
-        final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> rootBuilder = Builders.containerBuilder()
-                .withNodeIdentifier(NodeIdentifier.create(SchemaContext.NAME));
+        NormalizedNode combined = null;
         for (Object message : initialMessages.values()) {
             if (message instanceof DataTreeChanged) {
                 final Collection<DataTreeCandidate> changes = ((DataTreeChanged) message).getChanges();
@@ -116,18 +124,27 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
                     initial = Iterables.get(changes, 0);
                 }
 
-                final NormalizedNode root = initial.getRootNode().getDataAfter();
-                verify(root instanceof ContainerNode, "Unexpected root node %s", root);
-                ((ContainerNode) root).body().forEach(rootBuilder::withChild);
+                final NormalizedNode data = initial.getRootNode().getDataAfter();
+                if (data != null) {
+                    combined = combined == null ? data : merge(combined, data);
+                }
             }
         }
         // We will not be intercepting any other messages, allow initial state to be reclaimed as soon as possible
         initialMessages = null;
 
-        // Replace first element with the combined initial change, report initial changes and clear the map
-        initialChanges.set(0, DataTreeCandidates.newDataTreeCandidate(YangInstanceIdentifier.of(),
-            DataTreeCandidateNodes.written(rootBuilder.build())));
-        super.dataTreeChanged(new DataTreeChanged(initialChanges));
+        if (combined != null) {
+            // Replace first element with the combined initial change, report initial changes and clear the map
+            initialChanges.set(0, DataTreeCandidates.newDataTreeCandidate(path,
+                DataTreeCandidateNodes.written(combined)));
+            super.dataTreeChanged(new DataTreeChanged(initialChanges));
+        } else if (initialChanges.size() > 1) {
+            initialChanges.remove(0);
+            super.dataTreeChanged(new DataTreeChanged(initialChanges));
+        } else {
+            // None of the shards has any data at the path
+            super.onInitialData(OnInitialData.INSTANCE);
+        }
 
         // Now go through all messages we have held back and report them. Note we are removing them from the queue
         // to allow them to be reclaimed as soon as possible.
@@ -137,7 +154,31 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
         otherMessages = null;
     }
 
-    static Props props(final DOMDataTreeChangeListener instance, final int shardCount) {
-        return Props.create(RootDataTreeChangeListenerActor.class, instance, shardCount);
+    // Shards hold disjoint parts of the data, apart from the containers leading to a partitioned list, which we merge
+    private static NormalizedNode merge(final NormalizedNode first, final NormalizedNode second) {
+        if (first instanceof ContainerNode firstContainer && second instanceof ContainerNode secondContainer) {
+            final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> builder = Builders.containerBuilder()
+                .withNodeIdentifier(firstContainer.name());
+            firstContainer.body().forEach(builder::withChild);
+            for (DataContainerChild child : secondContainer.body()) {
+                final DataContainerChild existing = firstContainer.childByArg(child.name());
+                builder.withChild(existing == null ? child : (DataContainerChild) merge(existing, child));
+            }
+            return builder.build();
+        }
+        if (first instanceof MapNode firstMap && second instanceof MapNode secondMap) {
+            final CollectionNodeBuilder<MapEntryNode, ? extends MapNode> builder = firstMap instanceof UserMapNode
+                ? Builders.orderedMapBuilder().withNodeIdentifier(firstMap.name())
+                : Builders.mapBuilder().withNodeIdentifier(firstMap.name());
+            firstMap.body().forEach(builder::withChild);
+            secondMap.body().forEach(builder::withChild);
+            return builder.build();
+        }
+        return second;
+    }
+
+    static Props props(final DOMDataTreeChangeListener instance, final YangInstanceIdentifier path,
+            final int shardCount, final int coalescingLimit) {
+        return Props.create(RootDataTreeChangeListenerActor.class, instance, path, shardCount, coalescingLimit);
     }
 }
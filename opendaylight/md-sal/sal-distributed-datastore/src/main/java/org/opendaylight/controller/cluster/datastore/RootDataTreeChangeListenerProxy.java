@@ -35,6 +35,11 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A registration of a listener on data which spans multiple shards. This is the case for the root of the data store
+ * and for paths leading to a partitioned list. The listener is registered with all of the shards and is notified of
+ * their combined initial data, followed by the changes reported by each of them.
+ */
 final class RootDataTreeChangeListenerProxy<L extends DOMDataTreeChangeListener>
         extends AbstractListenerRegistration<L> {
     private abstract static class State {
@@ -67,14 +72,21 @@ final class RootDataTreeChangeListenerProxy<L extends DOMDataTreeChangeListener>
     private static final Logger LOG = LoggerFactory.getLogger(RootDataTreeChangeListenerProxy.class);
 
     private final ActorUtils actorUtils;
+    private final YangInstanceIdentifier path;
 
     @GuardedBy("this")
     private State state;
 
     RootDataTreeChangeListenerProxy(final ActorUtils actorUtils, final @NonNull L listener,
             final Set<String> shardNames) {
+        this(actorUtils, listener, YangInstanceIdentifier.of(), shardNames);
+    }
+
+    RootDataTreeChangeListenerProxy(final ActorUtils actorUtils, final @NonNull L listener,
+            final YangInstanceIdentifier path, final Set<String> shardNames) {
         super(listener);
         this.actorUtils = requireNonNull(actorUtils);
+        this.path = requireNonNull(path);
         this.state = new ResolveShards(shardNames.size());
 
         for (String shardName : shardNames) {
@@ -131,8 +143,8 @@ final class RootDataTreeChangeListenerProxy<L extends DOMDataTreeChangeListener>
     private void reportFailure(final Map<String, Object> localShards) {
         for (Entry<String, Object> entry : Maps.filterValues(localShards, Throwable.class::isInstance).entrySet()) {
             final Throwable cause = (Throwable) entry.getValue();
-            LOG.error("{}: Failed to find local shard {}, cannot register {} at root", logContext(), entry.getKey(),
-                getInstance(), cause);
+            LOG.error("{}: Failed to find local shard {}, cannot register {} at {}", logContext(), entry.getKey(),
+                getInstance(), path, cause);
         }
         state = new Terminated();
     }
@@ -147,13 +159,13 @@ final class RootDataTreeChangeListenerProxy<L extends DOMDataTreeChangeListener>
 
         // Instantiate the DTCL actor and update state
         final ActorRef dtclActor = actorUtils.getActorSystem().actorOf(
-            RootDataTreeChangeListenerActor.props(getInstance(), localShards.size())
+            RootDataTreeChangeListenerActor.props(getInstance(), path, localShards.size(),
+                actorUtils.getDatastoreContext().getListenerCoalescingLimit())
               .withDispatcher(actorUtils.getNotificationDispatcherPath()));
         state = new Subscribed(dtclActor, localShards.size());
 
         // Subscribe to all shards
-        final RegisterDataTreeChangeListener regMessage = new RegisterDataTreeChangeListener(
-            YangInstanceIdentifier.of(), dtclActor, true);
+        final RegisterDataTreeChangeListener regMessage = new RegisterDataTreeChangeListener(path, dtclActor, true);
         for (Entry<String, Object> entry : localShards.entrySet()) {
             // Do not retain references to localShards
             final String shardName = entry.getKey();
@@ -32,10 +32,13 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -43,6 +46,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.ABIVersion;
+import org.opendaylight.controller.cluster.access.commands.AbstractReadPathTransactionRequest;
 import org.opendaylight.controller.cluster.access.commands.ConnectClientRequest;
 import org.opendaylight.controller.cluster.access.commands.ConnectClientSuccess;
 import org.opendaylight.controller.cluster.access.commands.LocalHistoryRequest;
@@ -145,6 +149,13 @@ public class Shard extends RaftActor {
         }
     };
 
+    static final Object LEASE_WAIT_TIMEOUT_MESSAGE = new Object() {
+        @Override
+        public String toString() {
+            return "leaseWaitTimeout";
+        }
+    };
+
     static final Object RESUME_NEXT_PENDING_TRANSACTION = new Object() {
         @Override
         public String toString() {
@@ -209,6 +220,12 @@ public class Shard extends RaftActor {
     private Map<FrontendIdentifier, LeaderFrontendState> knownFrontends = ImmutableMap.of();
     private boolean paused;
 
+    // Requests waiting for the leader lease to be confirmed, in the order they were received, the time when the
+    // oldest of them started waiting and the scheduled check for them having waited too long
+    private final Deque<RequestEnvelope> leaseWaitingRequests = new ArrayDeque<>();
+    private long leaseWaitStartNanos;
+    private Cancellable leaseWaitTimeoutSchedule;
+
     private final MessageSlicer responseMessageSlicer;
     private final Dispatchers dispatchers;
 
@@ -315,6 +332,9 @@ public class Shard extends RaftActor {
         if (txCommitTimeoutCheckSchedule != null) {
             txCommitTimeoutCheckSchedule.cancel();
         }
+        if (leaseWaitTimeoutSchedule != null) {
+            leaseWaitTimeoutSchedule.cancel();
+        }
 
         commitCoordinator.abortPendingTransactions("Transaction aborted due to shutdown.", this);
 
@@ -416,6 +436,8 @@ public class Shard extends RaftActor {
                         (DataTreeCohortActorRegistry.CohortRegistryCommand) message);
             } else if (message instanceof MakeLeaderLocal) {
                 onMakeLeaderLocal();
+            } else if (LEASE_WAIT_TIMEOUT_MESSAGE.equals(message)) {
+                onLeaseWaitTimeout();
             } else if (RESUME_NEXT_PENDING_TRANSACTION.equals(message)) {
                 store.resumeNextPendingTransaction();
             } else if (GetKnownClients.INSTANCE.equals(message)) {
@@ -435,6 +457,10 @@ public class Shard extends RaftActor {
 
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void handleRequestEnvelope(final RequestEnvelope envelope) {
+        if (waitForLeaderLease(envelope)) {
+            return;
+        }
+
         final long now = ticker().read();
         try {
             final RequestSuccess<?, ?> success = handleRequest(envelope, now);
@@ -460,6 +486,78 @@ public class Shard extends RaftActor {
         }
     }
 
+    // With linearizable reads, reads are served only while we hold the leader lease, otherwise they wait for it to be
+    // renewed. Any subsequent requests are queued behind them, so requests are still processed in order. The queue is
+    // bounded by the transaction commit queue capacity and requests fail if the lease is not confirmed within an
+    // election timeout, as we are then unlikely to still be the leader. Failed requests are retried by the frontend.
+    private boolean waitForLeaderLease(final RequestEnvelope envelope) {
+        if (leaseWaitingRequests.isEmpty()) {
+            if (!datastoreContext.isLinearizableReads()
+                    || !(envelope.getMessage() instanceof AbstractReadPathTransactionRequest)
+                    || !isLeader() || hasLeaderLease()) {
+                return false;
+            }
+
+            LOG.debug("{}: renewing leader lease to serve {}", persistenceId(), envelope);
+            renewLeaderLease();
+            leaseWaitStartNanos = ticker().read();
+            if (leaseWaitTimeoutSchedule == null) {
+                scheduleLeaseWaitTimeout(leaseWaitTimeoutNanos());
+            }
+        } else if (leaseWaitingRequests.size() >= datastoreContext.getShardTransactionCommitQueueCapacity()) {
+            LOG.warn("{}: {} requests are waiting for leader lease, rejecting {}", persistenceId(),
+                leaseWaitingRequests.size(), envelope);
+            envelope.sendFailure(new NotLeaderException(getSelf()), 0);
+            return true;
+        }
+
+        leaseWaitingRequests.add(envelope);
+        return true;
+    }
+
+    private long leaseWaitTimeoutNanos() {
+        return datastoreContext.getShardRaftConfig().getElectionTimeOutInterval().toNanos();
+    }
+
+    private void scheduleLeaseWaitTimeout(final long delayNanos) {
+        leaseWaitTimeoutSchedule = getContext().system().scheduler().scheduleOnce(
+            FiniteDuration.create(delayNanos, TimeUnit.NANOSECONDS), getSelf(), LEASE_WAIT_TIMEOUT_MESSAGE,
+            getContext().dispatcher(), ActorRef.noSender());
+    }
+
+    // There is at most one check scheduled at any time. Requests may have been processed and new ones may have started
+    // waiting since it was scheduled, in which case it is rescheduled to expire when the oldest of them times out.
+    private void onLeaseWaitTimeout() {
+        leaseWaitTimeoutSchedule = null;
+        if (leaseWaitingRequests.isEmpty()) {
+            return;
+        }
+
+        final long now = ticker().read();
+        final long waitedNanos = now - leaseWaitStartNanos;
+        final long remainingNanos = leaseWaitTimeoutNanos() - waitedNanos;
+        if (remainingNanos > 0) {
+            scheduleLeaseWaitTimeout(remainingNanos);
+            return;
+        }
+
+        LOG.warn("{}: leader lease was not confirmed within {}ms, failing {} waiting requests", persistenceId(),
+            TimeUnit.NANOSECONDS.toMillis(waitedNanos), leaseWaitingRequests.size());
+        final var requests = List.copyOf(leaseWaitingRequests);
+        leaseWaitingRequests.clear();
+        requests.forEach(envelope -> envelope.sendFailure(new NotLeaderException(getSelf()), waitedNanos));
+    }
+
+    private void processLeaseWaitingRequests() {
+        if (!leaseWaitingRequests.isEmpty()) {
+            LOG.debug("{}: processing {} requests waiting for leader lease", persistenceId(),
+                leaseWaitingRequests.size());
+            final var requests = List.copyOf(leaseWaitingRequests);
+            leaseWaitingRequests.clear();
+            requests.forEach(this::handleRequestEnvelope);
+        }
+    }
+
     private void commitTimeoutCheck() {
         store.checkForExpiredTransactions(transactionCommitTimeout, this::updateAccess);
         commitCoordinator.checkForExpiredTransactions(transactionCommitTimeout, this);
@@ -965,10 +1063,11 @@ public class Shard extends RaftActor {
     @Override
     protected final RaftActorRecoveryCohort getRaftActorRecoveryCohort() {
         if (restoreFromSnapshot == null) {
-            return ShardRecoveryCoordinator.create(store, persistenceId(), LOG);
+            return ShardRecoveryCoordinator.create(store, persistenceId(), LOG, snapshotCohort.getSnapshotBase());
         }
 
-        return ShardRecoveryCoordinator.forSnapshot(store, persistenceId(), LOG, restoreFromSnapshot.getSnapshot());
+        return ShardRecoveryCoordinator.forSnapshot(store, persistenceId(), LOG, snapshotCohort.getSnapshotBase(),
+            restoreFromSnapshot.getSnapshot());
     }
 
     @Override
@@ -1008,12 +1107,20 @@ public class Shard extends RaftActor {
         }
     }
 
+    @Override
+    protected final void applyStateBatchComplete() {
+        store.applyPendingReplicatedCommits();
+    }
+
     @Override
     protected final void onStateChanged() {
         boolean isLeader = isLeader();
         boolean hasLeader = hasLeader();
         treeChangeSupport.onLeadershipChange(isLeader, hasLeader);
 
+        // Requests waiting for the leader lease are either served or rejected, depending on our new state
+        processLeaseWaitingRequests();
+
         // If this actor is no longer the leader close all the transaction chains
         if (!isLeader) {
             if (LOG.isDebugEnabled()) {
@@ -1082,6 +1189,11 @@ public class Shard extends RaftActor {
         }
     }
 
+    @Override
+    protected final void onLeaderLeaseConfirmed() {
+        processLeaseWaitingRequests();
+    }
+
     @Override
     protected final void pauseLeader(final Runnable operation) {
         LOG.debug("{}: In pauseLeader, operation: {}", persistenceId(), operation);
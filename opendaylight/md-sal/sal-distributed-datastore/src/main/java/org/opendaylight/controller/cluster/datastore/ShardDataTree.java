@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -58,6 +59,7 @@ import org.opendaylight.controller.cluster.datastore.persisted.CloseLocalHistory
 import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionPayload;
 import org.opendaylight.controller.cluster.datastore.persisted.CreateLocalHistoryPayload;
 import org.opendaylight.controller.cluster.datastore.persisted.DataTreeCandidateInputOutput.DataTreeCandidateWithVersion;
+import org.opendaylight.controller.cluster.datastore.persisted.DeltaShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.PayloadVersion;
 import org.opendaylight.controller.cluster.datastore.persisted.PurgeLocalHistoryPayload;
@@ -66,6 +68,7 @@ import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnap
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshotMetadata;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.datastore.persisted.SkipTransactionsPayload;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers.Phase;
 import org.opendaylight.controller.cluster.datastore.utils.DataTreeModificationOutput;
 import org.opendaylight.controller.cluster.datastore.utils.ImmutableUnsignedLongSet;
 import org.opendaylight.controller.cluster.datastore.utils.PruningDataTreeModification;
@@ -112,10 +115,13 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
     private static final class CommitEntry {
         final SimpleShardDataTreeCohort cohort;
         long lastAccess;
+        // Start of the current commit phase, for ShardStats
+        long phaseStart;
 
         CommitEntry(final SimpleShardDataTreeCohort cohort, final long now) {
             this.cohort = requireNonNull(cohort);
             lastAccess = now;
+            phaseStart = now;
         }
 
         @Override
@@ -146,6 +152,12 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
      */
     private final Map<Payload, Runnable> replicationCallbacks = new HashMap<>();
 
+    /**
+     * Transactions committed by the leader, which are being applied as a single modification once the current batch
+     * of replicated payloads has been applied.
+     */
+    private final List<CommitTransactionPayload> pendingReplicatedCommits = new ArrayList<>();
+
     private final ShardDataTreeChangeListenerPublisher treeChangeListenerPublisher;
     private final Collection<ShardDataTreeMetadata<?>> metadata;
     private final DataTree dataTree;
@@ -166,6 +178,11 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
 
     private int currentTransactionBatch;
 
+    // Statistics of CommitTransactionPayload decoding, exposed through ShardStats
+    private long decodedCandidateCount;
+    private long decodedCandidateBytes;
+    private long candidateDecodeNanos;
+
     ShardDataTree(final Shard shard, final EffectiveModelContext schemaContext, final DataTree dataTree,
             final ShardDataTreeChangeListenerPublisher treeChangeListenerPublisher,
             final String logContext,
@@ -211,6 +228,11 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         return shard.ticker().read();
     }
 
+    private void recordCommitPhase(final CommitEntry entry, final Phase phase, final long now) {
+        shard.getShardMBean().recordCommitPhase(phase, now - entry.phaseStart);
+        entry.phaseStart = now;
+    }
+
     final DataTree getDataTree() {
         return dataTree;
     }
@@ -236,6 +258,16 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
      * @return A state snapshot
      */
     @NonNull ShardDataTreeSnapshot takeStateSnapshot() {
+        return takeStateSnapshot(false);
+    }
+
+    /**
+     * Take a snapshot of current state for later recovery.
+     *
+     * @param parallelSerialization {@code true} if the snapshot should be serialized in parallel sections
+     * @return A state snapshot
+     */
+    @NonNull ShardDataTreeSnapshot takeStateSnapshot(final boolean parallelSerialization) {
         final NormalizedNode rootNode = takeSnapshot().readNode(YangInstanceIdentifier.of()).orElseThrow();
         final Builder<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metaBuilder =
                 ImmutableMap.builder();
@@ -247,7 +279,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
             }
         }
 
-        return new MetadataShardDataTreeSnapshot(rootNode, metaBuilder.build());
+        return new MetadataShardDataTreeSnapshot(rootNode, metaBuilder.build(), parallelSerialization);
     }
 
     private boolean anyPendingTransactions() {
@@ -265,6 +297,8 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> snapshotMeta;
         if (snapshot instanceof MetadataShardDataTreeSnapshot metaSnapshot) {
             snapshotMeta = metaSnapshot.getMetadata();
+        } else if (snapshot instanceof DeltaShardDataTreeSnapshot deltaSnapshot) {
+            snapshotMeta = deltaSnapshot.getMetadata();
         } else {
             snapshotMeta = ImmutableMap.of();
         }
@@ -287,6 +321,10 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
             // Add everything from the remote node back
             mod.write(YangInstanceIdentifier.of(), rootNode);
         });
+        if (snapshot instanceof DeltaShardDataTreeSnapshot deltaSnapshot) {
+            // ... and the changes made since the base snapshot
+            deltaSnapshot.applyChanges(mod);
+        }
 
         mod.ready();
 
@@ -333,7 +371,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
 
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void applyRecoveryCandidate(final CommitTransactionPayload payload) throws IOException {
-        final Entry<TransactionIdentifier, DataTreeCandidateWithVersion> entry = payload.acquireCandidate();
+        final Entry<TransactionIdentifier, DataTreeCandidateWithVersion> entry = decodeCandidate(payload);
         final DataTreeModification unwrapped = newModification();
         final PruningDataTreeModification mod = createPruningModification(unwrapped,
             NormalizedNodeStreamVersion.MAGNESIUM.compareTo(entry.getValue().version()) > 0);
@@ -394,9 +432,24 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         }
     }
 
-    private void applyReplicatedCandidate(final CommitTransactionPayload payload)
-            throws DataValidationFailedException, IOException {
+    /**
+     * Decode the candidate of a payload which is about to be applied. This is the only place the payload is decoded,
+     * so that payloads which are never applied, for example because an installed snapshot superseded them, are never
+     * decoded at all.
+     */
+    private Entry<TransactionIdentifier, DataTreeCandidateWithVersion> decodeCandidate(
+            final CommitTransactionPayload payload) throws IOException {
+        final long start = System.nanoTime();
+        // acquireCandidate() is the last call touching the payload data, as we want the candidate to be GC-ed
         final Entry<TransactionIdentifier, DataTreeCandidateWithVersion> entry = payload.acquireCandidate();
+        candidateDecodeNanos += System.nanoTime() - start;
+        decodedCandidateBytes += payload.size();
+        decodedCandidateCount++;
+        return entry;
+    }
+
+    private void applyReplicatedCandidate(final Entry<TransactionIdentifier, DataTreeCandidateWithVersion> entry)
+            throws DataValidationFailedException {
         final TransactionIdentifier identifier = entry.getKey();
         LOG.debug("{}: Applying foreign transaction {}", logContext, identifier);
 
@@ -414,10 +467,71 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         notifyListeners(candidate);
     }
 
+    /**
+     * Apply all transactions committed by the leader which have been deferred by
+     * {@link #applyReplicatedPayload(Identifier, Payload)} as a single modification, notifying listeners of the
+     * combined change. If the combined modification fails to apply, the transactions are applied one by one.
+     */
+    final void applyPendingReplicatedCommits() {
+        if (pendingReplicatedCommits.isEmpty()) {
+            return;
+        }
+
+        final var entries = new ArrayList<Entry<TransactionIdentifier, DataTreeCandidateWithVersion>>(
+            pendingReplicatedCommits.size());
+        final DataTreeModification mod = newModification();
+        for (var commit : pendingReplicatedCommits) {
+            final Entry<TransactionIdentifier, DataTreeCandidateWithVersion> entry;
+            try {
+                entry = decodeCandidate(commit);
+            } catch (IOException e) {
+                LOG.error("{}: Error applying replica {}", logContext, commit, e);
+                continue;
+            }
+            entries.add(entry);
+            DataTreeCandidates.applyToModification(mod, entry.getValue().candidate());
+        }
+        pendingReplicatedCommits.clear();
+        mod.ready();
+
+        LOG.debug("{}: Applying {} foreign transactions", logContext, entries.size());
+        LOG.trace("{}: Applying foreign modification {}", logContext, mod);
+        final DataTreeCandidate candidate;
+        try {
+            dataTree.validate(mod);
+            candidate = dataTree.prepare(mod);
+        } catch (DataValidationFailedException e) {
+            LOG.warn("{}: Failed to apply {} foreign transactions at once, applying them one by one", logContext,
+                entries.size(), e);
+            for (var entry : entries) {
+                try {
+                    applyReplicatedCandidate(entry);
+                    checkRootOverwrite(entry.getValue().candidate());
+                } catch (DataValidationFailedException ex) {
+                    LOG.error("{}: Error applying replica {}", logContext, entry.getKey(), ex);
+                }
+            }
+            return;
+        }
+        dataTree.commit(candidate);
+
+        for (var entry : entries) {
+            allMetadataCommittedTransaction(entry.getKey());
+        }
+        notifyListeners(candidate);
+        for (var entry : entries) {
+            checkRootOverwrite(entry.getValue().candidate());
+        }
+    }
+
     /**
      * Apply a payload coming from the leader, which could actually be us. This method assumes the leader and follower
      * SchemaContexts match and does not perform any pruning.
      *
+     * <p>
+     * If {@link DatastoreContext#isBatchReplicatedCommits()} is enabled, transactions committed by the leader are
+     * deferred until {@link #applyPendingReplicatedCommits()} is invoked. Any other payload applies them first.
+     *
      * @param identifier Payload identifier as returned from RaftActor
      * @param payload Payload
      * @throws IOException when the snapshot fails to deserialize
@@ -436,21 +550,32 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
          * In any case, we know that this is an entry coming from replication, hence we can be sure we will not observe
          * pre-Boron state -- which limits the number of options here.
          */
+        if (identifier == null && payload instanceof CommitTransactionPayload commit
+                && shard.getDatastoreContext().isBatchReplicatedCommits()) {
+            pendingReplicatedCommits.add(commit);
+            return;
+        }
+        applyPendingReplicatedCommits();
+
         if (payload instanceof CommitTransactionPayload commit) {
             if (identifier == null) {
-                applyReplicatedCandidate(commit);
+                final var entry = decodeCandidate(commit);
+                applyReplicatedCandidate(entry);
+                checkRootOverwrite(entry.getValue().candidate());
             } else {
                 verify(identifier instanceof TransactionIdentifier);
                 // if we did not track this transaction before, it means that it came from another leader and we are in
                 // the process of commiting it while in PreLeader state. That means that it hasnt yet been committed to
                 // the local DataTree and would be lost if it was only applied via payloadReplicationComplete().
                 if (!payloadReplicationComplete((TransactionIdentifier) identifier)) {
-                    applyReplicatedCandidate(commit);
+                    final var entry = decodeCandidate(commit);
+                    applyReplicatedCandidate(entry);
+                    checkRootOverwrite(entry.getValue().candidate());
+                } else if (isSnapshotOnRootOverwrite()) {
+                    // we have committed the transaction ourselves, the payload needs to be decoded only to check it
+                    checkRootOverwrite(decodeCandidate(commit).getValue().candidate());
                 }
             }
-
-            // make sure acquireCandidate() is the last call touching the payload data as we want it to be GC-ed.
-            checkRootOverwrite(((CommitTransactionPayload) payload).acquireCandidate().getValue().candidate());
         } else if (payload instanceof AbortTransactionPayload abort) {
             if (identifier != null) {
                 payloadReplicationComplete(abort);
@@ -486,14 +611,14 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         }
     }
 
-    private void checkRootOverwrite(final DataTreeCandidate candidate) {
+    private boolean isSnapshotOnRootOverwrite() {
         final DatastoreContext datastoreContext = shard.getDatastoreContext();
-        if (!datastoreContext.isSnapshotOnRootOverwrite()) {
-            return;
-        }
+        // FIXME: why don't we want a snapshot in non-persistent state?
+        return datastoreContext.isSnapshotOnRootOverwrite() && datastoreContext.isPersistent();
+    }
 
-        if (!datastoreContext.isPersistent()) {
-            // FIXME: why don't we want a snapshot in non-persistent state?
+    private void checkRootOverwrite(final DataTreeCandidate candidate) {
+        if (!isSnapshotOnRootOverwrite()) {
             return;
         }
 
@@ -536,6 +661,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
             return false;
         }
 
+        recordCommitPhase(current, Phase.REPLICATION, readTime());
         finishCommit(current.cohort);
         return true;
     }
@@ -744,6 +870,24 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         return pendingTransactions.size() + pendingCommits.size() + pendingFinishCommits.size();
     }
 
+    final long getDecodedCandidateCount() {
+        return decodedCandidateCount;
+    }
+
+    final long getDecodedCandidateBytes() {
+        return decodedCandidateBytes;
+    }
+
+    final long getCandidateDecodeNanos() {
+        return candidateDecodeNanos;
+    }
+
+    final void resetCandidateDecodeCounters() {
+        decodedCandidateCount = 0;
+        decodedCandidateBytes = 0;
+        candidateDecodeNanos = 0;
+    }
+
     @Override
     final void abortTransaction(final AbstractShardDataTreeTransaction<?> transaction, final Runnable callback) {
         final TransactionIdentifier id = transaction.getIdentifier();
@@ -833,12 +977,14 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
             final DataTreeModification modification = cohort.getDataTreeModification();
 
             LOG.debug("{}: Validating transaction {}", logContext, cohort.getIdentifier());
+            recordCommitPhase(entry, Phase.QUEUE, readTime());
             Exception cause;
             try {
                 tip.validate(modification);
                 LOG.debug("{}: Transaction {} validated", logContext, cohort.getIdentifier());
-                cohort.successfulCanCommit();
                 entry.lastAccess = readTime();
+                recordCommitPhase(entry, Phase.CAN_COMMIT, entry.lastAccess);
+                cohort.successfulCanCommit();
                 return;
             } catch (ConflictingModificationAppliedException e) {
                 LOG.warn("{}: Store Tx {}: Conflicting modification for path {}.", logContext, cohort.getIdentifier(),
@@ -1026,6 +1172,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
 
         final TransactionIdentifier currentId = current.getIdentifier();
         LOG.debug("{}: Preparing transaction {}", logContext, currentId);
+        entry.phaseStart = readTime();
 
         final DataTreeCandidateTip candidate;
         try {
@@ -1043,6 +1190,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
                 tip = verifyNotNull(candidate);
 
                 entry.lastAccess = readTime();
+                recordCommitPhase(entry, Phase.PRE_COMMIT, entry.lastAccess);
 
                 pendingTransactions.remove();
                 pendingCommits.add(entry);
@@ -1094,7 +1242,9 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         // FIXME: propagate journal index
         pendingFinishCommits.poll().cohort.successfulCommit(UnsignedLong.ZERO, () -> {
             LOG.trace("{}: Transaction {} committed, proceeding to notify", logContext, txId);
+            final long notifyStart = readTime();
             notifyListeners(candidate);
+            shard.getShardMBean().recordCommitPhase(Phase.NOTIFICATION, readTime() - notifyStart);
 
             processNextPending();
         });
@@ -1112,6 +1262,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         }
 
         LOG.debug("{}: Starting commit for transaction {}", logContext, current.getIdentifier());
+        entry.phaseStart = readTime();
 
         final TransactionIdentifier txId = cohort.getIdentifier();
         final Payload payload;
@@ -1144,6 +1295,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         boolean replicationBatchHint = peekNextPendingCommit();
 
         // Once completed, we will continue via payloadReplicationComplete
+        recordCommitPhase(entry, Phase.COMMIT, readTime());
         shard.persistPayload(txId, payload, replicationBatchHint);
 
         entry.lastAccess = shard.ticker().read();
@@ -11,6 +11,9 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.datastore.persisted.DeltaShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.datastore.utils.NormalizedNodeXMLOutput;
@@ -31,8 +34,9 @@ import org.slf4j.Logger;
  */
 abstract class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
     private static final class Simple extends ShardRecoveryCoordinator {
-        Simple(final ShardDataTree store, final String shardName, final Logger log) {
-            super(store, shardName, log);
+        Simple(final ShardDataTree store, final String shardName, final Logger log,
+                final ShardSnapshotBase snapshotBase) {
+            super(store, shardName, log, snapshotBase);
         }
 
         @Override
@@ -44,8 +48,9 @@ abstract class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
     private static final class WithSnapshot extends ShardRecoveryCoordinator {
         private final Snapshot restoreFromSnapshot;
 
-        WithSnapshot(final ShardDataTree store, final String shardName, final Logger log, final Snapshot snapshot) {
-            super(store, shardName, log);
+        WithSnapshot(final ShardDataTree store, final String shardName, final Logger log,
+                final ShardSnapshotBase snapshotBase, final Snapshot snapshot) {
+            super(store, shardName, log, snapshotBase);
             restoreFromSnapshot = requireNonNull(snapshot);
         }
 
@@ -58,22 +63,35 @@ abstract class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
     private final ShardDataTree store;
     private final String shardName;
     private final Logger log;
+    private final @Nullable ShardSnapshotBase snapshotBase;
 
     private boolean open;
 
-    ShardRecoveryCoordinator(final ShardDataTree store, final String shardName, final Logger log) {
+    ShardRecoveryCoordinator(final ShardDataTree store, final String shardName, final Logger log,
+            final @Nullable ShardSnapshotBase snapshotBase) {
         this.store = requireNonNull(store);
         this.shardName = requireNonNull(shardName);
         this.log = requireNonNull(log);
+        this.snapshotBase = snapshotBase;
     }
 
     static ShardRecoveryCoordinator create(final ShardDataTree store, final String shardName, final Logger log) {
-        return new Simple(store, shardName, log);
+        return create(store, shardName, log, null);
+    }
+
+    static ShardRecoveryCoordinator create(final ShardDataTree store, final String shardName, final Logger log,
+            final @Nullable ShardSnapshotBase snapshotBase) {
+        return new Simple(store, shardName, log, snapshotBase);
     }
 
     static ShardRecoveryCoordinator forSnapshot(final ShardDataTree store, final String shardName, final Logger log,
             final Snapshot snapshot) {
-        return new WithSnapshot(store, shardName, log, snapshot);
+        return forSnapshot(store, shardName, log, null, snapshot);
+    }
+
+    static ShardRecoveryCoordinator forSnapshot(final ShardDataTree store, final String shardName, final Logger log,
+            final @Nullable ShardSnapshotBase snapshotBase, final Snapshot snapshot) {
+        return new WithSnapshot(store, shardName, log, snapshotBase, snapshot);
     }
 
     @Override
@@ -126,7 +144,14 @@ abstract class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
         }
 
         log.debug("{}: Applying recovered snapshot", shardName);
-        final ShardSnapshotState shardSnapshotState = (ShardSnapshotState)snapshotState;
+        final ShardSnapshotState shardSnapshotState;
+        try {
+            shardSnapshotState = resolveSnapshot((ShardSnapshotState) snapshotState);
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("%s: Failed to resolve base of recovery snapshot %s",
+                shardName, ((ShardSnapshotState) snapshotState).getSnapshot()), e);
+        }
+
         try {
             store.applyRecoverySnapshot(shardSnapshotState);
         } catch (Exception e) {
@@ -137,4 +162,14 @@ abstract class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
                     shardName, shardSnapshot, f), e);
         }
     }
+
+    private ShardSnapshotState resolveSnapshot(final ShardSnapshotState snapshotState) throws IOException {
+        if (snapshotBase != null) {
+            return snapshotBase.resolve(snapshotState);
+        }
+        if (snapshotState.getSnapshot() instanceof DeltaShardDataTreeSnapshot delta && !delta.isBaseAttached()) {
+            throw new IOException("Incremental snapshot " + delta + " cannot be resolved without its base");
+        }
+        return snapshotState;
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.datastore.persisted.DeltaShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
+import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedNodeContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains the full base snapshot of a shard, against which snapshots are persisted incrementally as
+ * {@link DeltaShardDataTreeSnapshot}s. Base snapshots are stored in their own files, as the snapshot store retains only
+ * the latest snapshot. The two most recent base files are retained, so that the previously persisted snapshot remains
+ * usable until the one referencing a new base has been persisted.
+ *
+ * <p>
+ * Changes are computed by comparing the current data tree against the base root node. Unmodified subtrees of the data
+ * tree are shared with the base, hence we need to descend only into nodes which are not identical.
+ *
+ * <p>
+ * Snapshots are converted on the snapshot actor, while recovery and snapshot installation happen on the shard actor,
+ * hence all methods are synchronized.
+ */
+final class ShardSnapshotBase {
+    private static final Logger LOG = LoggerFactory.getLogger(ShardSnapshotBase.class);
+    private static final String BASE_EXTENSION = ".snapshot";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int RETAINED_BASE_FILES = 2;
+
+    private final InputOutputStreamFactory streamFactory;
+    private final File directory;
+    private final String shardName;
+    private final int interval;
+
+    // Root node of the current base, null if the next snapshot needs to be a new base
+    private NormalizedNode baseRoot;
+    private long baseId;
+    private int deltaCount;
+
+    ShardSnapshotBase(final InputOutputStreamFactory streamFactory, final File directory, final String shardName,
+            final int interval) {
+        this.streamFactory = requireNonNull(streamFactory);
+        this.directory = requireNonNull(directory);
+        this.shardName = requireNonNull(shardName);
+        this.interval = interval;
+    }
+
+    /**
+     * Return the form in which a snapshot should be persisted. If incremental snapshots are enabled, this is either a
+     * {@link DeltaShardDataTreeSnapshot} against the current base, or a new base is written and an empty delta against
+     * it is returned. If incremental snapshots are disabled, or the base cannot be written, the snapshot is returned
+     * unchanged.
+     *
+     * @param snapshot a full snapshot
+     * @return the snapshot to persist
+     */
+    synchronized @NonNull ShardDataTreeSnapshot toPersisted(final @NonNull ShardDataTreeSnapshot snapshot) {
+        if (interval == 0 || !(snapshot instanceof MetadataShardDataTreeSnapshot full)) {
+            return snapshot;
+        }
+
+        final var root = full.getRootNode().orElseThrow();
+        if (baseRoot == null || deltaCount >= interval) {
+            final long newBaseId = Math.max(baseId + 1, System.currentTimeMillis());
+            try {
+                writeBase(newBaseId, full);
+            } catch (IOException e) {
+                LOG.warn("{}: failed to write base snapshot, persisting full snapshot", shardName, e);
+                baseRoot = null;
+                return snapshot;
+            }
+
+            LOG.debug("{}: wrote base snapshot {}", shardName, newBaseId);
+            baseId = newBaseId;
+            baseRoot = root;
+            deltaCount = 0;
+        }
+
+        final var changes = new LinkedHashMap<YangInstanceIdentifier, Optional<NormalizedNode>>();
+        diff(YangInstanceIdentifier.of(), baseRoot, root, changes);
+        deltaCount++;
+        LOG.debug("{}: persisting {} changes against base snapshot {}", shardName, changes.size(), baseId);
+        return new DeltaShardDataTreeSnapshot(baseId, baseRoot, changes, full.getMetadata());
+    }
+
+    /**
+     * Resolve a recovered snapshot, attaching the base to it if it is a {@link DeltaShardDataTreeSnapshot}. The base
+     * becomes the current base for subsequent snapshots.
+     *
+     * @param state the recovered snapshot state
+     * @return the state to apply
+     * @throws IOException if the base snapshot cannot be read
+     */
+    synchronized @NonNull ShardSnapshotState resolve(final @NonNull ShardSnapshotState state) throws IOException {
+        if (!(state.getSnapshot() instanceof DeltaShardDataTreeSnapshot delta)) {
+            baseRoot = null;
+            return state;
+        }
+        if (delta.isBaseAttached()) {
+            return state;
+        }
+
+        final var file = baseFile(delta.getBaseId(), BASE_EXTENSION);
+        final ShardDataTreeSnapshot base;
+        try (var in = new ObjectInputStream(streamFactory.createInputStream(file))) {
+            base = ShardDataTreeSnapshot.deserialize(in).getSnapshot();
+        }
+
+        LOG.debug("{}: attached base snapshot {} to recovered snapshot", shardName, delta.getBaseId());
+        final var root = base.getRootNode().orElseThrow();
+        baseId = delta.getBaseId();
+        baseRoot = root;
+        deltaCount = 0;
+        return new ShardSnapshotState(delta.withBaseRoot(root), state.needsMigration());
+    }
+
+    /**
+     * Forget the current base, so that the next snapshot writes a new one. This needs to be invoked when the data tree
+     * is replaced by a full snapshot.
+     */
+    synchronized void reset() {
+        baseRoot = null;
+    }
+
+    private void writeBase(final long id, final ShardDataTreeSnapshot snapshot) throws IOException {
+        Files.createDirectories(directory.toPath());
+
+        final var temp = baseFile(id, TEMP_EXTENSION);
+        try (var out = new ObjectOutputStream(streamFactory.wrapOutputStream(new FileOutputStream(temp)))) {
+            snapshot.serialize(out);
+        }
+        // The persisted snapshot will refer to this file, make sure it is durable
+        try (var channel = FileChannel.open(temp.toPath(), StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp.toPath(), baseFile(id, BASE_EXTENSION).toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+        deleteOldBases();
+    }
+
+    private void deleteOldBases() {
+        final var prefix = shardName + '-';
+        final var files = directory.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(BASE_EXTENSION)
+            && baseFileId(name, prefix) > 0);
+        if (files == null || files.length <= RETAINED_BASE_FILES) {
+            return;
+        }
+
+        Arrays.sort(files, (first, second) -> Long.compare(baseFileId(second.getName(), prefix),
+            baseFileId(first.getName(), prefix)));
+        for (int i = RETAINED_BASE_FILES; i < files.length; ++i) {
+            try {
+                Files.deleteIfExists(files[i].toPath());
+            } catch (IOException e) {
+                LOG.warn("{}: failed to delete base snapshot {}", shardName, files[i], e);
+            }
+        }
+    }
+
+    private File baseFile(final long id, final String extension) {
+        return new File(directory, shardName + '-' + id + extension);
+    }
+
+    private static long baseFileId(final String fileName, final String prefix) {
+        try {
+            return Long.parseLong(fileName.substring(prefix.length(), fileName.length() - BASE_EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void diff(final YangInstanceIdentifier path, final NormalizedNode base,
+            final NormalizedNode current, final Map<YangInstanceIdentifier, Optional<NormalizedNode>> changes) {
+        if (base == current) {
+            return;
+        }
+        // Ordered lists are replaced as a whole, as their order would not survive individual writes
+        if (!(base instanceof DistinctNodeContainer) || !(current instanceof DistinctNodeContainer)
+                || base instanceof OrderedNodeContainer || current instanceof OrderedNodeContainer) {
+            changes.put(path, Optional.of(current));
+            return;
+        }
+
+        final var baseContainer = (DistinctNodeContainer<PathArgument, NormalizedNode>) base;
+        final var currentContainer = (DistinctNodeContainer<PathArgument, NormalizedNode>) current;
+        for (var child : currentContainer.body()) {
+            final var childPath = path.node(child.name());
+            final var baseChild = baseContainer.childByArg(child.name());
+            if (baseChild != null) {
+                diff(childPath, baseChild, child, changes);
+            } else {
+                changes.put(childPath, Optional.of(child));
+            }
+        }
+        for (var child : baseContainer.body()) {
+            if (currentContainer.childByArg(child.name()) == null) {
+                changes.put(path.node(child.name()), Optional.empty());
+            }
+        }
+    }
+}
@@ -12,16 +12,19 @@ import static java.util.Objects.requireNonNull;
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import com.google.common.io.ByteSource;
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.OutputStream;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.FrontendIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.FrontendType;
 import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.actors.ShardSnapshotActor;
+import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
@@ -40,15 +43,22 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
 
     private final InputOutputStreamFactory streamFactory;
     private final ActorRef snapshotActor;
+    private final ShardSnapshotBase snapshotBase;
+    private final ActorRef self;
     private final ShardDataTree store;
+    private final boolean parallelSerialization;
     private final String logId;
     private final Logger log;
 
     ShardSnapshotCohort(final InputOutputStreamFactory streamFactory, final LocalHistoryIdentifier applyHistoryId,
-            final ActorRef snapshotActor, final ShardDataTree store, final Logger log, final String logId) {
+            final ActorRef snapshotActor, final ShardSnapshotBase snapshotBase, final ActorRef self,
+            final ShardDataTree store, final boolean parallelSerialization, final Logger log, final String logId) {
         this.streamFactory = requireNonNull(streamFactory);
         this.snapshotActor = requireNonNull(snapshotActor);
+        this.snapshotBase = requireNonNull(snapshotBase);
+        this.self = requireNonNull(self);
         this.store = requireNonNull(store);
+        this.parallelSerialization = parallelSerialization;
         this.log = log;
         this.logId = logId;
     }
@@ -63,19 +73,30 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
                 ? InputOutputStreamFactory.lz4("256KB") : InputOutputStreamFactory.simple();
         // Create a snapshot actor. This actor will act as a worker to offload snapshot serialization for all
         // requests.
-        final ActorRef snapshotActor = actorContext.actorOf(ShardSnapshotActor.props(streamFactory),
-                snapshotActorName);
+        final ActorRef snapshotActor = actorContext.actorOf(ShardSnapshotActor.props(streamFactory,
+                context.isPersistSerializedInstallSnapshot()), snapshotActorName);
 
-        return new ShardSnapshotCohort(streamFactory, applyHistoryId, snapshotActor, store, log, logId);
+        final ShardSnapshotBase snapshotBase = new ShardSnapshotBase(streamFactory,
+            new File(context.getIncrementalSnapshotBaseDir()), logId, context.getIncrementalSnapshotInterval());
+
+        return new ShardSnapshotCohort(streamFactory, applyHistoryId, snapshotActor, snapshotBase,
+            actorContext.self(), store, context.isUseParallelSnapshotSerialization(), log, logId);
+    }
+
+    ShardSnapshotBase getSnapshotBase() {
+        return snapshotBase;
     }
 
     @Override
     public void createSnapshot(final ActorRef actorRef, final Optional<OutputStream> installSnapshotStream) {
         // Forward the request to the snapshot actor
-        final ShardDataTreeSnapshot snapshot = store.takeStateSnapshot();
+        final ShardDataTreeSnapshot snapshot = store.takeStateSnapshot(parallelSerialization);
         log.debug("{}: requesting serialization of snapshot {}", logId, snapshot);
 
-        ShardSnapshotActor.requestSnapshot(snapshotActor, snapshot, installSnapshotStream, actorRef);
+        // Only snapshots persisted by the shard itself may be incremental, others are handed out to third parties
+        final UnaryOperator<ShardDataTreeSnapshot> persistedForm = self.equals(actorRef) ? snapshotBase::toPersisted
+            : UnaryOperator.identity();
+        ShardSnapshotActor.requestSnapshot(snapshotActor, snapshot, installSnapshotStream, persistedForm, actorRef);
     }
 
     @Override
@@ -93,6 +114,9 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
 
         log.info("{}: Applying snapshot", logId);
 
+        // The data tree is being replaced, subsequent snapshots need a new base
+        snapshotBase.reset();
+
         try {
             store.applySnapshot(snapshot);
         } catch (Exception e) {
@@ -105,8 +129,16 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
 
     @Override
     public State deserializeSnapshot(final ByteSource snapshotBytes) throws IOException {
+        final ShardSnapshotState state;
         try (ObjectInputStream in = new ObjectInputStream(streamFactory.createInputStream(snapshotBytes))) {
-            return ShardDataTreeSnapshot.deserialize(in);
+            state = ShardDataTreeSnapshot.deserialize(in);
+        }
+
+        // The snapshot may be persisted again, in which case it should be serialized as configured for this shard
+        if (state.getSnapshot() instanceof MetadataShardDataTreeSnapshot snapshot) {
+            return new ShardSnapshotState(snapshot.withParallelSerialization(parallelSerialization),
+                state.needsMigration());
         }
+        return state;
     }
 }
@@ -14,10 +14,14 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.datastore.jmx.mbeans.shard.ShardStatsMXBean;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers.Phase;
+import org.opendaylight.controller.cluster.mgmt.api.CommitPhaseLatency;
 import org.opendaylight.controller.cluster.mgmt.api.FollowerInfo;
 import org.opendaylight.controller.cluster.raft.base.messages.InitiateCaptureSnapshot;
 import org.opendaylight.controller.cluster.raft.client.messages.OnDemandRaftState;
@@ -40,6 +44,8 @@ final class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
 
     private final OnDemandShardStateCache stateCache;
 
+    private final CommitPhaseTimers commitPhaseTimers;
+
     private long committedTransactionsCount;
 
     private long readOnlyTransactionCount;
@@ -66,6 +72,7 @@ final class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
         super(shardName, mxBeanType, JMX_CATEGORY_SHARD);
         this.shard = shard;
         stateCache = new OnDemandShardStateCache(shardName, shard != null ? shard.self() : null);
+        commitPhaseTimers = new CommitPhaseTimers(shardName, Phase.values());
     }
 
     static ShardStats create(final String shardName, final String mxBeanType, final @NonNull Shard shard) {
@@ -239,6 +246,15 @@ final class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
         this.lastCommittedTransactionTime = lastCommittedTransactionTime;
     }
 
+    public void recordCommitPhase(final Phase phase, final long elapsedNanos) {
+        commitPhaseTimers.update(phase, elapsedNanos);
+    }
+
+    @Override
+    public List<CommitPhaseLatency> getCommitPhaseLatencies() {
+        return commitPhaseTimers.getLatencies();
+    }
+
     @Override
     public long getInMemoryJournalDataSize() {
         return getOnDemandRaftState().getInMemoryJournalDataSize();
@@ -268,6 +284,9 @@ final class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
 
         abortTransactionsCount = 0;
 
+        if (shard != null) {
+            shard.getDataStore().resetCandidateDecodeCounters();
+        }
     }
 
     public void setFollowerInitialSyncStatus(final boolean followerInitialSyncStatus) {
@@ -326,6 +345,21 @@ final class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
         return shard != null ? shard.getCohortCacheSize() : -1;
     }
 
+    @Override
+    public long getDecodedCandidateCount() {
+        return shard != null ? shard.getDataStore().getDecodedCandidateCount() : -1;
+    }
+
+    @Override
+    public long getDecodedCandidateBytes() {
+        return shard != null ? shard.getDataStore().getDecodedCandidateBytes() : -1;
+    }
+
+    @Override
+    public long getCandidateDecodeTimeMillis() {
+        return shard != null ? TimeUnit.NANOSECONDS.toMillis(shard.getDataStore().getCandidateDecodeNanos()) : -1;
+    }
+
     @Override
     public void captureSnapshot() {
         if (shard != null) {
@@ -11,13 +11,16 @@ import static java.util.Objects.requireNonNull;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import com.google.common.io.ByteSource;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActorWithMetering;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
+import org.opendaylight.controller.cluster.io.FileBackedOutputStream;
 import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
 import org.opendaylight.controller.cluster.raft.base.messages.CaptureSnapshotReply;
 
@@ -32,12 +35,14 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
     private static final class SerializeSnapshot {
         private final ShardDataTreeSnapshot snapshot;
         private final Optional<OutputStream> installSnapshotStream;
+        private final UnaryOperator<ShardDataTreeSnapshot> persistedForm;
         private final ActorRef replyTo;
 
         SerializeSnapshot(final ShardDataTreeSnapshot snapshot, final Optional<OutputStream> installSnapshotStream,
-                final ActorRef replyTo) {
+                final UnaryOperator<ShardDataTreeSnapshot> persistedForm, final ActorRef replyTo) {
             this.snapshot = requireNonNull(snapshot);
             this.installSnapshotStream = requireNonNull(installSnapshotStream);
+            this.persistedForm = requireNonNull(persistedForm);
             this.replyTo = requireNonNull(replyTo);
         }
 
@@ -49,6 +54,10 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
             return installSnapshotStream;
         }
 
+        UnaryOperator<ShardDataTreeSnapshot> getPersistedForm() {
+            return persistedForm;
+        }
+
         ActorRef getReplyTo() {
             return replyTo;
         }
@@ -58,10 +67,13 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
     private static final String ACTOR_NAME_FOR_METERING = "shard-snapshot";
 
     private final InputOutputStreamFactory streamFactory;
+    private final boolean persistSerializedInstallSnapshot;
 
-    private ShardSnapshotActor(final InputOutputStreamFactory streamFactory) {
+    private ShardSnapshotActor(final InputOutputStreamFactory streamFactory,
+            final boolean persistSerializedInstallSnapshot) {
         super(ACTOR_NAME_FOR_METERING);
         this.streamFactory = requireNonNull(streamFactory);
+        this.persistSerializedInstallSnapshot = persistSerializedInstallSnapshot;
     }
 
     @Override
@@ -74,18 +86,30 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
     }
 
     private void onSerializeSnapshot(final SerializeSnapshot request) {
+        final ShardDataTreeSnapshot snapshot = request.getSnapshot();
         Optional<OutputStream> installSnapshotStream = request.getInstallSnapshotStream();
+        ByteSource serializedSnapshot = null;
         if (installSnapshotStream.isPresent()) {
-            try (ObjectOutputStream out = getOutputStream(installSnapshotStream.orElseThrow())) {
-                request.getSnapshot().serialize(out);
+            final OutputStream stream = installSnapshotStream.orElseThrow();
+            try {
+                try (ObjectOutputStream out = getOutputStream(stream)) {
+                    snapshot.serialize(out);
+                }
+                if (persistSerializedInstallSnapshot && stream instanceof FileBackedOutputStream fileBacked) {
+                    serializedSnapshot = fileBacked.asByteSource();
+                }
             } catch (IOException e) {
                 // TODO - we should communicate the failure in the CaptureSnapshotReply.
                 LOG.error("Error serializing snapshot", e);
             }
         }
 
-        request.getReplyTo().tell(new CaptureSnapshotReply(new ShardSnapshotState(request.getSnapshot()),
-                installSnapshotStream), ActorRef.noSender());
+        // The install snapshot always carries the full snapshot, only the locally-persisted state may be incremental
+        final ShardDataTreeSnapshot persisted = request.getPersistedForm().apply(snapshot);
+        // Persist the full snapshot in the form serialized above, so that we serialize it only once
+        final ShardSnapshotState state = persisted == snapshot && serializedSnapshot != null
+            ? new ShardSnapshotState(snapshot, serializedSnapshot) : new ShardSnapshotState(persisted);
+        request.getReplyTo().tell(new CaptureSnapshotReply(state, installSnapshotStream), ActorRef.noSender());
     }
 
     private ObjectOutputStream getOutputStream(final OutputStream outputStream) throws IOException {
@@ -103,10 +127,41 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
      */
     public static void requestSnapshot(final ActorRef snapshotActor, final ShardDataTreeSnapshot snapshot,
             final Optional<OutputStream> installSnapshotStream, final ActorRef replyTo) {
-        snapshotActor.tell(new SerializeSnapshot(snapshot, installSnapshotStream, replyTo), ActorRef.noSender());
+        requestSnapshot(snapshotActor, snapshot, installSnapshotStream, UnaryOperator.identity(), replyTo);
+    }
+
+    /**
+     * Sends a request to a ShardSnapshotActor to process a snapshot and send a CaptureSnapshotReply, whose state
+     * is the form of the snapshot to be persisted locally.
+     *
+     * @param snapshotActor the ShardSnapshotActor
+     * @param snapshot the snapshot to process
+     * @param installSnapshotStream Optional OutputStream that is present if the snapshot is to also be installed
+     *        on a follower.
+     * @param persistedForm function returning the form of the snapshot to persist, invoked on the ShardSnapshotActor
+     * @param replyTo the actor to which to send the CaptureSnapshotReply
+     */
+    public static void requestSnapshot(final ActorRef snapshotActor, final ShardDataTreeSnapshot snapshot,
+            final Optional<OutputStream> installSnapshotStream,
+            final UnaryOperator<ShardDataTreeSnapshot> persistedForm, final ActorRef replyTo) {
+        snapshotActor.tell(new SerializeSnapshot(snapshot, installSnapshotStream, persistedForm, replyTo),
+            ActorRef.noSender());
     }
 
     public static Props props(final InputOutputStreamFactory streamFactory) {
-        return Props.create(ShardSnapshotActor.class, streamFactory);
+        return props(streamFactory, false);
+    }
+
+    /**
+     * Returns Props for a ShardSnapshotActor.
+     *
+     * @param streamFactory factory for streams snapshots are serialized into
+     * @param persistSerializedInstallSnapshot whether snapshots which are also to be installed on a follower should be
+     *        persisted in the form serialized for the follower, rather than being serialized again
+     * @return Props for a ShardSnapshotActor
+     */
+    public static Props props(final InputOutputStreamFactory streamFactory,
+            final boolean persistSerializedInstallSnapshot) {
+        return Props.create(ShardSnapshotActor.class, streamFactory, persistSerializedInstallSnapshot);
     }
 }
@@ -13,6 +13,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigObject;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,7 +59,12 @@ abstract class AbstractModuleShardConfigProvider implements ModuleShardConfigPro
             final String moduleName = moduleShardConfigObject.get("name").unwrapped().toString();
             final ModuleConfig.Builder builder = ModuleConfig.builder(moduleName);
 
-            for (final ConfigObject shard : moduleShardConfigObject.toConfig().getObjectList("shards")) {
+            final Config moduleShardConfig = moduleShardConfigObject.toConfig();
+            if (moduleShardConfig.hasPath("partitioned-list")) {
+                builder.partitionedList(splitNodePath(moduleShardConfig.getString("partitioned-list")));
+            }
+
+            for (final ConfigObject shard : moduleShardConfig.getObjectList("shards")) {
                 final String shardName = shard.get("name").unwrapped().toString();
                 final List<MemberName> replicas = shard.toConfig().getStringList("replicas").stream()
                         .map(MemberName::forName).collect(Collectors.toList());
@@ -71,6 +77,26 @@ abstract class AbstractModuleShardConfigProvider implements ModuleShardConfigPro
         return moduleConfigMap;
     }
 
+    // Node names may be QNames, whose namespace may contain slashes, e.g. "(http://example.com/ns)name"
+    private static List<String> splitNodePath(final String path) {
+        final List<String> ret = new ArrayList<>();
+        int start = 0;
+        boolean inNamespace = false;
+        for (int i = 0; i < path.length(); ++i) {
+            final char ch = path.charAt(i);
+            if (ch == '(') {
+                inNamespace = true;
+            } else if (ch == ')') {
+                inNamespace = false;
+            } else if (ch == '/' && !inNamespace) {
+                ret.add(path.substring(start, i));
+                start = i + 1;
+            }
+        }
+        ret.add(path.substring(start));
+        return ret;
+    }
+
     private static final class ConfigObjectWrapper {
         private final ConfigObject configObject;
 
@@ -8,11 +8,13 @@
 package org.opendaylight.controller.cluster.datastore.config;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
+import org.opendaylight.yangtools.yang.common.QName;
 
 public interface Configuration {
 
@@ -32,6 +34,17 @@ public interface Configuration {
      */
     @Nullable String getShardNameForModule(@NonNull String moduleName);
 
+    /**
+     * Returns all the shard names configured for the given module.
+     */
+    @NonNull Collection<String> getShardNamesForModule(@NonNull String moduleName);
+
+    /**
+     * Returns the path of the list whose entries are partitioned across the shards of the given module, as the names
+     * of the nodes leading to it, or an empty list if none is configured.
+     */
+    @NonNull List<QName> getPartitionedListForModule(@NonNull String moduleName);
+
     /**
      * Returns the member replicas for the given shard name.
      */
@@ -23,6 +23,7 @@ import java.util.Set;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
+import org.opendaylight.yangtools.yang.common.QName;
 
 // FIXME: Non-final for testing
 public class ConfigurationImpl implements Configuration {
@@ -109,6 +110,18 @@ public class ConfigurationImpl implements Configuration {
         return null;
     }
 
+    @Override
+    public Collection<String> getShardNamesForModule(final String moduleName) {
+        ModuleConfig moduleConfig = getModuleConfig(moduleName);
+        return moduleConfig != null ? moduleConfig.getShardNames() : List.of();
+    }
+
+    @Override
+    public List<QName> getPartitionedListForModule(final String moduleName) {
+        ModuleConfig moduleConfig = getModuleConfig(moduleName);
+        return moduleConfig != null ? moduleConfig.getPartitionedList() : List.of();
+    }
+
     private ModuleConfig getModuleConfig(final String moduleName) {
         return moduleConfigMap.get(requireNonNull(moduleName, "moduleName should not be null"));
     }
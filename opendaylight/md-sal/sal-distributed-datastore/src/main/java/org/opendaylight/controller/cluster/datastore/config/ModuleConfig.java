@@ -7,16 +7,20 @@
  */
 package org.opendaylight.controller.cluster.datastore.config;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
 
 /**
  * Encapsulates configuration for a module.
@@ -28,13 +32,15 @@ public final class ModuleConfig {
     private final String namespace;
     private final ShardStrategy shardStrategy;
     private final Map<String, ShardConfig> shardConfigs;
+    private final List<QName> partitionedList;
 
     ModuleConfig(final String name, final String namespace, final ShardStrategy shardStrategy,
-            final Map<String, ShardConfig> shardConfigs) {
+            final Map<String, ShardConfig> shardConfigs, final List<QName> partitionedList) {
         this.name = requireNonNull(name);
         this.namespace = namespace;
         this.shardStrategy = shardStrategy;
         this.shardConfigs = shardConfigs;
+        this.partitionedList = requireNonNull(partitionedList);
     }
 
     public @NonNull String getName() {
@@ -61,6 +67,17 @@ public final class ModuleConfig {
         return shardConfigs.keySet();
     }
 
+    /**
+     * Returns the path of the list whose entries are partitioned across the shards of this module, as the names of the
+     * nodes leading to it, starting with the module's top-level container. Names which were configured without
+     * a revision match any revision of their module.
+     *
+     * @return the list path, empty if no list is partitioned
+     */
+    public @NonNull List<QName> getPartitionedList() {
+        return partitionedList;
+    }
+
     public static Builder builder(final String name) {
         return new Builder(name);
     }
@@ -74,6 +91,7 @@ public final class ModuleConfig {
         private String nameSpace;
         private ShardStrategy shardStrategy;
         private final Map<String, ShardConfig> shardConfigs = new HashMap<>();
+        private List<String> partitionedList = List.of();
 
         Builder(final String name) {
             this.name = name;
@@ -83,6 +101,8 @@ public final class ModuleConfig {
             this.name = moduleConfig.getName();
             this.nameSpace = moduleConfig.getNamespace();
             this.shardStrategy = moduleConfig.getShardStrategy();
+            // The string form of a QName resolves back to the same QName
+            this.partitionedList = moduleConfig.getPartitionedList().stream().map(QName::toString).toList();
             for (ShardConfig shardConfig : moduleConfig.getShardConfigs()) {
                 shardConfigs.put(shardConfig.getName(), shardConfig);
             }
@@ -108,8 +128,31 @@ public final class ModuleConfig {
             return this;
         }
 
+        /**
+         * Sets the path of the partitioned list. Each element is either the local name of a node defined in this
+         * module's namespace, or the string form of a QName, i.e. {@code (namespace?revision=revision)local-name} or
+         * {@code (namespace)local-name}, for nodes defined in other modules, such as augmentations.
+         *
+         * @param newPartitionedList the node names leading to the list
+         * @return this builder
+         */
+        public Builder partitionedList(final List<String> newPartitionedList) {
+            this.partitionedList = List.copyOf(newPartitionedList);
+            return this;
+        }
+
         public ModuleConfig build() {
-            return new ModuleConfig(name, nameSpace, shardStrategy, ImmutableMap.copyOf(shardConfigs));
+            return new ModuleConfig(name, nameSpace, shardStrategy, ImmutableMap.copyOf(shardConfigs),
+                partitionedList.stream().map(this::resolveNodeName).toList());
+        }
+
+        private QName resolveNodeName(final String nodeName) {
+            if (nodeName.startsWith("(")) {
+                return QName.create(nodeName);
+            }
+            checkArgument(nameSpace != null, "Module %s has no namespace to resolve partitioned list node %s", name,
+                nodeName);
+            return QName.create(XMLNamespace.of(nameSpace), nodeName);
         }
     }
 }
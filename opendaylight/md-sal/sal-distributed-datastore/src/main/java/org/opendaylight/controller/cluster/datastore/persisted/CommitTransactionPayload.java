@@ -104,12 +104,23 @@ public abstract sealed class CommitTransactionPayload extends IdentifiablePayloa
                 DataTreeCandidateInputOutput.readDataTreeCandidate(in, receiver));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Unless the candidate has already been decoded, this method decodes only the identifier, which is serialized
+     * ahead of the candidate. The candidate itself is decoded only once it is needed.
+     */
     @Override
     public TransactionIdentifier getIdentifier() {
+        final var localCandidate = candidate;
+        if (localCandidate != null) {
+            return localCandidate.getKey();
+        }
         try  {
-            return getCandidate().getKey();
+            return TransactionIdentifier.readFrom(newDataInput());
         } catch (IOException e) {
-            throw new IllegalStateException("Candidate deserialization failed.", e);
+            throw new IllegalStateException("Identifier deserialization failed.", e);
         }
     }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+
+/**
+ * Externalizable proxy for {@link DeltaShardDataTreeSnapshot}.
+ */
+final class DE implements Externalizable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata;
+    private Map<YangInstanceIdentifier, Optional<NormalizedNode>> changes;
+    private long baseId;
+
+    @SuppressWarnings("checkstyle:RedundantModifier")
+    public DE() {
+        // For Externalizable
+    }
+
+    DE(final DeltaShardDataTreeSnapshot snapshot) {
+        baseId = snapshot.getBaseId();
+        changes = snapshot.getChanges();
+        metadata = snapshot.getMetadata();
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeLong(baseId);
+        MS.writeMetadata(out, metadata);
+        out.writeInt(changes.size());
+        try (var stream = PayloadVersion.POTASSIUM.getStreamVersion().newDataOutput(out)) {
+            for (var change : changes.entrySet()) {
+                stream.writeYangInstanceIdentifier(change.getKey());
+                stream.writeOptionalNormalizedNode(change.getValue().orElse(null));
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        baseId = in.readLong();
+        metadata = MS.readMetadata(in);
+
+        final int size = in.readInt();
+        checkArgument(size >= 0, "Invalid negative change count %s", size);
+
+        // Paths need to be unique and retain their order
+        changes = new LinkedHashMap<>();
+        final var stream = NormalizedNodeDataInput.newDataInput(in);
+        for (int i = 0; i < size; ++i) {
+            changes.put(stream.readYangInstanceIdentifier(), stream.readOptionalNormalizedNode());
+        }
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        return new DeltaShardDataTreeSnapshot(baseId, changes, metadata, null);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+
+/**
+ * An {@link AbstractVersionedShardDataTreeSnapshot} which contains only the changes made to the data tree since a
+ * full base snapshot, identified by its {@link #getBaseId()}. The base snapshot is not part of the serialized form of
+ * this snapshot and needs to be attached via {@link #withBaseRoot(NormalizedNode)} before this snapshot can be
+ * applied. The snapshot is then applied by writing the {@link #getRootNode()} of the base and then applying the
+ * changes via {@link #applyChanges(DataTreeModification)}.
+ */
+@Beta
+public final class DeltaShardDataTreeSnapshot extends AbstractVersionedShardDataTreeSnapshot
+        implements Serializable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long baseId;
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "This field is not Serializable but this class "
+            + "implements writeReplace to delegate serialization to a Proxy class and thus instances of this class "
+            + "aren't serialized. FindBugs does not recognize this.")
+    private final Map<YangInstanceIdentifier, Optional<NormalizedNode>> changes;
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "See above justification.")
+    private final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata;
+    private final transient @Nullable NormalizedNode baseRoot;
+
+    DeltaShardDataTreeSnapshot(final long baseId, final Map<YangInstanceIdentifier, Optional<NormalizedNode>> changes,
+            final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata,
+            final @Nullable NormalizedNode baseRoot) {
+        this.baseId = baseId;
+        this.changes = ImmutableMap.copyOf(changes);
+        this.metadata = ImmutableMap.copyOf(metadata);
+        this.baseRoot = baseRoot;
+    }
+
+    /**
+     * Create a new snapshot.
+     *
+     * @param baseId identifier of the base snapshot
+     * @param baseRoot root node of the base snapshot
+     * @param changes changes to the base snapshot, in the order they need to be applied. An empty value indicates
+     *                the node at the corresponding path has been deleted.
+     * @param metadata snapshot metadata
+     */
+    public DeltaShardDataTreeSnapshot(final long baseId, final NormalizedNode baseRoot,
+            final Map<YangInstanceIdentifier, Optional<NormalizedNode>> changes,
+            final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata) {
+        this(baseId, changes, metadata, requireNonNull(baseRoot));
+    }
+
+    public long getBaseId() {
+        return baseId;
+    }
+
+    public Map<YangInstanceIdentifier, Optional<NormalizedNode>> getChanges() {
+        return changes;
+    }
+
+    public Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Check whether the base snapshot's root node has been attached to this snapshot.
+     *
+     * @return {@code true} if the base has been attached
+     */
+    public boolean isBaseAttached() {
+        return baseRoot != null;
+    }
+
+    /**
+     * Return a copy of this snapshot with the specified base snapshot root node attached.
+     *
+     * @param newBaseRoot root node of the base snapshot
+     * @return A snapshot with the base attached
+     */
+    public @NonNull DeltaShardDataTreeSnapshot withBaseRoot(final NormalizedNode newBaseRoot) {
+        return new DeltaShardDataTreeSnapshot(baseId, newBaseRoot, changes, metadata);
+    }
+
+    /**
+     * Apply the changes in this snapshot to a modification, which has the base snapshot's root node written.
+     *
+     * @param modification the modification
+     */
+    public void applyChanges(final DataTreeModification modification) {
+        for (var change : changes.entrySet()) {
+            final var node = change.getValue();
+            if (node.isPresent()) {
+                modification.write(change.getKey(), node.orElseThrow());
+            } else {
+                modification.delete(change.getKey());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This method returns the root node of the base snapshot, to which {@link #getChanges()} need to be applied.
+     */
+    @Override
+    NormalizedNode rootNode() {
+        checkState(baseRoot != null, "Base snapshot %s has not been attached", baseId);
+        return baseRoot;
+    }
+
+    @Override
+    PayloadVersion version() {
+        return PayloadVersion.POTASSIUM;
+    }
+
+    @java.io.Serial
+    private Object writeReplace() {
+        return new DE(this);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("baseId", baseId).add("changes", changes.size())
+            .add("metadata", metadata).toString();
+    }
+}
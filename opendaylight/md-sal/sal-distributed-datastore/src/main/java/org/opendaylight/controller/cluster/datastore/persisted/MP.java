@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.io.ByteStreams;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+
+/**
+ * Externalizable proxy for {@link MetadataShardDataTreeSnapshot} with parallel serialization enabled. The data tree is
+ * split into independent sections, which are encoded and decoded in parallel. Containers and lists are split down to
+ * individual list entries, so that a single large list is spread across many sections. Each section is written as
+ * soon as it and the sections preceding it have been encoded and is decoded as soon as it has been read, hence only
+ * a bounded number of sections is held in memory at any time.
+ *
+ * <p>
+ * A section holds a sequence of items, each of which is a set of nodes to be added to the container or list at a path.
+ * Containers and lists are first added empty and are filled in by subsequent items, possibly in subsequent sections.
+ */
+final class MP implements Externalizable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    // Number of nodes added by a single section
+    private static final int SECTION_NODES = 512;
+    // Length marking the end of sections
+    private static final int END_OF_SECTIONS = -1;
+    // Number of sections being encoded or decoded at any time
+    private static final int MAX_PENDING_SECTIONS = 2 * Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+
+    @FunctionalInterface
+    private interface SectionWriter {
+        void write(NormalizedNodeDataOutput stream) throws IOException;
+    }
+
+    private record Item(YangInstanceIdentifier parent, List<NormalizedNode> nodes) {
+        Item {
+            requireNonNull(parent);
+            requireNonNull(nodes);
+        }
+    }
+
+    private Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata;
+    private NormalizedNodeStreamVersion version;
+    private ContainerNode rootNode;
+
+    @SuppressWarnings("checkstyle:RedundantModifier")
+    public MP() {
+        // For Externalizable
+    }
+
+    MP(final MetadataShardDataTreeSnapshot snapshot) {
+        rootNode = (ContainerNode) snapshot.getRootNode().orElseThrow();
+        metadata = snapshot.getMetadata();
+        version = snapshot.version().getStreamVersion();
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        MS.writeMetadata(out, metadata);
+
+        final byte[] header = encode(stream -> stream.writePathArgument(rootNode.name()));
+        out.writeInt(header.length);
+        out.write(header);
+
+        final var splitter = new Splitter();
+        splitter.addChildren(YangInstanceIdentifier.of(), rootNode);
+
+        final var pending = new ArrayDeque<CompletableFuture<byte[]>>();
+        for (var section : splitter.finish()) {
+            pending.add(CompletableFuture.supplyAsync(() -> encode(stream -> writeItems(stream, section))));
+            if (pending.size() >= MAX_PENDING_SECTIONS) {
+                writeSection(out, await(pending.remove()));
+            }
+        }
+        while (!pending.isEmpty()) {
+            writeSection(out, await(pending.remove()));
+        }
+        out.writeInt(END_OF_SECTIONS);
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        metadata = MS.readMetadata(in);
+
+        final var headerInput = NormalizedNodeDataInput.newDataInput(
+            ByteStreams.newDataInput(readSection(in, in.readInt())));
+        version = headerInput.getVersion();
+        if (!(headerInput.readPathArgument() instanceof NodeIdentifier rootId)) {
+            throw new IOException("Unexpected root node identifier");
+        }
+
+        final var assembler = new Assembler(rootId);
+        final var pending = new ArrayDeque<CompletableFuture<List<Item>>>();
+        for (int length = in.readInt(); length != END_OF_SECTIONS; length = in.readInt()) {
+            final byte[] section = readSection(in, length);
+            pending.add(CompletableFuture.supplyAsync(() -> readItems(section)));
+            if (pending.size() >= MAX_PENDING_SECTIONS) {
+                assembler.add(await(pending.remove()));
+            }
+        }
+        while (!pending.isEmpty()) {
+            assembler.add(await(pending.remove()));
+        }
+        rootNode = assembler.build();
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        // The format used when the snapshot is serialized again is up to the configuration of whoever does that
+        return new MetadataShardDataTreeSnapshot(rootNode, metadata);
+    }
+
+    private byte[] encode(final SectionWriter writer) {
+        final var bytes = ByteStreams.newDataOutput();
+        try (var stream = version.newDataOutput(bytes)) {
+            writer.write(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeItems(final NormalizedNodeDataOutput stream, final List<Item> items) throws IOException {
+        stream.writeInt(items.size());
+        for (var item : items) {
+            stream.writeYangInstanceIdentifier(item.parent());
+            stream.writeInt(item.nodes().size());
+            for (var node : item.nodes()) {
+                stream.writeNormalizedNode(node);
+            }
+        }
+    }
+
+    private static List<Item> readItems(final byte[] section) {
+        try {
+            final var stream = NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(section));
+            final int itemCount = stream.readInt();
+            if (itemCount < 0) {
+                throw new IOException("Invalid negative item count " + itemCount);
+            }
+            final var items = new ArrayList<Item>(itemCount);
+            for (int i = 0; i < itemCount; ++i) {
+                final var parent = stream.readYangInstanceIdentifier();
+                final int nodeCount = stream.readInt();
+                if (nodeCount < 0) {
+                    throw new IOException("Invalid negative node count " + nodeCount);
+                }
+                final var nodes = new ArrayList<NormalizedNode>(nodeCount);
+                for (int j = 0; j < nodeCount; ++j) {
+                    nodes.add(stream.readNormalizedNode());
+                }
+                items.add(new Item(parent, nodes));
+            }
+            return items;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSection(final ObjectOutput out, final byte[] section) throws IOException {
+        out.writeInt(section.length);
+        out.write(section);
+    }
+
+    private static byte[] readSection(final ObjectInput in, final int length) throws IOException {
+        checkArgument(length >= 0, "Invalid negative section length %s", length);
+        final byte[] section = new byte[length];
+        in.readFully(section);
+        return section;
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // An empty copy of a node the content of which is split into items, or null if the node is not split
+    private static @Nullable NormalizedNode emptyCopy(final NormalizedNode node) {
+        if (node instanceof ContainerNode container) {
+            return Builders.containerBuilder().withNodeIdentifier(container.name()).build();
+        } else if (node instanceof MapNode map) {
+            return mapBuilder(map).build();
+        } else {
+            return null;
+        }
+    }
+
+    private static CollectionNodeBuilder<MapEntryNode, ? extends MapNode> mapBuilder(final MapNode map) {
+        return map instanceof UserMapNode ? Builders.orderedMapBuilder().withNodeIdentifier(map.name())
+            : Builders.mapBuilder().withNodeIdentifier(map.name());
+    }
+
+    /**
+     * Splits a data tree into sections of items, in the order in which they need to be added.
+     */
+    private static final class Splitter {
+        private final List<List<Item>> sections = new ArrayList<>();
+        private List<Item> items = new ArrayList<>();
+        private YangInstanceIdentifier parent;
+        private List<NormalizedNode> nodes;
+        private int nodeCount;
+
+        void addChildren(final YangInstanceIdentifier path, final NormalizedNodeContainer<?> container) {
+            for (var child : container.body()) {
+                final var copy = emptyCopy(child);
+                if (copy != null) {
+                    add(path, copy);
+                    addChildren(path.node(child.name()), (NormalizedNodeContainer<?>) child);
+                } else {
+                    add(path, child);
+                }
+            }
+        }
+
+        List<List<Item>> finish() {
+            if (!items.isEmpty()) {
+                sections.add(items);
+            }
+            return sections;
+        }
+
+        private void add(final YangInstanceIdentifier path, final NormalizedNode node) {
+            // Children of a container are all added with the same path instance
+            if (nodes == null || path != parent) {
+                parent = path;
+                nodes = new ArrayList<>();
+                items.add(new Item(path, nodes));
+            }
+            nodes.add(node);
+
+            if (++nodeCount == SECTION_NODES) {
+                sections.add(items);
+                items = new ArrayList<>();
+                nodes = null;
+                nodeCount = 0;
+            }
+        }
+    }
+
+    /**
+     * Reassembles a data tree from items, which are added in the order in which they were split.
+     */
+    private static final class Assembler {
+        private final Map<YangInstanceIdentifier, Shell> shells = new HashMap<>();
+        private final Shell root;
+
+        Assembler(final NodeIdentifier rootId) {
+            root = new Shell(Builders.containerBuilder().withNodeIdentifier(rootId).build());
+            shells.put(YangInstanceIdentifier.of(), root);
+        }
+
+        void add(final List<Item> items) throws IOException {
+            for (var item : items) {
+                final var shell = shellAt(item.parent());
+                for (var node : item.nodes()) {
+                    shell.children.put(node.name(), node);
+                }
+            }
+        }
+
+        ContainerNode build() throws IOException {
+            return (ContainerNode) root.build();
+        }
+
+        private Shell shellAt(final YangInstanceIdentifier path) throws IOException {
+            final var existing = shells.get(path);
+            if (existing != null) {
+                return existing;
+            }
+
+            final var parentShell = shellAt(path.coerceParent());
+            final var arg = path.getLastPathArgument();
+            final var child = parentShell.children.get(arg);
+            if (!(child instanceof NormalizedNode node) || emptyCopy(node) == null) {
+                throw new IOException("No container or list at " + path);
+            }
+            final var shell = new Shell(node);
+            parentShell.children.put(arg, shell);
+            shells.put(path, shell);
+            return shell;
+        }
+    }
+
+    /**
+     * A container or list whose children are being added.
+     */
+    private static final class Shell {
+        // Values are either NormalizedNodes or Shells
+        final Map<PathArgument, Object> children = new LinkedHashMap<>();
+        private final NormalizedNode prototype;
+
+        Shell(final NormalizedNode prototype) {
+            this.prototype = prototype;
+        }
+
+        NormalizedNode build() throws IOException {
+            if (prototype instanceof ContainerNode container) {
+                final var builder = Builders.containerBuilder().withNodeIdentifier(container.name());
+                for (var child : children.values()) {
+                    if (!(build(child) instanceof DataContainerChild dataChild)) {
+                        throw new IOException("Unexpected child " + child + " of " + container.name());
+                    }
+                    builder.withChild(dataChild);
+                }
+                return builder.build();
+            }
+
+            final var map = (MapNode) prototype;
+            final var builder = mapBuilder(map);
+            for (var child : children.values()) {
+                if (!(build(child) instanceof MapEntryNode entry)) {
+                    throw new IOException("Unexpected entry " + child + " of " + map.name());
+                }
+                builder.withChild(entry);
+            }
+            return builder.build();
+        }
+
+        private static NormalizedNode build(final Object child) throws IOException {
+            return child instanceof Shell shell ? shell.build() : (NormalizedNode) child;
+        }
+    }
+}
@@ -46,10 +46,7 @@ final class MS implements Externalizable {
 
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
-        out.writeInt(metadata.size());
-        for (var m : metadata.values()) {
-            out.writeObject(m);
-        }
+        writeMetadata(out, metadata);
         try (var stream = version.newDataOutput(out)) {
             stream.writeNormalizedNode(rootNode);
         }
@@ -57,6 +54,29 @@ final class MS implements Externalizable {
 
     @Override
     public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        metadata = readMetadata(in);
+
+        final var stream = NormalizedNodeDataInput.newDataInput(in);
+        version = stream.getVersion();
+        rootNode = stream.readNormalizedNode();
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        return new MetadataShardDataTreeSnapshot(rootNode, metadata);
+    }
+
+    static void writeMetadata(final ObjectOutput out,
+            final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata)
+                throws IOException {
+        out.writeInt(metadata.size());
+        for (var m : metadata.values()) {
+            out.writeObject(m);
+        }
+    }
+
+    static Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> readMetadata(
+            final ObjectInput in) throws IOException, ClassNotFoundException {
         final int metaSize = in.readInt();
         checkArgument(metaSize >= 0, "Invalid negative metadata map length %s", metaSize);
 
@@ -71,15 +91,6 @@ final class MS implements Externalizable {
                 LOG.warn("Skipping null metadata");
             }
         }
-        metadata = metaBuilder.build();
-
-        final var stream = NormalizedNodeDataInput.newDataInput(in);
-        version = stream.getVersion();
-        rootNode = stream.readNormalizedNode();
-    }
-
-    @java.io.Serial
-    private Object readResolve() {
-        return new MetadataShardDataTreeSnapshot(rootNode, metadata);
+        return metaBuilder.build();
     }
 }
\ No newline at end of file
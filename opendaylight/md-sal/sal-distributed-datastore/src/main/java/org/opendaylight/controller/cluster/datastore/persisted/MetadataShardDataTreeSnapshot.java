@@ -15,6 +15,7 @@ import com.google.common.collect.ImmutableMap;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.Serializable;
 import java.util.Map;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
@@ -35,6 +36,7 @@ public final class MetadataShardDataTreeSnapshot extends AbstractVersionedShardD
 
     @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "See above justification.")
     private final NormalizedNode rootNode;
+    private final boolean parallelSerialization;
 
     public MetadataShardDataTreeSnapshot(final NormalizedNode rootNode) {
         this(rootNode, ImmutableMap.of());
@@ -42,8 +44,34 @@ public final class MetadataShardDataTreeSnapshot extends AbstractVersionedShardD
 
     public MetadataShardDataTreeSnapshot(final NormalizedNode rootNode,
             final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata) {
+        this(rootNode, metadata, false);
+    }
+
+    /**
+     * Create a new snapshot.
+     *
+     * @param rootNode root node
+     * @param metadata snapshot metadata
+     * @param parallelSerialization {@code true} if the root node should be split into independent sections, which
+     *                              are serialized and deserialized in parallel
+     */
+    public MetadataShardDataTreeSnapshot(final NormalizedNode rootNode,
+            final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata,
+            final boolean parallelSerialization) {
         this.rootNode = requireNonNull(rootNode);
         this.metadata = ImmutableMap.copyOf(metadata);
+        this.parallelSerialization = parallelSerialization;
+    }
+
+    /**
+     * Return a snapshot of the same data and metadata, which is serialized as specified.
+     *
+     * @param newParallelSerialization {@code true} if the snapshot should be serialized in parallel sections
+     * @return a snapshot
+     */
+    public MetadataShardDataTreeSnapshot withParallelSerialization(final boolean newParallelSerialization) {
+        return parallelSerialization == newParallelSerialization ? this
+            : new MetadataShardDataTreeSnapshot(rootNode, metadata, newParallelSerialization);
     }
 
     public Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> getMetadata() {
@@ -62,7 +90,7 @@ public final class MetadataShardDataTreeSnapshot extends AbstractVersionedShardD
 
     @java.io.Serial
     private Object writeReplace() {
-        return new MS(this);
+        return parallelSerialization && rootNode instanceof ContainerNode ? new MP(this) : new MS(this);
     }
 
     @Override
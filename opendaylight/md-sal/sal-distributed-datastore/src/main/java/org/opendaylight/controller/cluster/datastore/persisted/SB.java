@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static com.google.common.base.Verify.verifyNotNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
+import java.io.BufferedInputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamConstants;
+import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
+
+/**
+ * Serialization proxy for {@link ShardSnapshotState} which has already been serialized for installation on a follower.
+ * The serialized form is copied verbatim, prefixed by its length, and deserialized just like an install snapshot.
+ */
+final class SB implements Externalizable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+    private static final InputOutputStreamFactory LZ4 = InputOutputStreamFactory.lz4("256KB");
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private ByteSource serializedSnapshot;
+    private ShardSnapshotState snapshotState;
+
+    @SuppressWarnings("checkstyle:RedundantModifier")
+    public SB() {
+        // For Externalizable
+    }
+
+    SB(final ByteSource serializedSnapshot) {
+        this.serializedSnapshot = requireNonNull(serializedSnapshot);
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeLong(serializedSnapshot.size());
+
+        final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (var in = serializedSnapshot.openStream()) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        final long size = in.readLong();
+        if (size < 0) {
+            throw new IOException("Invalid negative snapshot size " + size);
+        }
+
+        final var limited = new BufferedInputStream(ByteStreams.limit(asInputStream(in), size));
+        limited.mark(2);
+        final boolean plain = limited.read() == (ObjectStreamConstants.STREAM_MAGIC >>> 8 & 0xFF)
+            && limited.read() == (ObjectStreamConstants.STREAM_MAGIC & 0xFF);
+        limited.reset();
+
+        final InputStream stream = plain ? limited : LZ4.createInputStream(new ByteSource() {
+            @Override
+            public InputStream openStream() {
+                return limited;
+            }
+        });
+        snapshotState = ShardDataTreeSnapshot.deserialize(new ObjectInputStream(stream));
+
+        // Make sure we consume the entire serialized form, so the enclosing stream stays aligned
+        ByteStreams.exhaust(limited);
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        return verifyNotNull(snapshotState);
+    }
+
+    private static InputStream asInputStream(final ObjectInput in) {
+        return in instanceof InputStream stream ? stream : new InputStream() {
+            @Override
+            public int read() throws IOException {
+                return in.read();
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int off, final int len) throws IOException {
+                return in.read(bytes, off, len);
+            }
+        };
+    }
+}
@@ -10,8 +10,10 @@ package org.opendaylight.controller.cluster.datastore.persisted;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.ByteSource;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
 
 /**
@@ -27,18 +29,39 @@ public final class ShardSnapshotState implements Snapshot.State {
             + "implements writeReplace to delegate serialization to a Proxy class and thus instances of this class "
             + "aren't serialized. FindBugs does not recognize this.")
     private final @NonNull ShardDataTreeSnapshot snapshot;
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "See above justification.")
+    private final @Nullable ByteSource serializedSnapshot;
     private final boolean migrated;
 
-    @VisibleForTesting
-    public ShardSnapshotState(final @NonNull ShardDataTreeSnapshot snapshot, final boolean migrated) {
+    private ShardSnapshotState(final @NonNull ShardDataTreeSnapshot snapshot,
+            final @Nullable ByteSource serializedSnapshot, final boolean migrated) {
         this.snapshot = requireNonNull(snapshot);
+        this.serializedSnapshot = serializedSnapshot;
         this.migrated = migrated;
     }
 
+    @VisibleForTesting
+    public ShardSnapshotState(final @NonNull ShardDataTreeSnapshot snapshot, final boolean migrated) {
+        this(snapshot, null, migrated);
+    }
+
     public ShardSnapshotState(final @NonNull ShardDataTreeSnapshot snapshot) {
         this(snapshot, false);
     }
 
+    /**
+     * Create a new state for a snapshot, which has already been serialized for installation on a follower. The
+     * serialized form is persisted instead of serializing the snapshot again.
+     *
+     * @param snapshot the snapshot
+     * @param serializedSnapshot the snapshot, serialized into an {@link java.io.ObjectOutputStream}, optionally
+     *                           compressed with LZ4
+     */
+    public ShardSnapshotState(final @NonNull ShardDataTreeSnapshot snapshot,
+            final @NonNull ByteSource serializedSnapshot) {
+        this(snapshot, requireNonNull(serializedSnapshot), false);
+    }
+
     public @NonNull ShardDataTreeSnapshot getSnapshot() {
         return snapshot;
     }
@@ -50,6 +73,6 @@ public final class ShardSnapshotState implements Snapshot.State {
 
     @java.io.Serial
     private Object writeReplace() {
-        return new SS(this);
+        return serializedSnapshot != null ? new SB(serializedSnapshot) : new SS(this);
     }
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.primitives.Ints;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+
+/**
+ * A ShardStrategy which partitions the entries of a single list of a module across all shards configured for the
+ * module, based on the hash of their keys. The list is configured as {@code partitioned-list} in module-shards.conf.
+ * All other data of the module belongs to the first shard in the order of shard names.
+ *
+ * <p>
+ * Paths leading to the list, including the list itself, span all of the shards. Frontends need to split
+ * modifications of such paths via {@link #scatter(YangInstanceIdentifier, NormalizedNode, boolean)} and gather
+ * reads from all of the shards. Data tree change listeners on such paths are registered with all of the shards.
+ *
+ * <p>
+ * Entries are assigned to shards based on a canonical form of their key values, so that the assignment is stable
+ * across restarts and cluster members.
+ */
+public final class PartitionedListShardStrategy implements ShardStrategy {
+    public static final String NAME = "partitioned-list";
+
+    private record Partitioning(List<QName> listPath, List<String> shardNames) {
+        Partitioning {
+            requireNonNull(listPath);
+            requireNonNull(shardNames);
+        }
+    }
+
+    private final String moduleName;
+    private final Configuration configuration;
+
+    // Resolved lazily, as strategies are instantiated while the configuration is being read
+    private volatile Partitioning partitioning;
+
+    public PartitionedListShardStrategy(final String moduleName, final Configuration configuration) {
+        this.moduleName = requireNonNull(moduleName);
+        this.configuration = requireNonNull(configuration);
+    }
+
+    @Override
+    public String findShard(final YangInstanceIdentifier path) {
+        final var local = partitioning();
+        if (local == null) {
+            return DefaultShardStrategy.DEFAULT_SHARD;
+        }
+
+        final int depth = local.listPath.size();
+        if (path.size() > depth && matchesListPath(local, path, depth)
+                && path.getPathArguments().get(depth) instanceof NodeIdentifierWithPredicates entryId) {
+            return local.shardNames.get(partitionOf(entryId, local.shardNames.size()));
+        }
+        return local.shardNames.get(0);
+    }
+
+    /**
+     * Check whether the data at a path spans multiple shards.
+     *
+     * @param path the location of the data in the logical tree
+     * @return true if the path leads to the partitioned list and the list is partitioned across multiple shards
+     */
+    public boolean isPartitioned(final YangInstanceIdentifier path) {
+        final var local = partitioning();
+        return local != null && local.shardNames.size() > 1 && !path.isEmpty()
+            && path.size() <= local.listPath.size() && matchesListPath(local, path, path.size());
+    }
+
+    /**
+     * Returns the names of the shards the list is partitioned across. The first shard holds the rest of the module's
+     * data.
+     *
+     * @return the shard names
+     */
+    public @NonNull List<String> getShardNames() {
+        final var local = partitioning();
+        return local != null ? local.shardNames : List.of(DefaultShardStrategy.DEFAULT_SHARD);
+    }
+
+    /**
+     * Split the data at a path for which {@link #isPartitioned(YangInstanceIdentifier)} holds into the parts held by
+     * each shard.
+     *
+     * @param path the location of the data in the logical tree
+     * @param data the data at the path
+     * @param allShards whether to include shards which do not hold any part of the data, with empty data
+     * @return the data at the path for each shard, keyed by shard name
+     * @throws IllegalArgumentException if the data does not match the structure of the partitioned list
+     */
+    public @NonNull Map<String, NormalizedNode> scatter(final YangInstanceIdentifier path, final NormalizedNode data,
+            final boolean allShards) {
+        final var local = partitioning();
+        checkArgument(local != null, "Module %s does not have a partitioned list", moduleName);
+
+        final var parts = split(local, data, path.size());
+        final var ret = new LinkedHashMap<String, NormalizedNode>();
+        for (int i = 0; i < parts.length; ++i) {
+            final var part = parts[i];
+            if (part != null) {
+                ret.put(local.shardNames.get(i), part);
+            } else if (allShards) {
+                ret.put(local.shardNames.get(i), emptyNode(data));
+            }
+        }
+        return ret;
+    }
+
+    private @Nullable Partitioning partitioning() {
+        var local = partitioning;
+        if (local == null) {
+            final var shardNames = configuration.getShardNamesForModule(moduleName).stream().sorted().toList();
+            final var listPath = configuration.getPartitionedListForModule(moduleName);
+            if (shardNames.isEmpty() || listPath.isEmpty()) {
+                return null;
+            }
+            partitioning = local = new Partitioning(listPath, shardNames);
+        }
+        return local;
+    }
+
+    private static boolean matchesListPath(final Partitioning local, final YangInstanceIdentifier path,
+            final int length) {
+        final var args = path.getPathArguments();
+        for (int i = 0; i < length; ++i) {
+            final var arg = args.get(i);
+            if (arg instanceof NodeIdentifierWithPredicates
+                    || !matchesNodeName(local.listPath.get(i), arg.getNodeType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Names configured without a revision match any revision of their module
+    private static boolean matchesNodeName(final QName configured, final QName name) {
+        return configured.getLocalName().equals(name.getLocalName())
+            && configured.getNamespace().equals(name.getNamespace())
+            && (configured.getRevision().isEmpty() || configured.getRevision().equals(name.getRevision()));
+    }
+
+    // Partitions are persistent, hence they are derived from a canonical form of the key values, sorted by key name.
+    // Object hash codes are not suitable, as they are identity-based for binary values.
+    private static int partitionOf(final NodeIdentifierWithPredicates entryId, final int count) {
+        final var crc = new CRC32();
+        for (var key : entryId.entrySet().stream().sorted(Map.Entry.comparingByKey()).toList()) {
+            final byte[] bytes = canonicalForm(key.getValue());
+            crc.update(Ints.toByteArray(bytes.length));
+            crc.update(bytes);
+        }
+        return (int) (crc.getValue() % count);
+    }
+
+    private static byte[] canonicalForm(final Object value) {
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        // bits are a set of names, whose order is not significant
+        final var str = value instanceof Set<?> bits
+            ? bits.stream().map(String::valueOf).sorted().collect(Collectors.joining(" ")) : value.toString();
+        return str.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static @Nullable DataContainerChild[] split(final Partitioning local, final NormalizedNode node,
+            final int depth) {
+        final int count = local.shardNames.size();
+        final var parts = new DataContainerChild[count];
+
+        if (depth == local.listPath.size()) {
+            checkArgument(node instanceof MapNode, "Unexpected list data %s", node);
+            final var map = (MapNode) node;
+            final List<CollectionNodeBuilder<MapEntryNode, ? extends MapNode>> builders =
+                new ArrayList<>(Collections.nCopies(count, null));
+            for (var entry : map.body()) {
+                final int partition = partitionOf(entry.name(), count);
+                var builder = builders.get(partition);
+                if (builder == null) {
+                    builder = mapBuilder(map);
+                    builders.set(partition, builder);
+                }
+                builder.addChild(entry);
+            }
+            for (int i = 0; i < count; ++i) {
+                final var builder = builders.get(i);
+                if (builder != null) {
+                    parts[i] = builder.build();
+                }
+            }
+            // An empty list still needs to land somewhere
+            if (parts[0] == null && map.isEmpty()) {
+                parts[0] = map;
+            }
+            return parts;
+        }
+
+        checkArgument(node instanceof ContainerNode, "Unexpected container data %s", node);
+        final var container = (ContainerNode) node;
+        final var childName = local.listPath.get(depth);
+        final var primary = Builders.containerBuilder().withNodeIdentifier(container.name());
+        DataContainerChild[] childParts = null;
+        for (var child : container.body()) {
+            if (matchesNodeName(childName, child.name().getNodeType())) {
+                childParts = split(local, child, depth + 1);
+            } else {
+                primary.addChild(child);
+            }
+        }
+
+        if (childParts == null) {
+            parts[0] = container;
+            return parts;
+        }
+
+        if (childParts[0] != null) {
+            primary.addChild(childParts[0]);
+        }
+        parts[0] = primary.build();
+        for (int i = 1; i < count; ++i) {
+            final var childPart = childParts[i];
+            if (childPart != null) {
+                parts[i] = Builders.containerBuilder().withNodeIdentifier(container.name())
+                    .addChild(childPart)
+                    .build();
+            }
+        }
+        return parts;
+    }
+
+    private static NormalizedNode emptyNode(final NormalizedNode data) {
+        if (data instanceof MapNode map) {
+            return mapBuilder(map).build();
+        }
+        return Builders.containerBuilder().withNodeIdentifier(((ContainerNode) data).name()).build();
+    }
+
+    private static CollectionNodeBuilder<MapEntryNode, ? extends MapNode> mapBuilder(final MapNode map) {
+        return map instanceof UserMapNode ? Builders.orderedMapBuilder().withNodeIdentifier(map.name())
+            : Builders.mapBuilder().withNodeIdentifier(map.name());
+    }
+}
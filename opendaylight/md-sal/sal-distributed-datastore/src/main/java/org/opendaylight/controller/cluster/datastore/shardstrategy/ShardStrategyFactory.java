@@ -38,6 +38,9 @@ public class ShardStrategyFactory {
         if (ModuleShardStrategy.NAME.equals(strategyName)) {
             return new ModuleShardStrategy(moduleName, configuration);
         }
+        if (PartitionedListShardStrategy.NAME.equals(strategyName)) {
+            return new PartitionedListShardStrategy(moduleName, configuration);
+        }
 
         return DefaultShardStrategy.getInstance();
     }
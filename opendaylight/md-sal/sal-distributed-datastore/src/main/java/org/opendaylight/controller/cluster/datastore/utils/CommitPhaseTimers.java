@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.utils;
+
+import static com.google.common.base.Verify.verifyNotNull;
+import static java.util.Objects.requireNonNull;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.datastore.DatastoreContext;
+import org.opendaylight.controller.cluster.mgmt.api.CommitPhaseLatency;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
+
+/**
+ * Latency histograms of the phases of committing transactions. The histograms are {@link Timer}s registered with
+ * the datastore's {@link MetricsReporter}, under {@code distributed-data-store.<name>.commit.<phase>}.
+ */
+public final class CommitPhaseTimers {
+    /**
+     * A phase of committing a transaction.
+     */
+    public enum Phase {
+        /**
+         * Time a ready transaction waits in the queue of pending transactions before it is validated.
+         */
+        QUEUE("queue"),
+        /**
+         * Time spent in canCommit.
+         */
+        CAN_COMMIT("can-commit"),
+        /**
+         * Time spent in preCommit, including commit cohorts.
+         */
+        PRE_COMMIT("pre-commit"),
+        /**
+         * Time spent in commit, up to the transaction being submitted for replication on a shard.
+         */
+        COMMIT("commit"),
+        /**
+         * Time from submitting a transaction for replication until it reaches consensus.
+         */
+        REPLICATION("replication"),
+        /**
+         * Time spent publishing a committed transaction to data tree change listeners.
+         */
+        NOTIFICATION("notification");
+
+        private final @NonNull String metricName;
+
+        Phase(final String metricName) {
+            this.metricName = requireNonNull(metricName);
+        }
+
+        public @NonNull String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final String DISTRIBUTED_DATA_STORE_METRIC_REGISTRY = "distributed-data-store";
+    private static final String METRIC_COMMIT = "commit";
+
+    private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+
+    /**
+     * Create timers for the specified phases.
+     *
+     * @param name the name of the component committing transactions, such as a shard name
+     * @param phases the phases the component goes through
+     */
+    public CommitPhaseTimers(final String name, final Phase... phases) {
+        final MetricRegistry registry = MetricsReporter.getInstance(DatastoreContext.METRICS_DOMAIN)
+            .getMetricsRegistry();
+        for (Phase phase : phases) {
+            timers.put(phase, registry.timer(MetricRegistry.name(DISTRIBUTED_DATA_STORE_METRIC_REGISTRY, name,
+                METRIC_COMMIT, phase.metricName)));
+        }
+    }
+
+    /**
+     * Record the duration of a phase of a transaction.
+     *
+     * @param phase the phase
+     * @param elapsedNanos the duration of the phase, in nanoseconds
+     */
+    public void update(final Phase phase, final long elapsedNanos) {
+        verifyNotNull(timers.get(phase), "Phase %s is not tracked", phase).update(elapsedNanos,
+            TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns a snapshot of the latency distribution of each phase.
+     *
+     * @return a snapshot of each phase, in the order of phases
+     */
+    public @NonNull List<CommitPhaseLatency> getLatencies() {
+        final var ret = new ArrayList<CommitPhaseLatency>(timers.size());
+        for (var entry : timers.entrySet()) {
+            final var timer = entry.getValue();
+            final var snapshot = timer.getSnapshot();
+            ret.add(new CommitPhaseLatency(entry.getKey().metricName, timer.getCount(), toMicros(snapshot.getMean()),
+                toMicros(snapshot.getMedian()), toMicros(snapshot.get95thPercentile()),
+                toMicros(snapshot.get99thPercentile()), toMicros(snapshot.getMax())));
+        }
+        return ret;
+    }
+
+    private static long toMicros(final double nanos) {
+        return TimeUnit.NANOSECONDS.toMicros((long) nanos);
+    }
+}
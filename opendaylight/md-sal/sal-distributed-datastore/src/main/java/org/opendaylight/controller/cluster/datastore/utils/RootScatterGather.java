@@ -100,10 +100,23 @@ public final class RootScatterGather {
      */
     public static @NonNull FluentFuture<Optional<NormalizedNode>> gather(final ActorUtils actorUtils,
             final Stream<FluentFuture<Optional<NormalizedNode>>> readFutures) {
+        return gather(actorUtils, YangInstanceIdentifier.of(), readFutures);
+    }
+
+    /**
+     * Reconstruct the node at a path from a set of constituents, each read from a different shard.
+     *
+     * @param actorUtils {@link ActorUtils} reference
+     * @param path Path of the node
+     * @param readFutures Consitutent read futures
+     * @return A composite future
+     */
+    public static @NonNull FluentFuture<Optional<NormalizedNode>> gather(final ActorUtils actorUtils,
+            final YangInstanceIdentifier path, final Stream<FluentFuture<Optional<NormalizedNode>>> readFutures) {
         return FluentFuture.from(Futures.transform(
             Futures.allAsList(readFutures.collect(ImmutableList.toImmutableList())), input -> {
                 try {
-                    return NormalizedNodeAggregator.aggregate(YangInstanceIdentifier.of(), input,
+                    return NormalizedNodeAggregator.aggregate(path, input,
                         actorUtils.getSchemaContext(), actorUtils.getDatastoreContext().getLogicalStoreType());
                 } catch (DataValidationFailedException e) {
                     throw new IllegalArgumentException("Failed to aggregate", e);
@@ -11,6 +11,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers.Phase;
 import org.opendaylight.yangtools.util.DurationStatisticsTracker;
 
 /**
@@ -22,13 +24,22 @@ public class CommitStatsMXBeanImplTest {
     @Test
     public void test() {
         DurationStatisticsTracker commitStatsTracker = DurationStatisticsTracker.createConcurrent();
-        CommitStatsMXBeanImpl bean = new CommitStatsMXBeanImpl(commitStatsTracker, "Test");
+        CommitPhaseTimers commitPhaseTimers = new CommitPhaseTimers("Test", Phase.CAN_COMMIT, Phase.COMMIT);
+        CommitStatsMXBeanImpl bean = new CommitStatsMXBeanImpl(commitStatsTracker, commitPhaseTimers, "Test");
 
         commitStatsTracker.addDuration(100);
+        commitPhaseTimers.update(Phase.COMMIT, 3000);
 
         assertEquals("getTotalCommits", 1L, bean.getTotalCommits());
         assertNotNull(bean.getLongestCommitTime());
         assertNotNull(bean.getShortestCommitTime());
         assertNotNull(bean.getAverageCommitTime());
+
+        final var latencies = bean.getCommitPhaseLatencies();
+        assertEquals(2, latencies.size());
+        assertEquals("can-commit", latencies.get(0).getPhase());
+        assertEquals("commit", latencies.get(1).getPhase());
+        assertEquals(1L, latencies.get(1).getCount());
+        assertEquals(3L, latencies.get(1).getMax());
     }
 }
@@ -24,6 +24,7 @@ import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -46,8 +47,13 @@ import org.opendaylight.controller.cluster.access.concepts.RequestSuccess;
 import org.opendaylight.controller.cluster.access.concepts.Response;
 import org.opendaylight.controller.cluster.access.concepts.SuccessEnvelope;
 import org.opendaylight.controller.cluster.datastore.DatastoreContext;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
 import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardInfo;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.controller.md.cluster.datastore.model.SchemaContextHelper;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
@@ -58,6 +64,7 @@ import scala.concurrent.Promise;
 public abstract class AbstractClientHandleTest<T extends AbstractClientHandle<AbstractProxyTransaction>> {
     private static final String PERSISTENCE_ID = "per-1";
     private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of();
+    private static final List<String> PARTITIONED_SHARD_NAMES = List.of("cars-0", "cars-1");
 
     @Mock
     private DataTree dataTree;
@@ -68,6 +75,7 @@ public abstract class AbstractClientHandleTest<T extends AbstractClientHandle<Ab
     private AbstractClientHistory parent;
     private AbstractDataStoreClientBehavior client;
     private T handle;
+    private PartitionedListShardStrategy partitionedStrategy;
 
     @Before
     public void setUp() throws Exception {
@@ -194,6 +202,69 @@ public abstract class AbstractClientHandleTest<T extends AbstractClientHandle<Ab
         return handle;
     }
 
+    /**
+     * Creates a handle on a client connected to two shards, cars-0 and cars-1, across which the car list of the cars
+     * model is partitioned.
+     *
+     * @param shardSnapshots snapshots of the shards' data trees, in the order of shard names
+     * @return the handle
+     */
+    protected T createPartitionedHandle(final DataTreeSnapshot... shardSnapshots) {
+        assertEquals(PARTITIONED_SHARD_NAMES.size(), shardSnapshots.length);
+
+        final Configuration configuration = mock(Configuration.class);
+        doReturn(PARTITIONED_SHARD_NAMES).when(configuration).getShardNamesForModule("cars");
+        doReturn(List.of(CarsModel.BASE_QNAME, CarsModel.CAR_QNAME)).when(configuration)
+            .getPartitionedListForModule("cars");
+        lenient().doReturn(Set.copyOf(PARTITIONED_SHARD_NAMES)).when(configuration).getAllShardNames();
+        partitionedStrategy = new PartitionedListShardStrategy("cars", configuration);
+
+        final ShardStrategyFactory shardStrategyFactory = mock(ShardStrategyFactory.class);
+        doReturn(partitionedStrategy).when(shardStrategyFactory).getStrategy(any());
+
+        final ActorUtils actorUtils = mock(ActorUtils.class);
+        doReturn(new TestProbe(system, "shard-manager").ref()).when(actorUtils).getShardManager();
+        doReturn(shardStrategyFactory).when(actorUtils).getShardStrategyFactory();
+        lenient().doReturn(configuration).when(actorUtils).getConfiguration();
+        lenient().doReturn(SchemaContextHelper.full()).when(actorUtils).getSchemaContext();
+        lenient().doReturn(DatastoreContext.newBuilder().build()).when(actorUtils).getDatastoreContext();
+
+        final TestProbe clientContextProbe = new TestProbe(system, "partitioned-client-context");
+        final ClientActorContext clientContext =
+                AccessClientUtil.createClientActorContext(system, clientContextProbe.ref(), CLIENT_ID, PERSISTENCE_ID);
+        final DistributedDataStoreClientBehavior behavior =
+                new DistributedDataStoreClientBehavior(clientContext, actorUtils);
+
+        for (int i = 0; i < shardSnapshots.length; ++i) {
+            final String shardName = PARTITIONED_SHARD_NAMES.get(i);
+            final TestProbe shardProbe = new TestProbe(system, shardName);
+            final Promise<PrimaryShardInfo> promise = new scala.concurrent.impl.Promise.DefaultPromise<>();
+            promise.success(new PrimaryShardInfo(system.actorSelection(shardProbe.ref().path()), (short) 0));
+            doReturn(promise.future()).when(actorUtils).findPrimaryShardAsync(shardName);
+
+            final DataTree shardDataTree = mock(DataTree.class);
+            lenient().doReturn(shardSnapshots[i]).when(shardDataTree).takeSnapshot();
+
+            behavior.getConnection(behavior.resolveShard(shardName));
+            shardProbe.expectMsgClass(ConnectClientRequest.class);
+            shardProbe.reply(new ConnectClientSuccess(CLIENT_ID, 0L, backendProbe.ref(), List.of(), shardDataTree, 3));
+            final InternalCommand<ShardBackendInfo> command = clientContextProbe.expectMsgClass(InternalCommand.class);
+            command.execute(behavior);
+        }
+
+        behavior.createLocalHistory();
+        return createHandle(new SingleClientHistory(behavior, HISTORY_ID));
+    }
+
+    /**
+     * Returns the strategy used by the handle created by {@link #createPartitionedHandle(DataTreeSnapshot...)}.
+     *
+     * @return the strategy
+     */
+    protected PartitionedListShardStrategy getPartitionedStrategy() {
+        return partitionedStrategy;
+    }
+
     protected DataTreeSnapshot getDataTreeSnapshot() {
         return dataTreeSnapshot;
     }
@@ -16,11 +16,20 @@ import static org.opendaylight.controller.cluster.databroker.actors.dds.TestUtil
 import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.yangtools.yang.common.Uint64;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
 
 public class ClientSnapshotTest extends AbstractClientHandleTest<ClientSnapshot> {
     private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of();
 
+    @Mock
+    private DataTreeSnapshot shardSnapshot0;
+    @Mock
+    private DataTreeSnapshot shardSnapshot1;
+
     @Before
     @Override
     public void setUp() throws Exception {
@@ -51,4 +60,28 @@ public class ClientSnapshotTest extends AbstractClientHandleTest<ClientSnapshot>
         verify(getDataTreeSnapshot()).readNode(PATH);
         assertFalse(getWithTimeout(read).isPresent());
     }
+
+    @Test
+    public void testPartitionedExists() throws Exception {
+        final var snapshot = createPartitionedHandle(shardSnapshot0, shardSnapshot1);
+        doReturn(Optional.empty()).when(shardSnapshot0).readNode(CarsModel.CAR_LIST_PATH);
+        doReturn(Optional.empty()).when(shardSnapshot1).readNode(CarsModel.CAR_LIST_PATH);
+
+        assertEquals(Boolean.FALSE, getWithTimeout(snapshot.exists(CarsModel.CAR_LIST_PATH)));
+        verify(shardSnapshot0).readNode(CarsModel.CAR_LIST_PATH);
+        verify(shardSnapshot1).readNode(CarsModel.CAR_LIST_PATH);
+    }
+
+    @Test
+    public void testPartitionedRead() throws Exception {
+        final var snapshot = createPartitionedHandle(shardSnapshot0, shardSnapshot1);
+        final var car0 = CarsModel.newCarEntry("car0", Uint64.ZERO);
+        final var car1 = CarsModel.newCarEntry("car1", Uint64.ONE);
+        final var carList = CarsModel.newCarsMapNode(car0, car1);
+        final var parts = getPartitionedStrategy().scatter(CarsModel.CAR_LIST_PATH, carList, true);
+        doReturn(Optional.of(parts.get("cars-0"))).when(shardSnapshot0).readNode(CarsModel.CAR_LIST_PATH);
+        doReturn(Optional.of(parts.get("cars-1"))).when(shardSnapshot1).readNode(CarsModel.CAR_LIST_PATH);
+
+        assertEquals(Optional.of(carList), getWithTimeout(snapshot.read(CarsModel.CAR_LIST_PATH)));
+    }
 }
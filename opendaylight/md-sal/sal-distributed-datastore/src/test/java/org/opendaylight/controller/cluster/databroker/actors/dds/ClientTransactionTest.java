@@ -8,6 +8,8 @@
 package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opendaylight.controller.cluster.databroker.actors.dds.TestUtils.TRANSACTION_ID;
@@ -22,16 +24,22 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.opendaylight.controller.cluster.access.commands.CommitLocalTransactionRequest;
 import org.opendaylight.controller.cluster.access.commands.TransactionCommitSuccess;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint64;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.tree.api.CursorAwareDataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 public class ClientTransactionTest extends AbstractClientHandleTest<ClientTransaction> {
 
@@ -42,8 +50,18 @@ public class ClientTransactionTest extends AbstractClientHandleTest<ClientTransa
             .withNodeIdentifier(NodeIdentifier.create(PATH.getLastPathArgument().getNodeType()))
             .build();
 
+    private static final int CAR_COUNT = 20;
+
     @Mock
     private CursorAwareDataTreeModification modification;
+    @Mock
+    private DataTreeSnapshot shardSnapshot0;
+    @Mock
+    private DataTreeSnapshot shardSnapshot1;
+    @Mock
+    private CursorAwareDataTreeModification shardModification0;
+    @Mock
+    private CursorAwareDataTreeModification shardModification1;
 
     @Override
     @Before
@@ -123,4 +141,88 @@ public class ClientTransactionTest extends AbstractClientHandleTest<ClientTransa
         checkClosed();
     }
 
+    @Test
+    public void testPartitionedExists() throws Exception {
+        final var transaction = createPartitionedTransaction();
+        when(shardModification0.readNode(CarsModel.CAR_LIST_PATH)).thenReturn(Optional.empty());
+        when(shardModification1.readNode(CarsModel.CAR_LIST_PATH)).thenReturn(Optional.of(newCarList(1)));
+
+        assertEquals(Boolean.TRUE, getWithTimeout(transaction.exists(CarsModel.CAR_LIST_PATH)));
+        verify(shardModification0).readNode(CarsModel.CAR_LIST_PATH);
+        verify(shardModification1).readNode(CarsModel.CAR_LIST_PATH);
+    }
+
+    @Test
+    public void testPartitionedRead() throws Exception {
+        final var transaction = createPartitionedTransaction();
+        final var cars = CarsModel.newCarsNode(newCarList(CAR_COUNT));
+        final var parts = getPartitionedStrategy().scatter(CarsModel.BASE_PATH, cars, false);
+        when(shardModification0.readNode(CarsModel.BASE_PATH)).thenReturn(Optional.of(parts.get("cars-0")));
+        when(shardModification1.readNode(CarsModel.BASE_PATH)).thenReturn(Optional.of(parts.get("cars-1")));
+
+        assertEquals(Optional.of(cars), getWithTimeout(transaction.read(CarsModel.BASE_PATH)));
+    }
+
+    @Test
+    public void testPartitionedDelete() {
+        final var transaction = createPartitionedTransaction();
+        transaction.delete(CarsModel.CAR_LIST_PATH);
+        verify(shardModification0).delete(CarsModel.CAR_LIST_PATH);
+        verify(shardModification1).delete(CarsModel.CAR_LIST_PATH);
+    }
+
+    @Test
+    public void testPartitionedWrite() {
+        final var transaction = createPartitionedTransaction();
+        final var cars = CarsModel.newCarsNode(newCarList(CAR_COUNT));
+        transaction.write(CarsModel.BASE_PATH, cars);
+
+        final var parts = getPartitionedStrategy().scatter(CarsModel.BASE_PATH, cars, true);
+        verify(shardModification0).write(CarsModel.BASE_PATH, parts.get("cars-0"));
+        verify(shardModification1).write(CarsModel.BASE_PATH, parts.get("cars-1"));
+    }
+
+    @Test
+    public void testPartitionedMerge() {
+        final var transaction = createPartitionedTransaction();
+        final var carList = newCarList(1);
+        transaction.merge(CarsModel.CAR_LIST_PATH, carList);
+
+        // Only the shard holding the entry is touched
+        final boolean firstShard = "cars-0".equals(getPartitionedStrategy().findShard(CarsModel.newCarPath("car0")));
+        verify(firstShard ? shardModification0 : shardModification1).merge(CarsModel.CAR_LIST_PATH, carList);
+        verify(firstShard ? shardSnapshot1 : shardSnapshot0, never()).newModification();
+    }
+
+    @Test
+    public void testPartitionedWriteRoot() {
+        final var transaction = createPartitionedTransaction();
+        final var rootId = NodeIdentifier.create(SchemaContext.NAME);
+        final var cars = CarsModel.newCarsNode(newCarList(CAR_COUNT));
+        transaction.write(YangInstanceIdentifier.of(), Builders.containerBuilder().withNodeIdentifier(rootId)
+            .withChild(cars)
+            .build());
+
+        // The root is written to all shards, with the partitioned container split further
+        final var emptyRoot = Builders.containerBuilder().withNodeIdentifier(rootId).build();
+        final var parts = getPartitionedStrategy().scatter(CarsModel.BASE_PATH, cars, true);
+        verify(shardModification0).write(YangInstanceIdentifier.of(), emptyRoot);
+        verify(shardModification0).write(CarsModel.BASE_PATH, parts.get("cars-0"));
+        verify(shardModification1).write(YangInstanceIdentifier.of(), emptyRoot);
+        verify(shardModification1).write(CarsModel.BASE_PATH, parts.get("cars-1"));
+    }
+
+    private ClientTransaction createPartitionedTransaction() {
+        lenient().when(shardSnapshot0.newModification()).thenReturn(shardModification0);
+        lenient().when(shardSnapshot1.newModification()).thenReturn(shardModification1);
+        return createPartitionedHandle(shardSnapshot0, shardSnapshot1);
+    }
+
+    private static MapNode newCarList(final int count) {
+        final var entries = new MapEntryNode[count];
+        for (int i = 0; i < count; ++i) {
+            entries[i] = CarsModel.newCarEntry("car" + i, Uint64.valueOf(i));
+        }
+        return CarsModel.newCarsMapNode(entries);
+    }
 }
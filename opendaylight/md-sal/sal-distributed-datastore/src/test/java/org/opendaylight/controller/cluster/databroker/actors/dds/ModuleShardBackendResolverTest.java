@@ -8,6 +8,8 @@
 package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -41,13 +43,16 @@ import org.opendaylight.controller.cluster.access.concepts.FrontendIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.FrontendType;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.access.concepts.RuntimeRequestException;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
 import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardInfo;
 import org.opendaylight.controller.cluster.datastore.shardmanager.RegisterForShardAvailabilityChanges;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.DefaultShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.PartitionedListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.controller.cluster.datastore.utils.PrimaryShardInfoFutureCache;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
@@ -163,6 +168,32 @@ public class ModuleShardBackendResolverTest {
         assertEquals(refreshedBackendProbe.ref(), refreshedBackendInfo.getActor());
     }
 
+    @Test
+    public void testResolvePartitionedList() {
+        final Configuration configuration = mock(Configuration.class);
+        doReturn(List.of("cars-0", "cars-1")).when(configuration).getShardNamesForModule("cars");
+        doReturn(List.of(CarsModel.BASE_QNAME, CarsModel.CAR_QNAME)).when(configuration)
+            .getPartitionedListForModule("cars");
+        final PartitionedListShardStrategy strategy = new PartitionedListShardStrategy("cars", configuration);
+        final YangInstanceIdentifier carPath = CarsModel.newCarPath("car0");
+        doReturn(strategy).when(shardStrategyFactory).getStrategy(CarsModel.BASE_PATH);
+        doReturn(strategy).when(shardStrategyFactory).getStrategy(CarsModel.CAR_LIST_PATH);
+        doReturn(strategy).when(shardStrategyFactory).getStrategy(carPath);
+
+        assertSame(strategy, moduleShardBackendResolver.resolvePartitionedList(CarsModel.BASE_PATH));
+        assertSame(strategy, moduleShardBackendResolver.resolvePartitionedList(CarsModel.CAR_LIST_PATH));
+        // A single entry is held by a single shard
+        assertNull(moduleShardBackendResolver.resolvePartitionedList(carPath));
+        // Data of other modules is not partitioned
+        assertNull(moduleShardBackendResolver.resolvePartitionedList(YangInstanceIdentifier.of()));
+
+        final Long cookie = moduleShardBackendResolver.resolveShard("cars-1");
+        assertEquals(1L, (long) cookie);
+        assertEquals(cookie, moduleShardBackendResolver.resolveShard("cars-1"));
+        assertEquals(moduleShardBackendResolver.resolveShard(strategy.findShard(carPath)),
+            moduleShardBackendResolver.resolveShardForPath(carPath));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testNotifyWhenBackendInfoIsStale() {
@@ -7,11 +7,14 @@
  */
 package org.opendaylight.controller.cluster.datastore;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.opendaylight.controller.md.cluster.datastore.model.TestModel.TEST_PATH;
 
@@ -20,14 +23,28 @@ import akka.actor.DeadLetter;
 import akka.actor.Props;
 import akka.testkit.javadsl.TestKit;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.opendaylight.controller.cluster.datastore.messages.DataTreeChanged;
 import org.opendaylight.controller.cluster.datastore.messages.DataTreeChangedReply;
 import org.opendaylight.controller.cluster.datastore.messages.EnableNotification;
+import org.opendaylight.controller.cluster.datastore.messages.GetInfo;
+import org.opendaylight.controller.cluster.mgmt.api.DataTreeListenerInfo;
+import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
 
 public class DataTreeChangeListenerActorTest extends AbstractActorTest {
     private TestKit testKit;
@@ -133,4 +150,73 @@ public class DataTreeChangeListenerActorTest extends AbstractActorTest {
         verify(mockListener).onDataTreeChanged(mockCandidates2);
         verify(mockListener).onDataTreeChanged(mockCandidates3);
     }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void testDataChangedCoalescing() throws DataValidationFailedException {
+        final DataTree dataTree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            TestModel.createTestContext());
+        final DataTreeCandidate candidate1 = commit(dataTree, TestModel.testNodeWithOuter(1));
+        final DataTreeCandidate candidate2 = commit(dataTree, TestModel.testNodeWithOuter(1, 2));
+        final DataTreeCandidate candidate3 = commit(dataTree, TestModel.testNodeWithOuter(1, 2, 3));
+        final NormalizedNode merged = dataTree.takeSnapshot().readNode(YangInstanceIdentifier.of()).orElseThrow();
+        final DataTreeCandidate candidate4 = commit(dataTree, TestModel.testNodeWithOuter(1, 2, 3, 4));
+
+        // Block the listener in its first notification, so that further changes queue up
+        final CountDownLatch notified = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final DOMDataTreeChangeListener mockListener = mock(DOMDataTreeChangeListener.class);
+        doAnswer(invocation -> {
+            notified.countDown();
+            Uninterruptibles.awaitUninterruptibly(release);
+            return null;
+        }).when(mockListener).onDataTreeChanged(anyList());
+
+        final Props props = DataTreeChangeListenerActor.props(mockListener, TEST_PATH, 2);
+        final ActorRef subject = getSystem().actorOf(props, "testDataTreeChangedCoalescing");
+        subject.tell(new EnableNotification(true, "test"), testKit.getRef());
+
+        subject.tell(new DataTreeChanged(List.of(candidate1)), testKit.getRef());
+        Uninterruptibles.awaitUninterruptibly(notified);
+
+        subject.tell(new DataTreeChanged(List.of(candidate2)), testKit.getRef());
+        subject.tell(new DataTreeChanged(List.of(candidate3)), testKit.getRef());
+        subject.tell(new DataTreeChanged(List.of(candidate4)), testKit.getRef());
+        release.countDown();
+
+        for (int i = 0; i < 4; ++i) {
+            testKit.expectMsgClass(DataTreeChangedReply.class);
+        }
+
+        // The second and third change reach the limit and are merged into a single change, the fourth one is
+        // delivered on its own
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(mockListener, timeout(5000).times(3)).onDataTreeChanged(captor.capture());
+        final List<List> notifications = captor.getAllValues();
+        assertEquals(List.of(candidate1), notifications.get(0));
+        assertEquals(1, notifications.get(1).size());
+        final var mergedNode = ((DataTreeCandidate) notifications.get(1).get(0)).getRootNode();
+        assertEquals(candidate2.getRootNode().dataBefore(), mergedNode.dataBefore());
+        assertEquals(merged, mergedNode.dataAfter());
+        assertEquals(List.of(candidate4), notifications.get(2));
+
+        subject.tell(GetInfo.INSTANCE, testKit.getRef());
+        final DataTreeListenerInfo info = testKit.expectMsgClass(DataTreeListenerInfo.class);
+        assertEquals(3, info.getNotificationCount());
+        assertEquals(1, info.getCoalescedNotificationCount());
+        assertEquals(1, info.getCoalescingLimitReachedCount());
+        assertEquals(0, info.getPendingChangeCount());
+        assertEquals(2, info.getMaxPendingChangeCount());
+    }
+
+    private static DataTreeCandidate commit(final DataTree dataTree, final NormalizedNode testNode)
+            throws DataValidationFailedException {
+        final DataTreeModification modification = dataTree.takeSnapshot().newModification();
+        modification.write(TEST_PATH, testNode);
+        modification.ready();
+        dataTree.validate(modification);
+        final DataTreeCandidate candidate = dataTree.prepare(modification);
+        dataTree.commit(candidate);
+        return candidate;
+    }
 }
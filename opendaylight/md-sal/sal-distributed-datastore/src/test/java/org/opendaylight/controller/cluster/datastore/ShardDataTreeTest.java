@@ -557,6 +557,46 @@ public class ShardDataTreeTest extends AbstractTest {
             .build(), snapshot.readNode(CarsModel.CAR_LIST_PATH).orElseThrow());
     }
 
+    @Test
+    public void testBatchedReplicatedCommits() throws DataValidationFailedException, IOException {
+        doReturn(DatastoreContext.newBuilder().batchReplicatedCommits(true).build()).when(mockShard)
+            .getDatastoreContext();
+
+        final DataTree dataTree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            fullSchema);
+        DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(CarsModel.BASE_PATH, CarsModel.newCarsNode(CarsModel.newCarsMapNode(
+            CarsModel.newCarEntry("one", Uint64.ONE))));
+        mod.ready();
+        dataTree.validate(mod);
+        final DataTreeCandidate first = dataTree.prepare(mod);
+        dataTree.commit(first);
+
+        mod = dataTree.takeSnapshot().newModification();
+        mod.write(CarsModel.newCarPath("two"), CarsModel.newCarEntry("two", Uint64.TWO));
+        mod.ready();
+        dataTree.validate(mod);
+        final DataTreeCandidate second = dataTree.prepare(mod);
+        dataTree.commit(second);
+
+        final var firstPayload = CommitTransactionPayload.create(nextTransactionId(), first);
+        final var secondPayload = CommitTransactionPayload.create(nextTransactionId(), second);
+        shardDataTree.applyReplicatedPayload(null, firstPayload);
+        shardDataTree.applyReplicatedPayload(null, secondPayload);
+        assertEquals(Optional.empty(), shardDataTree.newReadOnlyTransaction(nextTransactionId()).getSnapshot()
+            .readNode(CarsModel.BASE_PATH));
+        assertEquals(0, shardDataTree.getDecodedCandidateCount());
+
+        shardDataTree.applyPendingReplicatedCommits();
+        assertEquals(2, shardDataTree.getDecodedCandidateCount());
+        assertEquals(firstPayload.size() + secondPayload.size(), shardDataTree.getDecodedCandidateBytes());
+
+        assertEquals(Optional.of(CarsModel.newCarsMapNode(CarsModel.newCarEntry("one", Uint64.ONE),
+            CarsModel.newCarEntry("two", Uint64.TWO))),
+            shardDataTree.newReadOnlyTransaction(nextTransactionId()).getSnapshot()
+                .readNode(CarsModel.CAR_LIST_PATH));
+    }
+
     private void assertCarsUint64() {
         final DataTreeSnapshot snapshot = shardDataTree.newReadOnlyTransaction(nextTransactionId()).getSnapshot();
         final NormalizedNode cars = snapshot.readNode(CarsModel.CAR_LIST_PATH).orElseThrow();
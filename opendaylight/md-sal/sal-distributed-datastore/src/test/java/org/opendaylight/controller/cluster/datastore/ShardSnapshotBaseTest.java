@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.controller.cluster.datastore.persisted.DeltaShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
+import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
+import org.opendaylight.controller.md.cluster.datastore.model.PeopleModel;
+import org.opendaylight.controller.md.cluster.datastore.model.SchemaContextHelper;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ShardSnapshotBaseTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ShardSnapshotBaseTest.class);
+    private static final String SHARD_NAME = "member-1-shard-people-operational";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private EffectiveModelContext schemaContext;
+    private ShardDataTree dataTree;
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        schemaContext = SchemaContextHelper.select(SchemaContextHelper.PEOPLE_YANG);
+        dataTree = new ShardDataTree(mock(Shard.class), schemaContext, TreeType.OPERATIONAL);
+        directory = temporaryFolder.newFolder("snapshot-base");
+    }
+
+    @Test
+    public void testDeltaSnapshotRecovery() throws Exception {
+        final var snapshotBase = new ShardSnapshotBase(InputOutputStreamFactory.simple(), directory, SHARD_NAME, 10);
+
+        commit(mod -> mod.write(PeopleModel.BASE_PATH, PeopleModel.create()));
+        final var first = (DeltaShardDataTreeSnapshot) snapshotBase.toPersisted(dataTree.takeStateSnapshot());
+        assertEquals(Map.of(), first.getChanges());
+        assertEquals(1, baseFileCount());
+
+        commit(mod -> mod.write(PeopleModel.newPersonPath("joe"), PeopleModel.newPersonEntry("joe")));
+        final var second = (DeltaShardDataTreeSnapshot) snapshotBase.toPersisted(dataTree.takeStateSnapshot());
+        assertEquals(first.getBaseId(), second.getBaseId());
+        assertEquals(Map.of(PeopleModel.newPersonPath("joe"), Optional.of(PeopleModel.newPersonEntry("joe"))),
+            second.getChanges());
+        assertEquals(1, baseFileCount());
+
+        final var recovered = roundTrip(second);
+        assertFalse(((DeltaShardDataTreeSnapshot) recovered.getSnapshot()).isBaseAttached());
+
+        // Recover into a new data tree, as if the shard was restarted
+        final var recoveredTree = new ShardDataTree(mock(Shard.class), schemaContext, TreeType.OPERATIONAL);
+        ShardRecoveryCoordinator.create(recoveredTree, SHARD_NAME, LOG,
+            new ShardSnapshotBase(InputOutputStreamFactory.simple(), directory, SHARD_NAME, 10))
+            .applyRecoverySnapshot(recovered);
+
+        assertEquals(readRoot(dataTree), readRoot(recoveredTree));
+    }
+
+    @Test
+    public void testNewBaseAfterInterval() throws Exception {
+        final var snapshotBase = new ShardSnapshotBase(InputOutputStreamFactory.simple(), directory, SHARD_NAME, 1);
+
+        commit(mod -> mod.write(PeopleModel.BASE_PATH, PeopleModel.create()));
+        final long firstBase = ((DeltaShardDataTreeSnapshot) snapshotBase.toPersisted(dataTree.takeStateSnapshot()))
+            .getBaseId();
+
+        long lastBase = firstBase;
+        for (int i = 0; i < 3; ++i) {
+            final var person = "person" + i;
+            commit(mod -> mod.write(PeopleModel.newPersonPath(person), PeopleModel.newPersonEntry(person)));
+            final var snapshot = (DeltaShardDataTreeSnapshot) snapshotBase.toPersisted(
+                dataTree.takeStateSnapshot());
+            assertNotEquals(lastBase, snapshot.getBaseId());
+            assertEquals(Map.of(), snapshot.getChanges());
+            lastBase = snapshot.getBaseId();
+        }
+
+        // Only the two most recent bases are retained
+        assertEquals(2, baseFileCount());
+        assertTrue(new File(directory, SHARD_NAME + '-' + lastBase + ".snapshot").exists());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        final var snapshotBase = new ShardSnapshotBase(InputOutputStreamFactory.simple(), directory, SHARD_NAME, 0);
+
+        commit(mod -> mod.write(PeopleModel.BASE_PATH, PeopleModel.create()));
+        final var snapshot = dataTree.takeStateSnapshot();
+        assertEquals(snapshot, snapshotBase.toPersisted(snapshot));
+        assertEquals(0, baseFileCount());
+    }
+
+    private void commit(final Consumer<DataTreeModification> writer) throws DataValidationFailedException {
+        final var tree = dataTree.getDataTree();
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        writer.accept(mod);
+        mod.ready();
+        tree.commit(tree.prepare(mod));
+    }
+
+    private int baseFileCount() {
+        return directory.list((dir, name) -> name.endsWith(".snapshot")).length;
+    }
+
+    private static NormalizedNode readRoot(final ShardDataTree tree) {
+        return tree.readNode(YangInstanceIdentifier.of()).orElseThrow();
+    }
+
+    private static ShardSnapshotState roundTrip(final ShardDataTreeSnapshot snapshot) throws IOException {
+        final var bos = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bos)) {
+            snapshot.serialize(out);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            return ShardDataTreeSnapshot.deserialize(in);
+        }
+    }
+}
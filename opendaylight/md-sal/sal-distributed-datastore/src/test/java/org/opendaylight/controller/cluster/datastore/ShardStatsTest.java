@@ -15,9 +15,11 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.utils.CommitPhaseTimers.Phase;
 import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
 
 public class ShardStatsTest {
@@ -124,4 +126,15 @@ public class ShardStatsTest {
         assertEquals(0L, mbeanServer.getAttribute(testMBeanName, "CommittedTransactionsCount"));
         assertEquals(0L, mbeanServer.getAttribute(testMBeanName, "FailedReadTransactionsCount"));
     }
+
+    @Test
+    public void testGetCommitPhaseLatencies() throws Exception {
+        shardStats.recordCommitPhase(Phase.REPLICATION, 2_000_000);
+
+        final var latencies = (CompositeData[]) mbeanServer.getAttribute(testMBeanName, "CommitPhaseLatencies");
+        assertEquals(Phase.values().length, latencies.length);
+        final var replication = latencies[Phase.REPLICATION.ordinal()];
+        assertEquals("replication", replication.get("phase"));
+        assertEquals(2000L, replication.get("max"));
+    }
 }
@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.datastore;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -50,8 +51,20 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.opendaylight.controller.cluster.DataPersistenceProvider;
 import org.opendaylight.controller.cluster.DelegatingPersistentDataProvider;
+import org.opendaylight.controller.cluster.access.ABIVersion;
+import org.opendaylight.controller.cluster.access.commands.ConnectClientRequest;
+import org.opendaylight.controller.cluster.access.commands.ConnectClientSuccess;
+import org.opendaylight.controller.cluster.access.commands.NotLeaderException;
+import org.opendaylight.controller.cluster.access.commands.ReadTransactionRequest;
+import org.opendaylight.controller.cluster.access.commands.ReadTransactionSuccess;
+import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.FailureEnvelope;
+import org.opendaylight.controller.cluster.access.concepts.FrontendIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.FrontendType;
 import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
+import org.opendaylight.controller.cluster.access.concepts.RequestEnvelope;
+import org.opendaylight.controller.cluster.access.concepts.SuccessEnvelope;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
 import org.opendaylight.controller.cluster.datastore.exceptions.NoShardLeaderException;
 import org.opendaylight.controller.cluster.datastore.identifiers.ShardIdentifier;
@@ -84,6 +97,7 @@ import org.opendaylight.controller.cluster.datastore.utils.MockDataTreeChangeLis
 import org.opendaylight.controller.cluster.notifications.RegisterRoleChangeListener;
 import org.opendaylight.controller.cluster.notifications.RegisterRoleChangeListenerReply;
 import org.opendaylight.controller.cluster.raft.RaftActorContext;
+import org.opendaylight.controller.cluster.raft.RaftVersions;
 import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
 import org.opendaylight.controller.cluster.raft.base.messages.ApplySnapshot;
 import org.opendaylight.controller.cluster.raft.base.messages.ElectionTimeout;
@@ -93,8 +107,11 @@ import org.opendaylight.controller.cluster.raft.client.messages.FindLeader;
 import org.opendaylight.controller.cluster.raft.client.messages.FindLeaderReply;
 import org.opendaylight.controller.cluster.raft.client.messages.GetOnDemandRaftState;
 import org.opendaylight.controller.cluster.raft.client.messages.OnDemandRaftState;
+import org.opendaylight.controller.cluster.raft.messages.AppendEntries;
+import org.opendaylight.controller.cluster.raft.messages.AppendEntriesReply;
 import org.opendaylight.controller.cluster.raft.messages.Payload;
 import org.opendaylight.controller.cluster.raft.messages.RequestVote;
+import org.opendaylight.controller.cluster.raft.messages.RequestVoteReply;
 import org.opendaylight.controller.cluster.raft.messages.ServerRemoved;
 import org.opendaylight.controller.cluster.raft.persisted.ApplyJournalEntries;
 import org.opendaylight.controller.cluster.raft.persisted.SimpleReplicatedLogEntry;
@@ -1998,6 +2015,126 @@ public class ShardTest extends AbstractShardTest {
         listener.waitForChangeEvents();
     }
 
+    @Test
+    public void testLinearizableReadWaitsForLeaderLease() {
+        final ShardTestKit testKit = new ShardTestKit(getSystem());
+        final String testName = "testLinearizableReadWaitsForLeaderLease";
+        final TestActorRef<MessageCollectorActor> follower = newLeaseFollower(testName);
+        final TestActorRef<Shard> shard = newLeaseLeader(testName, follower);
+        final ClientIdentifier clientId = connectClient(testName, shard, testKit);
+
+        // We have not heard from the follower, hence the read has to wait for the lease
+        MessageCollectorActor.clearMessages(follower);
+        shard.tell(newReadEnvelope(clientId, 0, testKit.getRef()), ActorRef.noSender());
+        testKit.expectNoMessage(Duration.ofMillis(100));
+
+        acknowledgeLatestAppendEntries(shard, follower);
+        final SuccessEnvelope success = testKit.expectMsgClass(SuccessEnvelope.class);
+        assertThat(success.getMessage(), instanceOf(ReadTransactionSuccess.class));
+
+        // Now that the lease is held, reads are served immediately
+        shard.tell(newReadEnvelope(clientId, 1, testKit.getRef()), ActorRef.noSender());
+        assertThat(testKit.expectMsgClass(SuccessEnvelope.class).getMessage(),
+            instanceOf(ReadTransactionSuccess.class));
+    }
+
+    @Test
+    public void testLinearizableReadLeaderLeaseTimeout() {
+        final ShardTestKit testKit = new ShardTestKit(getSystem());
+        final String testName = "testLinearizableReadLeaderLeaseTimeout";
+        final TestActorRef<MessageCollectorActor> follower = newLeaseFollower(testName);
+        final TestActorRef<Shard> shard = newLeaseLeader(testName, follower);
+        final ClientIdentifier clientId = connectClient(testName, shard, testKit);
+
+        // The follower never acknowledges us, hence the read fails once an election timeout has passed
+        final Stopwatch sw = Stopwatch.createStarted();
+        shard.tell(newReadEnvelope(clientId, 0, testKit.getRef()), ActorRef.noSender());
+        final FailureEnvelope failure = testKit.expectMsgClass(Duration.ofSeconds(5), FailureEnvelope.class);
+        assertThat(failure.getMessage().getCause(), instanceOf(NotLeaderException.class));
+        assertTrue("Failed after " + sw, sw.elapsed(TimeUnit.MILLISECONDS)
+            >= newDatastoreContext().getShardRaftConfig().getElectionTimeOutInterval().toMillis());
+    }
+
+    @Test
+    public void testLinearizableReadLeaderLeaseQueueCapacity() {
+        final ShardTestKit testKit = new ShardTestKit(getSystem());
+        final String testName = "testLinearizableReadLeaderLeaseQueueCapacity";
+        dataStoreContextBuilder.shardTransactionCommitQueueCapacity(2);
+        final TestActorRef<MessageCollectorActor> follower = newLeaseFollower(testName);
+        final TestActorRef<Shard> shard = newLeaseLeader(testName, follower);
+        final ClientIdentifier clientId = connectClient(testName, shard, testKit);
+
+        // Two requests wait for the lease, the third one exceeds the capacity and is rejected immediately
+        MessageCollectorActor.clearMessages(follower);
+        shard.tell(newReadEnvelope(clientId, 0, testKit.getRef()), ActorRef.noSender());
+        shard.tell(newReadEnvelope(clientId, 1, testKit.getRef()), ActorRef.noSender());
+        shard.tell(newReadEnvelope(clientId, 2, testKit.getRef()), ActorRef.noSender());
+
+        final FailureEnvelope failure = testKit.expectMsgClass(FailureEnvelope.class);
+        assertEquals("getTxSequence", 2, failure.getTxSequence());
+        assertThat(failure.getMessage().getCause(), instanceOf(NotLeaderException.class));
+        testKit.expectNoMessage(Duration.ofMillis(100));
+
+        acknowledgeLatestAppendEntries(shard, follower);
+        assertEquals("getTxSequence", 0, testKit.expectMsgClass(SuccessEnvelope.class).getTxSequence());
+        assertEquals("getTxSequence", 1, testKit.expectMsgClass(SuccessEnvelope.class).getTxSequence());
+    }
+
+    private TestActorRef<MessageCollectorActor> newLeaseFollower(final String testName) {
+        return actorFactory.createTestActor(MessageCollectorActor.props()
+            .withDispatcher(Dispatchers.DefaultDispatcherId()), actorFactory.generateActorId(testName + "-follower"));
+    }
+
+    // Creates a shard with linearizable reads, which is elected leader with the vote of the specified follower
+    private TestActorRef<Shard> newLeaseLeader(final String testName,
+            final TestActorRef<MessageCollectorActor> follower) {
+        dataStoreContextBuilder.linearizableReads(true).shardElectionTimeoutFactor(4);
+
+        final TestActorRef<Shard> shard = actorFactory.createTestActor(newShardBuilder()
+            .peerAddresses(Map.of(leaseFollowerId().toString(), follower.path().toString()))
+            .props().withDispatcher(Dispatchers.DefaultDispatcherId()),
+            actorFactory.generateActorId(testName + "-shard"));
+
+        final RequestVote requestVote = MessageCollectorActor.expectFirstMatching(follower, RequestVote.class);
+        shard.tell(new RequestVoteReply(requestVote.getTerm(), true), follower);
+        ShardTestKit.waitUntilLeader(shard);
+        return shard;
+    }
+
+    private ShardIdentifier leaseFollowerId() {
+        return ShardIdentifier.create(shardID.getShardName(), MemberName.forName("member-2"), shardID.getType());
+    }
+
+    // Replies to the most recent AppendEntries sent to the follower, which confirms the leader lease
+    private void acknowledgeLatestAppendEntries(final TestActorRef<Shard> shard,
+            final TestActorRef<MessageCollectorActor> follower) {
+        final AppendEntries appendEntries = MessageCollectorActor.expectFirstMatching(follower, AppendEntries.class);
+        final var entries = appendEntries.getEntries();
+        final long lastIndex = appendEntries.getPrevLogIndex() + entries.size();
+        final long lastTerm = entries.isEmpty() ? appendEntries.getPrevLogTerm()
+            : entries.get(entries.size() - 1).getTerm();
+        shard.tell(new AppendEntriesReply(leaseFollowerId().toString(), appendEntries.getTerm(), true, lastIndex,
+            lastTerm, CURRENT_VERSION, false, false, RaftVersions.CURRENT_VERSION, appendEntries.getSendNanos()),
+            follower);
+    }
+
+    private static ClientIdentifier connectClient(final String testName, final ActorRef shard,
+            final ShardTestKit testKit) {
+        final ClientIdentifier clientId = ClientIdentifier.create(FrontendIdentifier.create(
+            MemberName.forName("member-1"), FrontendType.forName(testName)), 0);
+        shard.tell(new ConnectClientRequest(clientId, testKit.getRef(), ABIVersion.current(), ABIVersion.current()),
+            ActorRef.noSender());
+        testKit.expectMsgClass(ConnectClientSuccess.class);
+        return clientId;
+    }
+
+    private static RequestEnvelope newReadEnvelope(final ClientIdentifier clientId, final long txSequence,
+            final ActorRef replyTo) {
+        return new RequestEnvelope(new ReadTransactionRequest(new TransactionIdentifier(
+            new LocalHistoryIdentifier(clientId, 0), txSequence), 0, replyTo, TestModel.TEST_PATH, true), 0,
+            txSequence);
+    }
+
     @Test
     public void testServerRemoved() {
         final TestActorRef<MessageCollectorActor> parent = actorFactory.createTestActor(MessageCollectorActor.props()
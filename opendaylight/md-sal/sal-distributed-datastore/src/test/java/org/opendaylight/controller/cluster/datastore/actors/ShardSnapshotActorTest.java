@@ -17,11 +17,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.time.Duration;
 import java.util.Optional;
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Test;
 import org.opendaylight.controller.cluster.datastore.AbstractActorTest;
 import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
+import org.opendaylight.controller.cluster.io.FileBackedOutputStream;
 import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
 import org.opendaylight.controller.cluster.raft.base.messages.CaptureSnapshotReply;
 import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
@@ -69,4 +71,32 @@ public class ShardSnapshotActorTest extends AbstractActorTest {
         testSerializeSnapshot("testSerializeBoronSnapshotWithoutInstallSnapshot",
                 new MetadataShardDataTreeSnapshot(DATA), false);
     }
+
+    @Test
+    public void testPersistSerializedInstallSnapshot() throws Exception {
+        testPersistSerializedInstallSnapshot("testPersistSerializedInstallSnapshot", true);
+        testPersistSerializedInstallSnapshot("testPersistReserializedInstallSnapshot", false);
+    }
+
+    private static void testPersistSerializedInstallSnapshot(final String testName,
+            final boolean persistSerializedInstallSnapshot) throws Exception {
+        final TestKit kit = new TestKit(getSystem());
+        final ActorRef snapshotActor = getSystem().actorOf(
+            ShardSnapshotActor.props(STREAM_FACTORY, persistSerializedInstallSnapshot), testName);
+        kit.watch(snapshotActor);
+
+        final var snapshot = new MetadataShardDataTreeSnapshot(DATA);
+        final var installSnapshotStream = new FileBackedOutputStream(1024, null);
+        ShardSnapshotActor.requestSnapshot(snapshotActor, snapshot, Optional.of(installSnapshotStream),
+            kit.getRef());
+
+        final CaptureSnapshotReply reply = kit.expectMsgClass(Duration.ofSeconds(3), CaptureSnapshotReply.class);
+        try {
+            final var cloned = (ShardSnapshotState) SerializationUtils.deserialize(
+                SerializationUtils.serialize(reply.getSnapshotState()));
+            assertEquals("Root node", snapshot.getRootNode(), cloned.getSnapshot().getRootNode());
+        } finally {
+            installSnapshotStream.cleanup();
+        }
+    }
 }
@@ -7,10 +7,26 @@
  */
 package org.opendaylight.controller.cluster.datastore.config;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+
 public class ConfigurationImplFileTest extends ConfigurationImplBaseTest {
 
     @Override
     public ConfigurationImpl createConfiguration() {
         return new ConfigurationImpl("module-shards.conf", "modules.conf");
     }
+
+    @Test
+    public void testGetPartitionedListForModule() {
+        final var configuration = createConfiguration();
+        assertEquals(List.of(
+            QName.create("urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom:store:test", "test"),
+            QName.create("http://example.com/test/augment", "2023-01-01", "entries")),
+            configuration.getPartitionedListForModule("test"));
+        assertEquals(List.of(), configuration.getPartitionedListForModule("cars"));
+    }
 }
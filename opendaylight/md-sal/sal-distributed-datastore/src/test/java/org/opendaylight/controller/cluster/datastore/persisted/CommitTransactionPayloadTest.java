@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.datastore.persisted;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
@@ -123,6 +124,19 @@ public class CommitTransactionPayloadTest extends AbstractTest {
         assertCandidateEquals(candidate, SerializationUtils.clone(payload).getCandidate().getValue());
     }
 
+    @Test
+    public void testIdentifierWithoutCandidate() throws IOException {
+        final var txId = nextTransactionId();
+        final var payload = SerializationUtils.clone(CommitTransactionPayload.create(txId, candidate));
+        assertEquals(txId, payload.getIdentifier());
+        // the candidate has not been decoded
+        assertFalse(payload.toString().contains("identifier"));
+
+        final var entry = payload.acquireCandidate();
+        assertEquals(txId, entry.getKey());
+        assertCandidateEquals(candidate, entry.getValue());
+    }
+
     @Test
     public void testLeafSetEntryNodeCandidate() throws Exception {
         NodeWithValue<String> entryPathArg = new NodeWithValue<>(LEAF_SET, "one");
@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.datastore.persisted;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -23,6 +24,7 @@ import org.junit.Test;
 import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 
@@ -85,6 +87,79 @@ public class ShardDataTreeSnapshotTest {
         assertEquals("Metadata", expMetadata, ((MetadataShardDataTreeSnapshot)deserialized).getMetadata());
     }
 
+    @Test
+    public void testShardDataTreeSnapshotWithParallelSerialization() throws Exception {
+        ContainerNode expectedNode = Builders.containerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+                .withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, "foo"))
+                .withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "bar"))
+                .withChild(Builders.containerBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CONTAINER_QNAME))
+                    .withChild(ImmutableNodes.leafNode(TestModel.VALUE_QNAME, "baz"))
+                    .build())
+                .build();
+
+        Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> expMetadata =
+                Map.of(TestShardDataTreeSnapshotMetadata.class, new TestShardDataTreeSnapshotMetadata("test"));
+        MetadataShardDataTreeSnapshot snapshot = new MetadataShardDataTreeSnapshot(expectedNode, expMetadata, true);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            snapshot.serialize(out);
+        }
+
+        ShardDataTreeSnapshot deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            deserialized = ShardDataTreeSnapshot.deserialize(in).getSnapshot();
+        }
+
+        assertEquals("rootNode", Optional.of(expectedNode), deserialized.getRootNode());
+        assertEquals("Deserialized type", MetadataShardDataTreeSnapshot.class, deserialized.getClass());
+        assertEquals("Metadata", expMetadata, ((MetadataShardDataTreeSnapshot)deserialized).getMetadata());
+        // The serialization mode is not carried over
+        assertSame(deserialized, ((MetadataShardDataTreeSnapshot)deserialized).withParallelSerialization(false));
+    }
+
+    @Test
+    public void testParallelSerializationOfLargeLists() throws Exception {
+        final var outerList = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+        for (int i = 0; i < 2000; ++i) {
+            outerList.withChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i));
+        }
+        final var innerList = Builders.orderedMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.INNER_LIST_QNAME));
+        for (int i = 1000; i > 0; --i) {
+            innerList.withChild(ImmutableNodes.mapEntry(TestModel.INNER_LIST_QNAME, TestModel.NAME_QNAME, "e" + i));
+        }
+        final ContainerNode expectedNode = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(outerList.build())
+            .withChild(Builders.containerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CONTAINER_QNAME))
+                .withChild(innerList.build())
+                .withChild(Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(TestModel.JUNK_QNAME)).build())
+                .build())
+            .withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, "foo"))
+            .build();
+
+        final var snapshot = new MetadataShardDataTreeSnapshot(expectedNode, Map.of(), true);
+        final var bos = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bos)) {
+            snapshot.serialize(out);
+        }
+
+        final ShardDataTreeSnapshot deserialized;
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            deserialized = ShardDataTreeSnapshot.deserialize(in).getSnapshot();
+        }
+        assertEquals("rootNode", Optional.of(expectedNode), deserialized.getRootNode());
+
+        // Entries of the ordered list retain their order
+        final var outerContainer = (ContainerNode) ((ContainerNode) deserialized.getRootNode().orElseThrow())
+            .getChildByArg(new NodeIdentifier(TestModel.OUTER_CONTAINER_QNAME));
+        assertEquals(innerList.build().body().stream().toList(), ((UserMapNode) outerContainer
+            .getChildByArg(new NodeIdentifier(TestModel.INNER_LIST_QNAME))).body().stream().toList());
+    }
+
     static class TestShardDataTreeSnapshotMetadata
             extends ShardDataTreeSnapshotMetadata<TestShardDataTreeSnapshotMetadata> {
         @java.io.Serial
@@ -10,9 +10,14 @@ package org.opendaylight.controller.cluster.datastore.persisted;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import com.google.common.io.ByteSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Optional;
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Test;
+import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
 import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
@@ -40,4 +45,33 @@ public class ShardSnapshotStateTest {
         assertEquals("getRootNode", Optional.of(expectedNode),
                 ((MetadataShardDataTreeSnapshot)cloned.getSnapshot()).getRootNode());
     }
+
+    @Test
+    public void testSerializationOfSerializedSnapshot() throws IOException {
+        assertSerializedSnapshot(InputOutputStreamFactory.simple());
+    }
+
+    @Test
+    public void testSerializationOfCompressedSerializedSnapshot() throws IOException {
+        assertSerializedSnapshot(InputOutputStreamFactory.lz4("64KB"));
+    }
+
+    private static void assertSerializedSnapshot(final InputOutputStreamFactory streamFactory) throws IOException {
+        ContainerNode expectedNode = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, "foo"))
+            .build();
+
+        MetadataShardDataTreeSnapshot snapshot = new MetadataShardDataTreeSnapshot(expectedNode);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(streamFactory.wrapOutputStream(bos))) {
+            snapshot.serialize(out);
+        }
+
+        ShardSnapshotState expected = new ShardSnapshotState(snapshot, ByteSource.wrap(bos.toByteArray()));
+        ShardSnapshotState cloned = SerializationUtils.clone(expected);
+
+        assertEquals("getSnapshot type", MetadataShardDataTreeSnapshot.class, cloned.getSnapshot().getClass());
+        assertEquals("getRootNode", Optional.of(expectedNode), cloned.getSnapshot().getRootNode());
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.controller.cluster.datastore.config.ModuleConfig;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class PartitionedListShardStrategyTest {
+    private static final int CAR_COUNT = 20;
+
+    private PartitionedListShardStrategy strategy;
+
+    @Before
+    public void setUp() {
+        strategy = newStrategy(List.of("cars", "car"));
+    }
+
+    @Test
+    public void testFindShard() {
+        assertEquals(List.of("cars-0", "cars-1"), strategy.getShardNames());
+        assertEquals("cars-0", strategy.findShard(CarsModel.BASE_PATH));
+        assertEquals("cars-0", strategy.findShard(CarsModel.CAR_LIST_PATH));
+
+        final var usedShards = new HashSet<String>();
+        for (int i = 0; i < CAR_COUNT; ++i) {
+            final var carPath = CarsModel.newCarPath("car" + i);
+            final String shard = strategy.findShard(carPath);
+            assertEquals(shard, strategy.findShard(carPath.node(CarsModel.CAR_PRICE_QNAME)));
+            usedShards.add(shard);
+        }
+        assertEquals(Set.of("cars-0", "cars-1"), usedShards);
+    }
+
+    @Test
+    public void testFindShardBinaryKey() {
+        final var usedShards = new HashSet<String>();
+        for (int i = 0; i < CAR_COUNT; ++i) {
+            final var shard = strategy.findShard(binaryCarPath(i));
+            // Equal key contents map to the same shard, even though byte[] has an identity hash code
+            assertEquals(shard, strategy.findShard(binaryCarPath(i)));
+            usedShards.add(shard);
+        }
+        assertEquals(Set.of("cars-0", "cars-1"), usedShards);
+    }
+
+    @Test
+    public void testIsPartitioned() {
+        assertTrue(strategy.isPartitioned(CarsModel.BASE_PATH));
+        assertTrue(strategy.isPartitioned(CarsModel.CAR_LIST_PATH));
+        assertFalse(strategy.isPartitioned(CarsModel.newCarPath("car")));
+        assertFalse(strategy.isPartitioned(YangInstanceIdentifier.of()));
+    }
+
+    @Test
+    public void testScatterContainer() {
+        final var entries = new MapEntryNode[CAR_COUNT];
+        for (int i = 0; i < CAR_COUNT; ++i) {
+            entries[i] = CarsModel.newCarEntry("car" + i, Uint64.valueOf(i));
+        }
+
+        final Map<String, NormalizedNode> scattered = strategy.scatter(CarsModel.BASE_PATH,
+            CarsModel.newCarsNode(CarsModel.newCarsMapNode(entries)), true);
+        assertEquals(Set.of("cars-0", "cars-1"), scattered.keySet());
+
+        int count = 0;
+        for (var entry : scattered.entrySet()) {
+            final var cars = (ContainerNode) entry.getValue();
+            assertEquals(CarsModel.BASE_QNAME, cars.name().getNodeType());
+            final var carList = (MapNode) cars.body().iterator().next();
+            for (var car : carList.body()) {
+                assertEquals(entry.getKey(), strategy.findShard(CarsModel.CAR_LIST_PATH.node(car.name())));
+                count++;
+            }
+        }
+        assertEquals(CAR_COUNT, count);
+    }
+
+    @Test
+    public void testScatterList() {
+        final var carPath = CarsModel.newCarPath("car0");
+        final var shard = strategy.findShard(carPath);
+        final var carList = CarsModel.newCarsMapNode(CarsModel.newCarEntry("car0", Uint64.ONE));
+
+        assertEquals(Map.of(shard, carList), strategy.scatter(CarsModel.CAR_LIST_PATH, carList, false));
+
+        final var all = strategy.scatter(CarsModel.CAR_LIST_PATH, carList, true);
+        assertEquals(2, all.size());
+        assertEquals(carList, all.get(shard));
+        all.remove(shard);
+        assertTrue(((MapNode) all.values().iterator().next()).isEmpty());
+    }
+
+    @Test
+    public void testQNameListPath() {
+        final var namespace = CarsModel.BASE_QNAME.getNamespace();
+        assertEquals(List.of(CarsModel.BASE_QNAME.withoutRevision(), CarsModel.CAR_QNAME.withoutRevision()),
+            ModuleConfig.builder("cars").nameSpace(namespace.toString()).partitionedList(List.of("cars", "car")).build()
+                .getPartitionedList());
+
+        final var qnameStrategy = newStrategy(List.of(CarsModel.BASE_QNAME.toString(),
+            "(" + namespace + ")car"));
+        assertTrue(qnameStrategy.isPartitioned(CarsModel.CAR_LIST_PATH));
+        assertEquals(Set.of("cars-0", "cars-1"), carShards(qnameStrategy));
+    }
+
+    @Test
+    public void testForeignListPath() {
+        // Same local names in another module's namespace
+        final var foreignStrategy = newStrategy(List.of("cars", "(urn:foreign)car"));
+        assertTrue(foreignStrategy.isPartitioned(CarsModel.BASE_PATH));
+        assertFalse(foreignStrategy.isPartitioned(CarsModel.CAR_LIST_PATH));
+        assertEquals(Set.of("cars-0"), carShards(foreignStrategy));
+
+        final var carList = CarsModel.newCarsMapNode(CarsModel.newCarEntry("car0", Uint64.ONE));
+        final var cars = CarsModel.newCarsNode(carList);
+        assertEquals(Map.of("cars-0", cars), foreignStrategy.scatter(CarsModel.BASE_PATH, cars, false));
+    }
+
+    @Test
+    public void testRevisionListPath() {
+        final var otherRevision = newStrategy(List.of("cars",
+            "(" + CarsModel.BASE_QNAME.getNamespace() + "?revision=2000-01-01)car"));
+        assertFalse(otherRevision.isPartitioned(CarsModel.CAR_LIST_PATH));
+        assertEquals(Set.of("cars-0"), carShards(otherRevision));
+    }
+
+    private static PartitionedListShardStrategy newStrategy(final List<String> listPath) {
+        final Configuration configuration = mock(Configuration.class);
+        doReturn(List.of("cars-1", "cars-0")).when(configuration).getShardNamesForModule("cars");
+        doReturn(ModuleConfig.builder("cars").nameSpace(CarsModel.BASE_QNAME.getNamespace().toString())
+            .partitionedList(listPath).build().getPartitionedList())
+            .when(configuration).getPartitionedListForModule("cars");
+        return new PartitionedListShardStrategy("cars", configuration);
+    }
+
+    private static Set<String> carShards(final PartitionedListShardStrategy carStrategy) {
+        final var usedShards = new HashSet<String>();
+        for (int i = 0; i < CAR_COUNT; ++i) {
+            usedShards.add(carStrategy.findShard(CarsModel.newCarPath("car" + i)));
+        }
+        return usedShards;
+    }
+
+    private static YangInstanceIdentifier binaryCarPath(final int index) {
+        return CarsModel.CAR_LIST_PATH.node(NodeIdentifierWithPredicates.of(CarsModel.CAR_QNAME,
+            CarsModel.CAR_NAME_QNAME, new byte[] { (byte) index, 42 }));
+    }
+}